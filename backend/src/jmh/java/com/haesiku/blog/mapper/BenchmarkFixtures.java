@@ -0,0 +1,93 @@
+package com.haesiku.blog.mapper;
+
+import com.haesiku.blog.entity.Category;
+import com.haesiku.blog.entity.Post;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.entity.Tag;
+import com.haesiku.common.entity.BaseEntity;
+import com.haesiku.common.markdown.MarkdownRenderer;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 게시글 데이터. 영속화하지 않으므로 id·생성일시는 리플렉션으로 채운다.
+ */
+public final class BenchmarkFixtures {
+
+    private static final String CONTENT = """
+            # Spring Boot 시작하기
+
+            Spring Boot는 **설정보다 관례**를 따르는 프레임워크입니다.
+
+            ## 의존성 추가
+
+            ```groovy
+            implementation 'org.springframework.boot:spring-boot-starter-web'
+            ```
+
+            | 항목 | 설명 |
+            |------|------|
+            | web | 내장 톰캣 |
+            | data-jpa | Hibernate |
+            """;
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<Post> posts(int count) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 10, 30);
+        MarkdownRenderer renderer = new MarkdownRenderer();
+
+        Category category = Category.builder()
+                .name("Spring")
+                .slug("spring")
+                .description("Spring 생태계")
+                .build();
+        setField(category, "id", 1L);
+        setField(category, BaseEntity.class, "createdAt", now);
+
+        List<Tag> tags = new ArrayList<>();
+        for (String name : List.of("java", "spring-boot", "jpa")) {
+            Tag tag = Tag.builder().name(name).slug(name).build();
+            setField(tag, "id", (long) tags.size() + 1);
+            setField(tag, BaseEntity.class, "createdAt", now);
+            tags.add(tag);
+        }
+
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Post post = Post.builder()
+                    .title("Spring Boot 시작하기 " + i)
+                    .content(CONTENT)
+                    .summary("Spring Boot 입문 가이드")
+                    .author("haesiku")
+                    .slug("spring-boot-sijaghagi-" + i)
+                    .status(PostStatus.PUBLISHED)
+                    .category(category)
+                    .build();
+            post.prePersist();
+            post.applyRendering(renderer.render(CONTENT));
+            tags.forEach(post::addTag);
+            setField(post, "id", (long) i + 1);
+            setField(post, "commentCount", 3L);
+            setField(post, BaseEntity.class, "createdAt", now.minusDays(i));
+            setField(post, BaseEntity.class, "updatedAt", now.minusDays(i));
+            posts.add(post);
+        }
+        return posts;
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        setField(target, target.getClass(), name, value);
+    }
+
+    private static void setField(Object target, Class<?> owner, String name, Object value) {
+        Field field = ReflectionUtils.findField(owner, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,64 @@
+package com.haesiku.blog.mapper;
+
+import com.haesiku.blog.dto.PostResponseDto;
+import com.haesiku.blog.entity.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 페이지 분량의 Post → PostResponseDto 매핑 비용 (카테고리·태그 포함).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostMapperBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private AnnotationConfigApplicationContext context;
+    private PostMapper postMapper;
+    private List<Post> posts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 생성된 구현체가 @Autowired로 하위 매퍼를 주입받으므로 매퍼만 담은 컨텍스트로 조립한다.
+        context = new AnnotationConfigApplicationContext(
+                PostMapperImpl.class, CategoryMapperImpl.class, TagMapperImpl.class);
+        postMapper = context.getBean(PostMapper.class);
+        posts = BenchmarkFixtures.posts(pageSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PostResponseDto> toResponseDtoPage() {
+        List<PostResponseDto> page = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            page.add(postMapper.toResponseDto(post));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,69 @@
+package com.haesiku.common.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.haesiku.blog.dto.PostResponseDto;
+import com.haesiku.blog.mapper.BenchmarkFixtures;
+import com.haesiku.blog.mapper.CategoryMapperImpl;
+import com.haesiku.blog.mapper.PostMapper;
+import com.haesiku.blog.mapper.PostMapperImpl;
+import com.haesiku.blog.mapper.TagMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답(PageResponseDto&lt;PostResponseDto&gt;)의 JSON 직렬화 비용.
+ * ObjectMapper는 Spring Boot 기본 설정과 같은 Jackson2ObjectMapperBuilder로 만든다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private PageResponseDto<PostResponseDto> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructParametricType(PageResponseDto.class, PostResponseDto.class));
+
+        List<PostResponseDto> content;
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+                PostMapperImpl.class, CategoryMapperImpl.class, TagMapperImpl.class)) {
+            PostMapper postMapper = context.getBean(PostMapper.class);
+            content = BenchmarkFixtures.posts(pageSize).stream()
+                    .map(post -> postMapper.toResponseDto(post))
+                    .toList();
+        }
+        page = new PageResponseDto<>(content, 1000, 1000 / pageSize, 0, pageSize);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
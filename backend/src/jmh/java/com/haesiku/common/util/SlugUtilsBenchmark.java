@@ -0,0 +1,43 @@
+package com.haesiku.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 작성·수정마다 호출되는 slug 변환 비용.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlugUtilsBenchmark {
+
+    @Param({
+            "스프링 부트 시작하기",
+            "Spring Boot 3.2 마이그레이션 가이드: JPA, Hibernate 6 변경점 정리",
+            "Getting Started with Spring Boot"
+    })
+    public String title;
+
+    @Benchmark
+    public String toSlug() {
+        return SlugUtils.toSlug(title);
+    }
+
+    @Benchmark
+    public String romanize() {
+        return SlugUtils.romanize(title);
+    }
+}
@@ -1,12 +1,18 @@
 package com.haesiku;
 
+import com.haesiku.transfer.cli.TransferCommandRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication(scanBasePackages = "com.haesiku")
 public class Application {
 
     public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(Application.class, args);
+        // 명령줄 가져오기·내보내기를 마쳤으면 컨텍스트를 닫고 그 종료 코드로 끝낸다.
+        if (context.getBean(TransferCommandRunner.class).isCompleted()) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
@@ -4,8 +4,9 @@ import com.haesiku.blog.dto.CategoryRequestDto;
 import com.haesiku.blog.dto.CategoryResponseDto;
 import com.haesiku.common.dto.ErrorResponseDto;
 import com.haesiku.common.dto.PageResponseDto;
-import com.haesiku.blog.dto.PostResponseDto;
+import com.haesiku.blog.dto.PostSummaryDto;
 import com.haesiku.blog.service.CategoryService;
+import com.haesiku.common.web.ContentVersionTracker;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,6 +23,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -32,6 +34,7 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ContentVersionTracker contentVersionTracker;
 
     @Operation(summary = "카테고리 생성", description = "새 카테고리를 생성합니다. slug는 이름 기반으로 자동 생성됩니다.")
     @ApiResponses({
@@ -59,7 +62,10 @@ public class CategoryController {
     @Operation(summary = "전체 카테고리 조회", description = "등록된 모든 카테고리를 조회합니다.")
     @ApiResponse(responseCode = "200", description = "카테고리 목록 조회 성공")
     @GetMapping
-    public ResponseEntity<List<CategoryResponseDto>> getAllCategories() {
+    public ResponseEntity<List<CategoryResponseDto>> getAllCategories(WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.CATEGORIES)) {
+            return null;
+        }
         return ResponseEntity.ok(categoryService.getAllCategories());
     }
 
@@ -70,10 +76,14 @@ public class CategoryController {
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
     })
     @GetMapping("/{slug}/posts")
-    public ResponseEntity<PageResponseDto<PostResponseDto>> getPostsByCategory(
+    public ResponseEntity<PageResponseDto<PostSummaryDto>> getPostsByCategory(
             @Parameter(description = "카테고리 slug", example = "spring-framework") @PathVariable String slug,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
+            Pageable pageable,
+            WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.POSTS, ContentVersionTracker.CATEGORIES)) {
+            return null;
+        }
         return ResponseEntity.ok(PageResponseDto.from(categoryService.getPostsByCategory(slug, pageable)));
     }
 }
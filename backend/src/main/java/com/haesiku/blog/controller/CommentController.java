@@ -4,7 +4,9 @@ import com.haesiku.blog.dto.CommentCreateRequestDto;
 import com.haesiku.blog.dto.CommentPasswordDto;
 import com.haesiku.blog.dto.CommentResponseDto;
 import com.haesiku.blog.dto.CommentUpdateRequestDto;
+import com.haesiku.blog.service.CommentRateLimiter;
 import com.haesiku.blog.service.CommentService;
+import com.haesiku.common.dto.CursorPageResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,14 +14,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "Comments", description = "게시글 댓글 API")
 @RestController
 @RequestMapping("/api/posts/{postId}/comments")
@@ -27,55 +28,73 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentRateLimiter commentRateLimiter;
 
-    @Operation(summary = "댓글 작성", description = "게시글에 댓글을 작성합니다. 비밀번호는 수정/삭제 시 사용합니다.")
+    @Operation(summary = "댓글 작성", description = "게시글에 댓글을 작성합니다. parentId를 주면 해당 댓글의 답글이 됩니다. 비밀번호는 수정/삭제 시 사용합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "댓글 작성 성공",
                     content = @Content(schema = @Schema(implementation = CommentResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "입력값 검증 실패"),
-            @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "게시글 또는 부모 댓글을 찾을 수 없음"),
+            @ApiResponse(responseCode = "429", description = "요청 한도 초과 (Retry-After 헤더 참고)")
     })
     @PostMapping
     public ResponseEntity<CommentResponseDto> createComment(
             @Parameter(description = "게시글 ID") @PathVariable Long postId,
-            @Valid @RequestBody CommentCreateRequestDto request) {
+            @Valid @RequestBody CommentCreateRequestDto request,
+            HttpServletRequest httpRequest) {
+        commentRateLimiter.check(httpRequest.getRemoteAddr(), postId);
         CommentResponseDto created = commentService.create(postId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
-    @Operation(summary = "댓글 목록 조회", description = "게시글의 댓글 목록을 생성일시 순으로 조회합니다.")
-    @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공")
+    @Operation(summary = "댓글 목록 조회 (커서)",
+            description = "게시글의 최상위 댓글을 작성 순으로 커서 기반 조회하며, 각 댓글에 답글 목록을 함께 담습니다. "
+                    + "응답의 nextCursor를 after로 넘기면 다음 페이지를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
+    })
     @GetMapping
-    public ResponseEntity<List<CommentResponseDto>> getComments(
-            @Parameter(description = "게시글 ID") @PathVariable Long postId) {
-        return ResponseEntity.ok(commentService.findByPostId(postId));
+    public ResponseEntity<CursorPageResponseDto<CommentResponseDto>> getComments(
+            @Parameter(description = "게시글 ID") @PathVariable Long postId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String after,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "20") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getComments(postId, after, size));
     }
 
     @Operation(summary = "댓글 수정", description = "비밀번호 확인 후 댓글을 수정합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "댓글 수정 성공"),
             @ApiResponse(responseCode = "403", description = "비밀번호 불일치"),
-            @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음"),
+            @ApiResponse(responseCode = "429", description = "요청 한도 초과 (Retry-After 헤더 참고)")
     })
     @PutMapping("/{commentId}")
     public ResponseEntity<CommentResponseDto> updateComment(
             @Parameter(description = "게시글 ID") @PathVariable Long postId,
             @Parameter(description = "댓글 ID") @PathVariable Long commentId,
-            @Valid @RequestBody CommentUpdateRequestDto request) {
+            @Valid @RequestBody CommentUpdateRequestDto request,
+            HttpServletRequest httpRequest) {
+        commentRateLimiter.check(httpRequest.getRemoteAddr(), postId);
         return ResponseEntity.ok(commentService.update(postId, commentId, request));
     }
 
-    @Operation(summary = "댓글 삭제", description = "비밀번호 확인 후 댓글을 삭제합니다.")
+    @Operation(summary = "댓글 삭제", description = "비밀번호 확인 후 댓글을 삭제합니다. 최상위 댓글을 삭제하면 답글도 함께 삭제됩니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "댓글 삭제 성공"),
             @ApiResponse(responseCode = "403", description = "비밀번호 불일치"),
-            @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음"),
+            @ApiResponse(responseCode = "429", description = "요청 한도 초과 (Retry-After 헤더 참고)")
     })
     @DeleteMapping("/{commentId}")
     public ResponseEntity<Void> deleteComment(
             @Parameter(description = "게시글 ID") @PathVariable Long postId,
             @Parameter(description = "댓글 ID") @PathVariable Long commentId,
-            @Valid @RequestBody CommentPasswordDto request) {
+            @Valid @RequestBody CommentPasswordDto request,
+            HttpServletRequest httpRequest) {
+        commentRateLimiter.check(httpRequest.getRemoteAddr(), postId);
         commentService.delete(postId, commentId, request.password());
         return ResponseEntity.noContent().build();
     }
@@ -1,10 +1,21 @@
 package com.haesiku.blog.controller;
 
+import com.haesiku.common.dto.CursorPageResponseDto;
 import com.haesiku.common.dto.ErrorResponseDto;
 import com.haesiku.common.dto.PageResponseDto;
 import com.haesiku.blog.dto.PostRequestDto;
 import com.haesiku.blog.dto.PostResponseDto;
+import com.haesiku.blog.dto.PostScheduleRequestDto;
+import com.haesiku.blog.dto.PostSummaryDto;
+import com.haesiku.blog.dto.SlugResolution;
 import com.haesiku.blog.service.PostService;
+import com.haesiku.blog.service.PostSlugResolver;
+import com.haesiku.common.dto.EntityVersion;
+import com.haesiku.common.exception.CacheableNotFoundException;
+import com.haesiku.common.web.ContentVersionTracker;
+import com.haesiku.related.service.RelatedPostService;
+import com.haesiku.search.dto.SearchHitDto;
+import com.haesiku.search.service.SearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,12 +26,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.util.List;
 
 @Tag(name = "Posts", description = "게시글 API")
 @RestController
@@ -29,6 +47,16 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
+    private final SearchService searchService;
+    private final ContentVersionTracker contentVersionTracker;
+    private final PostSlugResolver postSlugResolver;
+    private final RelatedPostService relatedPostService;
+
+    @Value("${blog.slug.not-found-max-age:60s}")
+    private Duration slugNotFoundMaxAge;
+
+    @Value("${blog.slug.redirect-max-age:1h}")
+    private Duration slugRedirectMaxAge;
 
     @Operation(summary = "게시글 생성", description = "새 게시글을 생성합니다. 기본 상태는 DRAFT입니다.")
     @ApiResponses({
@@ -84,35 +112,106 @@ public class PostController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "게시글 상세 조회", description = "slug로 게시글을 조회합니다. 조회 시 조회수가 1 증가합니다.")
+    @Operation(summary = "게시글 상세 조회", description = "slug로 게시글을 조회합니다. 조회 시 조회수가 1 증가하며, DB에는 주기적으로 일괄 반영됩니다. "
+            + "ETag(If-None-Match)·Last-Modified(If-Modified-Since) 조건부 요청을 지원합니다. "
+            + "제목 변경 전의 예전 slug는 현재 slug로 301 이동합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
-            @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음",
+            @ApiResponse(responseCode = "301", description = "예전 slug (Location: 현재 slug 주소)"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (조회수는 기록됨)"),
+            @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음 (Cache-Control max-age 포함)",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
     })
     @GetMapping("/{slug}")
     public ResponseEntity<PostResponseDto> getPost(
-            @Parameter(description = "게시글 slug", example = "spring-boot-sijaghagi") @PathVariable String slug) {
+            @Parameter(description = "게시글 slug", example = "spring-boot-sijaghagi") @PathVariable String slug,
+            WebRequest webRequest) {
+        SlugResolution resolution = postSlugResolver.resolve(slug);
+        if (resolution.status() == SlugResolution.Status.NOT_FOUND) {
+            throw new CacheableNotFoundException("Post", "slug", slug, slugNotFoundMaxAge);
+        }
+        if (resolution.status() == SlugResolution.Status.MOVED) {
+            // 제목을 되돌려 예전 slug가 다시 현재 slug가 될 수 있으므로 영구 캐시되지 않게 max-age를 준다.
+            return ResponseEntity.status(HttpStatus.MOVED_PERMANENTLY)
+                    .location(UriComponentsBuilder.fromPath("/api/posts/{slug}")
+                            .buildAndExpand(resolution.currentSlug()).toUri())
+                    .cacheControl(CacheControl.maxAge(slugRedirectMaxAge).cachePublic())
+                    .build();
+        }
+
+        EntityVersion version = postService.getPostVersion(slug);
+        if (contentVersionTracker.checkNotModified(webRequest, version.etag(), version.lastModified())) {
+            // 본문은 다시 읽지 않지만 조회수는 그대로 센다. 약한 ETag이므로 304 응답의 조회수 표시는 캐시된 값을 따른다.
+            postService.recordView(version.id());
+            return null;
+        }
         return ResponseEntity.ok(postService.getPost(slug));
     }
 
+    @Operation(summary = "관련 게시글 조회",
+            description = "태그 겹침과 제목·요약 유사도로 미리 계산해 둔 관련 게시글을 관련도 순으로 조회합니다. 예전 slug도 현재 게시글 기준으로 조회됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "관련 게시글 조회 성공 (없으면 빈 목록)"),
+            @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/{slug}/related")
+    public ResponseEntity<List<PostSummaryDto>> getRelatedPosts(
+            @Parameter(description = "게시글 slug", example = "spring-boot-sijaghagi") @PathVariable String slug,
+            WebRequest webRequest) {
+        SlugResolution resolution = postSlugResolver.resolve(slug);
+        if (resolution.status() == SlugResolution.Status.NOT_FOUND) {
+            throw new CacheableNotFoundException("Post", "slug", slug, slugNotFoundMaxAge);
+        }
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.POSTS, ContentVersionTracker.RELATED)) {
+            return null;
+        }
+        return ResponseEntity.ok(relatedPostService.getRelatedPosts(resolution.postId()));
+    }
+
     @Operation(summary = "발행된 게시글 목록 조회", description = "PUBLISHED 상태의 게시글을 페이지 단위로 조회합니다.")
     @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공")
     @GetMapping
-    public ResponseEntity<PageResponseDto<PostResponseDto>> getPublishedPosts(
+    public ResponseEntity<PageResponseDto<PostSummaryDto>> getPublishedPosts(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
+            Pageable pageable,
+            WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.POSTS)) {
+            return null;
+        }
         return ResponseEntity.ok(PageResponseDto.from(postService.getPublishedPosts(pageable)));
     }
 
-    @Operation(summary = "게시글 검색", description = "제목 또는 내용에 키워드가 포함된 게시글을 검색합니다.")
+    @Operation(summary = "발행된 게시글 피드 (커서)",
+            description = "PUBLISHED 상태의 게시글을 최신순으로 커서 기반 조회합니다. 응답의 nextCursor를 after로 넘기면 다음 페이지를 조회하며, 전체 개수는 세지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "게시글 피드 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponseDto<PostSummaryDto>> getPublishedFeed(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String after,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "10") @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.POSTS)) {
+            return null;
+        }
+        return ResponseEntity.ok(postService.getPublishedFeed(after, size));
+    }
+
+    @Operation(summary = "게시글 검색",
+            description = "제목·요약·태그·본문을 전문 검색합니다. 결과는 관련도 순이며 검색어가 강조된 미리보기를 포함합니다.")
     @ApiResponse(responseCode = "200", description = "검색 결과 조회 성공")
     @GetMapping("/search")
-    public ResponseEntity<PageResponseDto<PostResponseDto>> searchPosts(
+    public ResponseEntity<PageResponseDto<SearchHitDto<PostSummaryDto>>> searchPosts(
             @Parameter(description = "검색 키워드", example = "Spring") @RequestParam String keyword,
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
-        return ResponseEntity.ok(PageResponseDto.from(postService.searchPosts(keyword, pageable)));
+            @PageableDefault(size = 10) Pageable pageable,
+            WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.POSTS)) {
+            return null;
+        }
+        return ResponseEntity.ok(PageResponseDto.from(searchService.searchPosts(keyword, pageable)));
     }
 
     @Operation(summary = "게시글 발행 상태 토글", description = "DRAFT ↔ PUBLISHED 상태를 토글합니다.")
@@ -127,10 +226,38 @@ public class PostController {
         return ResponseEntity.ok(postService.publishPost(id));
     }
 
+    @Operation(summary = "게시글 예약 발행",
+            description = "DRAFT 게시글을 지정한 일시에 발행하도록 예약합니다. 이미 예약된 게시글이면 일시를 바꿉니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "예약 성공"),
+            @ApiResponse(responseCode = "400", description = "이미 발행된 게시글이거나 예약 일시가 현재 이전",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PutMapping("/{id}/schedule")
+    public ResponseEntity<PostResponseDto> schedulePost(
+            @Parameter(description = "게시글 ID", example = "1") @PathVariable Long id,
+            @Valid @RequestBody PostScheduleRequestDto request) {
+        return ResponseEntity.ok(postService.schedulePost(id, request.scheduledAt()));
+    }
+
+    @Operation(summary = "게시글 예약 취소", description = "예약 발행을 취소합니다. 게시글은 DRAFT로 남습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "예약 취소 성공"),
+            @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @DeleteMapping("/{id}/schedule")
+    public ResponseEntity<PostResponseDto> cancelSchedule(
+            @Parameter(description = "게시글 ID", example = "1") @PathVariable Long id) {
+        return ResponseEntity.ok(postService.cancelSchedule(id));
+    }
+
     @Operation(summary = "[관리자] 전체 게시글 목록", description = "DRAFT 포함 모든 게시글을 페이지 단위로 조회합니다.")
     @ApiResponse(responseCode = "200", description = "전체 게시글 목록 조회 성공")
     @GetMapping("/admin")
-    public ResponseEntity<PageResponseDto<PostResponseDto>> getAllPosts(
+    public ResponseEntity<PageResponseDto<PostSummaryDto>> getAllPosts(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
             Pageable pageable) {
         return ResponseEntity.ok(PageResponseDto.from(postService.getAllPosts(pageable)));
@@ -2,9 +2,13 @@ package com.haesiku.blog.controller;
 
 import com.haesiku.common.dto.ErrorResponseDto;
 import com.haesiku.common.dto.PageResponseDto;
-import com.haesiku.blog.dto.PostResponseDto;
+import com.haesiku.blog.dto.PostSummaryDto;
+import com.haesiku.blog.dto.TagCloudEntryDto;
 import com.haesiku.blog.dto.TagResponseDto;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.index.TagBitmapIndex;
 import com.haesiku.blog.service.TagService;
+import com.haesiku.common.web.ContentVersionTracker;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,8 +22,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Tag(name = "Tags", description = "태그 API")
 @RestController
@@ -28,14 +35,68 @@ import java.util.List;
 public class TagController {
 
     private final TagService tagService;
+    private final ContentVersionTracker contentVersionTracker;
 
     @Operation(summary = "전체 태그 조회", description = "등록된 모든 태그를 조회합니다.")
     @ApiResponse(responseCode = "200", description = "태그 목록 조회 성공")
     @GetMapping
-    public ResponseEntity<List<TagResponseDto>> getAllTags() {
+    public ResponseEntity<List<TagResponseDto>> getAllTags(WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.TAGS)) {
+            return null;
+        }
         return ResponseEntity.ok(tagService.getAllTags());
     }
 
+    @Operation(summary = "태그 클라우드",
+            description = "발행된 게시글이 있는 태그를 게시글 수가 많은 순으로 조회합니다. weight(1~5)는 게시글 수의 로그에 비례합니다.")
+    @ApiResponse(responseCode = "200", description = "태그 클라우드 조회 성공")
+    @GetMapping("/cloud")
+    public ResponseEntity<List<TagCloudEntryDto>> getTagCloud(WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.TAGS)) {
+            return null;
+        }
+        return ResponseEntity.ok(tagService.getTagCloud());
+    }
+
+    @Operation(summary = "태그 조합으로 게시글 조회",
+            description = "all(모두 포함)·any(하나 이상 포함)·none(제외) 태그 slug 조합으로 게시글을 최신순으로 조회합니다. "
+                    + "각 파라미터는 쉼표로 구분하며, 태그는 합계 20개까지 지정할 수 있습니다. sort는 무시됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "태그 수 초과",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/filter")
+    public ResponseEntity<PageResponseDto<PostSummaryDto>> filterPosts(
+            @Parameter(description = "모두 포함해야 하는 태그 slug", example = "java,spring")
+            @RequestParam(defaultValue = "") List<String> all,
+            @Parameter(description = "하나 이상 포함해야 하는 태그 slug", example = "jpa,querydsl")
+            @RequestParam(defaultValue = "") List<String> any,
+            @Parameter(description = "포함하지 않아야 하는 태그 slug", example = "legacy")
+            @RequestParam(defaultValue = "") List<String> none,
+            @Parameter(description = "카테고리 slug") @RequestParam(required = false) String category,
+            @Parameter(description = "게시 상태") @RequestParam(defaultValue = "PUBLISHED") PostStatus status,
+            @PageableDefault(size = 10) Pageable pageable,
+            WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.POSTS, ContentVersionTracker.TAGS)) {
+            return null;
+        }
+        TagBitmapIndex.Query query = new TagBitmapIndex.Query(
+                slugs(all), slugs(any), slugs(none),
+                status, category == null || category.isBlank() ? null : category.trim());
+        return ResponseEntity.ok(PageResponseDto.from(tagService.filterPosts(query, pageable)));
+    }
+
+    private static Set<String> slugs(List<String> values) {
+        Set<String> slugs = new LinkedHashSet<>();
+        for (String value : values) {
+            if (!value.isBlank()) {
+                slugs.add(value.trim());
+            }
+        }
+        return slugs;
+    }
+
     @Operation(summary = "태그별 게시글 조회", description = "특정 태그가 포함된 발행된 게시글을 페이지 단위로 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공"),
@@ -43,10 +104,14 @@ public class TagController {
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
     })
     @GetMapping("/{slug}/posts")
-    public ResponseEntity<PageResponseDto<PostResponseDto>> getPostsByTag(
+    public ResponseEntity<PageResponseDto<PostSummaryDto>> getPostsByTag(
             @Parameter(description = "태그 slug", example = "java") @PathVariable String slug,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
+            Pageable pageable,
+            WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.POSTS, ContentVersionTracker.TAGS)) {
+            return null;
+        }
         return ResponseEntity.ok(PageResponseDto.from(tagService.getPostsByTag(slug, pageable)));
     }
 }
@@ -18,6 +18,9 @@ public record CategoryResponseDto(
         @Schema(description = "카테고리 설명", example = "Spring 관련 기술 포스트")
         String description,
 
+        @Schema(description = "발행된 게시글 수 (게시글 목록 항목에 포함된 카테고리는 null)", example = "8")
+        Long postCount,
+
         @Schema(description = "생성일시", example = "2025-01-10T09:00:00")
         LocalDateTime createdAt
 ) {
@@ -19,6 +19,9 @@ public record CommentCreateRequestDto(
         @Schema(description = "댓글 내용", requiredMode = Schema.RequiredMode.REQUIRED)
         @NotBlank(message = "댓글 내용을 입력해 주세요.")
         @Size(max = 2000, message = "댓글은 2000자 이하여야 합니다.")
-        String body
+        String body,
+
+        @Schema(description = "답글을 달 댓글 ID (최상위 댓글이면 생략, 답글에 답하면 그 최상위 댓글에 달린다)", example = "1")
+        Long parentId
 ) {
 }
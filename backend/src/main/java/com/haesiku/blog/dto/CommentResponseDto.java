@@ -3,12 +3,16 @@ package com.haesiku.blog.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Schema(description = "댓글 응답 (비밀번호 제외)")
 public record CommentResponseDto(
         @Schema(description = "댓글 ID", example = "1")
         Long id,
 
+        @Schema(description = "부모 댓글 ID (최상위 댓글이면 null)")
+        Long parentId,
+
         @Schema(description = "작성자", example = "방문자")
         String author,
 
@@ -19,6 +23,9 @@ public record CommentResponseDto(
         LocalDateTime createdAt,
 
         @Schema(description = "수정일시")
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+
+        @Schema(description = "답글 목록 (작성 순, 답글에는 항상 빈 목록)")
+        List<CommentResponseDto> replies
 ) {
 }
@@ -0,0 +1,19 @@
+package com.haesiku.blog.dto;
+
+import com.haesiku.blog.entity.PostStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태그 비트맵 색인(PostTagIndex)을 만들기 위한 게시글 projection. 본문 등 나머지 컬럼은 읽지 않는다.
+ */
+public interface PostIndexView {
+
+    Long getId();
+
+    PostStatus getStatus();
+
+    String getCategorySlug();
+
+    LocalDateTime getCreatedAt();
+}
@@ -1,6 +1,7 @@
 package com.haesiku.blog.dto;
 
 import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.common.markdown.TocEntry;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -17,6 +18,12 @@ public record PostResponseDto(
         @Schema(description = "내용 (Markdown)", example = "# Spring Boot\nSpring Boot는 ...")
         String content,
 
+        @Schema(description = "서버에서 렌더링한 본문 HTML (sanitize됨, 제목에 id 포함)", example = "<h1 id=\"spring-boot\">Spring Boot</h1>\n<p>Spring Boot는 ...</p>")
+        String renderedHtml,
+
+        @Schema(description = "목차 (본문 제목 순서)")
+        List<TocEntry> toc,
+
         @Schema(description = "요약", example = "Spring Boot 입문 가이드")
         String summary,
 
@@ -48,6 +55,9 @@ public record PostResponseDto(
         LocalDateTime updatedAt,
 
         @Schema(description = "발행일시", example = "2025-01-15T12:00:00")
-        LocalDateTime publishedAt
+        LocalDateTime publishedAt,
+
+        @Schema(description = "예약 발행 일시 (예약되지 않았거나 발행되었으면 null)", example = "2025-01-20T09:00:00")
+        LocalDateTime scheduledAt
 ) {
 }
@@ -0,0 +1,16 @@
+package com.haesiku.blog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "게시글 예약 발행 요청")
+public record PostScheduleRequestDto(
+        @Schema(description = "발행할 일시 (서버 시간대)", example = "2025-01-20T09:00:00", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "예약 일시는 필수입니다")
+        @Future(message = "예약 일시는 현재 이후여야 합니다")
+        LocalDateTime scheduledAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.haesiku.blog.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 발행 대기 게시글의 id와 예약 시각.
+ */
+public interface PostScheduleView {
+
+    Long getId();
+
+    LocalDateTime getScheduledAt();
+}
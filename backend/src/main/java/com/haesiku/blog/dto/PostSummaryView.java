@@ -0,0 +1,43 @@
+package com.haesiku.blog.dto;
+
+import com.haesiku.blog.entity.PostStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 projection. 본문(content)은 조회하지 않고, 카테고리는 같은 쿼리에서 조인해 평탄화한다.
+ */
+public interface PostSummaryView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getSummary();
+
+    String getAuthor();
+
+    String getSlug();
+
+    PostStatus getStatus();
+
+    Long getViewCount();
+
+    Long getCommentCount();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getPublishedAt();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    String getCategorySlug();
+
+    String getCategoryDescription();
+
+    LocalDateTime getCategoryCreatedAt();
+}
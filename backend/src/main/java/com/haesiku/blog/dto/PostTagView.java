@@ -0,0 +1,19 @@
+package com.haesiku.blog.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 게시글의 태그를 한 번에 조회하기 위한 projection.
+ */
+public interface PostTagView {
+
+    Long getPostId();
+
+    Long getId();
+
+    String getName();
+
+    String getSlug();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,18 @@
+package com.haesiku.blog.dto;
+
+import com.haesiku.common.dto.VersionView;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 조건부 요청 검사용 버전 projection. 댓글이 달리면 본문 수정 없이도 응답이 바뀌므로 댓글 수를 함께 읽는다.
+ * 응답에 카테고리·태그 이름도 들어가므로 그 수정일시도 함께 읽는다 (없으면 null).
+ */
+public interface PostVersionView extends VersionView {
+
+    Long getCommentCount();
+
+    LocalDateTime getCategoryUpdatedAt();
+
+    LocalDateTime getTagsUpdatedAt();
+}
@@ -0,0 +1,11 @@
+package com.haesiku.blog.dto;
+
+/**
+ * slug 할당 시 이미 쓰이고 있는 slug와 그 게시글 id.
+ */
+public interface SlugOwnerView {
+
+    String getSlug();
+
+    Long getPostId();
+}
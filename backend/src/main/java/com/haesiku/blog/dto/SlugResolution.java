@@ -0,0 +1,30 @@
+package com.haesiku.blog.dto;
+
+/**
+ * 게시글 slug 해석 결과.
+ *
+ * @param postId      게시글 id (NOT_FOUND면 null)
+ * @param currentSlug 게시글의 현재 slug (NOT_FOUND면 null)
+ */
+public record SlugResolution(Status status, Long postId, String currentSlug) {
+
+    public enum Status {
+        /** 현재 slug */
+        CURRENT,
+        /** 예전 slug. currentSlug로 301 이동 */
+        MOVED,
+        /** 없는 slug */
+        NOT_FOUND
+    }
+
+    private static final SlugResolution NOT_FOUND_RESULT = new SlugResolution(Status.NOT_FOUND, null, null);
+
+    public static SlugResolution of(String requestedSlug, Long postId, String currentSlug) {
+        Status status = requestedSlug.equals(currentSlug) ? Status.CURRENT : Status.MOVED;
+        return new SlugResolution(status, postId, currentSlug);
+    }
+
+    public static SlugResolution notFound() {
+        return NOT_FOUND_RESULT;
+    }
+}
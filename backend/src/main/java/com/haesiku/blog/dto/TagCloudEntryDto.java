@@ -0,0 +1,19 @@
+package com.haesiku.blog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "태그 클라우드 항목")
+public record TagCloudEntryDto(
+        @Schema(description = "태그 이름", example = "Java")
+        String name,
+
+        @Schema(description = "URL slug", example = "java")
+        String slug,
+
+        @Schema(description = "발행된 게시글 수", example = "12")
+        long postCount,
+
+        @Schema(description = "표시 가중치 (1~5, 게시글 수의 로그 비례)", example = "4")
+        int weight
+) {
+}
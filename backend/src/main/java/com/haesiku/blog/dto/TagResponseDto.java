@@ -15,6 +15,9 @@ public record TagResponseDto(
         @Schema(description = "URL slug", example = "java")
         String slug,
 
+        @Schema(description = "발행된 게시글 수 (게시글 목록 항목에 포함된 태그는 null)", example = "12")
+        Long postCount,
+
         @Schema(description = "생성일시", example = "2025-01-10T09:00:00")
         LocalDateTime createdAt
 ) {
@@ -8,6 +8,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "categories")
@@ -28,6 +29,14 @@ public class Category extends BaseEntity {
     @Column
     private String description;
 
+    /**
+     * 발행된 게시글 수. 목록 조회에서 posts를 집계하지 않도록 PostCountUpdater가 게시글 변경과
+     * 같은 트랜잭션에서 증감 UPDATE로만 갱신한다. 기존 행에도 컬럼이 추가되도록 기본값을 둔다.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long postCount;
+
     @Builder
     public Category(String name, String slug, String description) {
         this.name = name;
@@ -40,6 +49,9 @@ public class Category extends BaseEntity {
         if (this.slug == null || this.slug.isBlank()) {
             this.slug = SlugUtils.toSlug(this.name);
         }
+        if (this.postCount == null) {
+            this.postCount = 0L;
+        }
     }
 
     public void update(String name, String description) {
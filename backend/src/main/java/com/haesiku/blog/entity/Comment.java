@@ -9,11 +9,15 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
 @Table(name = "comments", indexes = {
         @Index(name = "idx_comment_post_id", columnList = "post_id"),
-        @Index(name = "idx_comment_created_at", columnList = "created_at")
+        @Index(name = "idx_comment_created_at", columnList = "created_at"),
+        @Index(name = "idx_comment_post_id_created_at_id", columnList = "post_id, created_at, id"),
+        @Index(name = "idx_comment_parent_id_created_at_id", columnList = "parent_id, created_at, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -40,12 +44,26 @@ public class Comment extends BaseEntity {
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
+    /**
+     * 답글이 달린 최상위 댓글. 최상위 댓글이면 null이다.
+     * 답글은 한 단계만 두므로 답글의 답글도 최상위 댓글을 부모로 가진다.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Comment parent;
+
     @Builder
-    public Comment(String author, String passwordHash, String body, Post post) {
+    public Comment(String author, String passwordHash, String body, Post post, Comment parent) {
         this.author = author;
         this.passwordHash = passwordHash;
         this.body = body;
         this.post = post;
+        this.parent = parent;
+    }
+
+    public boolean isReply() {
+        return parent != null;
     }
 
     public void updateBody(String body) {
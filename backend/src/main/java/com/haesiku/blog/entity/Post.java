@@ -1,6 +1,8 @@
 package com.haesiku.blog.entity;
 
 import com.haesiku.common.entity.BaseEntity;
+import com.haesiku.common.markdown.RenderedMarkdown;
+import com.haesiku.common.markdown.TocEntry;
 import com.haesiku.common.util.SlugUtils;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -9,23 +11,34 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Entity
 @Table(name = "posts", indexes = {
         @Index(name = "idx_post_slug", columnList = "slug", unique = true),
         @Index(name = "idx_post_status", columnList = "status"),
-        @Index(name = "idx_post_published_at", columnList = "publishedAt")
+        @Index(name = "idx_post_published_at", columnList = "publishedAt"),
+        @Index(name = "idx_post_status_created_at_id", columnList = "status, createdAt, id"),
+        @Index(name = "idx_post_scheduled_at", columnList = "scheduledAt")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseEntity {
 
+    /**
+     * 시퀀스에서 id를 50개씩 미리 받아 쓴다. IDENTITY는 id를 얻으려고 행마다 즉시 INSERT해야 해서
+     * hibernate.jdbc.batch_size 배치가 꺼지므로, 일괄 가져오기 INSERT를 묶을 수 있게 시퀀스를 쓴다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", sequenceName = "posts_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -52,12 +65,37 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private PostStatus status;
 
-    @Column(nullable = false)
+    /** ViewCountBuffer가 배치 UPDATE로만 갱신한다. 엔티티 변경 시 덮어쓰지 않도록 updatable = false. */
+    @Column(nullable = false, updatable = false)
     private Long viewCount;
 
+    /**
+     * 댓글 수 (답글 포함). 목록·상세 조회에서 comments를 집계하지 않도록 CommentService가 댓글 작성·삭제와
+     * 같은 트랜잭션에서 증감 UPDATE로만 갱신한다. 기존 행에도 컬럼이 추가되도록 기본값을 둔다.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long commentCount;
+
     @Column
     private LocalDateTime publishedAt;
 
+    /** 예약 발행 시각. DRAFT 상태에서만 쓰이며 발행되면 비운다. ScheduledPostPublisher가 이 시각에 발행한다. */
+    @Column
+    private LocalDateTime scheduledAt;
+
+    /** content를 서버에서 렌더링한 HTML. content가 바뀔 때만 MarkdownRenderer로 다시 만든다. */
+    @Column(columnDefinition = "TEXT")
+    private String renderedHtml;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<TocEntry> toc;
+
+    /** 렌더링에 쓴 원문과 렌더러 버전의 SHA-256. null이면 아직 렌더링되지 않은 것이다. */
+    @Column(length = 64)
+    private String contentHash;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
@@ -72,7 +110,7 @@ public class Post extends BaseEntity {
 
     @Builder
     public Post(String title, String content, String summary, String author,
-                String slug, PostStatus status, Category category) {
+                String slug, PostStatus status, Category category, LocalDateTime publishedAt) {
         this.title = title;
         this.content = content;
         this.summary = summary;
@@ -80,6 +118,7 @@ public class Post extends BaseEntity {
         this.slug = slug;
         this.status = status;
         this.category = category;
+        this.publishedAt = publishedAt;
     }
 
     @PrePersist
@@ -93,6 +132,9 @@ public class Post extends BaseEntity {
         if (this.viewCount == null) {
             this.viewCount = 0L;
         }
+        if (this.commentCount == null) {
+            this.commentCount = 0L;
+        }
         if (this.status == PostStatus.PUBLISHED && this.publishedAt == null) {
             this.publishedAt = LocalDateTime.now();
         }
@@ -110,20 +152,29 @@ public class Post extends BaseEntity {
         this.content = content;
         this.summary = summary;
         this.category = category;
-        this.slug = SlugUtils.toSlug(title);
+    }
+
+    /** slug는 SlugAllocator가 겹치지 않게 할당한 값으로만 바꾼다. */
+    public void changeSlug(String slug) {
+        this.slug = slug;
     }
 
     public void publish() {
         this.status = PostStatus.PUBLISHED;
         this.publishedAt = LocalDateTime.now();
+        this.scheduledAt = null;
     }
 
-    public void draft() {
-        this.status = PostStatus.DRAFT;
+    public void schedule(LocalDateTime scheduledAt) {
+        this.scheduledAt = scheduledAt;
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
+    public void cancelSchedule() {
+        this.scheduledAt = null;
+    }
+
+    public void draft() {
+        this.status = PostStatus.DRAFT;
     }
 
     public void addTag(Tag tag) {
@@ -137,4 +188,17 @@ public class Post extends BaseEntity {
     public void clearTags() {
         this.tags.clear();
     }
+
+    /**
+     * 태그만 바뀐 수정도 조건부 요청 검증자(수정일시)에 반영되도록 수정일시를 갱신한다.
+     */
+    public void markTagsChanged() {
+        touch();
+    }
+
+    public void applyRendering(RenderedMarkdown rendered) {
+        this.renderedHtml = rendered.html();
+        this.toc = rendered.toc();
+        this.contentHash = rendered.contentHash();
+    }
 }
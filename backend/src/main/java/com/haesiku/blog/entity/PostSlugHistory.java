@@ -0,0 +1,43 @@
+package com.haesiku.blog.entity;
+
+import com.haesiku.common.entity.BaseEntity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 게시글이 예전에 쓰던 slug. 제목 변경으로 slug가 바뀌어도 기존 링크가 현재 게시글로 이어지도록 남긴다.
+ * 다른 게시글이 재사용하지 못하도록 slug는 전역 유일하다.
+ */
+@Entity
+@Table(name = "post_slug_history", indexes = {
+        @Index(name = "idx_post_slug_history_slug", columnList = "slug", unique = true),
+        @Index(name = "idx_post_slug_history_post_id", columnList = "post_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostSlugHistory extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String slug;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    @Builder
+    public PostSlugHistory(String slug, Post post) {
+        this.slug = slug;
+        this.post = post;
+    }
+}
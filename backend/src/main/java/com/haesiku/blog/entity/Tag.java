@@ -8,6 +8,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "tags")
@@ -16,7 +17,8 @@ import lombok.NoArgsConstructor;
 public class Tag extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tags_seq")
+    @SequenceGenerator(name = "tags_seq", sequenceName = "tags_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -25,6 +27,14 @@ public class Tag extends BaseEntity {
     @Column(nullable = false, unique = true)
     private String slug;
 
+    /**
+     * 발행된 게시글 수. 목록 조회에서 post_tags를 집계하지 않도록 PostCountUpdater가 게시글 변경과
+     * 같은 트랜잭션에서 증감 UPDATE로만 갱신한다. 기존 행에도 컬럼이 추가되도록 기본값을 둔다.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long postCount;
+
     @Builder
     public Tag(String name, String slug) {
         this.name = name;
@@ -36,6 +46,9 @@ public class Tag extends BaseEntity {
         if (this.slug == null || this.slug.isBlank()) {
             this.slug = SlugUtils.toSlug(this.name);
         }
+        if (this.postCount == null) {
+            this.postCount = 0L;
+        }
     }
 
     public void update(String name) {
@@ -0,0 +1,7 @@
+package com.haesiku.blog.event;
+
+/**
+ * 카테고리가 생성되었을 때 발행되는 도메인 이벤트.
+ */
+public record CategoryChangedEvent(String slug) {
+}
@@ -0,0 +1,7 @@
+package com.haesiku.blog.event;
+
+/**
+ * 댓글이 작성·수정·삭제되었을 때 발행되는 도메인 이벤트.
+ */
+public record CommentChangedEvent(Long postId) {
+}
@@ -0,0 +1,75 @@
+package com.haesiku.blog.event;
+
+import com.haesiku.blog.entity.Post;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.entity.Tag;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글이 생성·수정·삭제·발행되었을 때 발행되는 도메인 이벤트.
+ * 검색 색인, 캐시 등 파생 데이터는 커밋 이후 이 이벤트를 받아 갱신한다.
+ *
+ * @param slug          변경 후 게시글의 현재 slug
+ * @param published     변경 전 또는 후에 발행 상태였는지 여부 (공개 목록에 영향이 있는지)
+ * @param tagSlugs      변경 전후로 게시글에 연결되었던 태그 slug
+ * @param categorySlugs 변경 전후로 게시글이 속했던 카테고리 slug
+ * @param createdAt     게시글 작성일시 (목록 정렬 기준)
+ */
+public record PostChangedEvent(
+        Long postId,
+        ChangeType type,
+        String slug,
+        boolean published,
+        Set<String> tagSlugs,
+        Set<String> categorySlugs,
+        LocalDateTime createdAt
+) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        PUBLISHED
+    }
+
+    /**
+     * 변경 전 상태. 수정 시에는 변경 전에 만들어 두어야 이전 태그·카테고리도 함께 갱신된다.
+     */
+    public record Snapshot(boolean published, Set<String> tagSlugs, String categorySlug) {
+    }
+
+    public static Snapshot snapshot(Post post) {
+        return new Snapshot(
+                post.getStatus() == PostStatus.PUBLISHED,
+                post.getTags().stream().map(Tag::getSlug).collect(Collectors.toSet()),
+                post.getCategory() != null ? post.getCategory().getSlug() : null
+        );
+    }
+
+    public static PostChangedEvent of(Post post, ChangeType type) {
+        return of(post, type, null);
+    }
+
+    public static PostChangedEvent of(Post post, ChangeType type, Snapshot before) {
+        Snapshot after = snapshot(post);
+        Set<String> tagSlugs = new HashSet<>(after.tagSlugs());
+        Set<String> categorySlugs = new HashSet<>();
+        boolean published = after.published();
+        if (after.categorySlug() != null) {
+            categorySlugs.add(after.categorySlug());
+        }
+        if (before != null) {
+            tagSlugs.addAll(before.tagSlugs());
+            if (before.categorySlug() != null) {
+                categorySlugs.add(before.categorySlug());
+            }
+            published = published || before.published();
+        }
+        return new PostChangedEvent(post.getId(), type, post.getSlug(), published, Set.copyOf(tagSlugs), Set.copyOf(categorySlugs),
+                post.getCreatedAt());
+    }
+}
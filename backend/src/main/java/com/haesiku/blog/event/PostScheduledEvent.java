@@ -0,0 +1,11 @@
+package com.haesiku.blog.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 예약 발행 시각이 지정되거나 취소되었을 때 발행되는 도메인 이벤트.
+ *
+ * @param scheduledAt 예약 발행 시각 (취소면 null)
+ */
+public record PostScheduledEvent(Long postId, LocalDateTime scheduledAt) {
+}
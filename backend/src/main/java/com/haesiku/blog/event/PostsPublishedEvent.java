@@ -0,0 +1,31 @@
+package com.haesiku.blog.event;
+
+import com.haesiku.blog.entity.Post;
+import com.haesiku.blog.entity.Tag;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글이 새로 발행되었을 때 (직접 발행 또는 예약 발행 일괄) 발행되는 도메인 이벤트. 새로 공개되는 목록의 캐시 예열에 쓴다.
+ * 캐시 무효화는 게시글별 {@link PostChangedEvent}가 맡는다.
+ *
+ * @param tagSlugs      발행된 게시글들의 태그 slug
+ * @param categorySlugs 발행된 게시글들의 카테고리 slug
+ */
+public record PostsPublishedEvent(List<Long> postIds, Set<String> tagSlugs, Set<String> categorySlugs) {
+
+    public static PostsPublishedEvent of(Collection<Post> posts) {
+        Set<String> tagSlugs = new HashSet<>();
+        Set<String> categorySlugs = new HashSet<>();
+        for (Post post : posts) {
+            post.getTags().stream().map(Tag::getSlug).forEach(tagSlugs::add);
+            if (post.getCategory() != null) {
+                categorySlugs.add(post.getCategory().getSlug());
+            }
+        }
+        return new PostsPublishedEvent(posts.stream().map(Post::getId).toList(), Set.copyOf(tagSlugs), Set.copyOf(categorySlugs));
+    }
+}
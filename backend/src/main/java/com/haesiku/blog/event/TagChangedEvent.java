@@ -0,0 +1,9 @@
+package com.haesiku.blog.event;
+
+import java.util.Set;
+
+/**
+ * 태그가 새로 생성되었을 때 발행되는 도메인 이벤트.
+ */
+public record TagChangedEvent(Set<String> slugs) {
+}
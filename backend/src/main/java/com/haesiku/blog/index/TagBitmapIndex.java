@@ -0,0 +1,270 @@
+package com.haesiku.blog.index;
+
+import com.haesiku.blog.entity.PostStatus;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그·카테고리·게시 상태별 게시글 id 비트맵 (Roaring bitmap).
+ * 태그 AND/OR/NOT 조건을 비트맵 교집합·합집합·차집합으로 풀고, 결과를 최신순(작성일시, id 내림차순) 페이지로 돌려준다.
+ * id는 시퀀스를 여러 인스턴스가 나눠 받으므로 작성 순서와 다를 수 있어, 정렬은 게시글별로 둔 작성일시로 한다.
+ * 게시글 id는 int 범위여야 한다.
+ */
+public final class TagBitmapIndex {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final Map<String, RoaringBitmap> byTag = new HashMap<>();
+    private final Map<String, RoaringBitmap> byCategory = new HashMap<>();
+    private final Map<PostStatus, RoaringBitmap> byStatus = new EnumMap<>(PostStatus.class);
+    /** 게시글별 현재 색인 내용. 교체·삭제 시 어느 비트맵에서 뺄지 알기 위해 둔다. */
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    /** 색인된 전체 게시글의 최신순 정렬 */
+    private final NavigableSet<OrderKey> order = new TreeSet<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 게시글을 추가하거나, 이미 있으면 교체한다.
+     */
+    public void put(long postId, LocalDateTime createdAt, PostStatus status, String categorySlug,
+                    Collection<String> tagSlugs) {
+        int id = Math.toIntExact(postId);
+        Entry entry = new Entry(new OrderKey(createdAt, id), status, categorySlug, Set.copyOf(tagSlugs));
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            entries.put(id, entry);
+            order.add(entry.orderKey());
+            byStatus.computeIfAbsent(status, s -> new RoaringBitmap()).add(id);
+            if (categorySlug != null) {
+                byCategory.computeIfAbsent(categorySlug, c -> new RoaringBitmap()).add(id);
+            }
+            for (String tagSlug : entry.tagSlugs()) {
+                byTag.computeIfAbsent(tagSlug, t -> new RoaringBitmap()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            return removeInternal(Math.toIntExact(postId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean removeInternal(int id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        order.remove(entry.orderKey());
+        removeFrom(byStatus, entry.status(), id);
+        if (entry.categorySlug() != null) {
+            removeFrom(byCategory, entry.categorySlug(), id);
+        }
+        for (String tagSlug : entry.tagSlugs()) {
+            removeFrom(byTag, tagSlug, id);
+        }
+        return true;
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int id) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 연속된 id 구간을 run 컨테이너로 압축한다. 전체 색인을 만든 뒤 한 번 호출한다.
+     */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            byStatus.values().forEach(RoaringBitmap::runOptimize);
+            byCategory.values().forEach(RoaringBitmap::runOptimize);
+            byTag.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param offset 건너뛸 게시글 수 (0 이상)
+     * @param limit  최대 반환 수 (0 이상)
+     * @return 조건을 만족하는 게시글 id (최신순)와 전체 건수
+     */
+    public Result query(Query query, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset과 limit은 0 이상이어야 합니다.");
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = match(query);
+            int total = matched.getCardinality();
+            int wanted = (int) Math.min(total, (long) offset + limit);
+            if (offset >= wanted) {
+                return new Result(List.of(), total);
+            }
+            // 최신순 전체 목록을 앞에서부터 훑으면 약 wanted × (전체 / total)개를, 일치한 게시글만 정렬하면 total개를 본다.
+            // 조건에 맞는 게시글이 많으면 앞에서 곧 찾고, 적으면 모아 정렬하는 편이 빠르므로 적게 보는 쪽을 고른다.
+            List<OrderKey> top = (long) wanted * entries.size() <= (long) total * total
+                    ? scanNewest(matched, wanted)
+                    : selectNewest(matched, wanted);
+            List<Long> ids = new ArrayList<>(wanted - offset);
+            for (OrderKey key : top.subList(offset, wanted)) {
+                ids.add((long) key.id());
+            }
+            return new Result(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 최신순 목록에서 matched에 든 게시글을 앞에서부터 count개 고른다.
+     */
+    private List<OrderKey> scanNewest(RoaringBitmap matched, int count) {
+        List<OrderKey> top = new ArrayList<>(count);
+        for (OrderKey key : order) {
+            if (matched.contains(key.id())) {
+                top.add(key);
+                if (top.size() == count) {
+                    break;
+                }
+            }
+        }
+        return top;
+    }
+
+    /**
+     * matched 전체를 훑어 가장 최신인 count개를 크기 count의 힙으로 고른 뒤 최신순으로 정렬한다.
+     */
+    private List<OrderKey> selectNewest(RoaringBitmap matched, int count) {
+        // 머리에 가장 오래된 게시글이 오도록 역순 힙을 쓰고, 넘치면 그것부터 버린다.
+        PriorityQueue<OrderKey> heap = new PriorityQueue<>(count + 1, Comparator.reverseOrder());
+        IntIterator ids = matched.getIntIterator();
+        while (ids.hasNext()) {
+            heap.add(entries.get(ids.next()).orderKey());
+            if (heap.size() > count) {
+                heap.poll();
+            }
+        }
+        List<OrderKey> top = new ArrayList<>(heap);
+        Collections.sort(top);
+        return top;
+    }
+
+    /**
+     * 조건을 만족하는 id 비트맵 (읽기 잠금 안에서 호출, 색인의 비트맵을 바꾸지 않는 새 비트맵).
+     */
+    private RoaringBitmap match(Query query) {
+        List<RoaringBitmap> filters = new ArrayList<>();
+        if (query.status() != null) {
+            filters.add(byStatus.getOrDefault(query.status(), EMPTY));
+        }
+        if (query.category() != null) {
+            filters.add(byCategory.getOrDefault(query.category(), EMPTY));
+        }
+        for (String tagSlug : query.all()) {
+            filters.add(byTag.getOrDefault(tagSlug, EMPTY));
+        }
+        if (!query.any().isEmpty()) {
+            filters.add(RoaringBitmap.or(query.any().stream()
+                    .map(tagSlug -> byTag.getOrDefault(tagSlug, EMPTY))
+                    .iterator()));
+        }
+
+        RoaringBitmap result;
+        if (filters.isEmpty()) {
+            result = RoaringBitmap.or(byStatus.values().iterator());
+        } else {
+            // 가장 작은 집합부터 교집합을 구해 중간 결과를 작게 유지한다.
+            filters.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+            result = filters.get(0).clone();
+            for (int i = 1; i < filters.size() && !result.isEmpty(); i++) {
+                result.and(filters.get(i));
+            }
+        }
+        for (String tagSlug : query.none()) {
+            RoaringBitmap excluded = byTag.get(tagSlug);
+            if (excluded != null) {
+                result.andNot(excluded);
+            }
+        }
+        return result;
+    }
+
+    public IndexStats stats() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Map<?, RoaringBitmap> bitmaps : List.of(byStatus, byCategory, byTag)) {
+                for (RoaringBitmap bitmap : bitmaps.values()) {
+                    bytes += bitmap.getLongSizeInBytes();
+                }
+            }
+            return new IndexStats(entries.size(), byTag.size(), bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 태그 조합 조건. 비어 있는 조건은 적용하지 않는다.
+     *
+     * @param all      모두 포함해야 하는 태그 slug (AND)
+     * @param any      하나 이상 포함해야 하는 태그 slug (OR)
+     * @param none     포함하지 않아야 하는 태그 slug (NOT)
+     * @param status   게시 상태 (null이면 전체)
+     * @param category 카테고리 slug (null이면 전체)
+     */
+    public record Query(Set<String> all, Set<String> any, Set<String> none, PostStatus status, String category) {
+    }
+
+    public record Result(List<Long> ids, int total) {
+    }
+
+    public record IndexStats(int posts, int tags, long bitmapBytes) {
+    }
+
+    private record Entry(OrderKey orderKey, PostStatus status, String categorySlug, Set<String> tagSlugs) {
+    }
+
+    /** 최신순 정렬 키. 작성일시가 같으면 id가 큰 쪽이 앞이다 (DB 목록의 createdAt DESC, id DESC와 같다). */
+    private record OrderKey(LocalDateTime createdAt, int id) implements Comparable<OrderKey> {
+
+        private static final Comparator<OrderKey> NEWEST_FIRST = Comparator
+                .comparing(OrderKey::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(OrderKey::id, Comparator.reverseOrder());
+
+        @Override
+        public int compareTo(OrderKey other) {
+            return NEWEST_FIRST.compare(this, other);
+        }
+    }
+}
@@ -1,15 +1,53 @@
 package com.haesiku.blog.mapper;
 
+import com.haesiku.blog.dto.CategoryResponseDto;
 import com.haesiku.blog.dto.PostResponseDto;
+import com.haesiku.blog.dto.PostSummaryDto;
+import com.haesiku.blog.dto.PostSummaryView;
+import com.haesiku.blog.dto.TagResponseDto;
 import com.haesiku.blog.entity.Post;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring", uses = {CategoryMapper.class, TagMapper.class})
 public interface PostMapper {
 
     @Mapping(source = "post.category", target = "category")
     @Mapping(source = "post.tags", target = "tags")
-    @Mapping(target = "commentCount", expression = "java(commentCount)")
-    PostResponseDto toResponseDto(Post post, long commentCount);
+    @Mapping(source = "post.renderedHtml", target = "renderedHtml")
+    @Mapping(source = "post.toc", target = "toc")
+    PostResponseDto toResponseDto(Post post);
+
+    @Mapping(source = "post.category", target = "category")
+    @Mapping(source = "post.tags", target = "tags")
+    @Mapping(source = "post.renderedHtml", target = "renderedHtml")
+    @Mapping(source = "post.toc", target = "toc")
+    @Mapping(source = "post.commentCount", target = "commentCount")
+    @Mapping(target = "viewCount", expression = "java(viewCount)")
+    PostResponseDto toResponseDto(Post post, long viewCount);
+
+    @Mapping(source = "view.id", target = "id")
+    @Mapping(source = "view.title", target = "title")
+    @Mapping(source = "view.summary", target = "summary")
+    @Mapping(source = "view.author", target = "author")
+    @Mapping(source = "view.slug", target = "slug")
+    @Mapping(source = "view.status", target = "status")
+    @Mapping(source = "view.viewCount", target = "viewCount")
+    @Mapping(source = "view.commentCount", target = "commentCount")
+    @Mapping(source = "view.createdAt", target = "createdAt")
+    @Mapping(source = "view.updatedAt", target = "updatedAt")
+    @Mapping(source = "view.publishedAt", target = "publishedAt")
+    @Mapping(target = "category", expression = "java(toCategoryResponseDto(view))")
+    @Mapping(target = "tags", expression = "java(tags)")
+    PostSummaryDto toSummaryDto(PostSummaryView view, List<TagResponseDto> tags);
+
+    default CategoryResponseDto toCategoryResponseDto(PostSummaryView view) {
+        if (view.getCategoryId() == null) {
+            return null;
+        }
+        return new CategoryResponseDto(view.getCategoryId(), view.getCategoryName(), view.getCategorySlug(),
+                view.getCategoryDescription(), null, view.getCategoryCreatedAt());
+    }
 }
@@ -2,7 +2,12 @@ package com.haesiku.blog.repository;
 
 import com.haesiku.blog.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
@@ -11,5 +16,15 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     Optional<Category> findByName(String name);
 
+    List<Category> findByNameIn(Collection<String> names);
+
+    /** 발행 게시글이 하나 이상인 카테고리 slug (sitemap) */
+    @Query("SELECT c.slug FROM Category c WHERE c.postCount > 0 ORDER BY c.slug")
+    List<String> findSlugsWithPosts();
+
+    @Modifying
+    @Query("UPDATE Category c SET c.postCount = c.postCount + :delta WHERE c.slug IN :slugs")
+    int addPostCount(@Param("slugs") Collection<String> slugs, @Param("delta") long delta);
+
     boolean existsByName(String name);
 }
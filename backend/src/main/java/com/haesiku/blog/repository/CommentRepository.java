@@ -1,18 +1,36 @@
 package com.haesiku.blog.repository;
 
 import com.haesiku.blog.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.parent IS NULL ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRoots(@Param("postId") Long postId, Pageable pageable);
 
-    long countByPostId(Long postId);
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.parent IS NULL " +
+            "AND (c.createdAt, c.id) > (:createdAt, :id) ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRootsAfter(@Param("postId") Long postId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
 
-    @Query("SELECT c.post.id, COUNT(c) FROM Comment c WHERE c.post.id IN :postIds GROUP BY c.post.id")
-    List<Object[]> countByPostIds(@Param("postIds") List<Long> postIds);
+    /** 한 페이지 최상위 댓글들의 답글을 한 번에 읽는다. parentIds가 비어 있으면 호출하지 않는다. */
+    @Query("SELECT c FROM Comment c WHERE c.parent.id IN :parentIds ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findReplies(@Param("parentIds") Collection<Long> parentIds);
+
+    /**
+     * @return 삭제된 답글 수 (게시글 댓글 수 차감용)
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.parent.id = :parentId")
+    int deleteReplies(@Param("parentId") Long parentId);
 }
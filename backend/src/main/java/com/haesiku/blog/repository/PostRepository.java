@@ -1,39 +1,193 @@
 package com.haesiku.blog.repository;
 
+import com.haesiku.blog.dto.PostIndexView;
+import com.haesiku.blog.dto.PostScheduleView;
+import com.haesiku.blog.dto.PostSummaryView;
+import com.haesiku.blog.dto.PostTagView;
+import com.haesiku.blog.dto.PostVersionView;
+import com.haesiku.blog.dto.SlugOwnerView;
 import com.haesiku.blog.entity.Post;
 import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.feed.dto.SitemapEntryView;
+import com.haesiku.search.dto.SearchRankView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    /** 목록 projection({@link PostSummaryView}) 컬럼. 게시글 별칭 p, 카테고리 별칭 c로 조인하는 쿼리에서 쓴다. */
+    String SUMMARY_COLUMNS = "SELECT p.id AS id, p.title AS title, p.summary AS summary, p.author AS author, " +
+            "p.slug AS slug, p.status AS status, p.viewCount AS viewCount, p.commentCount AS commentCount, " +
+            "p.createdAt AS createdAt, p.updatedAt AS updatedAt, p.publishedAt AS publishedAt, " +
+            "c.id AS categoryId, c.name AS categoryName, c.slug AS categorySlug, " +
+            "c.description AS categoryDescription, c.createdAt AS categoryCreatedAt ";
+
+    String SUMMARY_SELECT = SUMMARY_COLUMNS + "FROM Post p LEFT JOIN p.category c ";
+
+    @EntityGraph(attributePaths = {"category", "tags"})
     Optional<Post> findBySlug(String slug);
 
-    Page<Post> findByStatusOrderByCreatedAtDesc(PostStatus status, Pageable pageable);
+    /** slug 할당용. base와 같거나 "base-"로 시작하는 slug만 읽는다 (slug 접두어 인덱스 사용). */
+    @Query("SELECT p.slug AS slug, p.id AS postId FROM Post p WHERE p.slug = :base OR p.slug LIKE :prefix")
+    List<SlugOwnerView> findSlugOwners(@Param("base") String base, @Param("prefix") String prefix);
+
+    /** 일괄 slug 할당용. 여러 base 중 이미 쓰이는 것을 한 번에 찾는다. */
+    @Query("SELECT p.slug AS slug, p.id AS postId FROM Post p WHERE p.slug IN :slugs")
+    List<SlugOwnerView> findSlugOwnersBySlugIn(@Param("slugs") Collection<String> slugs);
 
-    Page<Post> findByTitleContainingOrderByCreatedAtDesc(String keyword, Pageable pageable);
+    /** PostSlugResolver 적재용 */
+    @Query("SELECT p.slug AS slug, p.id AS postId FROM Post p")
+    List<SlugOwnerView> findAllSlugOwners();
 
-    Page<Post> findByCategoryIdOrderByCreatedAtDesc(Long categoryId, Pageable pageable);
+    @Query("SELECT p.id FROM Post p WHERE p.slug = :slug")
+    Optional<Long> findIdBySlug(@Param("slug") String slug);
 
-    @Query("SELECT DISTINCT p FROM Post p JOIN p.tags t " +
-            "WHERE t.id = :tagId " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByTagId(@Param("tagId") Long tagId, Pageable pageable);
+    @EntityGraph(attributePaths = {"category", "tags"})
+    Optional<Post> findWithCategoryAndTagsById(Long id);
+
+    /**
+     * 엔티티 페이지 조회의 2단계 중 두 번째 단계. 컬렉션 fetch join은 DB 페이징을 깨뜨리므로
+     * {@link #findIdPage}로 id만 페이징한 뒤 태그를 함께 읽는다.
+     */
+    @EntityGraph(attributePaths = "tags")
+    List<Post> findWithTagsByIdIn(Collection<Long> ids);
+
+    @Query(value = "SELECT p.id FROM Post p", countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<Long> findIdPage(Pageable pageable);
+
+    /**
+     * 엔티티 페이지 조회. 카테고리는 entity graph로 같은 문장에서 읽고, 태그는 batch fetch로
+     * 페이지 게시글 전체를 IN 절 한 번에 읽는다 (컬렉션은 페이징과 함께 fetch join 하지 않는다).
+     */
+    @EntityGraph(attributePaths = "category")
+    Page<Post> findByStatusOrderByCreatedAtDesc(PostStatus status, Pageable pageable);
 
-    @Query("SELECT DISTINCT p FROM Post p JOIN p.tags t " +
+    /** 태그 이름 중 하나라도 붙은 게시글 페이지. 로딩 방식은 {@link #findByStatusOrderByCreatedAtDesc}와 같다. */
+    @EntityGraph(attributePaths = "category")
+    @Query(value = "SELECT DISTINCT p FROM Post p JOIN p.tags t " +
             "WHERE t.name IN :tagNames " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByTagNames(@Param("tagNames") java.util.List<String> tagNames, Pageable pageable);
-
-    @Query("SELECT DISTINCT p FROM Post p JOIN p.tags t " +
-            "WHERE p.status = :status AND t.id = :tagId " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByStatusAndTagId(@Param("status") PostStatus status,
-                                    @Param("tagId") Long tagId,
-                                    Pageable pageable);
+            "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(DISTINCT p) FROM Post p JOIN p.tags t WHERE t.name IN :tagNames")
+    Page<Post> findByTagNames(@Param("tagNames") List<String> tagNames, Pageable pageable);
+
+    /** 내보내기용 id 키셋 조회. 페이지 크기만큼만 읽으므로 OFFSET 없이 전체 테이블을 나눠 읽는다. */
+    @Query("SELECT p.id FROM Post p WHERE p.id > :after ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.updatedAt AS updatedAt, p.commentCount AS commentCount, "
+            + "c.updatedAt AS categoryUpdatedAt, MAX(t.updatedAt) AS tagsUpdatedAt "
+            + "FROM Post p LEFT JOIN p.category c LEFT JOIN p.tags t WHERE p.slug = :slug "
+            + "GROUP BY p.id, p.updatedAt, p.commentCount, c.updatedAt")
+    Optional<PostVersionView> findVersionBySlug(@Param("slug") String slug);
+
+    /**
+     * 댓글 수 증감. 엔티티를 읽지 않는 단일 UPDATE라 동시에 작성돼도 유실되지 않고 updatedAt도 바뀌지 않는다.
+     *
+     * @return 갱신된 행 수 (게시글이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Query(value = SUMMARY_SELECT,
+            countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummaryView> findAllSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.status = :status ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.status = :status")
+    Page<PostSummaryView> findSummariesByStatus(@Param("status") PostStatus status, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE c.id = :categoryId ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category.id = :categoryId")
+    Page<PostSummaryView> findSummariesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.id IN (SELECT tp.id FROM Post tp JOIN tp.tags t WHERE t.id = :tagId) " +
+            "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p JOIN p.tags t WHERE t.id = :tagId")
+    Page<PostSummaryView> findSummariesByTagId(@Param("tagId") Long tagId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.status = :status ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryView> findSummaryFeed(@Param("status") PostStatus status, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.status = :status AND (p.createdAt, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryView> findSummaryFeedAfter(@Param("status") PostStatus status,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    /** sitemap용 발행 게시글 id 키셋 조회 (slug·수정일시만 읽는다) */
+    @Query("SELECT p.id AS id, p.slug AS slug, p.updatedAt AS updatedAt FROM Post p " +
+            "WHERE p.status = :status AND p.id > :after ORDER BY p.id")
+    List<SitemapEntryView> findSitemapEntriesAfter(@Param("status") PostStatus status, @Param("after") long after,
+                                                   Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummaryView> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    /** 예약 발행 대기 중인 게시글 (ScheduledPostPublisher 적재용) */
+    @Query("SELECT p.id AS id, p.scheduledAt AS scheduledAt FROM Post p " +
+            "WHERE p.status = :status AND p.scheduledAt IS NOT NULL")
+    List<PostScheduleView> findSchedules(@Param("status") PostStatus status);
+
+    /** 예약 시각이 지났고 아직 발행되지 않은 게시글. 그사이 예약이 바뀌거나 취소·발행·삭제된 게시글은 빠진다. */
+    @EntityGraph(attributePaths = {"category", "tags"})
+    @Query("SELECT p FROM Post p WHERE p.id IN :ids AND p.status = :status AND p.scheduledAt <= :now ORDER BY p.id")
+    List<Post> findDueScheduled(@Param("ids") Collection<Long> ids, @Param("status") PostStatus status,
+                                @Param("now") LocalDateTime now);
+
+    /**
+     * 트랜잭션 범위 advisory lock. 커밋·롤백 시 자동으로 풀린다.
+     *
+     * @return 다른 트랜잭션이 잡고 있으면 기다리지 않고 false
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+
+    @Query("SELECT p.id AS id, p.status AS status, c.slug AS categorySlug, p.createdAt AS createdAt " +
+            "FROM Post p LEFT JOIN p.category c WHERE p.id IN :ids")
+    List<PostIndexView> findIndexViewsByIds(@Param("ids") Collection<Long> ids);
+
+    /** 검색 미리보기 생성용. 응답에는 본문을 싣지 않으므로 id·본문만 따로 읽는다. */
+    @Query("SELECT p.id, p.content FROM Post p WHERE p.id IN :ids")
+    List<Object[]> findContentsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id AS postId, t.id AS id, t.name AS name, t.slug AS slug, t.createdAt AS createdAt " +
+            "FROM Post p JOIN p.tags t WHERE p.id IN :postIds ORDER BY t.name")
+    List<PostTagView> findTagsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Query(value = "SELECT p.id AS id, ts_rank_cd(p.search_vector, CAST(:query AS tsquery)) AS rank " +
+            "FROM posts p " +
+            "WHERE p.search_vector @@ CAST(:query AS tsquery) " +
+            "ORDER BY rank DESC, p.created_at DESC",
+            countQuery = "SELECT COUNT(*) FROM posts p WHERE p.search_vector @@ CAST(:query AS tsquery)",
+            nativeQuery = true)
+    Page<SearchRankView> searchByTsQuery(@Param("query") String query, Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET search_vector = CAST(:vector AS tsvector) WHERE id = :id", nativeQuery = true)
+    int updateSearchVector(@Param("id") Long id, @Param("vector") String vector);
+
+    @Query(value = "SELECT id FROM posts WHERE search_vector IS NULL ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsWithoutSearchVector(@Param("limit") int limit);
+
+    /** 렌더링 결과만 기록한다. 엔티티 갱신이 아니므로 updatedAt(수정일시)은 바뀌지 않는다. */
+    @Modifying
+    @Query(value = "UPDATE posts SET rendered_html = :html, toc = CAST(:toc AS jsonb), content_hash = :hash " +
+            "WHERE id = :id", nativeQuery = true)
+    int updateRendering(@Param("id") Long id, @Param("html") String html,
+                        @Param("toc") String toc, @Param("hash") String hash);
+
+    @Query(value = "SELECT id FROM posts WHERE content_hash IS NULL ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsWithoutRendering(@Param("limit") int limit);
 }
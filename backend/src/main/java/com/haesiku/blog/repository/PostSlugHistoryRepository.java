@@ -0,0 +1,34 @@
+package com.haesiku.blog.repository;
+
+import com.haesiku.blog.dto.SlugOwnerView;
+import com.haesiku.blog.entity.PostSlugHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PostSlugHistoryRepository extends JpaRepository<PostSlugHistory, Long> {
+
+    /** 예전 slug가 가리키는 게시글의 id와 현재 slug */
+    @Query("SELECT p.slug AS slug, p.id AS postId FROM PostSlugHistory h JOIN h.post p WHERE h.slug = :slug")
+    Optional<SlugOwnerView> findCurrentOwner(@Param("slug") String slug);
+
+    /** PostSlugResolver 적재용 */
+    @Query("SELECT h.slug AS slug, h.post.id AS postId FROM PostSlugHistory h")
+    List<SlugOwnerView> findAllSlugOwners();
+
+    @Query("SELECT h.slug AS slug, h.post.id AS postId FROM PostSlugHistory h " +
+            "WHERE h.slug = :base OR h.slug LIKE :prefix")
+    List<SlugOwnerView> findSlugOwners(@Param("base") String base, @Param("prefix") String prefix);
+
+    @Query("SELECT h.slug AS slug, h.post.id AS postId FROM PostSlugHistory h WHERE h.slug IN :slugs")
+    List<SlugOwnerView> findSlugOwnersBySlugIn(@Param("slugs") Collection<String> slugs);
+
+    @Modifying
+    @Query("DELETE FROM PostSlugHistory h WHERE h.slug = :slug AND h.post.id = :postId")
+    int deleteBySlugAndPostId(@Param("slug") String slug, @Param("postId") Long postId);
+}
@@ -2,7 +2,11 @@ package com.haesiku.blog.repository;
 
 import com.haesiku.blog.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +19,16 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     List<Tag> findByNameIn(List<String> names);
 
     boolean existsByName(String name);
+
+    /** 발행 게시글이 하나 이상인 태그 (태그 클라우드) */
+    @Query("SELECT t FROM Tag t WHERE t.postCount > 0 ORDER BY t.postCount DESC, t.name")
+    List<Tag> findCloud();
+
+    /** 발행 게시글이 하나 이상인 태그 slug (sitemap) */
+    @Query("SELECT t.slug FROM Tag t WHERE t.postCount > 0 ORDER BY t.slug")
+    List<String> findSlugsWithPosts();
+
+    @Modifying
+    @Query("UPDATE Tag t SET t.postCount = t.postCount + :delta WHERE t.slug IN :slugs")
+    int addPostCount(@Param("slugs") Collection<String> slugs, @Param("delta") long delta);
 }
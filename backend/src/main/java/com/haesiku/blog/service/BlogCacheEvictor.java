@@ -0,0 +1,88 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.event.CategoryChangedEvent;
+import com.haesiku.blog.event.CommentChangedEvent;
+import com.haesiku.blog.event.PostChangedEvent;
+import com.haesiku.blog.event.TagChangedEvent;
+import com.haesiku.common.config.CacheConfig;
+import com.haesiku.common.web.ContentVersionTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+
+/**
+ * 도메인 이벤트를 받아 영향받는 캐시 항목만 무효화하고, HTTP 검증자(ETag) 버전을 올린다.
+ * 커밋 이후에 실행되므로 무효화 직후의 조회는 항상 커밋된 데이터를 다시 캐시한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlogCacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final ContentVersionTracker contentVersionTracker;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.published()) {
+            clear(CacheConfig.PUBLISHED_POSTS);
+            // 발행 게시글이 바뀌면 태그·카테고리의 게시글 수(목록·태그 클라우드)도 바뀐다.
+            if (!event.tagSlugs().isEmpty()) {
+                clear(CacheConfig.TAGS);
+                contentVersionTracker.bump(ContentVersionTracker.TAGS);
+            }
+            if (!event.categorySlugs().isEmpty()) {
+                clear(CacheConfig.CATEGORIES);
+                contentVersionTracker.bump(ContentVersionTracker.CATEGORIES);
+            }
+        }
+        evictBySlugs(CacheConfig.POSTS_BY_TAG, event.tagSlugs());
+        evictBySlugs(CacheConfig.POSTS_BY_CATEGORY, event.categorySlugs());
+        contentVersionTracker.bump(ContentVersionTracker.POSTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        // 목록 응답의 댓글 수가 바뀌므로 검증자만 갱신한다.
+        contentVersionTracker.bump(ContentVersionTracker.POSTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        clear(CacheConfig.TAGS);
+        evictBySlugs(CacheConfig.POSTS_BY_TAG, event.slugs());
+        contentVersionTracker.bump(ContentVersionTracker.TAGS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        clear(CacheConfig.CATEGORIES);
+        evictBySlugs(CacheConfig.POSTS_BY_CATEGORY, Set.of(event.slug()));
+        contentVersionTracker.bump(ContentVersionTracker.CATEGORIES);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evictBySlugs(String cacheName, Set<String> slugs) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || slugs.isEmpty()) {
+            return;
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+        nativeCache.asMap().keySet().removeIf(key -> {
+            String keyString = key.toString();
+            int separator = keyString.indexOf(CacheConfig.SLUG_KEY_SEPARATOR);
+            return separator > 0 && slugs.contains(keyString.substring(0, separator));
+        });
+    }
+}
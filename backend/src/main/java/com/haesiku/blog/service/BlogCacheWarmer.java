@@ -0,0 +1,42 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.event.PostsPublishedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글이 새로 발행되면 {@link BlogCacheEvictor}가 비운 목록 캐시 중 첫 페이지를 미리 채운다.
+ * 발행 직후 몰리는 요청이 빈 캐시에서 동시에 DB를 조회하지 않게 하려는 것이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlogCacheWarmer {
+
+    /** 목록 API의 기본 페이지 요청(@PageableDefault)과 같아야 같은 캐시 키가 된다. */
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private final PostService postService;
+    private final TagService tagService;
+    private final CategoryService categoryService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsPublished(PostsPublishedEvent event) {
+        try {
+            postService.getPublishedPosts(FIRST_PAGE);
+            tagService.getAllTags();
+            tagService.getTagCloud();
+            categoryService.getAllCategories();
+            event.tagSlugs().forEach(slug -> tagService.getPostsByTag(slug, FIRST_PAGE));
+            event.categorySlugs().forEach(slug -> categoryService.getPostsByCategory(slug, FIRST_PAGE));
+        } catch (RuntimeException e) {
+            // 예열은 성능을 위한 것이므로 실패해도 다음 조회가 캐시를 채운다.
+            log.warn("발행 후 캐시 예열 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.haesiku.blog.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.haesiku.common.exception.TooManyRequestsException;
+import com.haesiku.common.util.TokenBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 작성·수정·삭제 요청 한도 (IP별, 게시글별 토큰 버킷).
+ * 비밀번호 해시 계산 전에 검사하므로 스팸·비밀번호 대입 요청이 해시 풀을 차지하지 못한다.
+ */
+@Component
+public class CommentRateLimiter {
+
+    private static final int MAX_BUCKETS = 100_000;
+
+    private final int perIpCapacity;
+    private final Duration perIpPeriod;
+    private final int perPostCapacity;
+    private final Duration perPostPeriod;
+
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<Long, TokenBucket> postBuckets;
+
+    public CommentRateLimiter(
+            @Value("${comment.rate-limit.per-ip.capacity:5}") int perIpCapacity,
+            @Value("${comment.rate-limit.per-ip.period:1m}") Duration perIpPeriod,
+            @Value("${comment.rate-limit.per-post.capacity:30}") int perPostCapacity,
+            @Value("${comment.rate-limit.per-post.period:1m}") Duration perPostPeriod) {
+        this.perIpCapacity = perIpCapacity;
+        this.perIpPeriod = perIpPeriod;
+        this.perPostCapacity = perPostCapacity;
+        this.perPostPeriod = perPostPeriod;
+        // 한 주기 동안 요청이 없던 버킷은 가득 찬 상태와 같으므로 버려도 된다.
+        this.ipBuckets = Caffeine.newBuilder()
+                .maximumSize(MAX_BUCKETS)
+                .expireAfterAccess(perIpPeriod)
+                .build();
+        this.postBuckets = Caffeine.newBuilder()
+                .maximumSize(MAX_BUCKETS)
+                .expireAfterAccess(perPostPeriod)
+                .build();
+    }
+
+    /**
+     * 두 버킷 모두에서 토큰을 얻어야 통과한다. 게시글 버킷에서 거절되면 IP 버킷에서 꺼낸 토큰은 되돌린다.
+     *
+     * @throws TooManyRequestsException IP 또는 게시글의 한도를 넘은 경우
+     */
+    public void check(String clientIp, Long postId) {
+        TokenBucket ipBucket = ipBuckets.get(clientIp, ip -> new TokenBucket(perIpCapacity, perIpPeriod.toNanos()));
+        long waitNanos = ipBucket.tryConsume();
+        if (waitNanos > 0) {
+            throw tooManyRequests(waitNanos);
+        }
+        waitNanos = postBuckets.get(postId, id -> new TokenBucket(perPostCapacity, perPostPeriod.toNanos())).tryConsume();
+        if (waitNanos > 0) {
+            ipBucket.refund();
+            throw tooManyRequests(waitNanos);
+        }
+    }
+
+    private static TooManyRequestsException tooManyRequests(long waitNanos) {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return new TooManyRequestsException("댓글 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.", retryAfter);
+    }
+}
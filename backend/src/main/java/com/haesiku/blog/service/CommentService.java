@@ -4,17 +4,24 @@ import com.haesiku.blog.dto.CommentCreateRequestDto;
 import com.haesiku.blog.dto.CommentResponseDto;
 import com.haesiku.blog.dto.CommentUpdateRequestDto;
 import com.haesiku.blog.entity.Comment;
-import com.haesiku.blog.entity.Post;
+import com.haesiku.blog.event.CommentChangedEvent;
+import com.haesiku.common.dto.CursorPageResponseDto;
 import com.haesiku.common.exception.EntityNotFoundException;
 import com.haesiku.common.exception.InvalidPasswordException;
 import com.haesiku.blog.repository.CommentRepository;
 import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.common.security.PasswordHasher;
+import com.haesiku.common.util.PageCursor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,52 +30,112 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 해시 계산 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 먼저 해시를 만든다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CommentResponseDto create(Long postId, CommentCreateRequestDto request) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("Post", "id", postId));
+        String passwordHash = passwordHasher.encode(request.password());
 
-        String passwordHash = passwordEncoder.encode(request.password());
+        return transactionTemplate.execute(status -> {
+            // 댓글 수 증가 UPDATE가 게시글 존재 확인을 겸한다. 이후 예외가 나면 함께 롤백된다.
+            if (postRepository.addCommentCount(postId, 1) == 0) {
+                throw new EntityNotFoundException("Post", "id", postId);
+            }
 
-        Comment comment = Comment.builder()
-                .author(request.author())
-                .passwordHash(passwordHash)
-                .body(request.body())
-                .post(post)
-                .build();
+            Comment comment = Comment.builder()
+                    .author(request.author())
+                    .passwordHash(passwordHash)
+                    .body(request.body())
+                    .post(postRepository.getReferenceById(postId))
+                    .parent(resolveParent(postId, request.parentId()))
+                    .build();
 
-        Comment saved = commentRepository.save(comment);
-        return toResponseDto(saved);
+            Comment saved = commentRepository.save(comment);
+            eventPublisher.publishEvent(new CommentChangedEvent(postId));
+            return toResponseDto(saved, List.of());
+        });
     }
 
-    public List<CommentResponseDto> findByPostId(Long postId) {
+    /**
+     * 최상위 댓글을 작성 순으로 커서 기반 조회하고, 각 댓글의 답글을 함께 싣는다 (COUNT 없음).
+     * 최상위 댓글 키셋 조회 1회와 해당 페이지 답글 IN 조회 1회로 끝난다.
+     */
+    public CursorPageResponseDto<CommentResponseDto> getComments(Long postId, String after, int size) {
         if (!postRepository.existsById(postId)) {
             throw new EntityNotFoundException("Post", "id", postId);
         }
-        return commentRepository.findByPostIdOrderByCreatedAtAsc(postId).stream()
-                .map(this::toResponseDto)
+        PageCursor cursor = PageCursor.decode(after);
+        int limit = PageCursor.clampSize(size);
+        List<Comment> roots = cursor == null
+                ? commentRepository.findRoots(postId, PageCursor.lookahead(limit))
+                : commentRepository.findRootsAfter(postId, cursor.createdAt(), cursor.id(), PageCursor.lookahead(limit));
+
+        List<Long> rootIds = roots.stream().limit(limit).map(Comment::getId).toList();
+        Map<Long, List<CommentResponseDto>> replies = rootIds.isEmpty()
+                ? Map.of()
+                : commentRepository.findReplies(rootIds).stream()
+                        .collect(Collectors.groupingBy(reply -> reply.getParent().getId(),
+                                Collectors.mapping(reply -> toResponseDto(reply, List.of()), Collectors.toList())));
+
+        List<CommentResponseDto> rows = roots.stream()
+                .map(root -> toResponseDto(root, replies.getOrDefault(root.getId(), List.of())))
                 .toList();
+        return CursorPageResponseDto.of(rows, limit, comment -> new PageCursor(comment.createdAt(), comment.id()));
     }
 
-    @Transactional
+    /**
+     * 비밀번호 확인은 트랜잭션 밖에서 하고, 확인된 경우에만 짧은 트랜잭션으로 수정한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CommentResponseDto update(Long postId, Long commentId, CommentUpdateRequestDto request) {
-        Comment comment = findCommentByPostAndId(postId, commentId);
-        if (!passwordEncoder.matches(request.password(), comment.getPasswordHash())) {
-            throw new InvalidPasswordException("비밀번호가 일치하지 않습니다.");
-        }
-        comment.updateBody(request.body());
-        return toResponseDto(comment);
+        verifyPassword(postId, commentId, request.password());
+        return transactionTemplate.execute(status -> {
+            Comment comment = findCommentByPostAndId(postId, commentId);
+            comment.updateBody(request.body());
+            eventPublisher.publishEvent(new CommentChangedEvent(postId));
+            return toResponseDto(comment, List.of());
+        });
     }
 
-    @Transactional
+    /**
+     * 최상위 댓글을 지우면 답글도 함께 지우고, 지운 수만큼 게시글 댓글 수를 같은 트랜잭션에서 줄인다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void delete(Long postId, Long commentId, String password) {
-        Comment comment = findCommentByPostAndId(postId, commentId);
-        if (!passwordEncoder.matches(password, comment.getPasswordHash())) {
+        verifyPassword(postId, commentId, password);
+        transactionTemplate.executeWithoutResult(status -> {
+            Comment comment = findCommentByPostAndId(postId, commentId);
+            long removed = 1;
+            if (!comment.isReply()) {
+                removed += commentRepository.deleteReplies(comment.getId());
+            }
+            commentRepository.delete(comment);
+            postRepository.addCommentCount(postId, -removed);
+            eventPublisher.publishEvent(new CommentChangedEvent(postId));
+        });
+    }
+
+    private void verifyPassword(Long postId, Long commentId, String password) {
+        String passwordHash = findCommentByPostAndId(postId, commentId).getPasswordHash();
+        if (!passwordHasher.matches(password, passwordHash)) {
             throw new InvalidPasswordException("비밀번호가 일치하지 않습니다.");
         }
-        commentRepository.delete(comment);
+    }
+
+    /**
+     * 답글은 한 단계만 두므로 답글에 단 답글은 그 답글의 최상위 댓글에 붙인다.
+     */
+    private Comment resolveParent(Long postId, Long parentId) {
+        if (parentId == null) {
+            return null;
+        }
+        Comment parent = findCommentByPostAndId(postId, parentId);
+        return parent.isReply() ? parent.getParent() : parent;
     }
 
     private Comment findCommentByPostAndId(Long postId, Long commentId) {
@@ -80,13 +147,15 @@ public class CommentService {
         return comment;
     }
 
-    private CommentResponseDto toResponseDto(Comment c) {
+    private CommentResponseDto toResponseDto(Comment c, List<CommentResponseDto> replies) {
         return new CommentResponseDto(
                 c.getId(),
+                c.isReply() ? c.getParent().getId() : null,
                 c.getAuthor(),
                 c.getBody(),
                 c.getCreatedAt(),
-                c.getUpdatedAt()
+                c.getUpdatedAt(),
+                replies
         );
     }
 }
@@ -0,0 +1,81 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.event.PostChangedEvent.Snapshot;
+import com.haesiku.blog.repository.CategoryRepository;
+import com.haesiku.blog.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 태그·카테고리의 발행 게시글 수(post_count)를 게시글 변경 전후 상태의 차이만큼 증감 UPDATE로 갱신한다.
+ * 호출하는 쪽의 트랜잭션 안에서 실행되므로 게시글 변경과 함께 커밋·롤백된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCountUpdater {
+
+    private final TagRepository tagRepository;
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * @param before 변경 전 상태 (생성이면 null)
+     * @param after  변경 후 상태 (삭제면 null)
+     */
+    public void apply(Snapshot before, Snapshot after) {
+        Deltas deltas = new Deltas();
+        deltas.remove(before);
+        deltas.add(after);
+        apply(deltas);
+    }
+
+    /**
+     * 여러 게시글의 증감을 모아 반영한다. 같은 증감값끼리 묶으므로 게시글 수와 무관하게 UPDATE 몇 번으로 끝난다.
+     */
+    public void apply(Deltas deltas) {
+        applyGrouped(deltas.tags, tagRepository::addPostCount);
+        applyGrouped(deltas.categories, categoryRepository::addPostCount);
+    }
+
+    private static void applyGrouped(Map<String, Long> deltas, BiConsumer<List<String>, Long> update) {
+        Map<Long, List<String>> slugsByDelta = new HashMap<>();
+        deltas.forEach((slug, delta) -> {
+            if (delta != 0) {
+                slugsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(slug);
+            }
+        });
+        slugsByDelta.forEach((delta, slugs) -> update.accept(slugs, delta));
+    }
+
+    /**
+     * slug별 발행 게시글 수 증감. 발행 상태인 스냅샷만 센다.
+     */
+    public static class Deltas {
+
+        private final Map<String, Long> tags = new HashMap<>();
+        private final Map<String, Long> categories = new HashMap<>();
+
+        public void add(Snapshot snapshot) {
+            accumulate(snapshot, 1);
+        }
+
+        public void remove(Snapshot snapshot) {
+            accumulate(snapshot, -1);
+        }
+
+        private void accumulate(Snapshot snapshot, long sign) {
+            if (snapshot == null || !snapshot.published()) {
+                return;
+            }
+            snapshot.tagSlugs().forEach(slug -> tags.merge(slug, sign, Long::sum));
+            if (snapshot.categorySlug() != null) {
+                categories.merge(snapshot.categorySlug(), sign, Long::sum);
+            }
+        }
+    }
+}
@@ -2,35 +2,61 @@ package com.haesiku.blog.service;
 
 import com.haesiku.blog.dto.PostRequestDto;
 import com.haesiku.blog.dto.PostResponseDto;
+import com.haesiku.blog.dto.PostSummaryDto;
+import com.haesiku.blog.dto.PostSummaryView;
+import com.haesiku.blog.dto.PostVersionView;
 import com.haesiku.blog.entity.Category;
 import com.haesiku.blog.entity.Post;
 import com.haesiku.blog.entity.PostStatus;
 import com.haesiku.blog.entity.Tag;
+import com.haesiku.blog.event.PostChangedEvent;
+import com.haesiku.blog.event.PostChangedEvent.ChangeType;
+import com.haesiku.blog.event.PostScheduledEvent;
+import com.haesiku.blog.event.PostsPublishedEvent;
+import com.haesiku.common.config.CacheConfig;
+import com.haesiku.common.dto.CursorPageResponseDto;
+import com.haesiku.common.dto.EntityVersion;
 import com.haesiku.common.exception.EntityNotFoundException;
+import com.haesiku.common.markdown.MarkdownRenderer;
+import com.haesiku.common.util.PageCursor;
 import com.haesiku.blog.mapper.PostMapper;
 import com.haesiku.blog.repository.CategoryRepository;
-import com.haesiku.blog.repository.CommentRepository;
 import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.search.service.SearchDocumentWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
 
+    /** 예약 발행 일괄 처리용 advisory lock 키 */
+    private static final long SCHEDULED_PUBLISH_LOCK_KEY = "haesiku.scheduled-publish".hashCode();
+
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
-    private final CommentRepository commentRepository;
     private final TagService tagService;
     private final PostMapper postMapper;
+    private final ViewCountBuffer viewCountBuffer;
+    private final SearchDocumentWriter searchDocumentWriter;
+    private final PostSummaryAssembler postSummaryAssembler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MarkdownRenderer markdownRenderer;
+    private final SlugAllocator slugAllocator;
+    private final PostCountUpdater postCountUpdater;
 
     @Transactional
     public PostResponseDto createPost(PostRequestDto request) {
@@ -41,90 +67,177 @@ public class PostService {
                 .content(request.content())
                 .summary(request.summary())
                 .author(request.author())
+                .slug(slugAllocator.allocate(request.title()))
                 .category(category)
                 .build();
+        post.applyRendering(markdownRenderer.render(post.getContent()));
 
         applyTags(post, request.tagNames());
 
         Post saved = postRepository.save(post);
-        return postMapper.toResponseDto(saved, 0L);
+        postCountUpdater.apply(null, PostChangedEvent.snapshot(saved));
+        searchDocumentWriter.indexPost(saved);
+        eventPublisher.publishEvent(PostChangedEvent.of(saved, ChangeType.CREATED));
+        return postMapper.toResponseDto(saved);
     }
 
     @Transactional
     public PostResponseDto updatePost(Long id, PostRequestDto request) {
         Post post = findPostById(id);
+        PostChangedEvent.Snapshot before = PostChangedEvent.snapshot(post);
         Category category = resolveCategory(request.categoryId());
 
         post.update(request.title(), request.content(), request.summary(), category);
+        slugAllocator.reassign(post, request.title());
+        markdownRenderer.renderIfChanged(post.getContentHash(), post.getContent())
+                .ifPresent(post::applyRendering);
 
         post.clearTags();
         applyTags(post, request.tagNames());
-
-        long commentCount = commentRepository.countByPostId(post.getId());
-        return postMapper.toResponseDto(post, commentCount);
+        PostChangedEvent.Snapshot after = PostChangedEvent.snapshot(post);
+        if (!before.tagSlugs().equals(after.tagSlugs())) {
+            post.markTagsChanged();
+        }
+        postCountUpdater.apply(before, after);
+        searchDocumentWriter.indexPost(post);
+        eventPublisher.publishEvent(PostChangedEvent.of(post, ChangeType.UPDATED, before));
+        return postMapper.toResponseDto(post);
     }
 
     @Transactional
     public void deletePost(Long id) {
         Post post = findPostById(id);
+        PostChangedEvent event = PostChangedEvent.of(post, ChangeType.DELETED);
+        postCountUpdater.apply(PostChangedEvent.snapshot(post), null);
         postRepository.delete(post);
+        eventPublisher.publishEvent(event);
     }
 
-    @Transactional
     public PostResponseDto getPost(String slug) {
         Post post = postRepository.findBySlug(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Post", "slug", slug));
 
-        post.incrementViewCount();
+        viewCountBuffer.increment(post.getId());
 
-        long commentCount = commentRepository.countByPostId(post.getId());
-        return postMapper.toResponseDto(post, commentCount);
+        long viewCount = post.getViewCount() + viewCountBuffer.pendingCount(post.getId());
+        return postMapper.toResponseDto(post, viewCount);
+    }
+
+    /**
+     * 조건부 요청 검사용 버전. 본문을 읽지 않고 id·수정일시·댓글 수와 연결된 카테고리·태그의 수정일시만 조회한다.
+     * 응답에 카테고리·태그 이름이 들어가므로 이름이 바뀌면 게시글을 고치지 않아도 버전이 바뀐다.
+     * 본문의 조회수는 버전과 무관하게 늘어나므로 약한 ETag를 쓴다.
+     */
+    public EntityVersion getPostVersion(String slug) {
+        PostVersionView version = postRepository.findVersionBySlug(slug)
+                .orElseThrow(() -> new EntityNotFoundException("Post", "slug", slug));
+        LocalDateTime updatedAt = Stream.of(version.getUpdatedAt(), version.getCategoryUpdatedAt(), version.getTagsUpdatedAt())
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElseThrow();
+        return EntityVersion.of("post", version.getId(), updatedAt, version.getCommentCount()).weak();
+    }
+
+    /**
+     * 304 응답처럼 본문을 조회하지 않는 경우에도 조회수를 기록한다.
+     */
+    public void recordView(Long postId) {
+        viewCountBuffer.increment(postId);
     }
 
     public PostResponseDto getPostById(Long id) {
         Post post = findPostById(id);
-        long commentCount = commentRepository.countByPostId(post.getId());
-        return postMapper.toResponseDto(post, commentCount);
+        return postMapper.toResponseDto(post);
     }
 
-    public Page<PostResponseDto> getAllPosts(Pageable pageable) {
-        Page<Post> page = postRepository.findAll(pageable);
-        Map<Long, Long> countMap = getCommentCountMap(page.getContent());
-        return page.map(post -> postMapper.toResponseDto(post, countMap.getOrDefault(post.getId(), 0L)));
+    public Page<PostSummaryDto> getAllPosts(Pageable pageable) {
+        return postSummaryAssembler.assemble(postRepository.findAllSummaries(pageable));
     }
 
-    public Page<PostResponseDto> getPublishedPosts(Pageable pageable) {
-        Page<Post> page = postRepository.findByStatusOrderByCreatedAtDesc(PostStatus.PUBLISHED, pageable);
-        Map<Long, Long> countMap = getCommentCountMap(page.getContent());
-        return page.map(post -> postMapper.toResponseDto(post, countMap.getOrDefault(post.getId(), 0L)));
+    @Cacheable(cacheNames = CacheConfig.PUBLISHED_POSTS, key = "#pageable", sync = true)
+    public Page<PostSummaryDto> getPublishedPosts(Pageable pageable) {
+        return postSummaryAssembler.assemble(postRepository.findSummariesByStatus(PostStatus.PUBLISHED, pageable));
     }
 
-    public Page<PostResponseDto> searchPosts(String keyword, Pageable pageable) {
-        Page<Post> page = postRepository.findByTitleContainingOrderByCreatedAtDesc(keyword, pageable);
-        Map<Long, Long> countMap = getCommentCountMap(page.getContent());
-        return page.map(post -> postMapper.toResponseDto(post, countMap.getOrDefault(post.getId(), 0L)));
+    /**
+     * 발행된 게시글 피드 (키셋 페이지네이션). 페이지 깊이와 무관하게 (status, created_at, id) 인덱스 범위 조회 한 번이며 COUNT를 하지 않는다.
+     */
+    public CursorPageResponseDto<PostSummaryDto> getPublishedFeed(String after, int size) {
+        PageCursor cursor = PageCursor.decode(after);
+        int limit = PageCursor.clampSize(size);
+        List<PostSummaryView> views = cursor == null
+                ? postRepository.findSummaryFeed(PostStatus.PUBLISHED, PageCursor.lookahead(limit))
+                : postRepository.findSummaryFeedAfter(PostStatus.PUBLISHED, cursor.createdAt(), cursor.id(),
+                        PageCursor.lookahead(limit));
+        List<PostSummaryDto> rows = List.copyOf(postSummaryAssembler.assemble(views).values());
+        return CursorPageResponseDto.of(rows, limit, post -> new PageCursor(post.createdAt(), post.id()));
     }
 
     @Transactional
     public PostResponseDto publishPost(Long id) {
         Post post = findPostById(id);
+        PostChangedEvent.Snapshot before = PostChangedEvent.snapshot(post);
         post.publish();
-        long commentCount = commentRepository.countByPostId(post.getId());
-        return postMapper.toResponseDto(post, commentCount);
+        postCountUpdater.apply(before, PostChangedEvent.snapshot(post));
+        eventPublisher.publishEvent(PostChangedEvent.of(post, ChangeType.PUBLISHED));
+        eventPublisher.publishEvent(PostsPublishedEvent.of(List.of(post)));
+        return postMapper.toResponseDto(post);
     }
 
-    private Map<Long, Long> getCommentCountMap(List<Post> posts) {
-        if (posts.isEmpty()) {
-            return Map.of();
+    /**
+     * 발행 예약. 예약 시각이 되면 {@link ScheduledPostPublisher}가 발행한다. 이미 예약된 게시글이면 시각을 바꾼다.
+     */
+    @Transactional
+    public PostResponseDto schedulePost(Long id, LocalDateTime scheduledAt) {
+        Post post = findPostById(id);
+        if (post.getStatus() == PostStatus.PUBLISHED) {
+            throw new IllegalArgumentException("이미 발행된 게시글은 예약할 수 없습니다.");
+        }
+        post.schedule(scheduledAt);
+        eventPublisher.publishEvent(new PostScheduledEvent(post.getId(), scheduledAt));
+        return postMapper.toResponseDto(post);
+    }
+
+    @Transactional
+    public PostResponseDto cancelSchedule(Long id) {
+        Post post = findPostById(id);
+        post.cancelSchedule();
+        eventPublisher.publishEvent(new PostScheduledEvent(post.getId(), null));
+        return postMapper.toResponseDto(post);
+    }
+
+    /**
+     * 예약 시각이 지난 게시글을 한 트랜잭션으로 발행한다. 여러 인스턴스가 같은 게시글을 동시에 발행하지 않도록
+     * PostgreSQL advisory lock을 잡고, 잠금을 얻은 뒤 DB에서 다시 확인한 게시글만 발행한다.
+     *
+     * @param postIds 기한이 된 예약 (메모리 타이머 기준이므로 이미 발행·취소되었을 수 있다)
+     * @return 발행한 게시글 id, 다른 인스턴스가 발행 중이라 잠금을 얻지 못했으면 empty
+     */
+    @Transactional
+    public Optional<List<Long>> publishScheduled(Collection<Long> postIds, LocalDateTime now) {
+        if (!postRepository.tryAdvisoryXactLock(SCHEDULED_PUBLISH_LOCK_KEY)) {
+            return Optional.empty();
+        }
+        List<Post> due = postRepository.findDueScheduled(postIds, PostStatus.DRAFT, now);
+        if (due.isEmpty()) {
+            return Optional.of(List.of());
+        }
+        PostCountUpdater.Deltas deltas = new PostCountUpdater.Deltas();
+        for (Post post : due) {
+            PostChangedEvent.Snapshot before = PostChangedEvent.snapshot(post);
+            post.publish();
+            deltas.remove(before);
+            deltas.add(PostChangedEvent.snapshot(post));
+            eventPublisher.publishEvent(PostChangedEvent.of(post, ChangeType.PUBLISHED, before));
         }
-        List<Long> postIds = posts.stream().map(Post::getId).toList();
-        List<Object[]> rows = commentRepository.countByPostIds(postIds);
-        return rows.stream()
-                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).longValue()));
+        postCountUpdater.apply(deltas);
+        // 게시글별 이벤트(캐시 무효화)보다 뒤에 발행해야 커밋 후 무효화가 끝난 다음에 예열된다.
+        eventPublisher.publishEvent(PostsPublishedEvent.of(due));
+        return Optional.of(due.stream().map(Post::getId).toList());
     }
 
     private Post findPostById(Long id) {
-        return postRepository.findById(id)
+        return postRepository.findWithCategoryAndTagsById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Post", "id", id));
     }
 
@@ -0,0 +1,144 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.dto.SlugOwnerView;
+import com.haesiku.blog.dto.SlugResolution;
+import com.haesiku.blog.event.PostChangedEvent;
+import com.haesiku.blog.event.PostChangedEvent.ChangeType;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.blog.repository.PostSlugHistoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 slug(현재·예전)를 메모리에서 게시글 id로 해석한다.
+ * 기동 시 posts·post_slug_history 전체를 읽어 두고 이후에는 PostChangedEvent로 갱신하므로 상세 조회의 slug 확인에 DB를 조회하지 않는다.
+ * 이벤트는 이 인스턴스에서 커밋된 변경만 받으므로, 메모리에 없는 slug는 다른 인스턴스에서 만든 게시글일 수 있어 DB로 확인한다.
+ * NOT_FOUND는 DB에서도 없음을 확인한 결과다. 적재가 끝나기 전에는 DB에서 조회한다.
+ * <p>
+ * DB에서도 없던 slug는 크기·만료 시간이 있는 음성 캐시에 두어, 없는 주소를 계속 찌르는 요청이 매번 DB를 조회하지 않게 한다.
+ * 이 인스턴스에서 그 slug로 게시글이 생기거나 slug가 바뀌면 바로 지우고, 다른 인스턴스에서 생긴 경우는 만료 시간 안에 보이게 된다.
+ */
+@Slf4j
+@Component
+public class PostSlugResolver {
+
+    private final PostRepository postRepository;
+    private final PostSlugHistoryRepository slugHistoryRepository;
+
+    /** DB에서도 없음을 확인한 slug */
+    private final Cache<String, Boolean> notFound;
+    /** slug 변경 이벤트를 받을 때마다 올린다. 조회 도중 변경이 있었으면 그 조회의 없음 결과는 캐시하지 않는다. */
+    private final AtomicLong changes = new AtomicLong();
+
+    /** slug(현재·예전) → 게시글 id */
+    private final Map<String, Long> postIdsBySlug = new ConcurrentHashMap<>();
+    /** 게시글 id → 현재 slug */
+    private final Map<Long, String> currentSlugs = new ConcurrentHashMap<>();
+
+    /** 적재 중에 삭제된 게시글. 적재가 읽은 결과로 되살아나지 않도록 적재 후 다시 지운다. */
+    private final Set<Long> deletedDuringWarmUp = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready;
+
+    public PostSlugResolver(PostRepository postRepository, PostSlugHistoryRepository slugHistoryRepository,
+                            @Value("${blog.slug.not-found-cache.max-size:10000}") long notFoundMaxSize,
+                            @Value("${blog.slug.not-found-cache.ttl:60s}") Duration notFoundTtl) {
+        this.postRepository = postRepository;
+        this.slugHistoryRepository = slugHistoryRepository;
+        this.notFound = Caffeine.newBuilder()
+                .maximumSize(notFoundMaxSize)
+                .expireAfterWrite(notFoundTtl)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (SlugOwnerView owner : slugHistoryRepository.findAllSlugOwners()) {
+            postIdsBySlug.putIfAbsent(owner.getSlug(), owner.getPostId());
+        }
+        for (SlugOwnerView owner : postRepository.findAllSlugOwners()) {
+            // 현재 slug가 예전 slug 항목보다 우선한다.
+            postIdsBySlug.put(owner.getSlug(), owner.getPostId());
+            currentSlugs.putIfAbsent(owner.getPostId(), owner.getSlug());
+        }
+        ready = true;
+        // ready 이후의 삭제 이벤트는 적재가 끝난 맵에서 직접 지우므로 여기서는 그 전에 받은 삭제만 다시 반영한다.
+        deletedDuringWarmUp.forEach(this::forget);
+        deletedDuringWarmUp.clear();
+        log.info("게시글 slug 적재 완료: 게시글 {}건, slug {}건", currentSlugs.size(), postIdsBySlug.size());
+    }
+
+    public SlugResolution resolve(String slug) {
+        if (!ready) {
+            return load(slug);
+        }
+        Long postId = postIdsBySlug.get(slug);
+        String currentSlug = postId != null ? currentSlugs.get(postId) : null;
+        if (currentSlug == null) {
+            if (notFound.getIfPresent(slug) != null) {
+                return SlugResolution.notFound();
+            }
+            long changesBefore = changes.get();
+            SlugResolution loaded = load(slug);
+            if (loaded.status() != SlugResolution.Status.NOT_FOUND) {
+                remember(slug, loaded);
+            } else if (changes.get() == changesBefore) {
+                notFound.put(slug, Boolean.TRUE);
+            }
+            return loaded;
+        }
+        return SlugResolution.of(slug, postId, currentSlug);
+    }
+
+    /**
+     * 커밋된 변경만 반영한다. 예전 slug는 지우지 않으므로 수정 후에도 301로 이어진다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            if (!ready) {
+                deletedDuringWarmUp.add(event.postId());
+            }
+            forget(event.postId());
+            return;
+        }
+        if (event.slug() != null) {
+            changes.incrementAndGet();
+            notFound.invalidate(event.slug());
+            postIdsBySlug.put(event.slug(), event.postId());
+            currentSlugs.put(event.postId(), event.slug());
+        }
+    }
+
+    private void forget(Long postId) {
+        currentSlugs.remove(postId);
+        postIdsBySlug.values().removeIf(postId::equals);
+    }
+
+    /** 다른 인스턴스에서 만들거나 바꾼 slug를 DB에서 찾았으면 다음 요청부터 메모리에서 해석한다. */
+    private void remember(String slug, SlugResolution resolution) {
+        postIdsBySlug.put(slug, resolution.postId());
+        postIdsBySlug.put(resolution.currentSlug(), resolution.postId());
+        currentSlugs.put(resolution.postId(), resolution.currentSlug());
+    }
+
+    private SlugResolution load(String slug) {
+        return postRepository.findIdBySlug(slug)
+                .map(postId -> SlugResolution.of(slug, postId, slug))
+                .or(() -> slugHistoryRepository.findCurrentOwner(slug)
+                        .map(owner -> SlugResolution.of(slug, owner.getPostId(), owner.getSlug())))
+                .orElseGet(SlugResolution::notFound);
+    }
+}
@@ -0,0 +1,54 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.dto.PostSummaryDto;
+import com.haesiku.blog.dto.PostSummaryView;
+import com.haesiku.blog.dto.PostTagView;
+import com.haesiku.blog.dto.TagResponseDto;
+import com.haesiku.blog.mapper.PostMapper;
+import com.haesiku.blog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 projection에 태그를 붙여 {@link PostSummaryDto}로 만든다.
+ * 페이지 크기와 관계없이 태그 1회의 일괄 조회만 추가된다. 댓글 수는 posts.comment_count를 그대로 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostSummaryAssembler {
+
+    private final PostRepository postRepository;
+    private final PostMapper postMapper;
+
+    public Page<PostSummaryDto> assemble(Page<PostSummaryView> page) {
+        Map<Long, PostSummaryDto> dtos = assemble(page.getContent());
+        return page.map(view -> dtos.get(view.getId()));
+    }
+
+    /**
+     * @return 게시글 id → 목록 항목 (입력 순서 유지)
+     */
+    public Map<Long, PostSummaryDto> assemble(List<PostSummaryView> views) {
+        if (views.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> postIds = views.stream().map(PostSummaryView::getId).toList();
+
+        Map<Long, List<TagResponseDto>> tagMap = postRepository.findTagsByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(PostTagView::getPostId, Collectors.mapping(
+                        tag -> new TagResponseDto(tag.getId(), tag.getName(), tag.getSlug(), null, tag.getCreatedAt()),
+                        Collectors.toList())));
+
+        return views.stream().collect(Collectors.toMap(
+                PostSummaryView::getId,
+                view -> postMapper.toSummaryDto(view, tagMap.getOrDefault(view.getId(), List.of())),
+                (a, b) -> a,
+                LinkedHashMap::new));
+    }
+}
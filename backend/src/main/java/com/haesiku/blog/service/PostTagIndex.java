@@ -0,0 +1,125 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.dto.PostIndexView;
+import com.haesiku.blog.dto.PostTagView;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.event.PostChangedEvent;
+import com.haesiku.blog.index.TagBitmapIndex;
+import com.haesiku.blog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 조합 필터용 메모리 비트맵 색인 ({@link TagBitmapIndex}).
+ * 기동 시 전체 게시글의 상태·카테고리·태그 slug로 색인을 만들고, 이후에는 {@link PostChangedEvent}로 변경된 게시글만 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTagIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final PostRepository postRepository;
+
+    private volatile TagBitmapIndex index = new TagBitmapIndex();
+
+    /** 재색인 도중 변경된 게시글. 새 색인으로 교체한 뒤 다시 반영한다. */
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 전체 게시글을 id 순으로 나눠 읽어 새 색인을 만든 뒤 교체한다. 교체 전까지는 기존 색인으로 조회한다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            rebuilding = true;
+            changedDuringRebuild.clear();
+            try {
+                TagBitmapIndex fresh = new TagBitmapIndex();
+                long after = 0;
+                List<Long> ids;
+                while (!(ids = postRepository.findIdsAfter(after, PageRequest.of(0, REBUILD_CHUNK_SIZE))).isEmpty()) {
+                    putAll(fresh, ids);
+                    after = ids.get(ids.size() - 1);
+                }
+                fresh.optimize();
+                index = fresh;
+            } finally {
+                rebuilding = false;
+            }
+            for (Long postId : changedDuringRebuild) {
+                reindex(postId);
+            }
+            changedDuringRebuild.clear();
+
+            TagBitmapIndex.IndexStats stats = index.stats();
+            log.info("태그 비트맵 색인 생성 완료: 게시글 {}개, 태그 {}개, 약 {}KB, {}ms",
+                    stats.posts(), stats.tags(), stats.bitmapBytes() / 1024, System.currentTimeMillis() - start);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event.postId());
+        }
+        switch (event.type()) {
+            case DELETED -> index.remove(event.postId());
+            // 생성 이벤트에는 변경 전 상태가 섞이지 않으므로 이벤트 값이 곧 현재 상태다 (일괄 가져오기에서도 조회하지 않음).
+            case CREATED -> index.put(event.postId(), event.createdAt(),
+                    event.published() ? PostStatus.PUBLISHED : PostStatus.DRAFT,
+                    event.categorySlugs().stream().findFirst().orElse(null),
+                    event.tagSlugs());
+            default -> reindex(event.postId());
+        }
+    }
+
+    public TagBitmapIndex.Result query(TagBitmapIndex.Query query, int offset, int limit) {
+        return index.query(query, offset, limit);
+    }
+
+    private void reindex(Long postId) {
+        if (putAll(index, List.of(postId)) == 0) {
+            index.remove(postId);
+        }
+    }
+
+    /**
+     * @return 색인에 넣은 게시글 수 (삭제되어 조회되지 않은 id는 빠진다)
+     */
+    private int putAll(TagBitmapIndex target, Collection<Long> ids) {
+        Map<Long, List<String>> tagSlugs = postRepository.findTagsByPostIds(ids).stream()
+                .collect(Collectors.groupingBy(PostTagView::getPostId,
+                        Collectors.mapping(PostTagView::getSlug, Collectors.toList())));
+        List<PostIndexView> posts = postRepository.findIndexViewsByIds(ids);
+        for (PostIndexView post : posts) {
+            target.put(post.getId(), post.getCreatedAt(), post.getStatus(), post.getCategorySlug(),
+                    tagSlugs.getOrDefault(post.getId(), List.of()));
+        }
+        return posts.size();
+    }
+}
@@ -0,0 +1,128 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.dto.PostScheduleView;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.event.PostScheduledEvent;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.common.util.HierarchicalTimerWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 예약 발행 스케줄러. 예약을 메모리 계층형 타이머 휠에 두고 매 tick에는 휠만 진행하므로, 기한이 된 예약이 없으면 DB를 조회하지 않는다.
+ * 기동 시 DB의 예약으로 휠을 채우고, 다른 인스턴스에서 들어온 예약을 반영하도록 resync-interval마다 다시 적재한다.
+ * 같은 게시글을 여러 인스턴스가 가지고 있어도 발행은 {@link PostService#publishScheduled}가 advisory lock과 DB 재확인으로 한 번만 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledPostPublisher {
+
+    private static final long TICK_MILLIS = 1000;
+    // 1초 × 64^4 ≈ 194일. 그보다 먼 예약은 휠 끝 칸에서 다시 배치된다.
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 4;
+    /** 잠금을 얻지 못했거나 실패한 예약을 다시 시도하기까지의 시간 */
+    private static final long RETRY_DELAY_MILLIS = 5000;
+
+    private final PostRepository postRepository;
+    private final PostService postService;
+
+    @Value("${blog.schedule.batch-size:100}")
+    private int batchSize;
+
+    private final HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(
+            TICK_MILLIS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+    // 휠은 스레드 안전하지 않다. 가상 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock을 쓴다.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * DB의 예약을 휠에 다시 넣는다. 휠에만 남은 취소된 예약은 발행 시 DB 재확인에서 걸러진다.
+     */
+    @Scheduled(initialDelayString = "${blog.schedule.resync-interval-ms:300000}",
+            fixedDelayString = "${blog.schedule.resync-interval-ms:300000}")
+    public void reload() {
+        List<PostScheduleView> schedules = postRepository.findSchedules(PostStatus.DRAFT);
+        lock.lock();
+        try {
+            schedules.forEach(schedule -> wheel.schedule(schedule.getId(), toEpochMillis(schedule.getScheduledAt())));
+        } finally {
+            lock.unlock();
+        }
+        log.debug("예약 발행 {}건 적재", schedules.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostScheduled(PostScheduledEvent event) {
+        lock.lock();
+        try {
+            if (event.scheduledAt() == null) {
+                wheel.cancel(event.postId());
+            } else {
+                wheel.schedule(event.postId(), toEpochMillis(event.scheduledAt()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public void tick() {
+        List<Long> due;
+        lock.lock();
+        try {
+            due = wheel.advance(System.currentTimeMillis());
+        } finally {
+            lock.unlock();
+        }
+        for (int from = 0; from < due.size(); from += batchSize) {
+            publish(due.subList(from, Math.min(due.size(), from + batchSize)));
+        }
+    }
+
+    private void publish(List<Long> postIds) {
+        try {
+            Optional<List<Long>> published = postService.publishScheduled(postIds, LocalDateTime.now());
+            if (published.isEmpty()) {
+                log.debug("다른 인스턴스가 예약 발행 중, {}건 재시도", postIds.size());
+                retry(postIds);
+            } else if (!published.get().isEmpty()) {
+                log.info("예약 게시글 {}건 발행: {}", published.get().size(), published.get());
+            }
+        } catch (RuntimeException e) {
+            log.warn("예약 발행 실패, {}건 재시도: {}", postIds.size(), e.getMessage());
+            retry(postIds);
+        }
+    }
+
+    private void retry(List<Long> postIds) {
+        long at = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+        lock.lock();
+        try {
+            postIds.forEach(postId -> wheel.schedule(postId, at));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,154 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.dto.SlugOwnerView;
+import com.haesiku.blog.entity.Post;
+import com.haesiku.blog.entity.PostSlugHistory;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.blog.repository.PostSlugHistoryRepository;
+import com.haesiku.common.util.SlugUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 게시글 slug를 겹치지 않게 할당한다.
+ * 제목 slug가 이미 쓰이고 있으면 -2, -3 ... 접미사를 붙이며, 사용 중인 slug는 접두어 조회 한 번으로 모은다.
+ * 예전 slug(post_slug_history)도 사용 중으로 보므로 기존 링크가 다른 게시글로 이어지지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SlugAllocator {
+
+    /** 제목에 slug로 쓸 문자가 하나도 없을 때 (예: 특수문자만 있는 제목) */
+    static final String FALLBACK_SLUG = "post";
+
+    private final PostRepository postRepository;
+    private final PostSlugHistoryRepository slugHistoryRepository;
+
+    /**
+     * 새 게시글의 slug를 할당한다.
+     */
+    public String allocate(String title) {
+        return allocate(baseSlug(title), null, null);
+    }
+
+    /**
+     * 새 게시글 여러 건의 slug를 한 번에 할당한다 (일괄 가져오기).
+     * 아직 저장하지 않은 같은 묶음의 slug도 사용 중으로 보므로 묶음 안에서 제목이 같아도 겹치지 않는다.
+     * <p>
+     * 묶음의 base를 IN 조회 한 번(게시글·이력 각각)으로 확인하고, 접두어 조회는 DB에서 이미 쓰이고 있거나
+     * 묶음 안에서 겹쳐 접미사가 필요한 base에만 base당 한 번 한다. 제목이 모두 다르면 묶음 크기와 관계없이 쿼리 2개다.
+     *
+     * @param sources 게시글별 제목 또는 원하는 slug (이미 쓰이고 있으면 접미사를 붙인다)
+     * @return sources와 같은 순서의 slug
+     */
+    public List<String> allocateAll(List<String> sources) {
+        List<String> bases = sources.stream().map(SlugAllocator::baseSlug).toList();
+        Map<String, Integer> occurrences = new HashMap<>();
+        bases.forEach(base -> occurrences.merge(base, 1, Integer::sum));
+
+        Set<String> taken = new HashSet<>();
+        collectTaken(postRepository.findSlugOwnersBySlugIn(occurrences.keySet()), null, taken);
+        collectTaken(slugHistoryRepository.findSlugOwnersBySlugIn(occurrences.keySet()), null, taken);
+        occurrences.forEach((base, count) -> {
+            if (count > 1 || taken.contains(base)) {
+                collectTakenWithSuffix(base, null, taken);
+            }
+        });
+
+        List<String> slugs = new ArrayList<>(bases.size());
+        for (String base : bases) {
+            String slug = firstFree(base, taken);
+            taken.add(slug);
+            slugs.add(slug);
+        }
+        return slugs;
+    }
+
+    /**
+     * 제목이 바뀐 게시글의 slug를 다시 할당한다. 기존 slug는 이력으로 남겨 계속 조회되게 한다.
+     * 현재 slug가 새 제목의 slug(또는 접미사가 붙은 형태)와 같으면 그대로 둔다.
+     */
+    @Transactional
+    public void reassign(Post post, String title) {
+        String slug = allocate(baseSlug(title), post.getId(), post.getSlug());
+        if (slug.equals(post.getSlug())) {
+            return;
+        }
+        // 예전에 쓰던 slug로 되돌아가는 경우 이력에서 빼서 유일 제약과 겹치지 않게 한다.
+        slugHistoryRepository.deleteBySlugAndPostId(slug, post.getId());
+        slugHistoryRepository.save(PostSlugHistory.builder()
+                .slug(post.getSlug())
+                .post(post)
+                .build());
+        post.changeSlug(slug);
+    }
+
+    private String allocate(String base, Long postId, String currentSlug) {
+        if (currentSlug != null && (currentSlug.equals(base) || suffixOf(currentSlug, base) > 0)) {
+            return currentSlug;
+        }
+        Set<String> taken = new HashSet<>();
+        collectTakenWithSuffix(base, postId, taken);
+        return firstFree(base, taken);
+    }
+
+    /**
+     * base와 "base-N" 형태의 사용 중인 slug를 게시글·이력에서 접두어 조회로 모은다.
+     */
+    private void collectTakenWithSuffix(String base, Long postId, Set<String> taken) {
+        String prefix = base + "-%";
+        collectTaken(postRepository.findSlugOwners(base, prefix), postId, taken);
+        collectTaken(slugHistoryRepository.findSlugOwners(base, prefix), postId, taken);
+    }
+
+    private static String firstFree(String base, Set<String> taken) {
+        if (!taken.contains(base)) {
+            return base;
+        }
+        int suffix = 2;
+        while (taken.contains(base + "-" + suffix)) {
+            suffix++;
+        }
+        return base + "-" + suffix;
+    }
+
+    private static void collectTaken(List<SlugOwnerView> owners, Long postId, Set<String> taken) {
+        for (SlugOwnerView owner : owners) {
+            // 같은 게시글의 예전 slug는 다시 쓸 수 있다.
+            if (!Objects.equals(owner.getPostId(), postId)) {
+                taken.add(owner.getSlug());
+            }
+        }
+    }
+
+    /**
+     * "base-N" 형태면 N(2 이상), 아니면 0.
+     */
+    private static int suffixOf(String slug, String base) {
+        if (slug.length() <= base.length() + 1 || !slug.startsWith(base)
+                || slug.charAt(base.length()) != '-') {
+            return 0;
+        }
+        String digits = slug.substring(base.length() + 1);
+        if (digits.length() > 9 || digits.charAt(0) == '0' || !digits.chars().allMatch(Character::isDigit)) {
+            return 0;
+        }
+        int suffix = Integer.parseInt(digits);
+        return suffix >= 2 ? suffix : 0;
+    }
+
+    private static String baseSlug(String title) {
+        String slug = SlugUtils.toSlug(title);
+        return slug.isEmpty() ? FALLBACK_SLUG : slug;
+    }
+}
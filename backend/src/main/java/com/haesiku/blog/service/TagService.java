@@ -1,17 +1,21 @@
 package com.haesiku.blog.service;
 
-import com.haesiku.blog.dto.PostResponseDto;
+import com.haesiku.blog.dto.PostSummaryDto;
+import com.haesiku.blog.dto.TagCloudEntryDto;
 import com.haesiku.blog.dto.TagResponseDto;
 import com.haesiku.blog.entity.Tag;
+import com.haesiku.blog.event.TagChangedEvent;
+import com.haesiku.blog.index.TagBitmapIndex;
+import com.haesiku.common.config.CacheConfig;
 import com.haesiku.common.exception.EntityNotFoundException;
-import com.haesiku.blog.mapper.PostMapper;
 import com.haesiku.blog.mapper.TagMapper;
-import com.haesiku.blog.entity.Post;
-import com.haesiku.blog.repository.CommentRepository;
 import com.haesiku.blog.repository.PostRepository;
 import com.haesiku.blog.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -27,11 +32,18 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TagService {
 
+    /** 태그 클라우드 가중치 최댓값. 게시글이 가장 많은 태그가 이 값, 1건인 태그가 1이 된다. */
+    static final int MAX_CLOUD_WEIGHT = 5;
+
+    /** 태그 조합 필터 한 번에 지정할 수 있는 태그 slug 수 (all·any·none 합계). */
+    static final int MAX_FILTER_TAGS = 20;
+
     private final TagRepository tagRepository;
     private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
     private final TagMapper tagMapper;
-    private final PostMapper postMapper;
+    private final PostSummaryAssembler postSummaryAssembler;
+    private final PostTagIndex postTagIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public List<Tag> createOrGetTags(List<String> tagNames) {
@@ -59,28 +71,77 @@ public class TagService {
             List<Tag> savedTags = tagRepository.saveAll(newTags);
             existingTags = new ArrayList<>(existingTags);
             existingTags.addAll(savedTags);
+            eventPublisher.publishEvent(new TagChangedEvent(
+                    savedTags.stream().map(Tag::getSlug).collect(Collectors.toSet())));
         }
 
         return existingTags;
     }
 
+    @Cacheable(cacheNames = CacheConfig.TAGS, key = "'all'", sync = true)
     public List<TagResponseDto> getAllTags() {
         return tagRepository.findAll().stream()
                 .map(tagMapper::toResponseDto)
                 .toList();
     }
 
-    public Page<PostResponseDto> getPostsByTag(String slug, Pageable pageable) {
+    /**
+     * 발행 게시글이 있는 태그를 게시글 수가 많은 순으로 돌려준다. tags.post_count만 읽고 결과는 캐시하므로
+     * 발행 게시글이나 태그가 바뀌기 전까지는 DB를 조회하지 않는다.
+     */
+    @Cacheable(cacheNames = CacheConfig.TAGS, key = "'cloud'", sync = true)
+    public List<TagCloudEntryDto> getTagCloud() {
+        List<Tag> tags = tagRepository.findCloud();
+        if (tags.isEmpty()) {
+            return List.of();
+        }
+        double maxLog = Math.log(tags.get(0).getPostCount());
+        return tags.stream()
+                .map(tag -> new TagCloudEntryDto(tag.getName(), tag.getSlug(), tag.getPostCount(),
+                        cloudWeight(tag.getPostCount(), maxLog)))
+                .toList();
+    }
+
+    private static int cloudWeight(long postCount, double maxLog) {
+        if (maxLog <= 0) {
+            return 1;
+        }
+        return 1 + (int) Math.round((MAX_CLOUD_WEIGHT - 1) * Math.log(postCount) / maxLog);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.POSTS_BY_TAG,
+            key = "#slug + T(com.haesiku.common.config.CacheConfig).SLUG_KEY_SEPARATOR + #pageable", sync = true)
+    public Page<PostSummaryDto> getPostsByTag(String slug, Pageable pageable) {
         Tag tag = tagRepository.findBySlug(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Tag", "slug", slug));
 
-        Page<Post> page = postRepository.findByTagId(tag.getId(), pageable);
-        List<Post> content = page.getContent();
-        if (content.isEmpty()) {
-            return page.map(post -> postMapper.toResponseDto(post, 0L));
+        return postSummaryAssembler.assemble(postRepository.findSummariesByTagId(tag.getId(), pageable));
+    }
+
+    /**
+     * 태그 AND/OR/NOT 조합으로 게시글을 찾는다. 조건 평가와 건수는 메모리 비트맵 색인({@link PostTagIndex})에서 끝나고,
+     * DB는 해당 페이지 게시글의 목록 항목만 id로 읽는다. 정렬은 다른 게시글 목록과 같은
+     * 최신순(작성일시, id 내림차순)이다.
+     */
+    public Page<PostSummaryDto> filterPosts(TagBitmapIndex.Query query, Pageable pageable) {
+        int tagCount = query.all().size() + query.any().size() + query.none().size();
+        if (tagCount > MAX_FILTER_TAGS) {
+            throw new IllegalArgumentException("태그는 최대 " + MAX_FILTER_TAGS + "개까지 지정할 수 있습니다.");
         }
-        Map<Long, Long> countMap = commentRepository.countByPostIds(content.stream().map(Post::getId).toList()).stream()
-                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).longValue()));
-        return page.map(post -> postMapper.toResponseDto(post, countMap.getOrDefault(post.getId(), 0L)));
+
+        // 페이지 번호가 매우 크면 offset이 int 범위를 넘는다. 색인 건수는 int 범위이므로 잘라도 빈 페이지가 된다.
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+        TagBitmapIndex.Result result = postTagIndex.query(query, offset, pageable.getPageSize());
+        if (result.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.total());
+        }
+
+        Map<Long, PostSummaryDto> posts = postSummaryAssembler.assemble(postRepository.findSummariesByIds(result.ids()));
+        // 메모리 색인과 DB 사이에 삭제 시차가 있을 수 있으므로 조회되지 않은 id는 제외한다.
+        List<PostSummaryDto> content = result.ids().stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, result.total());
     }
 }
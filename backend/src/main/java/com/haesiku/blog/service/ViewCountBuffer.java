@@ -0,0 +1,123 @@
+package com.haesiku.blog.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수를 메모리에 누적했다가 주기적으로 한 번의 배치 UPDATE로 반영하는 write-behind 버퍼.
+ * 조회 요청 경로에서는 posts 행을 수정하지 않으므로 인기 게시글에 대한 row lock 경합이 사라진다.
+ * <p>
+ * 게시글별 누적값은 키 단위로 원자적인 merge로 더하고, flush는 키마다 remove로 꺼낸 값만 DB에 쓴다.
+ * 꺼낸 뒤에 들어온 조회는 새 항목에 쌓이므로 두 번 반영되거나 사라지지 않는다.
+ * 누적 중인 게시글 수가 max-pending-posts에 이르면 주기를 기다리지 않고 flush하고,
+ * DB 장애로 flush가 계속 실패해 그 두 배를 넘으면 새 게시글의 조회는 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${blog.view-count.max-pending-posts:10000}")
+    private int maxPendingPosts;
+
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    /** flush가 꺼내 DB에 쓰는 중인 조회수. 쓰는 동안에도 pendingCount에 포함되도록 둔다. */
+    private volatile Map<Long, Long> inFlight = Map.of();
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * 조회수 1 증가를 기록한다. DB에는 다음 flush 시점에 반영된다.
+     */
+    public void increment(Long postId) {
+        int size = pending.size();
+        if (size >= maxPendingPosts * 2 && !pending.containsKey(postId)) {
+            log.debug("조회수 버퍼가 가득 차 게시글 {}의 조회를 버립니다", postId);
+            return;
+        }
+        pending.merge(postId, 1L, Long::sum);
+        if (size >= maxPendingPosts && earlyFlushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수를 반환한다.
+     */
+    public long pendingCount(Long postId) {
+        return pending.getOrDefault(postId, 0L) + inFlight.getOrDefault(postId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.view-count.flush-interval-ms:10000}")
+    public void flush() {
+        // DB 갱신 중에 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock을 쓴다.
+        flushLock.lock();
+        try {
+            earlyFlushRequested.set(false);
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> drained = new ConcurrentHashMap<>();
+        inFlight = drained;
+        for (Long postId : new ArrayList<>(pending.keySet())) {
+            Long delta = pending.remove(postId);
+            if (delta != null) {
+                drained.put(postId, delta);
+            }
+        }
+        if (drained.isEmpty()) {
+            inFlight = Map.of();
+            return;
+        }
+
+        // 여러 인스턴스가 동시에 flush 할 때 데드락을 피하도록 id 순서로 갱신한다. 삭제된 게시글은 갱신 대상이 없어 그대로 사라진다.
+        List<Object[]> batchArgs = new ArrayList<>(drained.size());
+        new TreeMap<>(drained).forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+        try {
+            // 한 트랜잭션으로 묶어 실패하면 전부 되돌린다. 일부만 반영된 뒤 다시 더해 두 번 세는 일이 없다.
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+            log.debug("조회수 {}건 flush 완료", drained.size());
+        } catch (RuntimeException e) {
+            // 꺼낸 값을 되돌려 다음 주기에 다시 시도한다.
+            drained.forEach((postId, delta) -> pending.merge(postId, delta, Long::sum));
+            log.warn("조회수 flush 실패 ({}건), 다음 주기에 재시도합니다", drained.size(), e);
+        } finally {
+            inFlight = Map.of();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
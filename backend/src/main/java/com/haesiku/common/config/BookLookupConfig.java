@@ -0,0 +1,72 @@
+package com.haesiku.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * ISBN 조회 제공처를 동시에 호출하기 위한 전용 스레드 풀.
+ * 큐가 가득 차면 요청을 거절하며, 거절된 호출은 해당 제공처의 실패로 처리된다.
+ * 일괄 조회는 제공처 호출 결과를 기다리는 작업이므로 교착을 피하기 위해 별도 풀을 쓴다.
+ * <p>
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 풀 대신 작업마다 가상 스레드를 만들고,
+ * 동시에 실행되는 작업 수를 기존 풀 크기 + 큐 용량으로 제한한다 (초과 시 거절 대신 대기).
+ */
+@Configuration
+public class BookLookupConfig {
+
+    @Bean(name = "bookLookupExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor bookLookupExecutor(
+            @Value("${book.lookup.executor.pool-size:16}") int poolSize,
+            @Value("${book.lookup.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("book-lookup-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    @Bean(name = "isbnBatchExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor isbnBatchExecutor(
+            @Value("${book.lookup.batch.pool-size:8}") int poolSize,
+            @Value("${book.lookup.batch.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("isbn-batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    @Bean(name = "bookLookupExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualBookLookupExecutor(
+            @Value("${book.lookup.executor.pool-size:16}") int poolSize,
+            @Value("${book.lookup.executor.queue-capacity:100}") int queueCapacity) {
+        return virtualExecutor("book-lookup-", poolSize + queueCapacity);
+    }
+
+    @Bean(name = "isbnBatchExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualIsbnBatchExecutor(
+            @Value("${book.lookup.batch.pool-size:8}") int poolSize,
+            @Value("${book.lookup.batch.queue-capacity:1000}") int queueCapacity) {
+        return virtualExecutor("isbn-batch-", poolSize + queueCapacity);
+    }
+
+    private static SimpleAsyncTaskExecutor virtualExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+}
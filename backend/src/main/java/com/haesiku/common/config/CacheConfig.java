@@ -0,0 +1,46 @@
+package com.haesiku.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 조회 결과 로컬 캐시 (Caffeine).
+ * 데이터는 관리자가 글을 수정할 때만 바뀌므로 TTL은 안전장치이고, 실제 무효화는 도메인 이벤트로 한다.
+ * 캐시별 hit/miss 통계는 Actuator의 cache.gets 메트릭으로 노출된다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PUBLISHED_POSTS = "publishedPosts";
+    public static final String POSTS_BY_TAG = "postsByTag";
+    public static final String POSTS_BY_CATEGORY = "postsByCategory";
+    public static final String TAGS = "tags";
+    public static final String CATEGORIES = "categories";
+
+    /** slug 단위 무효화를 위해 캐시 키는 "slug|pageable" 형식을 사용한다. */
+    public static final String SLUG_KEY_SEPARATOR = "|";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${blog.cache.max-size:500}") long maxSize,
+            @Value("${blog.cache.ttl:10m}") Duration ttl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        for (String name : new String[]{PUBLISHED_POSTS, POSTS_BY_TAG, POSTS_BY_CATEGORY, TAGS, CATEGORIES}) {
+            cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .build());
+        }
+        return cacheManager;
+    }
+}
@@ -1,15 +1,42 @@
 package com.haesiku.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+/**
+ * 댓글 비밀번호 해시 설정.
+ * BCrypt는 요청 하나에 수십~수백 ms의 CPU를 쓰므로 요청 스레드가 아닌 전용 풀(PasswordHasher)에서 계산한다.
+ */
 @Configuration
 public class PasswordEncoderConfig {
 
+    /**
+     * @param strength BCrypt cost (log2 반복 횟수). 기존 해시는 저장된 cost로 검증되므로 바꿔도 호환된다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${comment.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * 해시 전용 풀. 스레드 수는 기본적으로 코어의 절반으로 제한해 댓글 스팸이 몰려도 조회 요청에 CPU를 남긴다.
+     * 큐가 가득 차면 거절(PasswordHasher가 429로 응답)한다. CPU 작업이므로 가상 스레드 모드에서도 플랫폼 스레드를 쓴다.
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${comment.password.hash.threads:0}") int threads,
+            @Value("${comment.password.hash.queue-capacity:32}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
     }
 }
@@ -0,0 +1,68 @@
+package com.haesiku.common.config;
+
+import com.haesiku.common.profiling.SqlProfilingFilter;
+import com.haesiku.common.profiling.SqlProfilingInterceptor;
+import com.haesiku.common.profiling.SqlProfilingListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * datasource-proxy로 DataSource를 감싸 요청별 SQL 수·시간을 한 곳에서 집계한다.
+ * 요청당 SQL 문 수 지표(http.server.requests.queries)는 항상 기록한다.
+ * sql.profiling.enabled=true(dev 프로필 기본)면 느린 쿼리와 N+1 의심 패턴을 로그로 남기고,
+ * 여기에 sql.profiling.headers=true면 X-Query-Count·X-DB-Time(ms) 응답 헤더를 붙인다.
+ */
+@Configuration
+public class SqlProfilingConfig {
+
+    /** DataSource 빈 초기화 직후 감싸야 하므로 static으로 등록한다. */
+    @Bean
+    public static BeanPostProcessor sqlProfilingDataSourceProxy(
+            @Value("${sql.profiling.enabled:false}") boolean profiling,
+            @Value("${sql.profiling.slow-query-threshold:300ms}") Duration slowQueryThreshold) {
+        SqlProfilingListener listener = new SqlProfilingListener(profiling ? slowQueryThreshold : null);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlProfilingFilter sqlProfilingFilter(
+            MeterRegistry meterRegistry,
+            @Value("${sql.profiling.enabled:false}") boolean profiling,
+            @Value("${sql.profiling.n-plus-one-threshold:5}") int nPlusOneThreshold,
+            @Value("${sql.profiling.headers:false}") boolean headers) {
+        return new SqlProfilingFilter(meterRegistry, profiling, nPlusOneThreshold, profiling && headers);
+    }
+
+    /** 컨트롤러 메서드 기록과 본문 없는 응답의 헤더. 프로파일링이 켜진 경우에만 등록한다. */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "sql.profiling.enabled", havingValue = "true")
+    static class ProfilingWebConfig implements WebMvcConfigurer {
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new SqlProfilingInterceptor());
+        }
+    }
+}
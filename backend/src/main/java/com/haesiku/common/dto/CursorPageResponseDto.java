@@ -0,0 +1,33 @@
+package com.haesiku.common.dto;
+
+import com.haesiku.common.util.PageCursor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "커서 기반 페이지네이션 응답 (전체 개수를 세지 않음)")
+public record CursorPageResponseDto<T>(
+        @Schema(description = "데이터 목록")
+        List<T> content,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0wMS0xNVQxMDozMDowMHw0Mg")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "페이지 크기", example = "10")
+        int size
+) {
+    /**
+     * @param rows     {@link PageCursor#lookahead(int)}로 size + 1건까지 조회한 결과
+     * @param cursorOf 항목의 (생성일시, id) 커서
+     */
+    public static <T> CursorPageResponseDto<T> of(List<T> rows, int size, Function<T, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPageResponseDto<>(List.copyOf(content), nextCursor, hasNext, size);
+    }
+}
@@ -0,0 +1,27 @@
+package com.haesiku.common.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 단건 조회의 조건부 요청 검사에 쓰는 엔티티 버전 (본문을 읽지 않고 id·수정일시만 조회).
+ */
+public record EntityVersion(Long id, String etag, long lastModified) {
+
+    public static EntityVersion of(String type, Long id, LocalDateTime updatedAt, Object... extra) {
+        long lastModified = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        StringBuilder etag = new StringBuilder("\"").append(type).append('-').append(id).append('-').append(lastModified);
+        for (Object part : extra) {
+            etag.append('-').append(part);
+        }
+        return new EntityVersion(id, etag.append('"').toString(), lastModified);
+    }
+
+    /**
+     * 조회수처럼 버전과 무관하게 바뀌는 값이 본문에 있을 때 쓰는 약한 검증자 (W/ 접두어).
+     * 의미상 같은 응답이면 304를 허용하되 바이트 단위로 같다고 약속하지는 않는다.
+     */
+    public EntityVersion weak() {
+        return etag.startsWith("W/") ? this : new EntityVersion(id, "W/" + etag, lastModified);
+    }
+}
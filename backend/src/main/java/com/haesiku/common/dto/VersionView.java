@@ -0,0 +1,13 @@
+package com.haesiku.common.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 요청 검사용 버전 projection (id·수정일시만 조회하고 본문 컬럼은 읽지 않는다).
+ */
+public interface VersionView {
+
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -22,4 +22,12 @@ public abstract class BaseEntity {
     @LastModifiedDate
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    /**
+     * 컬럼 변경 없이 연관관계만 바뀌었을 때 수정일시를 갱신한다.
+     * 컬렉션 변경만으로는 엔티티 UPDATE가 일어나지 않아 감사 리스너가 호출되지 않기 때문이다.
+     */
+    protected void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
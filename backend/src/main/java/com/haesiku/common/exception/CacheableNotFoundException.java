@@ -0,0 +1,20 @@
+package com.haesiku.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 존재하지 않음이 DB로 확인된 대상. 404 응답에 Cache-Control max-age를 붙여 같은 요청의 반복을 줄인다.
+ * 인스턴스 메모리만 보고 판단한 없음에는 쓰지 않는다 (다른 인스턴스에서 만든 대상일 수 있다).
+ */
+@Getter
+public class CacheableNotFoundException extends EntityNotFoundException {
+
+    private final Duration maxAge;
+
+    public CacheableNotFoundException(String entityName, String fieldName, Object fieldValue, Duration maxAge) {
+        super(entityName, fieldName, fieldValue);
+        this.maxAge = maxAge;
+    }
+}
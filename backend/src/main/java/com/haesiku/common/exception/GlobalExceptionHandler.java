@@ -1,8 +1,11 @@
 package com.haesiku.common.exception;
 
 import com.haesiku.common.dto.ErrorResponseDto;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -12,10 +15,23 @@ import java.util.List;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * 캐시해도 되는지 확인되지 않은 404. 공유 캐시가 휴리스틱으로 저장하지 않도록 no-store를 붙인다.
+     */
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ErrorResponseDto> handleEntityNotFound(EntityNotFoundException e) {
         ErrorResponseDto error = new ErrorResponseDto(HttpStatus.NOT_FOUND.value(), e.getMessage());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .cacheControl(CacheControl.noStore())
+                .body(error);
+    }
+
+    @ExceptionHandler(CacheableNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handleCacheableNotFound(CacheableNotFoundException e) {
+        ErrorResponseDto error = new ErrorResponseDto(HttpStatus.NOT_FOUND.value(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .cacheControl(CacheControl.maxAge(e.getMaxAge()).cachePublic())
+                .body(error);
     }
 
     @ExceptionHandler(InvalidPasswordException.class)
@@ -30,6 +46,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponseDto> handleTooManyRequests(TooManyRequestsException e) {
+        ErrorResponseDto error = new ErrorResponseDto(HttpStatus.TOO_MANY_REQUESTS.value(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    /**
+     * 커넥션 풀이 가득 차 대기 시간(spring.datasource.hikari.connection-timeout) 안에 커넥션을 얻지 못한 경우.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponseDto> handleCannotCreateTransaction(CannotCreateTransactionException e) {
+        ErrorResponseDto error = new ErrorResponseDto(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "요청이 많아 잠시 후 다시 시도해 주세요.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponseDto> handleValidation(MethodArgumentNotValidException e) {
         List<String> errors = e.getBindingResult().getFieldErrors().stream()
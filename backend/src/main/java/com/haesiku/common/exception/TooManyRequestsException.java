@@ -0,0 +1,17 @@
+package com.haesiku.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 한도 초과 또는 처리 대기열 포화. 429 Too Many Requests와 Retry-After로 응답한다.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,82 @@
+package com.haesiku.common.markdown;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.review.entity.Review;
+import com.haesiku.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 렌더링 결과가 없는 기존 게시글·후기(컬럼 추가 이전에 작성된 글)를 기동 시 렌더링한다.
+ * 새로 쓰거나 수정한 글은 서비스에서 바로 렌더링하므로 여기서는 content_hash가 비어 있는 행만 다룬다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarkdownRenderBackfill {
+
+    private static final int BACKFILL_CHUNK_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final ReviewRepository reviewRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int posts = backfillChunks(() -> {
+            List<Long> ids = postRepository.findIdsWithoutRendering(BACKFILL_CHUNK_SIZE);
+            if (!ids.isEmpty()) {
+                for (Object[] row : postRepository.findContentsByIds(ids)) {
+                    RenderedMarkdown rendered = markdownRenderer.render((String) row[1]);
+                    postRepository.updateRendering((Long) row[0], rendered.html(), toJson(rendered.toc()),
+                            rendered.contentHash());
+                }
+            }
+            return ids.size();
+        });
+        int reviews = backfillChunks(() -> {
+            List<Long> ids = reviewRepository.findIdsWithoutRendering(BACKFILL_CHUNK_SIZE);
+            if (!ids.isEmpty()) {
+                for (Review review : reviewRepository.findAllById(ids)) {
+                    RenderedMarkdown rendered = markdownRenderer.render(review.getContent());
+                    reviewRepository.updateRendering(review.getId(), rendered.html(), toJson(rendered.toc()),
+                            rendered.contentHash());
+                }
+            }
+            return ids.size();
+        });
+        if (posts + reviews > 0) {
+            log.info("Markdown 렌더링 완료: 게시글 {}건, 후기 {}건", posts, reviews);
+        }
+    }
+
+    private int backfillChunks(IntSupplier chunk) {
+        int total = 0;
+        while (true) {
+            Integer rendered = transactionTemplate.execute(status -> chunk.getAsInt());
+            if (rendered == null || rendered == 0) {
+                return total;
+            }
+            total += rendered;
+        }
+    }
+
+    private String toJson(List<TocEntry> toc) {
+        try {
+            return objectMapper.writeValueAsString(toc);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("목차 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.haesiku.common.markdown;
+
+import com.haesiku.common.util.SlugUtils;
+import org.commonmark.Extension;
+import org.commonmark.ext.autolink.AutolinkExtension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.ext.task.list.items.TaskListItemsExtension;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.Heading;
+import org.commonmark.node.Node;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 게시글·후기 본문 Markdown을 서버에서 HTML로 렌더링한다. 작성·수정 시 한 번만 렌더링해 저장한다.
+ * 원문 HTML은 이스케이프하고 javascript: 등 위험한 URL은 제거하므로 결과를 그대로 화면에 넣어도 안전하다.
+ * 제목(h1~h6)에는 slug id를 붙이고, 같은 id로 목차를 만든다.
+ */
+@Component
+public class MarkdownRenderer {
+
+    /** 렌더링 규칙을 바꾸면 올린다. 저장된 해시가 달라져 다음 수정 시 다시 렌더링된다. */
+    static final int RENDER_VERSION = 1;
+
+    private static final List<Extension> EXTENSIONS = List.of(
+            TablesExtension.create(),
+            StrikethroughExtension.create(),
+            AutolinkExtension.create(),
+            TaskListItemsExtension.create());
+
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+
+    public RenderedMarkdown render(String markdown) {
+        String source = markdown == null ? "" : markdown;
+        Node document = parser.parse(source);
+
+        Map<Heading, String> anchors = new IdentityHashMap<>();
+        List<TocEntry> toc = new ArrayList<>();
+        Set<String> usedAnchors = new HashSet<>();
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Heading heading) {
+                String text = textOf(heading).trim();
+                String anchor = uniqueAnchor(text, usedAnchors);
+                anchors.put(heading, anchor);
+                toc.add(new TocEntry(heading.getLevel(), text, anchor));
+            }
+        });
+
+        // 제목 id는 문서마다 다르므로 렌더러는 렌더링마다 만든다 (작성·수정 시에만 호출됨).
+        HtmlRenderer renderer = HtmlRenderer.builder()
+                .extensions(EXTENSIONS)
+                .escapeHtml(true)
+                .sanitizeUrls(true)
+                .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                    if (node instanceof Heading heading && anchors.containsKey(heading)) {
+                        attributes.put("id", anchors.get(heading));
+                    }
+                })
+                .build();
+        return new RenderedMarkdown(renderer.render(document), List.copyOf(toc), hash(source));
+    }
+
+    /**
+     * @return 저장된 해시와 원문이 같으면 empty (다시 렌더링할 필요 없음)
+     */
+    public Optional<RenderedMarkdown> renderIfChanged(String currentHash, String markdown) {
+        String source = markdown == null ? "" : markdown;
+        if (hash(source).equals(currentHash)) {
+            return Optional.empty();
+        }
+        return Optional.of(render(source));
+    }
+
+    static String hash(String markdown) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((RENDER_VERSION + ":").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(markdown.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String textOf(Node node) {
+        StringBuilder sb = new StringBuilder();
+        node.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Text text) {
+                sb.append(text.getLiteral());
+            }
+
+            @Override
+            public void visit(Code code) {
+                sb.append(code.getLiteral());
+            }
+        });
+        return sb.toString();
+    }
+
+    private static String uniqueAnchor(String text, Set<String> used) {
+        String base = SlugUtils.toSlug(text);
+        if (base.isEmpty()) {
+            base = "section";
+        }
+        String anchor = base;
+        for (int suffix = 1; !used.add(anchor); suffix++) {
+            anchor = base + "-" + suffix;
+        }
+        return anchor;
+    }
+}
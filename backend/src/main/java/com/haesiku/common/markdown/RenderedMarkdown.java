@@ -0,0 +1,9 @@
+package com.haesiku.common.markdown;
+
+import java.util.List;
+
+/**
+ * Markdown 렌더링 결과. contentHash는 렌더러 버전과 원문으로 계산하며, 같으면 다시 렌더링하지 않는다.
+ */
+public record RenderedMarkdown(String html, List<TocEntry> toc, String contentHash) {
+}
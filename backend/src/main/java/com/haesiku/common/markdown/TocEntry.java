@@ -0,0 +1,16 @@
+package com.haesiku.common.markdown;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "목차 항목")
+public record TocEntry(
+        @Schema(description = "제목 수준 (1~6)", example = "2")
+        int level,
+
+        @Schema(description = "제목 텍스트", example = "설치 방법")
+        String text,
+
+        @Schema(description = "본문 HTML의 제목 id (#anchor)", example = "seolchi-bangbeop")
+        String anchor
+) {
+}
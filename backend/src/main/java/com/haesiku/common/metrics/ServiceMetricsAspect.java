@@ -0,0 +1,45 @@
+package com.haesiku.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 각 도메인 service 패키지의 {@code @Service} 공개 메서드 실행 시간을 기록한다.
+ * <p>
+ * 지표: service.invocations (service=클래스명, method=메서드명, exception=예외 클래스명 또는 none).
+ * 같은 클래스 안의 호출(self-invocation)은 프록시를 거치지 않으므로 기록되지 않으며,
+ * CompletableFuture를 반환하는 메서드는 작업을 시작하기까지의 시간만 잡힌다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String METRIC = "service.invocations";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(com.haesiku..service.*) && @within(org.springframework.stereotype.Service)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .description("서비스 메서드 실행 시간")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.haesiku.common.profiling;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나에서 실행된 SQL의 수·시간과 문장별 실행 횟수.
+ * {@link SqlProfilingFilter}가 요청 스레드에 열고 닫으며, 그 사이의 SQL은 {@link SqlProfilingListener}가 기록한다.
+ * 요청당 SQL 문 수 지표와 dev 프로필의 응답 헤더가 모두 이 값을 쓴다.
+ */
+public final class SqlProfile {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String DB_TIME_HEADER = "X-DB-Time";
+
+    private static final ThreadLocal<SqlProfile> CURRENT = new ThreadLocal<>();
+
+    /** 응답 헤더로 내보낼지 (dev 프로필) */
+    private final boolean headers;
+    /** N+1 감지용으로 SELECT 문별 실행 횟수를 모을지 (프로파일링이 켜진 경우) */
+    private final boolean trackSelects;
+    private int queryCount;
+    private long elapsedMillis;
+    private String handler = "-";
+    /** SELECT 문(바인딩 값 제외) → 실행 횟수. N+1 감지용 */
+    private final Map<String, Integer> selectCounts = new LinkedHashMap<>();
+
+    private SqlProfile(boolean headers, boolean trackSelects) {
+        this.headers = headers;
+        this.trackSelects = trackSelects;
+    }
+
+    static SqlProfile start(boolean headers, boolean trackSelects) {
+        SqlProfile profile = new SqlProfile(headers, trackSelects);
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return 요청 밖(스케줄러·시작 시 적재 등)이면 null
+     */
+    static SqlProfile current() {
+        return CURRENT.get();
+    }
+
+    void record(String sql, long elapsedMillis) {
+        queryCount++;
+        this.elapsedMillis += elapsedMillis;
+        if (trackSelects && sql.regionMatches(true, 0, "select", 0, 6)) {
+            selectCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    int queryCount() {
+        return queryCount;
+    }
+
+    void setHandler(String handler) {
+        this.handler = handler;
+    }
+
+    String handler() {
+        return handler;
+    }
+
+    /**
+     * 같은 SELECT가 threshold번 이상 실행된 문장 (N+1 의심)
+     */
+    Map<String, Integer> repeatedSelects(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        selectCounts.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    /** 응답이 커밋되기 전에 여러 번 불려도 마지막 값으로 덮어쓴다. */
+    void writeHeaders(HttpServletResponse response) {
+        if (headers && !response.isCommitted()) {
+            response.setHeader(QUERY_COUNT_HEADER, Integer.toString(queryCount));
+            response.setHeader(DB_TIME_HEADER, Long.toString(elapsedMillis));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.haesiku.common.profiling;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위로 {@link SqlProfile}을 열고 닫는다. 요청이 끝나면 실행된 SQL 문 수를 지표로 기록하고,
+ * 프로파일링이 켜져 있으면 같은 SELECT가 반복된 경우(N+1 의심)를 로그로 남긴다.
+ * <p>
+ * 지표: http.server.requests.queries (method, uri=매핑된 URL 패턴). uri 태그는 http.server.requests와 같은 규칙을 따른다.
+ * 비동기 응답(NDJSON 스트림 등)은 요청 스레드에서 실행된 SQL만 센다.
+ */
+@Slf4j
+public class SqlProfilingFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_METRIC = "http.server.requests.queries";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean profiling;
+    private final int nPlusOneThreshold;
+    private final boolean headers;
+
+    public SqlProfilingFilter(MeterRegistry meterRegistry, boolean profiling, int nPlusOneThreshold, boolean headers) {
+        this.meterRegistry = meterRegistry;
+        this.profiling = profiling;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.headers = headers;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlProfile profile = SqlProfile.start(headers, profiling);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlProfile.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(QUERY_COUNT_METRIC)
+                    .description("요청당 실행된 SQL 문 수")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .register(meterRegistry)
+                    .record(profile.queryCount());
+            if (profiling) {
+                profile.repeatedSelects(nPlusOneThreshold).forEach((sql, count) ->
+                        log.warn("N+1 의심: {} {} [{}]에서 같은 SELECT {}회 실행: {}",
+                                request.getMethod(), request.getRequestURI(), profile.handler(), count,
+                                SqlProfilingListener.oneLine(sql)));
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.haesiku.common.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 현재 요청을 처리하는 컨트롤러 메서드를 {@link SqlProfile}에 기록하고,
+ * 본문 없이 끝나는 응답(304 등)에도 SQL 통계 헤더를 붙인다.
+ */
+public class SqlProfilingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null && handler instanceof HandlerMethod method) {
+            profile.setHandler(method.getBeanType().getSimpleName() + "#" + method.getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null) {
+            profile.writeHeaders(response);
+        }
+    }
+}
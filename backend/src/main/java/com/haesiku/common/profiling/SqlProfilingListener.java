@@ -0,0 +1,50 @@
+package com.haesiku.common.profiling;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * datasource-proxy가 실행한 SQL마다 호출된다. 현재 요청의 {@link SqlProfile}에 기록하고,
+ * 프로파일링이 켜져 있으면 임계 시간을 넘긴 쿼리를 요청을 처리한 컨트롤러 메서드와 함께 로그로 남긴다.
+ * JDBC 배치는 실행 한 번을 1건으로 센다.
+ */
+@Slf4j
+public class SqlProfilingListener implements QueryExecutionListener {
+
+    private final long slowQueryMillis;
+
+    /**
+     * @param slowQueryThreshold 느린 쿼리 로그 기준 시간, null이면 로그를 남기지 않는다
+     */
+    public SqlProfilingListener(Duration slowQueryThreshold) {
+        this.slowQueryMillis = slowQueryThreshold == null ? Long.MAX_VALUE : slowQueryThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        long elapsed = execInfo.getElapsedTime();
+
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null) {
+            profile.record(sql, elapsed);
+        }
+        if (elapsed >= slowQueryMillis) {
+            log.warn("느린 쿼리 {}ms [{}] {}", elapsed, profile == null ? "-" : profile.handler(), oneLine(sql));
+        }
+    }
+
+    static String oneLine(String sql) {
+        return sql.replaceAll("\\s+", " ").trim();
+    }
+}
@@ -0,0 +1,36 @@
+package com.haesiku.common.profiling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전(응답이 커밋되기 전)에 SQL 통계 헤더를 붙인다.
+ * 컨트롤러가 실행한 SQL은 모두 이 시점까지 끝나 있다. SQL 프로파일링이 켜진 경우에만 등록한다.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "sql.profiling.enabled", havingValue = "true")
+public class SqlProfilingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null && response instanceof ServletServerHttpResponse servletResponse) {
+            profile.writeHeaders(servletResponse.getServletResponse());
+        }
+        return body;
+    }
+}
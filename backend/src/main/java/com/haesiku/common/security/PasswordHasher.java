@@ -0,0 +1,104 @@
+package com.haesiku.common.security;
+
+import com.haesiku.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시·검증을 전용 풀(passwordHashExecutor)에서 실행한다.
+ * 풀이 포화되면 요청 스레드에서 계산하지 않고 TooManyRequestsException(429)으로 거절한다.
+ * <p>
+ * 지표: comment.password.hash (해시 계산 시간, operation=encode|matches),
+ * comment.password.hash.wait (큐 대기 시간), comment.password.hash.queue (대기 작업 수),
+ * comment.password.hash.active (계산 중인 작업 수)
+ */
+@Component
+public class PasswordHasher {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${comment.password.hash.timeout:5s}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.encodeTimer = Timer.builder("comment.password.hash")
+                .description("비밀번호 해시 계산 시간")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("comment.password.hash")
+                .description("비밀번호 해시 계산 시간")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("comment.password.hash.wait")
+                .description("해시 작업의 큐 대기 시간")
+                .register(meterRegistry);
+        Gauge.builder("comment.password.hash.queue", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("대기 중인 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("comment.password.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("계산 중인 해시 작업 수")
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String passwordHash) {
+        return run(matchesTimer, () -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    private <T> T run(Timer timer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            });
+        } catch (TaskRejectedException e) {
+            throw new TooManyRequestsException("요청이 많아 잠시 후 다시 시도해 주세요.", RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new TooManyRequestsException("요청이 많아 잠시 후 다시 시도해 주세요.", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("비밀번호 확인이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
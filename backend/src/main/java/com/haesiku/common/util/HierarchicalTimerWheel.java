@@ -0,0 +1,164 @@
+package com.haesiku.common.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계층형 타이머 휠. 예약·취소는 O(1)이고, 시간을 진행할 때는 지나간 칸만 본다.
+ * 아래 단계 한 칸이 한 tick, 위 단계 한 칸은 아래 단계 한 바퀴이며, 위 단계 칸에 있던 항목은 그 칸 차례가 오면
+ * 남은 시간에 맞는 아래 단계 칸으로 내려간다. 가장 위 단계 범위를 넘는 항목은 맨 끝 칸에 두었다가 다시 배치한다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ *
+ * @param <K> 예약 식별자. 같은 키로 다시 예약하면 이전 예약을 대체한다.
+ */
+public final class HierarchicalTimerWheel<K> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final long maxSpan;
+
+    /** slots[level][index] */
+    private final List<List<Set<Entry<K>>>> slots = new ArrayList<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    /** 예약 시점에 이미 기한이 지난 항목. 다음 advance에서 바로 돌려준다. */
+    private final Set<Entry<K>> overdue = new LinkedHashSet<>();
+
+    private long currentTick;
+
+    /**
+     * @param tickMillis 한 칸의 시간 (ms)
+     * @param wheelSize  단계별 칸 수 (2의 거듭제곱)
+     * @param levels     단계 수 (2 이상). 범위는 tickMillis × wheelSize^levels.
+     *                   범위를 넘는 예약은 맨 위 단계 끝 칸에서 다시 배치되므로, 위 단계가 없는 1단계 휠에서는 일찍 만료된다.
+     * @param nowMillis  현재 시각 (epoch ms)
+     */
+    public HierarchicalTimerWheel(long tickMillis, int wheelSize, int levels, long nowMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1 || levels < 2) {
+            throw new IllegalArgumentException("invalid timer wheel shape");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.maxSpan = 1L << Math.min(62, (long) bits * levels);
+        for (int level = 0; level < levels; level++) {
+            List<Set<Entry<K>>> wheel = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                wheel.add(new LinkedHashSet<>());
+            }
+            slots.add(wheel);
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * 기한(epoch ms)이 되면 advance가 돌려주도록 예약한다.
+     */
+    public void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        Entry<K> entry = new Entry<>(key, Math.floorDiv(deadlineMillis, tickMillis));
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    public boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.slot != null) {
+            entry.slot.remove(entry);
+        } else {
+            overdue.remove(entry);
+        }
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 진행하며 기한이 된 예약을 꺼낸다.
+     *
+     * @return 기한이 된 키 (기한 순)
+     */
+    public List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        drainOverdue(expired);
+
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(1);
+            // 위 단계에서 내려오다 기한이 바로 지금인 항목은 overdue로 들어간다.
+            drainOverdue(expired);
+            Set<Entry<K>> slot = slots.get(0).get((int) (currentTick & mask));
+            for (Entry<K> entry : slot) {
+                entries.remove(entry.key);
+                expired.add(entry.key);
+            }
+            slot.clear();
+        }
+        return expired;
+    }
+
+    private void drainOverdue(List<K> expired) {
+        for (Entry<K> entry : overdue) {
+            entries.remove(entry.key);
+            expired.add(entry.key);
+        }
+        overdue.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 아래 단계가 한 바퀴를 돌았으면 이 단계의 현재 칸 항목을 다시 배치한다. 위 단계부터 차례로 내려온다.
+     */
+    private void cascade(int level) {
+        if (level >= slots.size() || (currentTick & ((1L << (bits * level)) - 1)) != 0) {
+            return;
+        }
+        cascade(level + 1);
+        Set<Entry<K>> slot = slots.get(level).get((int) ((currentTick >>> (bits * level)) & mask));
+        List<Entry<K>> moving = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry<K> entry : moving) {
+            entry.slot = null;
+            place(entry);
+        }
+    }
+
+    private void place(Entry<K> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0) {
+            overdue.add(entry);
+            entry.slot = null;
+            return;
+        }
+        // 범위를 넘는 예약은 가장 먼 칸에 두고, 그 칸 차례가 오면 남은 시간으로 다시 배치한다.
+        long tick = delta < maxSpan ? entry.deadlineTick : currentTick + maxSpan - 1;
+        int level = 0;
+        while (level < slots.size() - 1 && (tick - currentTick) >= (1L << (bits * (level + 1)))) {
+            level++;
+        }
+        Set<Entry<K>> slot = slots.get(level).get((int) ((tick >>> (bits * level)) & mask));
+        slot.add(entry);
+        entry.slot = slot;
+    }
+
+    private static final class Entry<K> {
+
+        private final K key;
+        private final long deadlineTick;
+        private Set<Entry<K>> slot;
+
+        private Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.haesiku.common.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션 위치. 마지막으로 받은 항목의 (생성일시, id)이며,
+ * 클라이언트에는 내부 구조를 드러내지 않도록 base64url 토큰으로 전달한다.
+ */
+public record PageCursor(LocalDateTime createdAt, Long id) {
+
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 50;
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 토큰이 비어 있으면 null (첫 페이지)
+     * @throws IllegalArgumentException 형식이 잘못된 토큰
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+            }
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+        }
+    }
+
+    public static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 한 건을 더 조회한다.
+     */
+    public static Pageable lookahead(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+}
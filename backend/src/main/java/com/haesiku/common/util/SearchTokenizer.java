@@ -0,0 +1,71 @@
+package com.haesiku.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저.
+ * 영문/숫자는 단어 단위로, 한글은 형태소 분석기 없이도 부분 일치가 되도록 음절 bigram 단위로 분리한다.
+ * 예) "스프링부트 Spring3" → [스프, 프링, 링부, 부트, spring3]
+ */
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    /** 이보다 긴 단어는 색인하지 않는다 (Base64, URL 등 의미 없는 긴 토큰 방지). */
+    private static final int MAX_WORD_LENGTH = 64;
+
+    /**
+     * 문자열을 등장 순서대로 검색어 토큰으로 분리한다.
+     *
+     * @param text 원문 (null 허용)
+     * @return 소문자화된 토큰 목록
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char ch = text.charAt(i);
+            if (isHangul(ch)) {
+                int start = i;
+                while (i < length && isHangul(text.charAt(i))) {
+                    i++;
+                }
+                addHangulBigrams(text, start, i, tokens);
+            } else if (Character.isLetterOrDigit(ch)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isHangul(text.charAt(i))) {
+                    i++;
+                }
+                if (i - start <= MAX_WORD_LENGTH) {
+                    tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    public static boolean isHangul(char ch) {
+        return (ch >= 0xAC00 && ch <= 0xD7A3)   // 완성형 음절
+                || (ch >= 0x3131 && ch <= 0x318E); // 호환용 자모
+    }
+
+    private static void addHangulBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(String.valueOf(text.charAt(start)));
+            return;
+        }
+        for (int j = start; j < end - 1; j++) {
+            tokens.add(text.substring(j, j + 2));
+        }
+    }
+}
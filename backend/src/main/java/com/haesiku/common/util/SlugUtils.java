@@ -1,11 +1,14 @@
 package com.haesiku.common.util;
 
 import java.text.Normalizer;
-import java.util.regex.Pattern;
+import java.util.Locale;
 
 /**
  * 한글 제목을 URL-safe slug로 변환하는 유틸리티.
  * 한글 음절을 초성/중성/종성으로 분해하여 로마자로 변환한다.
+ * <p>
+ * 정규식·중간 문자열 없이 입력을 한 번만 훑으며 char 배열에 바로 쓴다.
+ * 한글 음절은 자모 표, 그 외 문자는 미리 계산한 변환 표(소문자화·발음 구별 기호 제거)로 처리한다.
  */
 public final class SlugUtils {
 
@@ -14,37 +17,62 @@ public final class SlugUtils {
 
     private static final int HANGUL_BASE = 0xAC00;
     private static final int HANGUL_END = 0xD7A3;
-    private static final int CHO_COUNT = 19;
     private static final int JUNG_COUNT = 21;
     private static final int JONG_COUNT = 28;
 
     // 초성 (19개)
-    private static final String[] CHO = {
+    private static final char[][] CHO = chars(
             "g", "kk", "n", "d", "tt", "r", "m", "b", "pp",
             "s", "ss", "", "j", "jj", "ch", "k", "t", "p", "h"
-    };
+    );
 
     // 중성 (21개)
-    private static final String[] JUNG = {
+    private static final char[][] JUNG = chars(
             "a", "ae", "ya", "yae", "eo", "e", "yeo", "ye",
             "o", "wa", "wae", "oe", "yo", "u", "wo", "we",
             "wi", "yu", "eu", "ui", "i"
-    };
+    );
 
     // 종성 (28개, 첫 번째는 종성 없음)
-    private static final String[] JONG = {
+    private static final char[][] JONG = chars(
             "", "k", "k", "k", "n", "n", "n", "t",
             "l", "l", "l", "l", "l", "l", "l", "l",
             "m", "p", "p", "s", "s", "ng", "j", "j",
             "ch", "k", "t", "p"
-    };
+    );
 
-    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9\\-]");
-    private static final Pattern MULTIPLE_HYPHENS = Pattern.compile("-{2,}");
+    /** 한 음절의 최대 로마자 길이 (kk + yae + ng) */
+    private static final int MAX_SYLLABLE_LENGTH = 7;
+
+    private static final char DROP = 0;
+    private static final char HYPHEN = '-';
+
+    /**
+     * 문자 → slug 문자 변환 표 (DROP이면 버린다, HYPHEN이면 구분자).
+     * NFD 분해 후 발음 구별 기호를 떼고 소문자로 바꿔 [a-z0-9]가 되는 문자는 라틴 블록(U+0000~U+024F,
+     * U+1E00~U+1EFF)과 켈빈·옹스트롬 기호(U+212A, U+212B)뿐이므로 이 범위만 표로 만들고 나머지는 버린다.
+     */
+    private static final char[] FOLD = new char[0x2150];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            FOLD[c] = c;
+            FOLD[Character.toUpperCase(c)] = c;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            FOLD[c] = c;
+        }
+        FOLD[' '] = HYPHEN;
+        FOLD['-'] = HYPHEN;
+        foldRange(0x0080, 0x024F);
+        foldRange(0x1E00, 0x1EFF);
+        foldRange(0x2100, 0x214F);
+    }
 
     /**
      * 제목 문자열을 URL slug로 변환한다.
      * 한글은 로마자로 변환하고, 영문/숫자는 그대로 유지한다.
+     * 공백·하이픈은 하나의 하이픈으로 합치고, 앞뒤 하이픈은 제거한다.
      *
      * @param input 변환할 문자열
      * @return URL-safe slug
@@ -54,46 +82,94 @@ public final class SlugUtils {
             return "";
         }
 
-        String romanized = romanize(input);
+        char[] out = new char[input.length() * MAX_SYLLABLE_LENGTH];
+        int length = 0;
+        boolean pendingHyphen = false;
 
-        String normalized = Normalizer.normalize(romanized, Normalizer.Form.NFD)
-                .replaceAll("[\\p{InCombiningDiacriticalMarks}]", "");
+        for (int i = 0; i < input.length(); i++) {
+            char ch = input.charAt(i);
 
-        String slug = normalized.toLowerCase()
-                .replace(' ', '-');
+            if (ch >= HANGUL_BASE && ch <= HANGUL_END) {
+                if (pendingHyphen) {
+                    out[length++] = HYPHEN;
+                    pendingHyphen = false;
+                }
+                length = appendSyllable(ch, out, length);
+                continue;
+            }
 
-        slug = NON_ALPHANUMERIC.matcher(slug).replaceAll("");
-        slug = MULTIPLE_HYPHENS.matcher(slug).replaceAll("-");
-        slug = slug.replaceAll("^-|-$", "");
+            char folded = ch < FOLD.length ? FOLD[ch] : DROP;
+            if (folded == HYPHEN) {
+                // 첫 글자 앞의 구분자는 버리고, 연속된 구분자는 다음 글자를 쓸 때 하나만 남긴다.
+                pendingHyphen = length > 0;
+            } else if (folded != DROP) {
+                if (pendingHyphen) {
+                    out[length++] = HYPHEN;
+                    pendingHyphen = false;
+                }
+                out[length++] = folded;
+            }
+        }
 
-        return slug;
+        return new String(out, 0, length);
     }
 
     /**
-     * 한글 문자열을 로마자로 변환한다.
+     * 한글 문자열을 로마자로 변환한다. (벤치마크에서 단독 측정하도록 package-private)
      */
-    private static String romanize(String input) {
-        StringBuilder sb = new StringBuilder();
+    static String romanize(String input) {
+        char[] out = new char[input.length() * MAX_SYLLABLE_LENGTH];
+        int length = 0;
 
         for (int i = 0; i < input.length(); i++) {
             char ch = input.charAt(i);
 
             if (ch >= HANGUL_BASE && ch <= HANGUL_END) {
-                int syllable = ch - HANGUL_BASE;
-                int choIndex = syllable / (JUNG_COUNT * JONG_COUNT);
-                int jungIndex = (syllable % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT;
-                int jongIndex = syllable % JONG_COUNT;
-
-                sb.append(CHO[choIndex]);
-                sb.append(JUNG[jungIndex]);
-                sb.append(JONG[jongIndex]);
+                length = appendSyllable(ch, out, length);
             } else if (ch == ' ') {
-                sb.append('-');
+                out[length++] = HYPHEN;
             } else {
-                sb.append(ch);
+                out[length++] = ch;
             }
         }
 
-        return sb.toString();
+        return new String(out, 0, length);
+    }
+
+    private static int appendSyllable(char ch, char[] out, int offset) {
+        int syllable = ch - HANGUL_BASE;
+        offset = append(CHO[syllable / (JUNG_COUNT * JONG_COUNT)], out, offset);
+        offset = append(JUNG[(syllable % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT], out, offset);
+        return append(JONG[syllable % JONG_COUNT], out, offset);
+    }
+
+    private static int append(char[] part, char[] out, int offset) {
+        System.arraycopy(part, 0, out, offset, part.length);
+        return offset + part.length;
+    }
+
+    private static void foldRange(int from, int to) {
+        for (int c = from; c <= to; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf((char) c), Normalizer.Form.NFD);
+            StringBuilder base = new StringBuilder();
+            for (int i = 0; i < decomposed.length(); i++) {
+                char d = decomposed.charAt(i);
+                if (Character.UnicodeBlock.of(d) != Character.UnicodeBlock.COMBINING_DIACRITICAL_MARKS) {
+                    base.append(d);
+                }
+            }
+            String lower = base.toString().toLowerCase(Locale.ROOT);
+            if (lower.length() == 1 && lower.charAt(0) < 0x80) {
+                FOLD[c] = FOLD[lower.charAt(0)];
+            }
+        }
+    }
+
+    private static char[][] chars(String... values) {
+        char[][] result = new char[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i].toCharArray();
+        }
+        return result;
     }
 }
@@ -0,0 +1,43 @@
+package com.haesiku.common.util;
+
+/**
+ * 토큰 버킷. capacity개까지 쌓이며 refillPeriod 동안 capacity개가 균등하게 다시 채워진다.
+ * 요청 경로에서 짧게 잠그는 계산뿐이므로 synchronized를 쓴다.
+ */
+public final class TokenBucket {
+
+    private final int capacity;
+    private final double nanosPerToken;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(int capacity, long refillPeriodNanos) {
+        this.capacity = capacity;
+        this.nanosPerToken = (double) refillPeriodNanos / capacity;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 하나를 꺼낸다.
+     *
+     * @return 성공하면 0, 토큰이 없으면 다음 토큰이 생길 때까지 남은 시간(ns)
+     */
+    public synchronized long tryConsume() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / nanosPerToken);
+        lastRefillNanos = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) * nanosPerToken);
+    }
+
+    /**
+     * {@link #tryConsume()}로 꺼낸 토큰 하나를 되돌린다. 함께 검사한 다른 버킷에서 거절되어 요청이 처리되지 않은 경우에 쓴다.
+     */
+    public synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+}
@@ -0,0 +1,169 @@
+package com.haesiku.common.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 조회 응답의 HTTP 검증자(ETag / Last-Modified)를 만들기 위한 도메인별 콘텐츠 버전.
+ * 버전은 도메인 목록이 읽는 테이블의 행 수와 최근 수정일시로 만들므로, 같은 DB를 보는 인스턴스는
+ * 어느 인스턴스가 쓰기를 받았든 같은 ETag를 낸다 (행 수는 삭제를, 수정일시는 추가·수정을 반영한다).
+ * <p>
+ * 테이블 상태는 blog.list-validator.refresh 동안 메모리에 두어 목록 요청마다 DB를 조회하지 않는다.
+ * 이 인스턴스의 쓰기는 커밋 후 도메인 이벤트 리스너가 {@link #bump}로 곧바로 반영하고,
+ * 다른 인스턴스의 쓰기는 늦어도 갱신 주기 안에 반영된다.
+ * 삭제는 최근 수정일시를 올리지 않으므로 Last-Modified보다 ETag가 우선하는 검증자다.
+ */
+@Component
+public class ContentVersionTracker {
+
+    public static final String POSTS = "posts";
+    public static final String REVIEWS = "reviews";
+    public static final String TAGS = "tags";
+    public static final String CATEGORIES = "categories";
+    /** 관련 게시글 목록. 게시글 변경 후 이웃 목록을 다시 계산해 저장했을 때 올린다. */
+    public static final String RELATED = "related";
+
+    /**
+     * 도메인별 목록 응답이 읽는 테이블. 게시글 목록에는 댓글 수가, 태그·카테고리에는 게시글 수가 들어가므로 함께 본다.
+     */
+    private static final Map<String, List<String>> TABLES = Map.of(
+            POSTS, List.of("posts", "comments"),
+            REVIEWS, List.of("reviews"),
+            TAGS, List.of("tags", "posts"),
+            CATEGORIES, List.of("categories", "posts"),
+            RELATED, List.of("post_related"));
+
+    private final JdbcTemplate jdbcTemplate;
+    /** 테이블 이름 → 행 수·최근 수정일시 */
+    private final Cache<String, TableState> states;
+
+    public ContentVersionTracker(JdbcTemplate jdbcTemplate,
+                                 @Value("${blog.list-validator.refresh:1s}") Duration refresh) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.states = Caffeine.newBuilder()
+                .expireAfterWrite(refresh)
+                .build();
+    }
+
+    /**
+     * 이 인스턴스에서 도메인이 바뀌었음을 알린다. 다음 검사에서 테이블 상태를 다시 읽는다.
+     */
+    public void bump(String... domains) {
+        for (String domain : domains) {
+            states.invalidateAll(tables(domain));
+        }
+    }
+
+    public String etag(String... domains) {
+        return etag(states(domains));
+    }
+
+    /**
+     * @return 도메인 테이블의 최근 수정일시 (epoch ms), 모두 비어 있으면 0
+     */
+    public long lastModified(String... domains) {
+        return lastModified(states(domains));
+    }
+
+    /**
+     * 도메인 버전으로 조건부 요청을 검사한다.
+     *
+     * @return true면 304 응답이 이미 준비된 것이므로 컨트롤러는 본문 없이 반환하면 된다.
+     */
+    public boolean checkNotModified(WebRequest webRequest, String... domains) {
+        Map<String, TableState> current = states(domains);
+        return checkNotModified(webRequest, etag(current), lastModified(current));
+    }
+
+    /**
+     * 주어진 검증자로 조건부 요청을 검사한다. 브라우저가 휴리스틱 캐시 대신 항상 재검증하도록
+     * Cache-Control: no-cache 를 함께 지정한다.
+     */
+    public boolean checkNotModified(WebRequest webRequest, String etag, long lastModifiedMillis) {
+        HttpServletResponse response = webRequest instanceof NativeWebRequest nativeRequest
+                ? nativeRequest.getNativeResponse(HttpServletResponse.class) : null;
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+        return webRequest.checkNotModified(etag, lastModifiedMillis);
+    }
+
+    private static String etag(Map<String, TableState> current) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (Map.Entry<String, TableState> entry : current.entrySet()) {
+            if (sb.length() > 1) {
+                sb.append('.');
+            }
+            sb.append(entry.getKey()).append('-').append(Long.toString(entry.getValue().count(), 36))
+                    .append('-').append(Long.toString(entry.getValue().updatedAtMicros(), 36));
+        }
+        return sb.append('"').toString();
+    }
+
+    private static long lastModified(Map<String, TableState> current) {
+        long latest = 0;
+        for (TableState state : current.values()) {
+            latest = Math.max(latest, state.updatedAtMicros() / 1000);
+        }
+        return latest;
+    }
+
+    /**
+     * @return 테이블 이름 → 상태 (도메인 순서). 메모리에 없는 테이블은 한 번의 쿼리로 함께 읽는다.
+     */
+    private Map<String, TableState> states(String... domains) {
+        Set<String> tables = tables(domains);
+        Map<String, TableState> loaded = states.getAll(tables, this::load);
+        Map<String, TableState> ordered = new LinkedHashMap<>();
+        tables.forEach(table -> ordered.put(table, loaded.get(table)));
+        return ordered;
+    }
+
+    private Map<String, TableState> load(Set<? extends String> tables) {
+        // 테이블 이름은 TABLES의 상수뿐이다.
+        String sql = tables.stream()
+                .map(table -> "SELECT '" + table + "', COUNT(*), MAX(updated_at) FROM " + table)
+                .collect(Collectors.joining(" UNION ALL "));
+        Map<String, TableState> loaded = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            Timestamp updatedAt = rs.getTimestamp(3);
+            // 같은 밀리초 안의 연속 수정도 구분하도록 마이크로초까지 쓴다.
+            loaded.put(rs.getString(1), new TableState(rs.getLong(2), updatedAt == null ? 0
+                    : updatedAt.getTime() / 1000 * 1_000_000 + updatedAt.getNanos() / 1000));
+        });
+        return loaded;
+    }
+
+    private static Set<String> tables(String... domains) {
+        Set<String> tables = new LinkedHashSet<>();
+        for (String domain : domains) {
+            List<String> domainTables = TABLES.get(domain);
+            if (domainTables == null) {
+                throw new IllegalArgumentException("알 수 없는 도메인: " + domain);
+            }
+            tables.addAll(domainTables);
+        }
+        return tables;
+    }
+
+    private record TableState(long count, long updatedAtMicros) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.haesiku.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 객체를 한 줄에 하나씩 JSON으로 내보내는 NDJSON 스트림 (application/x-ndjson).
+ * 여러 스레드에서 동시에 호출해도 줄이 섞이지 않는다.
+ */
+public class NdjsonEmitter extends ResponseBodyEmitter {
+
+    /** 이미 응답 헤더가 application/x-ndjson 으로 나간 뒤이므로 문자열 인코딩만 지정한다. */
+    private static final MediaType LINE_TYPE = new MediaType("text", "plain", StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public NdjsonEmitter(ObjectMapper objectMapper, Long timeoutMillis) {
+        super(timeoutMillis);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return 클라이언트 연결이 끊겨 보내지 못했으면 false
+     */
+    public boolean sendLine(Object value) {
+        // 소켓 쓰기 중 가상 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock을 쓴다.
+        lock.lock();
+        try {
+            send(objectMapper.writeValueAsString(value) + "\n", LINE_TYPE);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
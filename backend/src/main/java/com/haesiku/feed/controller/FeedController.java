@@ -0,0 +1,128 @@
+package com.haesiku.feed.controller;
+
+import com.haesiku.common.web.ContentVersionTracker;
+import com.haesiku.feed.dto.PrecomputedFeed;
+import com.haesiku.feed.service.FeedService;
+import com.haesiku.feed.service.SitemapWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * RSS·Atom 피드와 sitemap.xml. 사이트 루트 경로로 제공한다 (nginx가 /api 밖에서 이 세 경로만 백엔드로 넘긴다).
+ * 클라이언트가 gzip을 받으면 압축된 본문을 그대로 보내고, 아니면 풀어서 보낸다.
+ * 같은 내용이라도 인코딩마다 본문이 다르므로 gzip 응답의 ETag에는 접미어를 붙인다.
+ * 구독기마다 Accept 헤더가 제각각(text/xml 등)이므로 produces로 제한하지 않는다.
+ */
+@Tag(name = "Feed", description = "RSS/Atom 피드, sitemap API")
+@RestController
+@RequiredArgsConstructor
+public class FeedController {
+
+    private static final String RSS_CONTENT_TYPE = "application/rss+xml";
+    private static final String ATOM_CONTENT_TYPE = "application/atom+xml";
+    private static final String GZIP = "gzip";
+
+    private final FeedService feedService;
+    private final SitemapWriter sitemapWriter;
+    private final ContentVersionTracker contentVersionTracker;
+
+    @Operation(summary = "RSS 피드", description = "최신 발행 게시글 RSS 2.0 피드. 게시글이 발행·수정될 때만 다시 만들고 그 사이에는 미리 만든 본문을 보냅니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
+    @GetMapping("/rss.xml")
+    public void getRss(WebRequest webRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        writeFeed(feedService.getRss(), RSS_CONTENT_TYPE, webRequest, request, response);
+    }
+
+    @Operation(summary = "Atom 피드", description = "최신 발행 게시글 Atom 1.0 피드. 게시글이 발행·수정될 때만 다시 만들고 그 사이에는 미리 만든 본문을 보냅니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
+    @GetMapping("/atom.xml")
+    public void getAtom(WebRequest webRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        writeFeed(feedService.getAtom(), ATOM_CONTENT_TYPE, webRequest, request, response);
+    }
+
+    @Operation(summary = "sitemap", description = "고정 페이지, 발행된 게시글, 후기, 카테고리·태그 주소 목록. 청크 단위로 읽어 바로 스트리밍합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
+    @GetMapping("/sitemap.xml")
+    public void getSitemap(WebRequest webRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean gzip = acceptsGzip(request);
+        String[] domains = {ContentVersionTracker.POSTS, ContentVersionTracker.REVIEWS,
+                ContentVersionTracker.TAGS, ContentVersionTracker.CATEGORIES};
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (contentVersionTracker.checkNotModified(webRequest,
+                encodedEtag(contentVersionTracker.etag(domains), gzip), contentVersionTracker.lastModified(domains))) {
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_XML_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            try (GZIPOutputStream output = new GZIPOutputStream(response.getOutputStream(), 8192)) {
+                sitemapWriter.write(output);
+            }
+        } else {
+            sitemapWriter.write(response.getOutputStream());
+        }
+    }
+
+    private void writeFeed(PrecomputedFeed feed, String contentType, WebRequest webRequest,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean gzip = acceptsGzip(request);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (contentVersionTracker.checkNotModified(webRequest, encodedEtag(feed.etag(), gzip), feed.lastModified())) {
+            return;
+        }
+        response.setContentType(contentType);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream output = response.getOutputStream();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            response.setContentLength(feed.gzipped().length);
+            output.write(feed.gzipped());
+        } else {
+            try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(feed.gzipped()))) {
+                input.transferTo(output);
+            }
+        }
+    }
+
+    private static String encodedEtag(String etag, boolean gzip) {
+        return gzip ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag;
+    }
+
+    /**
+     * Accept-Encoding에 gzip(또는 *)이 있고 q=0으로 거부되지 않았는지 본다.
+     */
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (headers != null && headers.hasMoreElements()) {
+            for (String coding : headers.nextElement().split(",")) {
+                String[] parts = coding.split(";");
+                String name = parts[0].trim();
+                if (name.equalsIgnoreCase(GZIP) || name.equals("*")) {
+                    return parts.length < 2 || !parts[1].trim().matches("(?i)q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,11 @@
+package com.haesiku.feed.dto;
+
+/**
+ * 미리 만들어 둔 피드 문서.
+ *
+ * @param gzipped      gzip으로 압축한 XML 본문
+ * @param etag         압축 전 본문의 해시로 만든 강한 ETag. 내용이 같으면 다시 만들어도 같다.
+ * @param lastModified 내용이 마지막으로 바뀐 시각 (epoch ms)
+ */
+public record PrecomputedFeed(byte[] gzipped, String etag, long lastModified) {
+}
@@ -0,0 +1,15 @@
+package com.haesiku.feed.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * sitemap 항목용 게시글 projection. 주소(slug)와 수정일시만 읽는다.
+ */
+public interface SitemapEntryView {
+
+    Long getId();
+
+    String getSlug();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,278 @@
+package com.haesiku.feed.service;
+
+import com.haesiku.blog.dto.PostSummaryDto;
+import com.haesiku.blog.dto.TagResponseDto;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.event.PostChangedEvent;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.blog.service.PostSummaryAssembler;
+import com.haesiku.feed.dto.PrecomputedFeed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.util.UriUtils;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 최신 발행 게시글 N개의 RSS 2.0 / Atom 1.0 피드를 미리 만들어 gzip 바이트와 ETag로 들고 있다.
+ * 요청마다 DB를 읽지 않고, 공개 목록에 영향이 있는 게시글 변경(발행, 발행된 게시글의 수정·삭제)이 있을 때만 다시 만든다.
+ * 일괄 가져오기처럼 변경이 몰려도 한 번만 만들도록 변경 시에는 표시만 해 두고 다음 피드 요청에서 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String DC_NS = "http://purl.org/dc/elements/1.1/";
+
+    private final PostRepository postRepository;
+    private final PostSummaryAssembler postSummaryAssembler;
+
+    @Value("${feed.site-url:http://localhost:3000}")
+    private String siteUrl;
+
+    @Value("${feed.title:Haesiku Tech Blog}")
+    private String title;
+
+    @Value("${feed.description:}")
+    private String description;
+
+    @Value("${feed.size:20}")
+    private int size;
+
+    /** 변경 이벤트마다 올린다. 만들어 둔 피드의 버전과 다르면 다음 요청에서 다시 만든다. */
+    private final AtomicLong version = new AtomicLong();
+    private volatile Feeds feeds;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            current();
+        } catch (RuntimeException e) {
+            log.warn("피드 생성 실패, 첫 요청에서 다시 시도: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.published()) {
+            version.incrementAndGet();
+        }
+    }
+
+    public PrecomputedFeed getRss() {
+        return current().rss();
+    }
+
+    public PrecomputedFeed getAtom() {
+        return current().atom();
+    }
+
+    /**
+     * 최신 피드. 변경이 있었으면 한 스레드만 다시 만들고 나머지는 기다렸다가 같은 결과를 쓴다.
+     * 다시 만들다 실패하면 이전 피드가 있는 한 그것을 돌려주고 다음 요청에서 다시 시도한다.
+     */
+    private Feeds current() {
+        Feeds snapshot = feeds;
+        if (snapshot != null && snapshot.version() == version.get()) {
+            return snapshot;
+        }
+        lock.lock();
+        try {
+            snapshot = feeds;
+            long target = version.get();
+            if (snapshot != null && snapshot.version() == target) {
+                return snapshot;
+            }
+            try {
+                feeds = build(target, snapshot);
+            } catch (RuntimeException e) {
+                if (snapshot == null) {
+                    throw e;
+                }
+                log.warn("피드 갱신 실패, 이전 피드 사용: {}", e.getMessage());
+                return snapshot;
+            }
+            return feeds;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Feeds build(long target, Feeds previous) {
+        long start = System.currentTimeMillis();
+        // 조회 전에 버전을 읽었으므로 조회 도중 커밋된 변경은 다음 요청에서 한 번 더 반영된다.
+        Collection<PostSummaryDto> posts = postSummaryAssembler.assemble(
+                postRepository.findSummaryFeed(PostStatus.PUBLISHED, PageRequest.of(0, size))).values();
+        String base = siteUrl.replaceAll("/+$", "");
+        PrecomputedFeed rss = precompute(out -> writeRss(out, base, posts), previous == null ? null : previous.rss());
+        PrecomputedFeed atom = precompute(out -> writeAtom(out, base, posts), previous == null ? null : previous.atom());
+        log.debug("피드 생성: 게시글 {}개, {}ms", posts.size(), System.currentTimeMillis() - start);
+        return new Feeds(target, rss, atom);
+    }
+
+    private static PrecomputedFeed precompute(XmlStreams.Body body, PrecomputedFeed previous) {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(16 * 1024);
+        XmlStreams.write(raw, body);
+        byte[] xml = raw.toByteArray();
+        String etag = "\"" + DigestUtils.md5DigestAsHex(xml) + "\"";
+        if (previous != null && previous.etag().equals(etag)) {
+            // 게시글을 고쳤어도 피드에 나오는 내용이 같으면 검증자를 바꾸지 않아 구독기가 304를 계속 받는다.
+            return previous;
+        }
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream(xml.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(xml);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PrecomputedFeed(gzipped.toByteArray(), etag, System.currentTimeMillis());
+    }
+
+    private void writeRss(XMLStreamWriter xml, String base, Collection<PostSummaryDto> posts) throws XMLStreamException {
+        xml.writeStartElement("rss");
+        xml.writeAttribute("version", "2.0");
+        xml.writeNamespace("atom", ATOM_NS);
+        xml.writeNamespace("dc", DC_NS);
+        xml.writeStartElement("channel");
+        XmlStreams.element(xml, "title", title);
+        XmlStreams.element(xml, "link", base + "/");
+        XmlStreams.element(xml, "description", description.isBlank() ? title : description);
+        XmlStreams.element(xml, "language", "ko");
+        xml.writeEmptyElement("atom", "link", ATOM_NS);
+        xml.writeAttribute("href", base + "/rss.xml");
+        xml.writeAttribute("rel", "self");
+        xml.writeAttribute("type", "application/rss+xml");
+        if (!posts.isEmpty()) {
+            XmlStreams.element(xml, "lastBuildDate", rfc1123(latestUpdate(posts)));
+        }
+
+        for (PostSummaryDto post : posts) {
+            xml.writeStartElement("item");
+            XmlStreams.element(xml, "title", post.title());
+            XmlStreams.element(xml, "link", postUrl(base, post));
+            xml.writeStartElement("guid");
+            xml.writeAttribute("isPermaLink", "false");
+            xml.writeCharacters(entryId(post));
+            xml.writeEndElement();
+            XmlStreams.element(xml, "pubDate", rfc1123(publishedAt(post)));
+            XmlStreams.element(xml, "dc", DC_NS, "creator", post.author());
+            if (post.summary() != null) {
+                XmlStreams.element(xml, "description", post.summary());
+            }
+            if (post.category() != null) {
+                XmlStreams.element(xml, "category", post.category().name());
+            }
+            for (TagResponseDto tag : post.tags()) {
+                XmlStreams.element(xml, "category", tag.name());
+            }
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+        xml.writeEndElement();
+    }
+
+    private void writeAtom(XMLStreamWriter xml, String base, Collection<PostSummaryDto> posts) throws XMLStreamException {
+        xml.writeStartElement("feed");
+        xml.writeDefaultNamespace(ATOM_NS);
+        xml.writeAttribute("xml", "http://www.w3.org/XML/1998/namespace", "lang", "ko");
+        XmlStreams.element(xml, "title", title);
+        if (!description.isBlank()) {
+            XmlStreams.element(xml, "subtitle", description);
+        }
+        XmlStreams.element(xml, "id", base + "/");
+        atomLink(xml, base + "/", "alternate", "text/html");
+        atomLink(xml, base + "/atom.xml", "self", "application/atom+xml");
+        // updated는 필수 요소이므로 게시글이 없으면 epoch 시각을 쓴다.
+        XmlStreams.element(xml, "updated", posts.isEmpty()
+                ? DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(Instant.EPOCH.atOffset(ZoneOffset.UTC))
+                : rfc3339(latestUpdate(posts)));
+
+        for (PostSummaryDto post : posts) {
+            xml.writeStartElement("entry");
+            XmlStreams.element(xml, "title", post.title());
+            atomLink(xml, postUrl(base, post), "alternate", "text/html");
+            XmlStreams.element(xml, "id", entryId(post));
+            XmlStreams.element(xml, "published", rfc3339(publishedAt(post)));
+            XmlStreams.element(xml, "updated", rfc3339(post.updatedAt()));
+            xml.writeStartElement("author");
+            XmlStreams.element(xml, "name", post.author());
+            xml.writeEndElement();
+            if (post.summary() != null) {
+                XmlStreams.element(xml, "summary", post.summary());
+            }
+            if (post.category() != null) {
+                atomCategory(xml, post.category().slug(), post.category().name());
+            }
+            for (TagResponseDto tag : post.tags()) {
+                atomCategory(xml, tag.slug(), tag.name());
+            }
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+    }
+
+    private static void atomLink(XMLStreamWriter xml, String href, String rel, String type) throws XMLStreamException {
+        xml.writeEmptyElement("link");
+        xml.writeAttribute("rel", rel);
+        xml.writeAttribute("type", type);
+        xml.writeAttribute("href", href);
+    }
+
+    private static void atomCategory(XMLStreamWriter xml, String term, String label) throws XMLStreamException {
+        xml.writeEmptyElement("category");
+        xml.writeAttribute("term", XmlStreams.clean(term));
+        xml.writeAttribute("label", XmlStreams.clean(label));
+    }
+
+    /** slug가 바뀌어도 구독기가 같은 글로 알아보도록 게시글 id로 만든다. */
+    private static String entryId(PostSummaryDto post) {
+        return "urn:haesiku:post:" + post.id();
+    }
+
+    private static String postUrl(String base, PostSummaryDto post) {
+        return base + "/posts/" + UriUtils.encodePathSegment(post.slug(), StandardCharsets.UTF_8);
+    }
+
+    private static LocalDateTime publishedAt(PostSummaryDto post) {
+        return post.publishedAt() != null ? post.publishedAt() : post.createdAt();
+    }
+
+    private static LocalDateTime latestUpdate(Collection<PostSummaryDto> posts) {
+        return posts.stream().map(PostSummaryDto::updatedAt).max(LocalDateTime::compareTo).orElseThrow();
+    }
+
+    private static String rfc1123(LocalDateTime time) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(time.atZone(ZoneId.systemDefault()));
+    }
+
+    private static String rfc3339(LocalDateTime time) {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(time.atZone(ZoneId.systemDefault()).withNano(0));
+    }
+
+    private record Feeds(long version, PrecomputedFeed rss, PrecomputedFeed atom) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.haesiku.feed.service;
+
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.repository.CategoryRepository;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.blog.repository.TagRepository;
+import com.haesiku.common.dto.VersionView;
+import com.haesiku.feed.dto.SitemapEntryView;
+import com.haesiku.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * sitemap.xml을 StAX로 응답 스트림에 바로 쓴다. 게시글·후기는 id 키셋으로 청크 단위로 읽어 쓰므로
+ * 게시글 수와 관계없이 한 청크만 메모리에 둔다. 청크마다 따로 조회하므로 긴 트랜잭션을 열지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SitemapWriter {
+
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    /** sitemap 한 파일에 넣을 수 있는 최대 URL 수 (sitemaps.org 프로토콜) */
+    private static final int MAX_URLS = 50_000;
+    private static final int CHUNK_SIZE = 1000;
+    private static final List<String> STATIC_PATHS = List.of("/", "/posts", "/reviews", "/about");
+
+    private final PostRepository postRepository;
+    private final ReviewRepository reviewRepository;
+    private final TagRepository tagRepository;
+    private final CategoryRepository categoryRepository;
+
+    @Value("${feed.site-url:http://localhost:3000}")
+    private String siteUrl;
+
+    /**
+     * 고정 페이지, 발행된 게시글, 후기, 게시글이 있는 카테고리·태그 순으로 쓴다. 출력 스트림은 닫지 않는다.
+     */
+    public void write(OutputStream output) {
+        XmlStreams.write(output, xml -> {
+            xml.setDefaultNamespace(SITEMAP_NS);
+            xml.writeStartElement("urlset");
+            xml.writeDefaultNamespace(SITEMAP_NS);
+            writeUrls(new UrlWriter(xml, siteUrl.replaceAll("/+$", "")));
+            xml.writeEndElement();
+        });
+    }
+
+    private void writeUrls(UrlWriter urls) throws XMLStreamException {
+        for (String path : STATIC_PATHS) {
+            urls.write(path, null);
+        }
+
+        long after = 0;
+        List<SitemapEntryView> posts;
+        while (!urls.full() && !(posts = postRepository.findSitemapEntriesAfter(PostStatus.PUBLISHED, after,
+                PageRequest.of(0, CHUNK_SIZE))).isEmpty()) {
+            for (SitemapEntryView post : posts) {
+                urls.write("/posts/" + encode(post.getSlug()), post.getUpdatedAt());
+            }
+            after = posts.get(posts.size() - 1).getId();
+        }
+
+        after = 0;
+        List<VersionView> reviews;
+        while (!urls.full()
+                && !(reviews = reviewRepository.findVersionsAfter(after, PageRequest.of(0, CHUNK_SIZE))).isEmpty()) {
+            for (VersionView review : reviews) {
+                urls.write("/reviews/" + review.getId(), review.getUpdatedAt());
+            }
+            after = reviews.get(reviews.size() - 1).getId();
+        }
+
+        for (String slug : categoryRepository.findSlugsWithPosts()) {
+            urls.write("/categories/" + encode(slug), null);
+        }
+        for (String slug : tagRepository.findSlugsWithPosts()) {
+            urls.write("/tags/" + encode(slug), null);
+        }
+
+        if (urls.full()) {
+            log.warn("sitemap URL 수 제한({})에 도달해 이후 URL은 넣지 않았습니다", MAX_URLS);
+        }
+    }
+
+    private static String encode(String slug) {
+        return UriUtils.encodePathSegment(slug, StandardCharsets.UTF_8);
+    }
+
+    private static final class UrlWriter {
+
+        private final XMLStreamWriter xml;
+        private final String base;
+        private int written;
+
+        private UrlWriter(XMLStreamWriter xml, String base) {
+            this.xml = xml;
+            this.base = base;
+        }
+
+        void write(String path, LocalDateTime lastModified) throws XMLStreamException {
+            if (full()) {
+                return;
+            }
+            xml.writeStartElement("url");
+            XmlStreams.element(xml, "loc", base + path);
+            if (lastModified != null) {
+                XmlStreams.element(xml, "lastmod", DateTimeFormatter.ISO_OFFSET_DATE_TIME
+                        .format(lastModified.atZone(ZoneId.systemDefault()).withNano(0)));
+            }
+            xml.writeEndElement();
+            written++;
+        }
+
+        boolean full() {
+            return written >= MAX_URLS;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.haesiku.feed.service;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * StAX(XMLStreamWriter)로 XML 문서를 출력 스트림에 바로 쓰는 도우미. 문서 전체를 메모리에 만들지 않는다.
+ */
+final class XmlStreams {
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private XmlStreams() {
+    }
+
+    /**
+     * XML 선언부터 문서 끝까지 쓴다. 출력 스트림은 닫지 않는다.
+     */
+    static void write(OutputStream output, Body body) {
+        try {
+            XMLStreamWriter xml = OUTPUT_FACTORY.createXMLStreamWriter(output, StandardCharsets.UTF_8.name());
+            xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            body.write(xml);
+            xml.writeEndDocument();
+            xml.flush();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("XML 문서 생성 실패", e);
+        }
+    }
+
+    static void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(clean(text));
+        xml.writeEndElement();
+    }
+
+    static void element(XMLStreamWriter xml, String prefix, String namespaceUri, String name, String text)
+            throws XMLStreamException {
+        xml.writeStartElement(prefix, name, namespaceUri);
+        xml.writeCharacters(clean(text));
+        xml.writeEndElement();
+    }
+
+    /**
+     * XML 1.0에 쓸 수 없는 제어 문자를 뺀다. writeCharacters는 &amp;·&lt; 같은 문자만 이스케이프하고
+     * 이런 문자는 그대로 써서 구독기가 문서 전체를 읽지 못하게 된다.
+     */
+    static String clean(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean allowed = c >= 0x20 ? c != 0xFFFE && c != 0xFFFF : c == '\t' || c == '\n' || c == '\r';
+            if (!allowed && sb == null) {
+                sb = new StringBuilder(text.length()).append(text, 0, i);
+            } else if (allowed && sb != null) {
+                sb.append(c);
+            }
+        }
+        return sb == null ? text : sb.toString();
+    }
+
+    @FunctionalInterface
+    interface Body {
+
+        void write(XMLStreamWriter xml) throws XMLStreamException;
+    }
+}
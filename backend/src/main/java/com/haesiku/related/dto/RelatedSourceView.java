@@ -0,0 +1,13 @@
+package com.haesiku.related.dto;
+
+/**
+ * 관련 게시글 계산에 쓰는 게시글 텍스트. 본문(content)은 읽지 않는다.
+ */
+public interface RelatedSourceView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getSummary();
+}
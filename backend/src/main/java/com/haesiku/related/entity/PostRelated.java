@@ -0,0 +1,54 @@
+package com.haesiku.related.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 관련 게시글 상위 K개. 기본 키 (post_id, rank) 범위 한 번으로 순서대로 읽힌다.
+ * 쓰기는 RelatedPostEngine이 JDBC 배치로 하며, 이 엔티티는 테이블 정의와 조회 쿼리에만 쓴다.
+ * 게시글이 삭제되어도 행은 남을 수 있으므로 조회 시 posts와 조인해 걸러낸다.
+ */
+@Entity
+@Table(name = "post_related", indexes = {
+        @Index(name = "idx_post_related_related_id", columnList = "related_id")
+})
+@IdClass(PostRelated.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostRelated {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    /** 0부터 시작하는 순위 */
+    @Id
+    @Column(name = "rank")
+    private Short rank;
+
+    @Column(name = "related_id", nullable = false)
+    private Long relatedId;
+
+    @Column(nullable = false)
+    private Float score;
+
+    /** 순위 행을 저장한 시각. 관련 게시글 목록의 HTTP 검증자에 쓴다. */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long postId;
+        private Short rank;
+    }
+}
@@ -0,0 +1,187 @@
+package com.haesiku.related.index;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관련 게시글 계산용 메모리 모델. 발행된 게시글마다 태그 집합과 제목·요약 토큰 빈도를 들고,
+ * 태그 Jaccard 유사도와 TF-IDF 코사인 유사도의 가중합으로 상위 K개 이웃을 구한다.
+ * 태그·토큰별 역색인으로 겹치는 것이 하나라도 있는 게시글만 후보로 삼는다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 한 번에 한 스레드만 쓰도록 한다.
+ */
+public final class SimilarityModel {
+
+    /** 이보다 게시글이 많으면 DOC_RATIO_CUTOFF 비율 넘게 등장하는 토큰을 불용어로 보고 무시한다. */
+    private static final int MIN_DOCS_FOR_CUTOFF = 50;
+    private static final double DOC_RATIO_CUTOFF = 0.3;
+
+    private final double tagWeight;
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> termPostings = new HashMap<>();
+    private final Map<String, Set<Long>> tagPostings = new HashMap<>();
+    /** 게시글별 TF-IDF 벡터 크기. 문서 빈도가 바뀌면 모두 달라지므로 모델이 바뀔 때 비운다. */
+    private final Map<Long, Double> norms = new HashMap<>();
+
+    /**
+     * @param tagWeight 태그 유사도 가중치 (0~1). 나머지는 본문(제목·요약) 유사도에 준다.
+     */
+    public SimilarityModel(double tagWeight) {
+        if (tagWeight < 0 || tagWeight > 1) {
+            throw new IllegalArgumentException("tagWeight must be between 0 and 1: " + tagWeight);
+        }
+        this.tagWeight = tagWeight;
+    }
+
+    /**
+     * 게시글을 추가하거나, 이미 있으면 교체한다.
+     *
+     * @param termFreqs 제목·요약 토큰별 등장 횟수
+     */
+    public void put(long postId, Set<String> tagSlugs, Map<String, Integer> termFreqs) {
+        remove(postId);
+        Document document = new Document(Set.copyOf(tagSlugs), Map.copyOf(termFreqs));
+        documents.put(postId, document);
+        document.termFreqs().forEach((term, freq) ->
+                termPostings.computeIfAbsent(term, t -> new HashMap<>()).put(postId, freq));
+        for (String tagSlug : document.tagSlugs()) {
+            tagPostings.computeIfAbsent(tagSlug, t -> new HashSet<>()).add(postId);
+        }
+        norms.clear();
+    }
+
+    public boolean remove(long postId) {
+        Document document = documents.remove(postId);
+        if (document == null) {
+            return false;
+        }
+        for (String term : document.termFreqs().keySet()) {
+            Map<Long, Integer> postings = termPostings.get(term);
+            postings.remove(postId);
+            if (postings.isEmpty()) {
+                termPostings.remove(term);
+            }
+        }
+        for (String tagSlug : document.tagSlugs()) {
+            Set<Long> postings = tagPostings.get(tagSlug);
+            postings.remove(postId);
+            if (postings.isEmpty()) {
+                tagPostings.remove(tagSlug);
+            }
+        }
+        norms.clear();
+        return true;
+    }
+
+    public boolean contains(long postId) {
+        return documents.containsKey(postId);
+    }
+
+    public Collection<Long> postIds() {
+        return documents.keySet();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * 게시글과 겹치는 태그·토큰이 있는 모든 게시글의 유사도. 이웃 목록을 다시 계산해야 하는 게시글을 고를 때도 쓴다.
+     *
+     * @return 게시글 id → 유사도 (0 초과만, 자기 자신 제외)
+     */
+    public Map<Long, Double> scores(long postId) {
+        Document target = documents.get(postId);
+        if (target == null) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> sharedTags = new HashMap<>();
+        for (String tagSlug : target.tagSlugs()) {
+            for (Long other : tagPostings.get(tagSlug)) {
+                sharedTags.merge(other, 1, Integer::sum);
+            }
+        }
+
+        Map<Long, Double> dots = new HashMap<>();
+        target.termFreqs().forEach((term, freq) -> {
+            Map<Long, Integer> postings = termPostings.get(term);
+            if (isStopTerm(postings.size())) {
+                return;
+            }
+            double idf = idf(postings.size());
+            double weight = tf(freq) * idf;
+            postings.forEach((other, otherFreq) -> dots.merge(other, weight * tf(otherFreq) * idf, Double::sum));
+        });
+
+        double targetNorm = norm(postId);
+        Map<Long, Double> scores = new HashMap<>();
+        sharedTags.forEach((other, shared) -> {
+            int union = target.tagSlugs().size() + documents.get(other).tagSlugs().size() - shared;
+            scores.put(other, tagWeight * shared / union);
+        });
+        dots.forEach((other, dot) -> {
+            double cosine = targetNorm == 0 ? 0 : dot / (targetNorm * norm(other));
+            scores.merge(other, (1 - tagWeight) * cosine, Double::sum);
+        });
+        scores.remove(postId);
+        scores.values().removeIf(score -> score <= 0);
+        return scores;
+    }
+
+    /**
+     * @return 유사도가 높은 순 (같으면 최신 게시글, 즉 id가 큰 순)으로 최대 k개
+     */
+    public List<Neighbor> topK(long postId, int k) {
+        return top(scores(postId), k);
+    }
+
+    public static List<Neighbor> top(Map<Long, Double> scores, int k) {
+        return scores.entrySet().stream()
+                .map(entry -> new Neighbor(entry.getKey(), entry.getValue()))
+                .sorted(Neighbor.ORDER)
+                .limit(k)
+                .toList();
+    }
+
+    private double norm(long postId) {
+        return norms.computeIfAbsent(postId, id -> {
+            double sum = 0;
+            for (Map.Entry<String, Integer> entry : documents.get(id).termFreqs().entrySet()) {
+                int docFreq = termPostings.get(entry.getKey()).size();
+                if (!isStopTerm(docFreq)) {
+                    double weight = tf(entry.getValue()) * idf(docFreq);
+                    sum += weight * weight;
+                }
+            }
+            return Math.sqrt(sum);
+        });
+    }
+
+    private boolean isStopTerm(int docFreq) {
+        return documents.size() >= MIN_DOCS_FOR_CUTOFF && docFreq > documents.size() * DOC_RATIO_CUTOFF;
+    }
+
+    private static double tf(int freq) {
+        return 1 + Math.log(freq);
+    }
+
+    /** 평활화한 IDF. 모든 게시글에 등장해도 0이 되지 않는다. */
+    private double idf(int docFreq) {
+        return Math.log((1.0 + documents.size()) / (1.0 + docFreq)) + 1;
+    }
+
+    public record Neighbor(long postId, double score) {
+
+        static final Comparator<Neighbor> ORDER = Comparator.comparingDouble(Neighbor::score).reversed()
+                .thenComparing(Comparator.comparingLong(Neighbor::postId).reversed());
+    }
+
+    private record Document(Set<String> tagSlugs, Map<String, Integer> termFreqs) {
+    }
+}
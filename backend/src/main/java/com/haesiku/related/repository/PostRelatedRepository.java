@@ -0,0 +1,27 @@
+package com.haesiku.related.repository;
+
+import com.haesiku.blog.dto.PostSummaryView;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.related.dto.RelatedSourceView;
+import com.haesiku.related.entity.PostRelated;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostRelatedRepository extends JpaRepository<PostRelated, PostRelated.Key> {
+
+    /**
+     * 관련 게시글 목록 항목 (순위순). post_related 기본 키 범위와 posts 기본 키 조인만 쓰며, 발행되지 않았거나 삭제된 게시글은 빠진다.
+     */
+    @Query(PostRepository.SUMMARY_COLUMNS + "FROM PostRelated r JOIN Post p ON p.id = r.relatedId LEFT JOIN p.category c " +
+            "WHERE r.postId = :postId AND p.status = :status ORDER BY r.rank")
+    List<PostSummaryView> findRelatedSummaries(@Param("postId") Long postId, @Param("status") PostStatus status);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.summary AS summary FROM Post p " +
+            "WHERE p.id IN :ids AND p.status = :status")
+    List<RelatedSourceView> findSourcesByIds(@Param("ids") Collection<Long> ids, @Param("status") PostStatus status);
+}
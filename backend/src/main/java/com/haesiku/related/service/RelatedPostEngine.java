@@ -0,0 +1,253 @@
+package com.haesiku.related.service;
+
+import com.haesiku.blog.dto.PostTagView;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.event.PostChangedEvent;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.common.util.SearchTokenizer;
+import com.haesiku.common.web.ContentVersionTracker;
+import com.haesiku.related.dto.RelatedSourceView;
+import com.haesiku.related.index.SimilarityModel;
+import com.haesiku.related.index.SimilarityModel.Neighbor;
+import com.haesiku.related.repository.PostRelatedRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 발행된 게시글마다 관련 게시글 상위 K개를 미리 계산해 post_related에 저장한다.
+ * 기동 시 전체를 계산해 저장된 목록과 달라진 게시글만 쓰고, 이후에는 {@link PostChangedEvent}로 바뀐 게시글을 모아 두었다가
+ * 주기적으로 그 게시글과 이웃 목록이 영향을 받는 게시글만 다시 계산한다.
+ * 새 게시글로 문서 빈도가 조금씩 바뀌는 것은 영향받지 않은 게시글에 다음 기동 때 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedPostEngine {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    // 필드별 가중치: 토큰 빈도에 곱한다.
+    private static final int TITLE_WEIGHT = 2;
+    private static final int SUMMARY_WEIGHT = 1;
+
+    private static final String SELECT_ALL_SQL = "SELECT post_id, related_id FROM post_related ORDER BY post_id, rank";
+    // 여러 인스턴스가 같은 게시글을 동시에 써도 키 충돌이 나지 않도록 DELETE 후 INSERT 대신 순위별 upsert 후 남는 순위를 지운다.
+    private static final String UPSERT_SQL = "INSERT INTO post_related (post_id, rank, related_id, score, updated_at) " +
+            "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP) ON CONFLICT (post_id, rank) DO UPDATE SET " +
+            "related_id = EXCLUDED.related_id, score = EXCLUDED.score, updated_at = EXCLUDED.updated_at";
+    private static final String TRIM_SQL = "DELETE FROM post_related WHERE post_id = ? AND rank >= ?";
+
+    private final PostRepository postRepository;
+    private final PostRelatedRepository postRelatedRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ContentVersionTracker contentVersionTracker;
+
+    @Value("${related.top-k:5}")
+    private int topK;
+
+    @Value("${related.tag-weight:0.5}")
+    private double tagWeight;
+
+    /** 계산 모델과 이웃 목록은 lock을 잡은 스레드만 읽고 쓴다. */
+    private SimilarityModel model;
+    /** 게시글별 현재 이웃 목록 (post_related에 저장된 것과 같다) */
+    private final Map<Long, List<Neighbor>> neighbors = new HashMap<>();
+
+    /** 다음 refresh에서 다시 계산할 게시글 */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+    // 계산 중 DB를 읽으므로 가상 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock을 쓴다.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 발행된 게시글 전체로 모델을 새로 만들고 모든 이웃 목록을 다시 계산한다. 저장된 목록과 다른 게시글만 쓴다.
+     * 계산 중에 바뀐 게시글은 pending에 남아 다음 refresh에서 다시 반영된다.
+     */
+    public void rebuild() {
+        lock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            SimilarityModel fresh = new SimilarityModel(tagWeight);
+            long after = 0;
+            List<Long> ids;
+            while (!(ids = postRepository.findIdsAfter(after, PageRequest.of(0, REBUILD_CHUNK_SIZE))).isEmpty()) {
+                load(fresh, ids);
+                after = ids.get(ids.size() - 1);
+            }
+
+            Map<Long, List<Neighbor>> computed = new HashMap<>();
+            for (Long postId : fresh.postIds()) {
+                List<Neighbor> top = fresh.topK(postId, topK);
+                if (!top.isEmpty()) {
+                    computed.put(postId, top);
+                }
+            }
+
+            Map<Long, List<Long>> stored = new HashMap<>();
+            jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+                stored.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2));
+            });
+            Set<Long> changed = new HashSet<>(stored.keySet());
+            changed.addAll(computed.keySet());
+            changed.removeIf(postId -> relatedIds(computed.get(postId)).equals(stored.getOrDefault(postId, List.of())));
+            write(changed, computed);
+
+            model = fresh;
+            neighbors.clear();
+            neighbors.putAll(computed);
+            ready = true;
+            log.info("관련 게시글 계산 완료: 게시글 {}개, 목록 {}개 중 {}개 갱신, {}ms",
+                    fresh.size(), computed.size(), changed.size(), System.currentTimeMillis() - start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        pending.add(event.postId());
+    }
+
+    /**
+     * 모아 둔 변경 게시글을 반영한다. 다시 계산하는 게시글은 변경된 게시글 자신, 변경된 게시글을 이웃으로 두던 게시글,
+     * 변경된 게시글이 새로 상위 K개에 들어갈 수 있는 게시글뿐이다.
+     */
+    @Scheduled(fixedDelayString = "${related.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (!ready || pending.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        Set<Long> changed = new HashSet<>(pending);
+        pending.removeAll(changed);
+        try {
+            Set<Long> affected = new HashSet<>(changed);
+            neighbors.forEach((postId, list) -> {
+                if (list.stream().anyMatch(neighbor -> changed.contains(neighbor.postId()))) {
+                    affected.add(postId);
+                }
+            });
+
+            changed.forEach(model::remove);
+            for (Long postId : load(model, changed)) {
+                model.scores(postId).forEach((other, score) -> {
+                    List<Neighbor> current = neighbors.getOrDefault(other, List.of());
+                    if (current.size() < topK || score > current.get(current.size() - 1).score()) {
+                        affected.add(other);
+                    }
+                });
+            }
+
+            Map<Long, List<Neighbor>> computed = new HashMap<>();
+            Set<Long> updated = new HashSet<>();
+            for (Long postId : affected) {
+                List<Neighbor> top = model.topK(postId, topK);
+                computed.put(postId, top);
+                if (!relatedIds(top).equals(relatedIds(neighbors.get(postId)))) {
+                    updated.add(postId);
+                }
+            }
+            write(updated, computed);
+
+            computed.forEach((postId, top) -> {
+                if (top.isEmpty()) {
+                    neighbors.remove(postId);
+                } else {
+                    neighbors.put(postId, top);
+                }
+            });
+            log.debug("관련 게시글 갱신: 변경 {}개, 재계산 {}개, 저장 {}개", changed.size(), affected.size(), updated.size());
+        } catch (RuntimeException e) {
+            // 모델은 이미 바뀌었을 수 있지만 같은 게시글을 다시 넣으면 결과가 같으므로 다음 주기에 그대로 재시도한다.
+            pending.addAll(changed);
+            log.warn("관련 게시글 갱신 실패, 다음 주기에 재시도: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 발행된 게시글만 모델에 넣는다.
+     *
+     * @return 모델에 넣은 게시글 id
+     */
+    private Set<Long> load(SimilarityModel target, Collection<Long> ids) {
+        List<RelatedSourceView> sources = postRelatedRepository.findSourcesByIds(ids, PostStatus.PUBLISHED);
+        if (sources.isEmpty()) {
+            return Set.of();
+        }
+        Map<Long, Set<String>> tagSlugs = postRepository.findTagsByPostIds(
+                        sources.stream().map(RelatedSourceView::getId).toList()).stream()
+                .collect(Collectors.groupingBy(PostTagView::getPostId,
+                        Collectors.mapping(PostTagView::getSlug, Collectors.toSet())));
+        Set<Long> loaded = new HashSet<>();
+        for (RelatedSourceView source : sources) {
+            target.put(source.getId(), tagSlugs.getOrDefault(source.getId(), Set.of()), termFreqs(source));
+            loaded.add(source.getId());
+        }
+        return loaded;
+    }
+
+    private static Map<String, Integer> termFreqs(RelatedSourceView source) {
+        Map<String, Integer> freqs = new HashMap<>();
+        for (String token : SearchTokenizer.tokenize(source.getTitle())) {
+            freqs.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : SearchTokenizer.tokenize(source.getSummary())) {
+            freqs.merge(token, SUMMARY_WEIGHT, Integer::sum);
+        }
+        return freqs;
+    }
+
+    private void write(Collection<Long> postIds, Map<Long, List<Neighbor>> lists) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> trims = new ArrayList<>();
+        // 여러 인스턴스가 동시에 쓸 때 데드락을 피하도록 id 순서로 갱신한다.
+        postIds.stream().sorted().forEach(postId -> {
+            List<Neighbor> list = lists.getOrDefault(postId, List.of());
+            for (int rank = 0; rank < list.size(); rank++) {
+                Neighbor neighbor = list.get(rank);
+                upserts.add(new Object[]{postId, (short) rank, neighbor.postId(), (float) neighbor.score()});
+            }
+            trims.add(new Object[]{postId, (short) list.size()});
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+            jdbcTemplate.batchUpdate(TRIM_SQL, trims);
+        });
+        contentVersionTracker.bump(ContentVersionTracker.RELATED);
+    }
+
+    private static List<Long> relatedIds(List<Neighbor> list) {
+        return list == null ? List.of() : list.stream().map(Neighbor::postId).toList();
+    }
+}
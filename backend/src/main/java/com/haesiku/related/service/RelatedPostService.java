@@ -0,0 +1,28 @@
+package com.haesiku.related.service;
+
+import com.haesiku.blog.dto.PostSummaryDto;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.service.PostSummaryAssembler;
+import com.haesiku.related.repository.PostRelatedRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RelatedPostService {
+
+    private final PostRelatedRepository postRelatedRepository;
+    private final PostSummaryAssembler postSummaryAssembler;
+
+    /**
+     * 미리 계산된 관련 게시글 (관련도 순). 목록은 post_related 기본 키 범위 조회 한 번으로 읽고, 태그만 일괄 조회로 붙인다.
+     */
+    public List<PostSummaryDto> getRelatedPosts(Long postId) {
+        return List.copyOf(postSummaryAssembler.assemble(
+                postRelatedRepository.findRelatedSummaries(postId, PostStatus.PUBLISHED)).values());
+    }
+}
@@ -1,13 +1,22 @@
 package com.haesiku.review.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.haesiku.review.dto.BookInfoDto;
+import com.haesiku.common.dto.CursorPageResponseDto;
+import com.haesiku.common.dto.EntityVersion;
 import com.haesiku.common.dto.ErrorResponseDto;
 import com.haesiku.common.dto.PageResponseDto;
+import com.haesiku.common.web.ContentVersionTracker;
+import com.haesiku.common.web.NdjsonEmitter;
+import com.haesiku.review.dto.IsbnBatchRequestDto;
+import com.haesiku.review.dto.IsbnLookupResultDto;
 import com.haesiku.review.dto.ReviewRequestDto;
 import com.haesiku.review.dto.ReviewResponseDto;
 import com.haesiku.review.entity.ReviewType;
 import com.haesiku.review.service.BookLookupService;
 import com.haesiku.review.service.ReviewService;
+import com.haesiku.search.dto.SearchHitDto;
+import com.haesiku.search.service.SearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,12 +27,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "Reviews", description = "책/강의 후기 API")
 @RestController
@@ -33,6 +49,12 @@ public class ReviewController {
 
     private final ReviewService reviewService;
     private final BookLookupService bookLookupService;
+    private final SearchService searchService;
+    private final ContentVersionTracker contentVersionTracker;
+    private final ObjectMapper objectMapper;
+
+    @Value("${book.lookup.batch.stream-timeout:10m}")
+    private Duration batchStreamTimeout;
 
     @Operation(summary = "후기 생성", description = "새 책/강의 후기를 생성합니다.")
     @ApiResponses({
@@ -92,12 +114,18 @@ public class ReviewController {
     @Operation(summary = "후기 상세 조회", description = "ID로 후기를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "후기 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "404", description = "후기를 찾을 수 없음",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
     })
     @GetMapping("/{id}")
     public ResponseEntity<ReviewResponseDto> getReview(
-            @Parameter(description = "후기 ID", example = "1") @PathVariable Long id) {
+            @Parameter(description = "후기 ID", example = "1") @PathVariable Long id,
+            WebRequest webRequest) {
+        EntityVersion version = reviewService.getReviewVersion(id);
+        if (contentVersionTracker.checkNotModified(webRequest, version.etag(), version.lastModified())) {
+            return null;
+        }
         return ResponseEntity.ok(reviewService.getReview(id));
     }
 
@@ -106,31 +134,61 @@ public class ReviewController {
     @GetMapping
     public ResponseEntity<PageResponseDto<ReviewResponseDto>> getAllReviews(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
+            Pageable pageable,
+            WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.REVIEWS)) {
+            return null;
+        }
         return ResponseEntity.ok(PageResponseDto.from(reviewService.getAllReviews(pageable)));
     }
 
+    @Operation(summary = "후기 피드 (커서)",
+            description = "후기를 최신순으로 커서 기반 조회합니다. 응답의 nextCursor를 after로 넘기면 다음 페이지를 조회하며, 전체 개수는 세지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "후기 피드 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponseDto<ReviewResponseDto>> getReviewFeed(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String after,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "10") @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.REVIEWS)) {
+            return null;
+        }
+        return ResponseEntity.ok(reviewService.getReviewFeed(after, size));
+    }
+
     @Operation(summary = "유형별 후기 목록", description = "BOOK 또는 COURSE 유형별로 후기를 조회합니다.")
     @ApiResponse(responseCode = "200", description = "후기 목록 조회 성공")
     @GetMapping("/type/{reviewType}")
     public ResponseEntity<PageResponseDto<ReviewResponseDto>> getReviewsByType(
             @Parameter(description = "후기 유형 (BOOK | COURSE)", example = "BOOK") @PathVariable ReviewType reviewType,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
+            Pageable pageable,
+            WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.REVIEWS)) {
+            return null;
+        }
         return ResponseEntity.ok(PageResponseDto.from(reviewService.getReviewsByType(reviewType, pageable)));
     }
 
-    @Operation(summary = "후기 검색", description = "제목 또는 내용에 키워드가 포함된 후기를 검색합니다.")
+    @Operation(summary = "후기 검색",
+            description = "제목·책/강의 정보·본문을 전문 검색합니다. 결과는 관련도 순이며 검색어가 강조된 미리보기를 포함합니다.")
     @ApiResponse(responseCode = "200", description = "검색 결과 조회 성공")
     @GetMapping("/search")
-    public ResponseEntity<PageResponseDto<ReviewResponseDto>> searchReviews(
+    public ResponseEntity<PageResponseDto<SearchHitDto<ReviewResponseDto>>> searchReviews(
             @Parameter(description = "검색 키워드", example = "클린 코드") @RequestParam String keyword,
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
-        return ResponseEntity.ok(PageResponseDto.from(reviewService.searchReviews(keyword, pageable)));
+            @PageableDefault(size = 10) Pageable pageable,
+            WebRequest webRequest) {
+        if (contentVersionTracker.checkNotModified(webRequest, ContentVersionTracker.REVIEWS)) {
+            return null;
+        }
+        return ResponseEntity.ok(PageResponseDto.from(searchService.searchReviews(keyword, pageable)));
     }
 
-    @Operation(summary = "ISBN으로 책 정보 조회", description = "Open Library API를 통해 ISBN으로 책 제목·저자·링크를 조회합니다.")
+    @Operation(summary = "ISBN으로 책 정보 조회", description = "국립중앙도서관·Open Library·Google Books를 동시에 조회해 ISBN으로 책 제목·저자·링크를 조회합니다. 조회 결과는 캐시·저장되어 재조회 시 외부 호출을 하지 않습니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "책 정보 조회 성공",
                     content = @Content(schema = @Schema(implementation = BookInfoDto.class))),
@@ -146,4 +204,25 @@ public class ReviewController {
         }
         return ResponseEntity.ok(book);
     }
+
+    @Operation(summary = "ISBN 일괄 조회",
+            description = "여러 ISBN의 책 정보를 한 번에 조회합니다. ISBN-10/13은 ISBN-13으로 정규화해 중복을 합치며, "
+                    + "결과는 조회가 끝나는 순서대로 한 줄에 하나씩 NDJSON(application/x-ndjson)으로 스트리밍됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 결과 스트림 (줄마다 IsbnLookupResultDto)",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = IsbnLookupResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "입력값 검증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PostMapping(value = "/isbn/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> lookupBooksBatch(@Valid @RequestBody IsbnBatchRequestDto request) {
+        NdjsonEmitter emitter = new NdjsonEmitter(objectMapper, batchStreamTimeout.toMillis());
+        CompletableFuture<Void> batch = bookLookupService.lookupBatch(request.isbns(), emitter::sendLine);
+        batch.whenComplete((ignored, error) -> emitter.complete());
+        // 스트림이 시간 초과·연결 끊김으로 먼저 끝나면 남은 ISBN은 조회하지 않는다.
+        emitter.onTimeout(() -> batch.cancel(true));
+        emitter.onCompletion(() -> batch.cancel(true));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+    }
 }
@@ -0,0 +1,17 @@
+package com.haesiku.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "ISBN 일괄 조회 요청")
+public record IsbnBatchRequestDto(
+        @Schema(description = "ISBN-10 또는 ISBN-13 목록 (최대 500개, 하이픈 허용)",
+                example = "[\"9780306406157\", \"0-306-40615-2\"]", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty(message = "ISBN 목록은 비어 있을 수 없습니다")
+        @Size(max = 500, message = "ISBN은 한 번에 500개까지 조회할 수 있습니다")
+        List<String> isbns
+) {
+}
@@ -0,0 +1,23 @@
+package com.haesiku.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "ISBN 일괄 조회의 개별 결과 (NDJSON 한 줄)")
+public record IsbnLookupResultDto(
+        @Schema(description = "정규화된 ISBN-13 (INVALID면 null)", example = "9780306406157")
+        String isbn,
+
+        @Schema(description = "이 결과에 해당하는 요청 ISBN 목록 (ISBN-10/13 중복은 하나로 합쳐짐)",
+                example = "[\"9780306406157\", \"0-306-40615-2\"]")
+        List<String> inputs,
+
+        @Schema(description = "조회 결과 (FOUND | NOT_FOUND | INVALID | ERROR)", example = "FOUND")
+        Status status,
+
+        @Schema(description = "책 정보 (FOUND일 때만)")
+        BookInfoDto book
+) {
+    public enum Status {FOUND, NOT_FOUND, INVALID, ERROR}
+}
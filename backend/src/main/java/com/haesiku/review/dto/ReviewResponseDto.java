@@ -1,9 +1,11 @@
 package com.haesiku.review.dto;
 
 import com.haesiku.review.entity.ReviewType;
+import com.haesiku.common.markdown.TocEntry;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Schema(description = "후기 응답")
 public record ReviewResponseDto(
@@ -19,6 +21,12 @@ public record ReviewResponseDto(
         @Schema(description = "후기 내용 (Markdown)", example = "# 인상 깊었던 점\n...")
         String content,
 
+        @Schema(description = "서버에서 렌더링한 본문 HTML (sanitize됨, 제목에 id 포함)", example = "<h1 id=\"spring-boot\">Spring Boot</h1>\n<p>Spring Boot는 ...</p>")
+        String renderedHtml,
+
+        @Schema(description = "목차 (본문 제목 순서)")
+        List<TocEntry> toc,
+
         @Schema(description = "평점 (1~5)", example = "5")
         Integer rating,
 
@@ -0,0 +1,46 @@
+package com.haesiku.review.entity;
+
+import com.haesiku.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 제공처에서 조회에 성공한 ISBN 서지정보. 재기동 후에도 같은 ISBN은 외부 호출 없이 응답한다.
+ */
+@Entity
+@Table(name = "book_lookups")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookLookup extends BaseEntity {
+
+    @Id
+    @Column(length = 13)
+    private String isbn;
+
+    @Column(nullable = false, length = 500)
+    private String title;
+
+    @Column(length = 500)
+    private String author;
+
+    @Column(length = 1000)
+    private String link;
+
+    @Column(nullable = false, length = 50)
+    private String provider;
+
+    @Builder
+    public BookLookup(String isbn, String title, String author, String link, String provider) {
+        this.isbn = isbn;
+        this.title = title;
+        this.author = author;
+        this.link = link;
+        this.provider = provider;
+    }
+}
@@ -1,6 +1,8 @@
 package com.haesiku.review.entity;
 
 import com.haesiku.common.entity.BaseEntity;
+import com.haesiku.common.markdown.RenderedMarkdown;
+import com.haesiku.common.markdown.TocEntry;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -9,18 +11,24 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.List;
 
 @Entity
 @Table(name = "reviews", indexes = {
         @Index(name = "idx_review_type", columnList = "reviewType"),
-        @Index(name = "idx_review_created_at", columnList = "createdAt")
+        @Index(name = "idx_review_created_at", columnList = "createdAt"),
+        @Index(name = "idx_review_created_at_id", columnList = "createdAt, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Review extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reviews_seq")
+    @SequenceGenerator(name = "reviews_seq", sequenceName = "reviews_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -52,6 +60,18 @@ public class Review extends BaseEntity {
     @Column(length = 500)
     private String itemLink;
 
+    /** content를 서버에서 렌더링한 HTML. content가 바뀔 때만 MarkdownRenderer로 다시 만든다. */
+    @Column(columnDefinition = "TEXT")
+    private String renderedHtml;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<TocEntry> toc;
+
+    /** 렌더링에 쓴 원문과 렌더러 버전의 SHA-256. null이면 아직 렌더링되지 않은 것이다. */
+    @Column(length = 64)
+    private String contentHash;
+
     @Builder
     public Review(ReviewType reviewType, String title, String content, Integer rating,
                   String itemTitle, String itemAuthor, String itemLink) {
@@ -73,4 +93,10 @@ public class Review extends BaseEntity {
         this.itemAuthor = itemAuthor;
         this.itemLink = itemLink;
     }
+
+    public void applyRendering(RenderedMarkdown rendered) {
+        this.renderedHtml = rendered.html();
+        this.toc = rendered.toc();
+        this.contentHash = rendered.contentHash();
+    }
 }
@@ -0,0 +1,7 @@
+package com.haesiku.review.event;
+
+/**
+ * 후기가 생성·수정·삭제되었을 때 발행되는 도메인 이벤트.
+ */
+public record ReviewChangedEvent(Long reviewId) {
+}
@@ -0,0 +1,25 @@
+package com.haesiku.review.lookup;
+
+import com.haesiku.review.dto.BookInfoDto;
+
+/**
+ * ISBN 서지정보 외부 제공처. 우선순위는 {@link org.springframework.core.annotation.Order}로 지정하며
+ * 값이 작을수록 결과가 우선 채택된다.
+ */
+public interface BookInfoProvider {
+
+    String name();
+
+    /** 인증키 미설정 등으로 사용할 수 없으면 false */
+    boolean isEnabled();
+
+    /** 동시 호출 상한 (bulkhead) */
+    int maxConcurrentCalls();
+
+    /**
+     * @param isbn 숫자만 남긴 ISBN
+     * @return 책 정보, 제공처에 해당 ISBN이 없으면 null
+     * @throws org.springframework.web.client.RestClientException 통신 실패·타임아웃
+     */
+    BookInfoDto lookup(String isbn);
+}
@@ -0,0 +1,74 @@
+package com.haesiku.review.lookup;
+
+import java.time.Duration;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커.
+ * CLOSED에서 연속 실패가 임계치에 도달하면 OPEN이 되어 호출을 즉시 거절하고,
+ * 대기 시간이 지나면 HALF_OPEN으로 한 건만 시험 호출해 성공 시 CLOSED, 실패 시 다시 OPEN으로 전환한다.
+ */
+public class CircuitBreaker {
+
+    public enum State {CLOSED, OPEN, HALF_OPEN}
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openDuration.toMillis();
+    }
+
+    /**
+     * @return 호출해도 되면 true. true를 받은 호출자는 반드시 onSuccess/onFailure 중 하나를 호출해야 한다.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() - openedAt < openMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * @return 이번 실패로 OPEN이 되었으면 true
+     */
+    public synchronized boolean onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            boolean opened = state != State.OPEN;
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            return opened;
+        }
+        return false;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,65 @@
+package com.haesiku.review.lookup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.haesiku.review.dto.BookInfoDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@Component
+@Order(3)
+public class GoogleBooksProvider extends HttpBookInfoProvider {
+
+    public GoogleBooksProvider(
+            RestTemplateBuilder restTemplateBuilder,
+            @Value("${book.lookup.google-books.base-url:https://www.googleapis.com}") String baseUrl,
+            @Value("${book.lookup.google-books.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${book.lookup.google-books.read-timeout:3s}") Duration readTimeout,
+            @Value("${book.lookup.google-books.max-concurrent-calls:8}") int maxConcurrentCalls) {
+        super(restTemplateBuilder, baseUrl, connectTimeout, readTimeout, maxConcurrentCalls);
+    }
+
+    @Override
+    public String name() {
+        return "google-books";
+    }
+
+    @Override
+    protected String url(String isbn) {
+        return baseUrl + "/books/v1/volumes?q=isbn:" + isbn;
+    }
+
+    @Override
+    protected BookInfoDto parse(JsonNode root, String isbn) {
+        if (!root.has("items") || !root.get("items").isArray() || root.get("items").isEmpty()) {
+            return null;
+        }
+
+        JsonNode first = root.get("items").get(0);
+        if (!first.has("volumeInfo")) {
+            return null;
+        }
+
+        JsonNode vol = first.get("volumeInfo");
+        String title = vol.has("title") ? blankToNull(vol.get("title").asText()) : null;
+        if (title == null) {
+            return null;
+        }
+
+        String author = null;
+        if (vol.has("authors") && vol.get("authors").isArray()) {
+            author = blankToNull(StreamSupport.stream(vol.get("authors").spliterator(), false)
+                    .map(JsonNode::asText)
+                    .filter(s -> s != null && !s.isBlank())
+                    .collect(Collectors.joining(", ")));
+        }
+
+        String link = vol.has("infoLink") ? blankToNull(vol.get("infoLink").asText()) : null;
+        return new BookInfoDto(title, author, link == null ? "https://books.google.com/books?isbn=" + isbn : link);
+    }
+}
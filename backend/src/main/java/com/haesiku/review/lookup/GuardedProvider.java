@@ -0,0 +1,105 @@
+package com.haesiku.review.lookup;
+
+import com.haesiku.review.dto.BookInfoDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제공처 호출을 bulkhead(동시 호출 상한)와 서킷 브레이커로 감싼다.
+ * 상한 초과나 OPEN 상태의 호출은 외부로 나가지 않고 곧바로 {@link LookupOutcome.Status#FAILED}가 된다.
+ * <p>
+ * 지표: book.lookup.provider (외부 호출 시간, provider, outcome=found|not_found|error),
+ * book.lookup.provider.rejected (호출하지 않고 거절한 수, reason=bulkhead|circuit_open),
+ * book.lookup.provider.circuit (서킷 상태, 0=CLOSED 1=OPEN 2=HALF_OPEN)
+ */
+@Slf4j
+public class GuardedProvider {
+
+    private final BookInfoProvider provider;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final Timer foundTimer;
+    private final Timer notFoundTimer;
+    private final Timer errorTimer;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
+
+    public GuardedProvider(BookInfoProvider provider, int failureThreshold, Duration openDuration,
+                           MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+        this.bulkhead = new Semaphore(Math.max(1, provider.maxConcurrentCalls()));
+        this.foundTimer = callTimer(meterRegistry, "found");
+        this.notFoundTimer = callTimer(meterRegistry, "not_found");
+        this.errorTimer = callTimer(meterRegistry, "error");
+        this.bulkheadRejections = rejectionCounter(meterRegistry, "bulkhead");
+        this.circuitRejections = rejectionCounter(meterRegistry, "circuit_open");
+        Gauge.builder("book.lookup.provider.circuit", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("제공처 서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .tag("provider", provider.name())
+                .register(meterRegistry);
+    }
+
+    public String name() {
+        return provider.name();
+    }
+
+    public boolean isEnabled() {
+        return provider.isEnabled();
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    public LookupOutcome lookup(String isbn) {
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejections.increment();
+            return LookupOutcome.failed(provider.name());
+        }
+        try {
+            if (!circuitBreaker.tryAcquire()) {
+                circuitRejections.increment();
+                return LookupOutcome.failed(provider.name());
+            }
+            long startedAt = System.nanoTime();
+            try {
+                BookInfoDto book = provider.lookup(isbn);
+                circuitBreaker.onSuccess();
+                (book == null ? notFoundTimer : foundTimer).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                return book == null ? LookupOutcome.notFound(provider.name()) : LookupOutcome.found(provider.name(), book);
+            } catch (RuntimeException e) {
+                errorTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                if (circuitBreaker.onFailure()) {
+                    log.warn("ISBN 조회 제공처 {} 서킷 OPEN: {}", provider.name(), e.getMessage());
+                }
+                return LookupOutcome.failed(provider.name());
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private Timer callTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("book.lookup.provider")
+                .description("ISBN 조회 제공처 호출 시간")
+                .tag("provider", provider.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("book.lookup.provider.rejected")
+                .description("동시 호출 상한·서킷 OPEN으로 호출하지 않은 수")
+                .tag("provider", provider.name())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.haesiku.review.lookup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.haesiku.review.dto.BookInfoDto;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * 제공처별 base URL·연결/읽기 타임아웃을 가진 RestTemplate 기반 제공처.
+ * base URL을 설정으로 바꿀 수 있으므로 로컬 스텁 서버를 대상으로 검증할 수 있다.
+ */
+public abstract class HttpBookInfoProvider implements BookInfoProvider {
+
+    protected final String baseUrl;
+    private final RestTemplate restTemplate;
+    private final int maxConcurrentCalls;
+
+    protected HttpBookInfoProvider(RestTemplateBuilder restTemplateBuilder, String baseUrl,
+                                   Duration connectTimeout, Duration readTimeout, int maxConcurrentCalls) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public int maxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    @Override
+    public BookInfoDto lookup(String isbn) {
+        JsonNode root;
+        try {
+            root = restTemplate.getForObject(url(isbn), JsonNode.class);
+        } catch (HttpClientErrorException.NotFound e) {
+            return null;
+        }
+        return root == null ? null : parse(root, isbn);
+    }
+
+    protected abstract String url(String isbn);
+
+    /**
+     * @return 응답에서 제목을 찾지 못하면 null
+     */
+    protected abstract BookInfoDto parse(JsonNode root, String isbn);
+
+    protected static String textOrNull(JsonNode node, String... keys) {
+        for (String key : keys) {
+            if (node.has(key)) {
+                JsonNode v = node.get(key);
+                if (v != null && !v.isNull()) {
+                    if (v.isArray() && !v.isEmpty()) {
+                        String joined = StreamSupport.stream(v.spliterator(), false)
+                                .map(JsonNode::asText)
+                                .filter(s -> s != null && !s.isBlank())
+                                .collect(Collectors.joining(", "));
+                        if (!joined.isBlank()) return joined;
+                    } else {
+                        String s = v.asText();
+                        if (s != null && !s.isBlank()) return s;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    protected static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
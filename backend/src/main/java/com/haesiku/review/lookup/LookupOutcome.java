@@ -0,0 +1,24 @@
+package com.haesiku.review.lookup;
+
+import com.haesiku.review.dto.BookInfoDto;
+
+/**
+ * 제공처 한 곳의 조회 결과. NOT_FOUND는 제공처가 정상 응답했지만 해당 ISBN이 없는 경우이고,
+ * FAILED는 통신 실패·타임아웃·bulkhead/서킷 거절로 결과를 알 수 없는 경우다.
+ */
+public record LookupOutcome(String provider, Status status, BookInfoDto book) {
+
+    public enum Status {FOUND, NOT_FOUND, FAILED}
+
+    public static LookupOutcome found(String provider, BookInfoDto book) {
+        return new LookupOutcome(provider, Status.FOUND, book);
+    }
+
+    public static LookupOutcome notFound(String provider) {
+        return new LookupOutcome(provider, Status.NOT_FOUND, null);
+    }
+
+    public static LookupOutcome failed(String provider) {
+        return new LookupOutcome(provider, Status.FAILED, null);
+    }
+}
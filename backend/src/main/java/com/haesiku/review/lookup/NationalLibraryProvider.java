@@ -0,0 +1,83 @@
+package com.haesiku.review.lookup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.haesiku.review.dto.BookInfoDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 국립중앙도서관 Open API (ISBN 서지정보). 인증키를 설정한 경우에만 사용하며 가장 먼저 채택된다.
+ * 응답: docs[] 또는 response.body.items.item[] 등 목록에서 첫 항목의 TITLE, AUTHOR 사용.
+ */
+@Component
+@Order(1)
+public class NationalLibraryProvider extends HttpBookInfoProvider {
+
+    private static final String FALLBACK_LINK = "https://www.nl.go.kr/NL/contents/N31101030500.do";
+
+    private final String certKey;
+
+    public NationalLibraryProvider(
+            RestTemplateBuilder restTemplateBuilder,
+            @Value("${nl.api.cert-key:}") String certKey,
+            @Value("${book.lookup.national-library.base-url:http://seoji.nl.go.kr}") String baseUrl,
+            @Value("${book.lookup.national-library.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${book.lookup.national-library.read-timeout:3s}") Duration readTimeout,
+            @Value("${book.lookup.national-library.max-concurrent-calls:8}") int maxConcurrentCalls) {
+        super(restTemplateBuilder, baseUrl, connectTimeout, readTimeout, maxConcurrentCalls);
+        this.certKey = certKey == null ? "" : certKey.trim();
+    }
+
+    @Override
+    public String name() {
+        return "national-library";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !certKey.isEmpty();
+    }
+
+    @Override
+    protected String url(String isbn) {
+        return baseUrl + "/landingPage/SearchApi.do?cert_key=" + certKey
+                + "&result_style=json&page_no=1&page_size=10&isbn=" + isbn;
+    }
+
+    @Override
+    protected BookInfoDto parse(JsonNode root, String isbn) {
+        JsonNode firstDoc = null;
+        if (root.has("docs") && root.get("docs").isArray() && !root.get("docs").isEmpty()) {
+            firstDoc = root.get("docs").get(0);
+        } else if (root.has("response") && root.get("response").has("body")) {
+            JsonNode body = root.get("response").get("body");
+            if (body.has("items")) {
+                JsonNode items = body.get("items");
+                if (items.isArray() && !items.isEmpty()) {
+                    firstDoc = items.get(0);
+                } else if (items.has("item")) {
+                    JsonNode item = items.get("item");
+                    firstDoc = item.isArray() ? item.get(0) : item;
+                }
+            }
+        } else if (root.has("data") && root.get("data").isArray() && !root.get("data").isEmpty()) {
+            firstDoc = root.get("data").get(0);
+        }
+
+        if (firstDoc == null) {
+            return null;
+        }
+
+        String title = textOrNull(firstDoc, "TITLE", "title", "bookname", "BOOKNAME");
+        if (title == null) {
+            return null;
+        }
+        String author = textOrNull(firstDoc, "AUTHOR", "author", "authors", "PUBLISHER", "publisher");
+        String link = textOrNull(firstDoc, "url", "URL", "link", "LINK", "infoLink");
+        return new BookInfoDto(title, author, link == null ? FALLBACK_LINK : link);
+    }
+}
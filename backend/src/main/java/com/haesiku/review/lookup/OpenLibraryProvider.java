@@ -0,0 +1,60 @@
+package com.haesiku.review.lookup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.haesiku.review.dto.BookInfoDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@Component
+@Order(2)
+public class OpenLibraryProvider extends HttpBookInfoProvider {
+
+    public OpenLibraryProvider(
+            RestTemplateBuilder restTemplateBuilder,
+            @Value("${book.lookup.open-library.base-url:https://openlibrary.org}") String baseUrl,
+            @Value("${book.lookup.open-library.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${book.lookup.open-library.read-timeout:3s}") Duration readTimeout,
+            @Value("${book.lookup.open-library.max-concurrent-calls:8}") int maxConcurrentCalls) {
+        super(restTemplateBuilder, baseUrl, connectTimeout, readTimeout, maxConcurrentCalls);
+    }
+
+    @Override
+    public String name() {
+        return "open-library";
+    }
+
+    @Override
+    protected String url(String isbn) {
+        return baseUrl + "/api/books?bibkeys=ISBN:" + isbn + "&format=json&jscmd=data";
+    }
+
+    @Override
+    protected BookInfoDto parse(JsonNode root, String isbn) {
+        JsonNode book = root.get("ISBN:" + isbn);
+        if (book == null || book.isEmpty()) {
+            return null;
+        }
+
+        String title = book.has("title") ? blankToNull(book.get("title").asText()) : null;
+        if (title == null) {
+            return null;
+        }
+
+        String author = null;
+        if (book.has("authors") && book.get("authors").isArray()) {
+            author = blankToNull(StreamSupport.stream(book.get("authors").spliterator(), false)
+                    .map(a -> a.has("name") ? a.get("name").asText() : "")
+                    .filter(s -> !s.isBlank())
+                    .collect(Collectors.joining(", ")));
+        }
+
+        String link = book.has("url") ? blankToNull(book.get("url").asText()) : null;
+        return new BookInfoDto(title, author, link == null ? "https://openlibrary.org/isbn/" + isbn : link);
+    }
+}
@@ -0,0 +1,7 @@
+package com.haesiku.review.repository;
+
+import com.haesiku.review.entity.BookLookup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BookLookupRepository extends JpaRepository<BookLookup, String> {
+}
@@ -1,17 +1,65 @@
 package com.haesiku.review.repository;
 
+import com.haesiku.common.dto.VersionView;
 import com.haesiku.review.entity.Review;
 import com.haesiku.review.entity.ReviewType;
+import com.haesiku.search.dto.SearchRankView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     Page<Review> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
+    @Query("SELECT r.id AS id, r.updatedAt AS updatedAt FROM Review r WHERE r.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT r FROM Review r ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findFeed(Pageable pageable);
+
+    @Query("SELECT r FROM Review r WHERE (r.createdAt, r.id) < (:createdAt, :id) ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     Page<Review> findByReviewTypeOrderByCreatedAtDesc(ReviewType reviewType, Pageable pageable);
 
-    Page<Review> findByTitleContainingOrContentContainingOrderByCreatedAtDesc(
-            String titleKeyword, String contentKeyword, Pageable pageable);
+    /** 내보내기용 id 키셋 조회 */
+    @Query("SELECT r FROM Review r WHERE r.id > :after ORDER BY r.id")
+    List<Review> findAfter(@Param("after") long after, Pageable pageable);
+
+    /** sitemap용 id 키셋 조회 (수정일시만 읽는다) */
+    @Query("SELECT r.id AS id, r.updatedAt AS updatedAt FROM Review r WHERE r.id > :after ORDER BY r.id")
+    List<VersionView> findVersionsAfter(@Param("after") long after, Pageable pageable);
+
+    @Query(value = "SELECT r.id AS id, ts_rank_cd(r.search_vector, CAST(:query AS tsquery)) AS rank " +
+            "FROM reviews r " +
+            "WHERE r.search_vector @@ CAST(:query AS tsquery) " +
+            "ORDER BY rank DESC, r.created_at DESC",
+            countQuery = "SELECT COUNT(*) FROM reviews r WHERE r.search_vector @@ CAST(:query AS tsquery)",
+            nativeQuery = true)
+    Page<SearchRankView> searchByTsQuery(@Param("query") String query, Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE reviews SET search_vector = CAST(:vector AS tsvector) WHERE id = :id", nativeQuery = true)
+    int updateSearchVector(@Param("id") Long id, @Param("vector") String vector);
+
+    @Query(value = "SELECT id FROM reviews WHERE search_vector IS NULL ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsWithoutSearchVector(@Param("limit") int limit);
+
+    /** 렌더링 결과만 기록한다. 엔티티 갱신이 아니므로 updatedAt(수정일시)은 바뀌지 않는다. */
+    @Modifying
+    @Query(value = "UPDATE reviews SET rendered_html = :html, toc = CAST(:toc AS jsonb), content_hash = :hash " +
+            "WHERE id = :id", nativeQuery = true)
+    int updateRendering(@Param("id") Long id, @Param("html") String html,
+                        @Param("toc") String toc, @Param("hash") String hash);
+
+    @Query(value = "SELECT id FROM reviews WHERE content_hash IS NULL ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsWithoutRendering(@Param("limit") int limit);
 }
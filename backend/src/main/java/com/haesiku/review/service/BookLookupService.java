@@ -1,28 +1,109 @@
 package com.haesiku.review.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.haesiku.review.dto.BookInfoDto;
+import com.haesiku.review.dto.IsbnLookupResultDto;
+import com.haesiku.review.entity.BookLookup;
+import com.haesiku.review.lookup.BookInfoProvider;
+import com.haesiku.review.lookup.GuardedProvider;
+import com.haesiku.review.lookup.LookupOutcome;
+import com.haesiku.review.repository.BookLookupRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+/**
+ * ISBN 서지정보 조회. 조회 순서는 로컬 캐시 → book_lookups 테이블 → 외부 제공처이다.
+ * 외부 제공처(국립중앙도서관 → Open Library → Google Books)는 동시에 호출하고,
+ * 우선순위가 높은 제공처의 결과를 채택한다. 제공처마다 타임아웃·서킷 브레이커·동시 호출 상한이 있어
+ * 느린 제공처 하나가 요청 스레드를 오래 붙잡지 않는다.
+ * 같은 ISBN을 동시에 조회하는 요청은 하나의 외부 조회 결과를 함께 기다린다.
+ */
+@Slf4j
 @Service
 public class BookLookupService {
 
-    private static final String NL_API_URL = "http://seoji.nl.go.kr/landingPage/SearchApi.do?cert_key=%s&result_style=json&page_no=1&page_size=10&isbn=%s";
-    private static final String OPEN_LIBRARY_URL = "https://openlibrary.org/api/books?bibkeys=ISBN:%s&format=json&jscmd=data";
-    private static final String GOOGLE_BOOKS_URL = "https://www.googleapis.com/books/v1/volumes?q=isbn:%s";
+    private final List<GuardedProvider> providers;
+    private final BookLookupRepository bookLookupRepository;
+    private final Executor executor;
+    private final Executor batchExecutor;
+    private final int batchConcurrency;
+    private final long timeoutNanos;
+    /** 진행 중인 ISBN 조회 (정규화된 ISBN-13 → 결과). 동시에 들어온 같은 ISBN 조회를 하나로 합친다. */
+    private final Map<String, CompletableFuture<BookInfoDto>> inFlight = new ConcurrentHashMap<>();
+    /** Optional.empty()는 모든 제공처가 "없음"으로 응답한 ISBN (negative cache) */
+    private final Cache<String, Optional<BookInfoDto>> cache;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    public BookLookupService(
+            List<BookInfoProvider> providers,
+            BookLookupRepository bookLookupRepository,
+            @Qualifier("bookLookupExecutor") Executor executor,
+            @Qualifier("isbnBatchExecutor") Executor batchExecutor,
+            @Value("${book.lookup.batch.concurrency:4}") int batchConcurrency,
+            @Value("${book.lookup.timeout:5s}") Duration timeout,
+            @Value("${book.lookup.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${book.lookup.cache.ttl:1d}") Duration cacheTtl,
+            @Value("${book.lookup.cache.negative-ttl:10m}") Duration negativeTtl,
+            @Value("${book.lookup.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${book.lookup.circuit-breaker.open-duration:30s}") Duration openDuration,
+            MeterRegistry meterRegistry) {
+        this.providers = providers.stream()
+                .map(provider -> new GuardedProvider(provider, failureThreshold, openDuration, meterRegistry))
+                .toList();
+        this.bookLookupRepository = bookLookupRepository;
+        this.executor = executor;
+        this.batchExecutor = batchExecutor;
+        this.batchConcurrency = Math.max(1, batchConcurrency);
+        this.timeoutNanos = timeout.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, Optional<BookInfoDto>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<BookInfoDto> value, long currentTime) {
+                        return (value.isPresent() ? cacheTtl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<BookInfoDto> value,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
 
-    @Value("${nl.api.cert-key:}")
-    private String nlCertKey;
+                    @Override
+                    public long expireAfterRead(String key, Optional<BookInfoDto> value,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
     /**
-     * 국립중앙도서관(인증키 설정 시) → Open Library → Google Books 순으로 ISBN에 해당하는 책 정보를 조회합니다.
+     * ISBN에 해당하는 책 정보를 조회합니다.
      * @param isbn ISBN-10 또는 ISBN-13 (숫자와 하이픈만 사용)
      * @return 책 정보, 조회 실패 시 null
      */
@@ -32,190 +113,258 @@ public class BookLookupService {
             return null;
         }
 
-        BookInfoDto result = null;
-        if (nlCertKey != null && !nlCertKey.isBlank()) {
-            result = lookupFromNationalLibrary(normalized);
+        Optional<BookInfoDto> cached = cache.getIfPresent(normalized);
+        if (cached != null) {
+            return cached.orElse(null);
         }
-        if (result == null) {
-            result = lookupFromOpenLibrary(normalized);
+
+        CompletableFuture<BookInfoDto> call = new CompletableFuture<>();
+        CompletableFuture<BookInfoDto> running = inFlight.putIfAbsent(normalized, call);
+        if (running != null) {
+            return awaitInFlight(running);
         }
-        if (result == null) {
-            result = lookupFromGoogleBooks(normalized);
+        try {
+            BookInfoDto book = load(normalized);
+            call.complete(book);
+            return book;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(normalized, call);
         }
-        return result;
     }
 
     /**
-     * 국립중앙도서관 Open API (ISBN 서지정보) 조회.
-     * 응답: docs[] 또는 response.body.items.item[] 등 목록에서 첫 항목의 TITLE, AUTHOR 사용.
+     * 여러 ISBN을 일괄 조회한다. ISBN-10/13을 정규화해 중복을 합친 뒤, 요청당 동시 조회 수를 제한해
+     * 조회하고 끝나는 순서대로 결과를 전달한다. 형식이 잘못된 ISBN은 즉시 INVALID로 전달한다.
+     * 반환된 future를 취소하면 아직 시작하지 않은 ISBN은 조회하지 않고, 진행 중인 조회의 결과는 전달하지 않는다.
+     *
+     * @param onResult 결과 수신 콜백 (여러 스레드에서 호출될 수 있음)
+     * @return 모든 결과를 전달하면 완료되는 future
      */
-    private BookInfoDto lookupFromNationalLibrary(String normalized) {
-        if (nlCertKey == null || nlCertKey.isBlank()) {
-            return null;
-        }
-        String url = String.format(NL_API_URL, nlCertKey.trim(), normalized);
-        try {
-            JsonNode root = restTemplate.getForObject(url, JsonNode.class);
-            if (root == null) {
-                return null;
+    public CompletableFuture<Void> lookupBatch(List<String> isbns, Consumer<IsbnLookupResultDto> onResult) {
+        Map<String, List<String>> inputsByIsbn = new LinkedHashMap<>();
+        for (String input : isbns) {
+            String normalized = normalizeIsbn(input);
+            if (normalized.isEmpty()) {
+                onResult.accept(new IsbnLookupResultDto(null, List.of(String.valueOf(input)),
+                        IsbnLookupResultDto.Status.INVALID, null));
+            } else {
+                inputsByIsbn.computeIfAbsent(normalized, key -> new ArrayList<>()).add(input);
             }
+        }
 
-            JsonNode firstDoc = null;
-            if (root.has("docs") && root.get("docs").isArray() && !root.get("docs").isEmpty()) {
-                firstDoc = root.get("docs").get(0);
-            } else if (root.has("response") && root.get("response").has("body")) {
-                JsonNode body = root.get("response").get("body");
-                if (body.has("items")) {
-                    JsonNode items = body.get("items");
-                    if (items.isArray() && !items.isEmpty()) {
-                        firstDoc = items.get(0);
-                    } else if (items.has("item")) {
-                        JsonNode item = items.get("item");
-                        firstDoc = item.isArray() ? item.get(0) : item;
-                    }
-                }
-            } else if (root.has("data") && root.get("data").isArray() && !root.get("data").isEmpty()) {
-                firstDoc = root.get("data").get(0);
+        Batch batch = new Batch(new ConcurrentLinkedQueue<>(inputsByIsbn.entrySet()),
+                new AtomicInteger(inputsByIsbn.size()), ConcurrentHashMap.newKeySet(),
+                new CompletableFuture<>(), onResult);
+        if (batch.pending().isEmpty()) {
+            batch.done().complete(null);
+            return batch.done();
+        }
+        batch.done().whenComplete((ignored, error) -> {
+            if (batch.done().isCancelled()) {
+                batch.pending().clear();
+                // 실행기 큐에서 아직 시작하지 않은 조회는 취소되면 실행되지 않는다.
+                batch.running().forEach(lookup -> lookup.cancel(true));
             }
+        });
+        // 슬라이딩 윈도: 처음 batchConcurrency개를 시작하고, 하나가 끝날 때마다 다음 ISBN을 시작한다.
+        int initial = Math.min(batchConcurrency, batch.pending().size());
+        for (int i = 0; i < initial; i++) {
+            lookupNext(batch);
+        }
+        return batch.done();
+    }
 
-            if (firstDoc == null) {
-                return null;
+    /**
+     * 다음 ISBN 조회를 시작한다. 실행기가 거절해 조회가 곧바로 끝나면 콜백에서 재귀 호출하지 않고
+     * 이 반복문에서 결과를 전달한 뒤 다음 ISBN으로 넘어가므로, 거절이 이어져도 스택이 깊어지지 않는다.
+     */
+    private void lookupNext(Batch batch) {
+        while (!batch.done().isDone()) {
+            Map.Entry<String, List<String>> entry = batch.pending().poll();
+            if (entry == null) {
+                return;
             }
-
-            String title = textOrNull(firstDoc, "TITLE", "title", "bookname", "BOOKNAME");
-            if (title == null || title.isBlank()) {
-                return null;
+            CompletableFuture<BookInfoDto> lookup;
+            try {
+                lookup = CompletableFuture.supplyAsync(() -> lookupByIsbn(entry.getKey()), batchExecutor);
+            } catch (RejectedExecutionException e) {
+                lookup = CompletableFuture.failedFuture(e);
             }
-
-            String author = textOrNull(firstDoc, "AUTHOR", "author", "authors", "PUBLISHER", "publisher");
-            if (author != null && author.isBlank()) {
-                author = null;
+            if (lookup.isDone()) {
+                if (deliver(batch, entry, lookup)) {
+                    return;
+                }
+                continue;
             }
-
-            String link = textOrNull(firstDoc, "url", "URL", "link", "LINK", "infoLink");
-            if (link == null || link.isBlank()) {
-                link = "https://www.nl.go.kr/NL/contents/N31101030500.do";
+            batch.running().add(lookup);
+            if (batch.done().isCancelled()) {
+                lookup.cancel(true);
             }
-
-            return new BookInfoDto(title, author, link);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private static String textOrNull(JsonNode node, String... keys) {
-        for (String key : keys) {
-            if (node.has(key)) {
-                JsonNode v = node.get(key);
-                if (v != null && !v.isNull()) {
-                    if (v.isArray() && !v.isEmpty()) {
-                        String joined = StreamSupport.stream(v.spliterator(), false)
-                                .map(JsonNode::asText)
-                                .filter(s -> s != null && !s.isBlank())
-                                .collect(Collectors.joining(", "));
-                        if (!joined.isBlank()) return joined;
-                    } else {
-                        String s = v.asText();
-                        if (s != null && !s.isBlank()) return s;
-                    }
+            CompletableFuture<BookInfoDto> started = lookup;
+            lookup.whenComplete((book, error) -> {
+                batch.running().remove(started);
+                if (!deliver(batch, entry, started)) {
+                    lookupNext(batch);
                 }
-            }
+            });
+            return;
         }
-        return null;
     }
 
-    private BookInfoDto lookupFromOpenLibrary(String normalized) {
-        String url = String.format(OPEN_LIBRARY_URL, normalized);
+    /**
+     * 끝난 조회의 결과를 전달한다.
+     *
+     * @return 일괄 조회가 끝났으면 true
+     */
+    private static boolean deliver(Batch batch, Map.Entry<String, List<String>> entry,
+                                   CompletableFuture<BookInfoDto> lookup) {
         try {
-            JsonNode root = restTemplate.getForObject(url, JsonNode.class);
-            if (root == null) {
-                return null;
-            }
-
-            JsonNode book = root.get("ISBN:" + normalized);
-            if (book == null || book.isEmpty()) {
-                return null;
-            }
-
-            String title = book.has("title") ? book.get("title").asText() : null;
-            if (title == null || title.isBlank()) {
-                return null;
-            }
-
-            String author = null;
-            if (book.has("authors") && book.get("authors").isArray()) {
-                author = StreamSupport.stream(book.get("authors").spliterator(), false)
-                        .map(a -> a.has("name") ? a.get("name").asText() : "")
-                        .filter(s -> !s.isBlank())
-                        .collect(Collectors.joining(", "));
-            }
-            if (author != null && author.isBlank()) {
-                author = null;
+            if (!batch.done().isDone()) {
+                boolean failed = lookup.isCompletedExceptionally();
+                BookInfoDto book = failed ? null : lookup.join();
+                IsbnLookupResultDto.Status status = failed ? IsbnLookupResultDto.Status.ERROR
+                        : book == null ? IsbnLookupResultDto.Status.NOT_FOUND
+                        : IsbnLookupResultDto.Status.FOUND;
+                batch.onResult().accept(new IsbnLookupResultDto(entry.getKey(), entry.getValue(), status, book));
             }
-
-            String link = book.has("url") ? book.get("url").asText() : null;
-            if (link != null && link.isBlank()) {
-                link = "https://openlibrary.org/isbn/" + normalized;
-            } else if (link == null) {
-                link = "https://openlibrary.org/isbn/" + normalized;
+        } finally {
+            if (batch.remaining().decrementAndGet() == 0) {
+                batch.done().complete(null);
             }
+        }
+        return batch.done().isDone();
+    }
 
-            return new BookInfoDto(title, author, link);
-        } catch (Exception e) {
+    private BookInfoDto awaitInFlight(CompletableFuture<BookInfoDto> running) {
+        try {
+            return running.get(timeoutNanos + TimeUnit.SECONDS.toNanos(1), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             return null;
         }
     }
 
-    private BookInfoDto lookupFromGoogleBooks(String normalized) {
-        String url = String.format(GOOGLE_BOOKS_URL, normalized);
-        try {
-            JsonNode root = restTemplate.getForObject(url, JsonNode.class);
-            if (root == null || !root.has("items") || !root.get("items").isArray()) {
-                return null;
-            }
+    private BookInfoDto load(String normalized) {
+        Optional<BookInfoDto> persisted = bookLookupRepository.findById(normalized)
+                .map(lookup -> new BookInfoDto(lookup.getTitle(), lookup.getAuthor(), lookup.getLink()));
+        if (persisted.isPresent()) {
+            cache.put(normalized, persisted);
+            return persisted.get();
+        }
 
-            JsonNode items = root.get("items");
-            if (items.isEmpty()) {
-                return null;
-            }
+        LookupOutcome outcome = lookupFromProviders(normalized);
+        if (outcome.status() == LookupOutcome.Status.FOUND) {
+            cache.put(normalized, Optional.of(outcome.book()));
+            persist(normalized, outcome);
+            return outcome.book();
+        }
+        // 일부 제공처가 실패했다면 일시적인 장애일 수 있으므로 "없음"을 캐시하지 않는다.
+        if (outcome.status() == LookupOutcome.Status.NOT_FOUND) {
+            cache.put(normalized, Optional.empty());
+        }
+        return null;
+    }
 
-            JsonNode first = items.get(0);
-            if (!first.has("volumeInfo")) {
-                return null;
-            }
+    /**
+     * 사용 가능한 제공처를 동시에 호출하고 우선순위 순으로 결과를 확인한다.
+     * 상위 제공처가 찾으면 하위 제공처의 응답은 기다리지 않는다.
+     *
+     * @return FOUND(채택된 결과), NOT_FOUND(모든 제공처가 없음으로 응답), FAILED(그 외)
+     */
+    private LookupOutcome lookupFromProviders(String isbn) {
+        List<GuardedProvider> enabled = providers.stream().filter(GuardedProvider::isEnabled).toList();
+        List<CompletableFuture<LookupOutcome>> futures = new ArrayList<>(enabled.size());
+        for (GuardedProvider provider : enabled) {
+            futures.add(submit(provider, isbn));
+        }
 
-            JsonNode vol = first.get("volumeInfo");
-            String title = vol.has("title") ? vol.get("title").asText() : null;
-            if (title == null || title.isBlank()) {
-                return null;
+        long deadline = System.nanoTime() + timeoutNanos;
+        boolean allNotFound = !enabled.isEmpty();
+        for (int i = 0; i < futures.size(); i++) {
+            LookupOutcome outcome = await(futures.get(i), deadline, enabled.get(i).name());
+            if (outcome.status() == LookupOutcome.Status.FOUND) {
+                futures.subList(i + 1, futures.size()).forEach(future -> future.cancel(true));
+                return outcome;
             }
+            allNotFound &= outcome.status() == LookupOutcome.Status.NOT_FOUND;
+        }
+        return allNotFound ? LookupOutcome.notFound("all") : LookupOutcome.failed("all");
+    }
 
-            String author = null;
-            if (vol.has("authors") && vol.get("authors").isArray()) {
-                author = StreamSupport.stream(vol.get("authors").spliterator(), false)
-                        .map(JsonNode::asText)
-                        .filter(s -> s != null && !s.isBlank())
-                        .collect(Collectors.joining(", "));
-            }
-            if (author != null && author.isBlank()) {
-                author = null;
-            }
+    private CompletableFuture<LookupOutcome> submit(GuardedProvider provider, String isbn) {
+        try {
+            return CompletableFuture.supplyAsync(() -> provider.lookup(isbn), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(LookupOutcome.failed(provider.name()));
+        }
+    }
 
-            String link = vol.has("infoLink") ? vol.get("infoLink").asText() : null;
-            if (link == null || link.isBlank()) {
-                link = "https://books.google.com/books?isbn=" + normalized;
-            }
+    private static LookupOutcome await(CompletableFuture<LookupOutcome> future, long deadline, String provider) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return LookupOutcome.failed(provider);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return LookupOutcome.failed(provider);
+        }
+    }
 
-            return new BookInfoDto(title, author, link);
-        } catch (Exception e) {
-            return null;
+    private void persist(String isbn, LookupOutcome outcome) {
+        BookInfoDto book = outcome.book();
+        try {
+            bookLookupRepository.save(BookLookup.builder()
+                    .isbn(isbn)
+                    .title(book.title())
+                    .author(book.author())
+                    .link(book.link())
+                    .provider(outcome.provider())
+                    .build());
+        } catch (DataAccessException e) {
+            // 저장은 재조회 비용을 줄이기 위한 것이므로 실패해도 조회 결과는 그대로 반환한다.
+            log.warn("ISBN 조회 결과 저장 실패: isbn={}, {}", isbn, e.getMessage());
         }
     }
 
-    private static String normalizeIsbn(String isbn) {
+    /**
+     * ISBN을 ISBN-13으로 정규화한다. 하이픈·공백을 제거하고, ISBN-10은 978 접두어를 붙여 변환하므로
+     * 같은 책의 ISBN-10과 ISBN-13은 같은 값이 된다.
+     *
+     * @return 정규화된 ISBN-13, 10자리·13자리 형식이 아니면 빈 문자열
+     */
+    public static String normalizeIsbn(String isbn) {
         if (isbn == null) {
             return "";
         }
-        return isbn.replaceAll("[^0-9]", "");
+        String cleaned = isbn.toUpperCase().replaceAll("[^0-9X]", "");
+        if (cleaned.length() == 13 && cleaned.chars().allMatch(Character::isDigit)) {
+            return cleaned;
+        }
+        if (cleaned.length() == 10 && cleaned.substring(0, 9).chars().allMatch(Character::isDigit)
+                && (Character.isDigit(cleaned.charAt(9)) || cleaned.charAt(9) == 'X')) {
+            return toIsbn13(cleaned.substring(0, 9));
+        }
+        return "";
+    }
+
+    private static String toIsbn13(String isbn10Body) {
+        String body = "978" + isbn10Body;
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            int digit = body.charAt(i) - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+
+    /** 일괄 조회 한 건의 진행 상태 */
+    private record Batch(Queue<Map.Entry<String, List<String>>> pending, AtomicInteger remaining,
+                         Set<CompletableFuture<BookInfoDto>> running, CompletableFuture<Void> done,
+                         Consumer<IsbnLookupResultDto> onResult) {
     }
 }
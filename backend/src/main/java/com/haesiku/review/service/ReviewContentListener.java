@@ -0,0 +1,22 @@
+package com.haesiku.review.service;
+
+import com.haesiku.common.web.ContentVersionTracker;
+import com.haesiku.review.event.ReviewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 후기 변경이 커밋되면 후기 목록의 HTTP 검증자 버전을 올린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewContentListener {
+
+    private final ContentVersionTracker contentVersionTracker;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        contentVersionTracker.bump(ContentVersionTracker.REVIEWS);
+    }
+}
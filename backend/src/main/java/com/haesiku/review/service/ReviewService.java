@@ -4,15 +4,24 @@ import com.haesiku.review.dto.ReviewRequestDto;
 import com.haesiku.review.dto.ReviewResponseDto;
 import com.haesiku.review.entity.Review;
 import com.haesiku.review.entity.ReviewType;
+import com.haesiku.common.dto.CursorPageResponseDto;
+import com.haesiku.common.dto.EntityVersion;
 import com.haesiku.common.exception.EntityNotFoundException;
+import com.haesiku.common.markdown.MarkdownRenderer;
+import com.haesiku.common.util.PageCursor;
+import com.haesiku.review.event.ReviewChangedEvent;
 import com.haesiku.review.mapper.ReviewMapper;
 import com.haesiku.review.repository.ReviewRepository;
+import com.haesiku.search.service.SearchDocumentWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -20,6 +29,9 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final ReviewMapper reviewMapper;
+    private final SearchDocumentWriter searchDocumentWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MarkdownRenderer markdownRenderer;
 
     @Transactional
     public ReviewResponseDto createReview(ReviewRequestDto request) {
@@ -32,7 +44,11 @@ public class ReviewService {
                 .itemAuthor(request.itemAuthor())
                 .itemLink(request.itemLink())
                 .build();
-        return reviewMapper.toResponseDto(reviewRepository.save(review));
+        review.applyRendering(markdownRenderer.render(review.getContent()));
+        Review saved = reviewRepository.save(review);
+        searchDocumentWriter.indexReview(saved);
+        eventPublisher.publishEvent(new ReviewChangedEvent(saved.getId()));
+        return reviewMapper.toResponseDto(saved);
     }
 
     @Transactional
@@ -46,6 +62,10 @@ public class ReviewService {
                 request.itemAuthor(),
                 request.itemLink()
         );
+        markdownRenderer.renderIfChanged(review.getContentHash(), review.getContent())
+                .ifPresent(review::applyRendering);
+        searchDocumentWriter.indexReview(review);
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getId()));
         return reviewMapper.toResponseDto(review);
     }
 
@@ -53,6 +73,7 @@ public class ReviewService {
     public void deleteReview(Long id) {
         Review review = findReviewById(id);
         reviewRepository.delete(review);
+        eventPublisher.publishEvent(new ReviewChangedEvent(id));
     }
 
     public ReviewResponseDto getReview(Long id) {
@@ -60,19 +81,35 @@ public class ReviewService {
         return reviewMapper.toResponseDto(review);
     }
 
+    /**
+     * 조건부 요청 검사용 버전. 본문을 읽지 않고 id·수정일시만 조회한다.
+     */
+    public EntityVersion getReviewVersion(Long id) {
+        return reviewRepository.findVersionById(id)
+                .map(version -> EntityVersion.of("review", version.getId(), version.getUpdatedAt()))
+                .orElseThrow(() -> new EntityNotFoundException("Review", "id", id));
+    }
+
     public Page<ReviewResponseDto> getAllReviews(Pageable pageable) {
         return reviewRepository.findAllByOrderByCreatedAtDesc(pageable)
                 .map(reviewMapper::toResponseDto);
     }
 
-    public Page<ReviewResponseDto> getReviewsByType(ReviewType reviewType, Pageable pageable) {
-        return reviewRepository.findByReviewTypeOrderByCreatedAtDesc(reviewType, pageable)
-                .map(reviewMapper::toResponseDto);
+    /**
+     * 후기 피드 (키셋 페이지네이션, COUNT 없음).
+     */
+    public CursorPageResponseDto<ReviewResponseDto> getReviewFeed(String after, int size) {
+        PageCursor cursor = PageCursor.decode(after);
+        int limit = PageCursor.clampSize(size);
+        List<Review> reviews = cursor == null
+                ? reviewRepository.findFeed(PageCursor.lookahead(limit))
+                : reviewRepository.findFeedAfter(cursor.createdAt(), cursor.id(), PageCursor.lookahead(limit));
+        List<ReviewResponseDto> rows = reviews.stream().map(reviewMapper::toResponseDto).toList();
+        return CursorPageResponseDto.of(rows, limit, review -> new PageCursor(review.createdAt(), review.id()));
     }
 
-    public Page<ReviewResponseDto> searchReviews(String keyword, Pageable pageable) {
-        return reviewRepository.findByTitleContainingOrContentContainingOrderByCreatedAtDesc(
-                        keyword, keyword, pageable)
+    public Page<ReviewResponseDto> getReviewsByType(ReviewType reviewType, Pageable pageable) {
+        return reviewRepository.findByReviewTypeOrderByCreatedAtDesc(reviewType, pageable)
                 .map(reviewMapper::toResponseDto);
     }
 
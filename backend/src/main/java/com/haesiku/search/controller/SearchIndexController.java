@@ -0,0 +1,38 @@
+package com.haesiku.search.controller;
+
+import com.haesiku.search.dto.SearchIndexStatsDto;
+import com.haesiku.search.service.PostSearchIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Search Index", description = "[관리자] 메모리 검색 색인 API (search.engine=memory 일 때만 활성화)")
+@RestController
+@RequestMapping("/api/search/index")
+@ConditionalOnProperty(name = "search.engine", havingValue = "memory")
+@RequiredArgsConstructor
+public class SearchIndexController {
+
+    private final PostSearchIndex postSearchIndex;
+
+    @Operation(summary = "색인 상태 조회", description = "색인된 문서·토큰 수와 추정 메모리 사용량을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "색인 상태 조회 성공")
+    @GetMapping("/stats")
+    public ResponseEntity<SearchIndexStatsDto> getStats() {
+        return ResponseEntity.ok(postSearchIndex.stats());
+    }
+
+    @Operation(summary = "전체 재색인", description = "모든 게시글을 다시 읽어 색인을 새로 만듭니다. 완료 전까지는 기존 색인으로 검색합니다.")
+    @ApiResponse(responseCode = "200", description = "재색인 성공")
+    @PostMapping("/rebuild")
+    public ResponseEntity<SearchIndexStatsDto> rebuild() {
+        return ResponseEntity.ok(postSearchIndex.rebuild());
+    }
+}
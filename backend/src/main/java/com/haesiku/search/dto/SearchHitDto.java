@@ -0,0 +1,17 @@
+package com.haesiku.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "검색 결과 항목")
+public record SearchHitDto<T>(
+        @Schema(description = "검색된 항목")
+        T item,
+
+        @Schema(description = "검색 관련도 점수 (높을수록 관련도 높음)", example = "0.35")
+        double score,
+
+        @Schema(description = "검색어가 <mark>로 강조된 미리보기 (HTML 이스케이프됨)",
+                example = "… <mark>Spring</mark> Boot는 …")
+        String highlight
+) {
+}
@@ -0,0 +1,30 @@
+package com.haesiku.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "메모리 검색 색인 상태")
+public record SearchIndexStatsDto(
+        @Schema(description = "색인된 게시글 수", example = "128")
+        int documents,
+
+        @Schema(description = "고유 토큰 수", example = "45210")
+        int terms,
+
+        @Schema(description = "전체 posting 수", example = "310442")
+        long postings,
+
+        @Schema(description = "삭제·교체되어 비어 있는 문서 슬롯 수 (유효 문서 수보다 많아지면 압축·재색인 시 정리됨)", example = "3")
+        int deletedSlots,
+
+        @Schema(description = "추정 메모리 사용량 (bytes)", example = "9437184")
+        long estimatedBytes,
+
+        @Schema(description = "마지막 전체 재색인 시각", example = "2025-01-15T10:30:00")
+        LocalDateTime lastRebuiltAt,
+
+        @Schema(description = "마지막 전체 재색인 소요 시간 (ms)", example = "850")
+        long lastRebuildMillis
+) {
+}
@@ -0,0 +1,11 @@
+package com.haesiku.search.dto;
+
+/**
+ * 전문 검색 쿼리의 결과 행 (id + 관련도 점수).
+ */
+public interface SearchRankView {
+
+    Long getId();
+
+    Double getRank();
+}
@@ -0,0 +1,318 @@
+package com.haesiku.search.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * BM25 점수를 계산하는 메모리 역색인.
+ * posting 목록은 내부 문서 번호(int)와 빈도(int)를 원시 배열로 보관하며, 문서 번호 오름차순으로 정렬되어 있다.
+ * 문서 교체는 기존 posting 제거 후 새 문서 번호로 추가하는 방식으로 처리한다.
+ * 삭제·교체로 빈 문서 슬롯이 유효 문서 수보다 많아지면 문서 번호를 다시 매겨 빈 슬롯과 posting 배열의 여유 공간을 정리한다.
+ */
+public final class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /** 빈 문서 슬롯이 이 수 이상이고 유효 문서 수보다 많으면 압축한다. 문서가 적을 때 압축이 잦지 않게 하는 하한이다. */
+    static final int MIN_DELETED_SLOTS_TO_COMPACT = 64;
+
+    private final NavigableMap<String, Postings> dictionary = new TreeMap<>();
+    private final Map<Long, Integer> docNumbers = new HashMap<>();
+    private final ArrayList<DocEntry> docs = new ArrayList<>();
+    private long totalLength;
+    private long postingCount;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서를 추가하거나, 이미 있으면 교체한다.
+     *
+     * @param externalId 게시글 ID
+     * @param termFreqs  토큰별 (가중치가 반영된) 빈도
+     */
+    public void put(long externalId, Map<String, Integer> termFreqs) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(externalId);
+
+            int docNumber = docs.size();
+            String[] terms = termFreqs.keySet().toArray(String[]::new);
+            int length = 0;
+            for (String term : terms) {
+                int freq = termFreqs.get(term);
+                dictionary.computeIfAbsent(term, t -> new Postings()).append(docNumber, freq);
+                length += freq;
+            }
+            docs.add(new DocEntry(externalId, length, terms));
+            docNumbers.put(externalId, docNumber);
+            totalLength += length;
+            postingCount += terms.length;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long externalId) {
+        lock.writeLock().lock();
+        try {
+            boolean removed = removeInternal(externalId);
+            compactIfNeeded();
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean removeInternal(long externalId) {
+        Integer docNumber = docNumbers.remove(externalId);
+        if (docNumber == null) {
+            return false;
+        }
+        DocEntry entry = docs.get(docNumber);
+        for (String term : entry.terms) {
+            Postings postings = dictionary.get(term);
+            if (postings != null && postings.remove(docNumber) && postings.size == 0) {
+                dictionary.remove(term);
+            }
+        }
+        docs.set(docNumber, null);
+        totalLength -= entry.length;
+        postingCount -= entry.terms.length;
+        return true;
+    }
+
+    private void compactIfNeeded() {
+        int deletedSlots = docs.size() - docNumbers.size();
+        if (deletedSlots >= MIN_DELETED_SLOTS_TO_COMPACT && deletedSlots > docNumbers.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * 빈 슬롯을 빼고 문서 번호를 0부터 다시 매긴다. 번호의 순서는 그대로이므로 posting 목록은 정렬을 유지한 채
+     * 번호만 바꾸면 되고, 전체 posting 수에 비례하는 시간이 든다.
+     */
+    private void compact() {
+        int[] renumbered = new int[docs.size()];
+        List<DocEntry> live = new ArrayList<>(docNumbers.size());
+        for (int docNumber = 0; docNumber < docs.size(); docNumber++) {
+            DocEntry entry = docs.get(docNumber);
+            if (entry == null) {
+                renumbered[docNumber] = -1;
+                continue;
+            }
+            renumbered[docNumber] = live.size();
+            docNumbers.put(entry.externalId, live.size());
+            live.add(entry);
+        }
+        for (Postings postings : dictionary.values()) {
+            postings.renumber(renumbered);
+        }
+        docs.clear();
+        docs.addAll(live);
+        docs.trimToSize();
+    }
+
+    /**
+     * 모든 검색어를 포함하는(AND) 문서를 BM25 점수 순으로 반환한다.
+     *
+     * @param terms      검색어 토큰
+     * @param prefixLast 마지막 토큰을 접두어로 취급할지 여부
+     */
+    public SearchResult search(List<String> terms, boolean prefixLast, int offset, int limit) {
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int docCount = docNumbers.size();
+            if (docCount == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+            double avgLength = (double) totalLength / docCount;
+
+            List<List<Postings>> groups = new ArrayList<>(terms.size());
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                List<Postings> group = prefixLast && i == terms.size() - 1
+                        ? new ArrayList<>(dictionary.subMap(term, true, term + Character.MAX_VALUE, false).values())
+                        : singleton(dictionary.get(term));
+                if (group.isEmpty()) {
+                    return new SearchResult(List.of(), 0);
+                }
+                groups.add(group);
+            }
+
+            int[] candidates = null;
+            for (List<Postings> group : groups) {
+                int[] docsInGroup = union(group);
+                candidates = candidates == null ? docsInGroup : intersect(candidates, docsInGroup);
+                if (candidates.length == 0) {
+                    return new SearchResult(List.of(), 0);
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(candidates.length);
+            for (int docNumber : candidates) {
+                DocEntry entry = docs.get(docNumber);
+                double norm = K1 * (1 - B + B * entry.length / avgLength);
+                double score = 0;
+                for (List<Postings> group : groups) {
+                    for (Postings postings : group) {
+                        int freq = postings.freqOf(docNumber);
+                        if (freq > 0) {
+                            double idf = Math.log(1 + (docCount - postings.size + 0.5) / (postings.size + 0.5));
+                            score += idf * (freq * (K1 + 1)) / (freq + norm);
+                        }
+                    }
+                }
+                hits.add(new Hit(entry.externalId, score));
+            }
+            hits.sort((a, b) -> a.score() != b.score()
+                    ? Double.compare(b.score(), a.score())
+                    : Long.compare(b.id(), a.id()));
+
+            int from = Math.min(offset, hits.size());
+            int to = Math.min(from + limit, hits.size());
+            return new SearchResult(List.copyOf(hits.subList(from, to)), hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public IndexStats stats() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Map.Entry<String, Postings> entry : dictionary.entrySet()) {
+                // TreeMap 엔트리(40) + String(40 + 2 * 길이) + Postings 객체(24) + 두 배열(16 * 2 + 4 * 용량 * 2)
+                bytes += 40 + 40 + 2L * entry.getKey().length() + 24 + 32 + 8L * entry.getValue().docs.length;
+            }
+            for (DocEntry entry : docs) {
+                // 삭제된 슬롯은 참조(8)만, 유효 문서는 DocEntry(32) + 토큰 참조 배열(16 + 8 * n) + HashMap 엔트리(64)
+                bytes += 8;
+                if (entry != null) {
+                    bytes += 32 + 16 + 8L * entry.terms.length + 64;
+                }
+            }
+            return new IndexStats(docNumbers.size(), dictionary.size(), postingCount,
+                    docs.size() - docNumbers.size(), bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Postings> singleton(Postings postings) {
+        return postings == null ? List.of() : List.of(postings);
+    }
+
+    private static int[] union(List<Postings> group) {
+        if (group.size() == 1) {
+            Postings only = group.get(0);
+            return Arrays.copyOf(only.docs, only.size);
+        }
+        int total = 0;
+        for (Postings postings : group) {
+            total += postings.size;
+        }
+        int[] merged = new int[total];
+        int n = 0;
+        for (Postings postings : group) {
+            System.arraycopy(postings.docs, 0, merged, n, postings.size);
+            n += postings.size;
+        }
+        Arrays.sort(merged);
+        int unique = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (i == 0 || merged[i] != merged[i - 1]) {
+                merged[unique++] = merged[i];
+            }
+        }
+        return Arrays.copyOf(merged, unique);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                result[n++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    public record Hit(long id, double score) {
+    }
+
+    public record SearchResult(List<Hit> hits, int totalHits) {
+    }
+
+    public record IndexStats(int documents, int terms, long postings, int deletedSlots, long estimatedBytes) {
+    }
+
+    private record DocEntry(long externalId, int length, String[] terms) {
+    }
+
+    private static final class Postings {
+
+        private int[] docs = new int[2];
+        private int[] freqs = new int[2];
+        private int size;
+
+        /** 문서 번호는 항상 증가하므로 끝에 추가해도 정렬이 유지된다. */
+        private void append(int docNumber, int freq) {
+            if (size == docs.length) {
+                int capacity = size + (size >> 1) + 1;
+                docs = Arrays.copyOf(docs, capacity);
+                freqs = Arrays.copyOf(freqs, capacity);
+            }
+            docs[size] = docNumber;
+            freqs[size] = freq;
+            size++;
+        }
+
+        private boolean remove(int docNumber) {
+            int index = Arrays.binarySearch(docs, 0, size, docNumber);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+            System.arraycopy(freqs, index + 1, freqs, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        /** 압축 후 번호로 바꾸고 배열을 실제 크기로 줄인다. 삭제된 문서는 이미 빠져 있다. */
+        private void renumber(int[] renumbered) {
+            docs = Arrays.copyOf(docs, size);
+            freqs = Arrays.copyOf(freqs, size);
+            for (int i = 0; i < size; i++) {
+                docs[i] = renumbered[docs[i]];
+            }
+        }
+
+        private int freqOf(int docNumber) {
+            int index = Arrays.binarySearch(docs, 0, size, docNumber);
+            return index < 0 ? 0 : freqs[index];
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.haesiku.search.service;
+
+import com.haesiku.blog.entity.Post;
+import com.haesiku.blog.entity.Tag;
+import com.haesiku.blog.event.PostChangedEvent;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.common.util.SearchTokenizer;
+import com.haesiku.search.dto.SearchIndexStatsDto;
+import com.haesiku.search.index.InvertedIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * search.engine=memory 일 때 사용하는 게시글 메모리 역색인.
+ * 기동 시 전체 게시글로 색인을 만들고, 이후에는 {@link PostChangedEvent}로 변경된 게시글만 갱신한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "memory")
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 200;
+
+    // 필드별 가중치: 토큰 빈도에 곱해 BM25 점수에 반영한다.
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int SUMMARY_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+    private volatile LocalDateTime lastRebuiltAt;
+    private volatile long lastRebuildMillis;
+
+    /** 재색인 도중 변경된 게시글. 새 색인으로 교체한 뒤 다시 반영한다. */
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 전체 게시글을 읽어 새 색인을 만든 뒤 교체한다. 교체 전까지는 기존 색인으로 검색한다.
+     */
+    public SearchIndexStatsDto rebuild() {
+        // 재색인은 DB를 읽으므로 가상 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock을 쓴다.
+        rebuildLock.lock();
+        try {
+            return rebuildIndex();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private SearchIndexStatsDto rebuildIndex() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            InvertedIndex fresh = new InvertedIndex();
+            int pageNumber = 0;
+            Page<Long> page;
+            do {
+                int current = pageNumber;
+                page = transactionTemplate.execute(status -> {
+                    Page<Long> ids = postRepository.findIdPage(
+                            PageRequest.of(current, REBUILD_PAGE_SIZE, Sort.by("id")));
+                    if (ids.hasContent()) {
+                        postRepository.findWithTagsByIdIn(ids.getContent())
+                                .forEach(post -> fresh.put(post.getId(), termFreqs(post)));
+                    }
+                    return ids;
+                });
+                pageNumber++;
+            } while (page != null && page.hasNext());
+
+            index = fresh;
+        } finally {
+            rebuilding = false;
+        }
+        for (Long postId : changedDuringRebuild) {
+            reindex(postId);
+        }
+        changedDuringRebuild.clear();
+
+        lastRebuildMillis = System.currentTimeMillis() - start;
+        lastRebuiltAt = LocalDateTime.now();
+        SearchIndexStatsDto stats = stats();
+        log.info("게시글 검색 색인 생성 완료: 문서 {}개, 토큰 {}개, 약 {}KB, {}ms",
+                stats.documents(), stats.terms(), stats.estimatedBytes() / 1024, lastRebuildMillis);
+        return stats;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event.postId());
+        }
+        if (event.type() == PostChangedEvent.ChangeType.DELETED) {
+            index.remove(event.postId());
+        } else {
+            reindex(event.postId());
+        }
+    }
+
+    public InvertedIndex.SearchResult search(String keyword, int offset, int limit) {
+        List<String> terms = SearchTokenizer.tokenize(keyword).stream().distinct().toList();
+        boolean prefixLast = !keyword.isEmpty() && !Character.isWhitespace(keyword.charAt(keyword.length() - 1));
+        return index.search(terms, prefixLast, offset, limit);
+    }
+
+    public SearchIndexStatsDto stats() {
+        InvertedIndex.IndexStats stats = index.stats();
+        return new SearchIndexStatsDto(
+                stats.documents(),
+                stats.terms(),
+                stats.postings(),
+                stats.deletedSlots(),
+                stats.estimatedBytes(),
+                lastRebuiltAt,
+                lastRebuildMillis
+        );
+    }
+
+    private void reindex(Long postId) {
+        transactionTemplate.executeWithoutResult(status -> postRepository.findById(postId).ifPresentOrElse(
+                post -> index.put(post.getId(), termFreqs(post)),
+                () -> index.remove(postId)));
+    }
+
+    private static Map<String, Integer> termFreqs(Post post) {
+        Map<String, Integer> freqs = new HashMap<>();
+        addTokens(freqs, post.getTitle(), TITLE_WEIGHT);
+        addTokens(freqs, post.getSummary(), SUMMARY_WEIGHT);
+        for (Tag tag : post.getTags()) {
+            addTokens(freqs, tag.getName(), TAG_WEIGHT);
+        }
+        addTokens(freqs, post.getContent(), CONTENT_WEIGHT);
+        return freqs;
+    }
+
+    private static void addTokens(Map<String, Integer> freqs, String text, int weight) {
+        for (String token : SearchTokenizer.tokenize(text)) {
+            freqs.merge(token, weight, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.haesiku.search.service;
+
+import com.haesiku.blog.entity.Post;
+import com.haesiku.blog.entity.Tag;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.review.entity.Review;
+import com.haesiku.review.repository.ReviewRepository;
+import com.haesiku.search.util.TsVectorUtils;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글/후기의 검색 문서(search_vector 컬럼)를 갱신한다.
+ * 가중치: 제목(A) > 요약·태그·책 정보(B) > 본문(C)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchDocumentWriter {
+
+    private static final int BACKFILL_CHUNK_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    public void indexPost(Post post) {
+        String tagNames = post.getTags().stream()
+                .map(Tag::getName)
+                .collect(Collectors.joining(" "));
+        String vector = TsVectorUtils.builder()
+                .add(post.getTitle(), 'A')
+                .add(post.getSummary(), 'B')
+                .add(tagNames, 'B')
+                .add(post.getContent(), 'C')
+                .build();
+        postRepository.updateSearchVector(post.getId(), vector);
+    }
+
+    public void indexReview(Review review) {
+        String vector = TsVectorUtils.builder()
+                .add(review.getTitle(), 'A')
+                .add(review.getItemTitle(), 'B')
+                .add(review.getItemAuthor(), 'B')
+                .add(review.getContent(), 'C')
+                .build();
+        reviewRepository.updateSearchVector(review.getId(), vector);
+    }
+
+    /**
+     * 검색 문서가 없는 기존 데이터(컬럼 추가 이전에 작성된 글)를 기동 시 색인한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int posts = backfillChunks(() -> {
+            List<Long> ids = postRepository.findIdsWithoutSearchVector(BACKFILL_CHUNK_SIZE);
+            if (!ids.isEmpty()) {
+                postRepository.findWithTagsByIdIn(ids).forEach(this::indexPost);
+            }
+            return ids.size();
+        });
+        int reviews = backfillChunks(() -> {
+            List<Long> ids = reviewRepository.findIdsWithoutSearchVector(BACKFILL_CHUNK_SIZE);
+            reviewRepository.findAllById(ids).forEach(this::indexReview);
+            return ids.size();
+        });
+        if (posts + reviews > 0) {
+            log.info("검색 문서 색인 완료: 게시글 {}건, 후기 {}건", posts, reviews);
+        }
+    }
+
+    private int backfillChunks(IntSupplier chunk) {
+        int total = 0;
+        while (true) {
+            Integer indexed;
+            try {
+                indexed = transactionTemplate.execute(status -> chunk.getAsInt());
+            } finally {
+                // 일괄 가져오기 요청(open-in-view)에서 불리면 청크 트랜잭션이 끝나도 요청의 EntityManager에 엔티티가 남는다.
+                entityManager.clear();
+            }
+            if (indexed == null || indexed == 0) {
+                return total;
+            }
+            total += indexed;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.haesiku.search.service;
+
+import com.haesiku.blog.dto.PostSummaryDto;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.blog.service.PostSummaryAssembler;
+import com.haesiku.review.dto.ReviewResponseDto;
+import com.haesiku.review.entity.Review;
+import com.haesiku.review.mapper.ReviewMapper;
+import com.haesiku.review.repository.ReviewRepository;
+import com.haesiku.search.dto.SearchHitDto;
+import com.haesiku.search.dto.SearchRankView;
+import com.haesiku.search.index.InvertedIndex;
+import com.haesiku.search.util.HighlightUtils;
+import com.haesiku.search.util.TsVectorUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL 전문 검색(tsvector + GIN 인덱스) 기반 게시글/후기 검색.
+ * search.engine=memory 이면 게시글 검색은 DB 대신 메모리 역색인({@link PostSearchIndex})으로 순위를 계산한다.
+ * 결과는 관련도 순으로 정렬되며, 검색어가 강조된 미리보기를 함께 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchService {
+
+    private final PostRepository postRepository;
+    private final ReviewRepository reviewRepository;
+    private final PostSummaryAssembler postSummaryAssembler;
+    private final ReviewMapper reviewMapper;
+    private final ObjectProvider<PostSearchIndex> postSearchIndex;
+
+    public Page<SearchHitDto<PostSummaryDto>> searchPosts(String keyword, Pageable pageable) {
+        PostSearchIndex index = postSearchIndex.getIfAvailable();
+        Page<Ranked> ranks = index != null
+                ? searchPostsInMemory(index, keyword, pageable)
+                : searchPostsInDatabase(keyword, pageable);
+        List<Long> ids = ranks.getContent().stream().map(Ranked::id).toList();
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranks.getTotalElements());
+        }
+
+        Map<Long, PostSummaryDto> posts = postSummaryAssembler.assemble(postRepository.findSummariesByIds(ids));
+        Map<Long, String> contents = postRepository.findContentsByIds(ids).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (String) row[1]));
+        List<String> words = HighlightUtils.queryWords(keyword);
+
+        // 메모리 색인과 DB 사이에 삭제 시차가 있을 수 있으므로 조회되지 않은 id는 제외한다.
+        List<SearchHitDto<PostSummaryDto>> hits = ranks.getContent().stream()
+                .filter(rank -> posts.containsKey(rank.id()))
+                .map(rank -> {
+                    PostSummaryDto post = posts.get(rank.id());
+                    return new SearchHitDto<>(
+                            post,
+                            rank.score(),
+                            HighlightUtils.snippet(words, contents.get(post.id()), post.summary(), post.title()));
+                })
+                .toList();
+        return new PageImpl<>(hits, ranks.getPageable(), ranks.getTotalElements());
+    }
+
+    private Page<Ranked> searchPostsInDatabase(String keyword, Pageable pageable) {
+        String query = TsVectorUtils.toTsQuery(keyword);
+        if (query.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        // 정렬은 관련도 순으로 고정되므로 요청의 sort는 무시한다.
+        return postRepository.searchByTsQuery(query, unsorted(pageable))
+                .map(view -> new Ranked(view.getId(), view.getRank()));
+    }
+
+    private Page<Ranked> searchPostsInMemory(PostSearchIndex index, String keyword, Pageable pageable) {
+        InvertedIndex.SearchResult result = index.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+        List<Ranked> ranks = result.hits().stream()
+                .map(hit -> new Ranked(hit.id(), hit.score()))
+                .toList();
+        return new PageImpl<>(ranks, unsorted(pageable), result.totalHits());
+    }
+
+    public Page<SearchHitDto<ReviewResponseDto>> searchReviews(String keyword, Pageable pageable) {
+        String query = TsVectorUtils.toTsQuery(keyword);
+        if (query.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Page<SearchRankView> ranks = reviewRepository.searchByTsQuery(query, unsorted(pageable));
+        List<Long> ids = ranks.getContent().stream().map(SearchRankView::getId).toList();
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranks.getTotalElements());
+        }
+
+        Map<Long, Review> reviews = reviewRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+        List<String> words = HighlightUtils.queryWords(keyword);
+
+        return ranks.map(rank -> {
+            Review review = reviews.get(rank.getId());
+            return new SearchHitDto<>(
+                    reviewMapper.toResponseDto(review),
+                    rank.getRank(),
+                    HighlightUtils.snippet(words, review.getContent(), review.getItemTitle(), review.getTitle()));
+        });
+    }
+
+    private static Pageable unsorted(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
+
+    private record Ranked(Long id, double score) {
+    }
+}
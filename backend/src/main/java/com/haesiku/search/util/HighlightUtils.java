@@ -0,0 +1,100 @@
+package com.haesiku.search.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 결과 미리보기(snippet)를 만들고 검색어를 &lt;mark&gt; 태그로 강조하는 유틸리티.
+ * 반환값은 HTML 이스케이프된 문자열이다.
+ */
+public final class HighlightUtils {
+
+    private HighlightUtils() {
+    }
+
+    private static final int CONTEXT_LENGTH = 60;
+    private static final int MAX_SNIPPET_LENGTH = CONTEXT_LENGTH * 3;
+
+    private static final Pattern MARKDOWN_SYMBOLS = Pattern.compile("[#*_`>~|\\[\\]]+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    public static List<String> queryWords(String keyword) {
+        if (keyword == null) {
+            return List.of();
+        }
+        return Arrays.stream(WHITESPACES.split(keyword.trim().toLowerCase(Locale.ROOT)))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 검색어가 처음 등장하는 source를 골라 앞뒤 문맥을 포함한 snippet을 만든다.
+     * 어느 source에도 검색어가 없으면 첫 번째 source의 앞부분을 사용한다.
+     */
+    public static String snippet(List<String> words, String... sources) {
+        String fallback = null;
+        for (String source : sources) {
+            if (source == null || source.isBlank()) {
+                continue;
+            }
+            String plain = WHITESPACES.matcher(MARKDOWN_SYMBOLS.matcher(source).replaceAll(" ")).replaceAll(" ").trim();
+            if (fallback == null) {
+                fallback = plain;
+            }
+            int index = firstIndexOf(plain.toLowerCase(Locale.ROOT), words);
+            if (index >= 0) {
+                int start = Math.max(0, index - CONTEXT_LENGTH);
+                int end = Math.min(plain.length(), start + MAX_SNIPPET_LENGTH);
+                return (start > 0 ? "…" : "") + highlight(plain.substring(start, end), words)
+                        + (end < plain.length() ? "…" : "");
+            }
+        }
+        if (fallback == null) {
+            return "";
+        }
+        return HtmlUtils.htmlEscape(fallback.length() > MAX_SNIPPET_LENGTH
+                ? fallback.substring(0, MAX_SNIPPET_LENGTH) + "…"
+                : fallback);
+    }
+
+    private static int firstIndexOf(String lowerText, List<String> words) {
+        int first = -1;
+        for (String word : words) {
+            int index = lowerText.indexOf(word);
+            if (index >= 0 && (first < 0 || index < first)) {
+                first = index;
+            }
+        }
+        return first;
+    }
+
+    private static String highlight(String text, List<String> words) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(text.length() + 32);
+        int i = 0;
+        while (i < text.length()) {
+            String matched = null;
+            for (String word : words) {
+                if (lower.startsWith(word, i) && (matched == null || word.length() > matched.length())) {
+                    matched = word;
+                }
+            }
+            if (matched != null) {
+                int end = Math.min(text.length(), i + matched.length());
+                sb.append("<mark>")
+                        .append(HtmlUtils.htmlEscape(text.substring(i, end)))
+                        .append("</mark>");
+                i = end;
+            } else {
+                sb.append(HtmlUtils.htmlEscape(String.valueOf(text.charAt(i))));
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.haesiku.search.util;
+
+import com.haesiku.common.util.SearchTokenizer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * PostgreSQL tsvector / tsquery 리터럴을 생성하는 유틸리티.
+ * 토큰화는 {@link SearchTokenizer}가 담당하므로 DB에서는 'simple' 설정처럼 그대로 색인된다.
+ */
+public final class TsVectorUtils {
+
+    private TsVectorUtils() {
+    }
+
+    // PostgreSQL 제한: 위치값 최대 16383, lexeme 당 위치 최대 256개
+    private static final int MAX_POSITION = 16383;
+    private static final int MAX_POSITIONS_PER_LEXEME = 256;
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 검색 키워드를 AND 조건의 tsquery 리터럴로 변환한다.
+     * 입력 중인 마지막 단어는 접두어 검색(:*)으로 처리한다.
+     *
+     * @return tsquery 리터럴, 검색 가능한 토큰이 없으면 빈 문자열
+     */
+    public static String toTsQuery(String keyword) {
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(keyword));
+        if (terms.isEmpty()) {
+            return "";
+        }
+
+        boolean prefixLast = !Character.isWhitespace(keyword.charAt(keyword.length() - 1));
+        List<String> termList = new ArrayList<>(terms);
+        StringJoiner joiner = new StringJoiner(" & ");
+        for (int i = 0; i < termList.size(); i++) {
+            String lexeme = quote(termList.get(i));
+            joiner.add(prefixLast && i == termList.size() - 1 ? lexeme + ":*" : lexeme);
+        }
+        return joiner.toString();
+    }
+
+    private static String quote(String term) {
+        return "'" + term.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+
+    public static final class Builder {
+
+        private final Map<String, List<String>> positions = new LinkedHashMap<>();
+        private int position = 0;
+
+        private Builder() {
+        }
+
+        /**
+         * @param text   색인할 텍스트 (null 허용)
+         * @param weight 가중치 A(가장 높음) ~ D
+         */
+        public Builder add(String text, char weight) {
+            for (String token : SearchTokenizer.tokenize(text)) {
+                if (position < MAX_POSITION) {
+                    position++;
+                }
+                List<String> list = positions.computeIfAbsent(token, t -> new ArrayList<>());
+                if (list.size() < MAX_POSITIONS_PER_LEXEME) {
+                    list.add(position + String.valueOf(weight));
+                }
+            }
+            return this;
+        }
+
+        public String build() {
+            StringJoiner joiner = new StringJoiner(" ");
+            positions.forEach((term, list) -> joiner.add(quote(term) + ":" + String.join(",", list)));
+            return joiner.toString();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.haesiku.transfer.cli;
+
+import com.haesiku.transfer.dto.BulkImportErrorDto;
+import com.haesiku.transfer.dto.BulkImportProgressDto;
+import com.haesiku.transfer.service.BulkExportService;
+import com.haesiku.transfer.service.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.SpringApplication;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 명령줄 일괄 가져오기·내보내기.
+ * --transfer.import=파일 또는 --transfer.export=파일 옵션이 있을 때만 실행하고, 끝나면 {@link com.haesiku.Application}이
+ * {@link SpringApplication#exit}로 애플리케이션을 종료한다. 종료 코드는 이 빈이 {@link ExitCodeGenerator}로 돌려준다
+ * (가져오기에서 실패한 줄이 있으면 1). 둘 다 주면 가져온 뒤 내보낸다.
+ * 웹 서버 없이 실행하려면 --spring.main.web-application-type=none 을 함께 준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferCommandRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    static final String IMPORT_OPTION = "transfer.import";
+    static final String EXPORT_OPTION = "transfer.export";
+
+    private final BulkImportService bulkImportService;
+    private final BulkExportService bulkExportService;
+
+    private volatile boolean completed;
+    private volatile int exitCode;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path importPath = optionPath(args, IMPORT_OPTION);
+        Path exportPath = optionPath(args, EXPORT_OPTION);
+        if (importPath == null && exportPath == null) {
+            return;
+        }
+
+        int code = 0;
+        if (importPath != null) {
+            log.info("가져오기 시작: {}", importPath);
+            try (InputStream input = Files.newInputStream(importPath)) {
+                BulkImportProgressDto result = bulkImportService.importNdjson(input, this::logProgress);
+                if (result.rejected() > 0) {
+                    code = 1;
+                }
+            }
+        }
+        if (exportPath != null) {
+            log.info("내보내기 시작: {}", exportPath);
+            try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(exportPath))) {
+                bulkExportService.exportNdjson(output);
+            }
+        }
+
+        exitCode = code;
+        completed = true;
+    }
+
+    /**
+     * 가져오기·내보내기 명령을 실행했는지. 실행했으면 애플리케이션은 서버로 남지 않고 종료한다.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private void logProgress(BulkImportProgressDto progress) {
+        for (BulkImportErrorDto error : progress.errors()) {
+            log.warn("가져오지 못함 ({}~{}행): {}", error.fromLine(), error.toLine(), error.message());
+        }
+        if (!progress.done()) {
+            log.info("가져오기 진행: {}줄, 게시글 {}건, 후기 {}건, 실패 {}줄",
+                    progress.lines(), progress.posts(), progress.reviews(), progress.rejected());
+        }
+    }
+
+    private static Path optionPath(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+        if (values == null || values.isEmpty() || values.get(0).isBlank()) {
+            return null;
+        }
+        return Path.of(values.get(0));
+    }
+}
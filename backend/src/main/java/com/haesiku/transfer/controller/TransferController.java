@@ -0,0 +1,100 @@
+package com.haesiku.transfer.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.haesiku.transfer.dto.BulkImportProgressDto;
+import com.haesiku.transfer.dto.TransferRecordDto;
+import com.haesiku.transfer.service.BulkExportService;
+import com.haesiku.transfer.service.BulkImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 요청·응답 본문을 서블릿 스트림으로 직접 읽고 써서 입력·출력 전체를 메모리에 올리지 않는다.
+ * 비동기 응답(ResponseBodyEmitter)의 타임아웃에 걸리지 않도록 요청 스레드에서 끝까지 처리한다.
+ */
+@Tag(name = "Transfer", description = "[관리자] 게시글·후기 일괄 가져오기/내보내기 API (NDJSON)")
+@RestController
+@RequestMapping("/api/transfer")
+@RequiredArgsConstructor
+public class TransferController {
+
+    private final BulkImportService bulkImportService;
+    private final BulkExportService bulkExportService;
+    private final ObjectMapper objectMapper;
+
+    @Operation(summary = "일괄 가져오기",
+            description = "한 줄에 게시글(type: post) 또는 후기(type: review) 하나인 NDJSON을 읽어 청크 단위로 저장합니다. "
+                    + "청크를 커밋할 때마다 진행 상황을 NDJSON 한 줄로 보내고, 마지막 줄(done: true)에 최종 결과를 보냅니다. "
+                    + "형식이 잘못된 줄과 저장에 실패한 청크는 건너뛰고 errors에 남깁니다.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = TransferRecordDto.class))))
+    @ApiResponse(responseCode = "200", description = "진행 상황 스트림",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = BulkImportProgressDto.class)))
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importRecords(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        ProgressWriter writer = new ProgressWriter(response.getOutputStream());
+        bulkImportService.importNdjson(request.getInputStream(), writer::write);
+    }
+
+    @Operation(summary = "일괄 내보내기",
+            description = "모든 게시글과 후기를 가져오기 입력과 같은 NDJSON 형식으로 내려받습니다. 청크 단위로 읽어 바로 스트리밍합니다.")
+    @ApiResponse(responseCode = "200", description = "내보내기 스트림",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = TransferRecordDto.class)))
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportRecords(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("haesiku-export-" + LocalDate.now() + ".ndjson")
+                .build()
+                .toString());
+        bulkExportService.exportNdjson(response.getOutputStream());
+    }
+
+    /**
+     * 진행 상황을 한 줄씩 보내고 바로 flush한다. 클라이언트 연결이 끊겨도 가져오기는 끝까지 진행한다.
+     */
+    @RequiredArgsConstructor
+    private class ProgressWriter {
+
+        private final OutputStream output;
+        private boolean disconnected;
+
+        void write(BulkImportProgressDto progress) {
+            if (disconnected) {
+                return;
+            }
+            try {
+                output.write(objectMapper.writeValueAsBytes(progress));
+                output.write('\n');
+                output.flush();
+            } catch (IOException e) {
+                disconnected = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.haesiku.transfer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "가져오지 못한 줄")
+public record BulkImportErrorDto(
+        @Schema(description = "첫 줄 번호 (1부터)", example = "12")
+        long fromLine,
+
+        @Schema(description = "마지막 줄 번호 (한 줄이면 fromLine과 같음, 청크 저장이 실패하면 청크 전체)", example = "12")
+        long toLine,
+
+        @Schema(description = "실패 사유", example = "title: 제목은 필수입니다")
+        String message
+) {
+}
@@ -0,0 +1,30 @@
+package com.haesiku.transfer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "일괄 가져오기 진행 상황 (청크를 커밋할 때마다 NDJSON 한 줄, 마지막 줄은 done = true)")
+public record BulkImportProgressDto(
+        @Schema(description = "가져오기 완료 여부", example = "false")
+        boolean done,
+
+        @Schema(description = "지금까지 읽은 줄 수", example = "1500")
+        long lines,
+
+        @Schema(description = "저장한 게시글 수", example = "1200")
+        int posts,
+
+        @Schema(description = "저장한 후기 수", example = "280")
+        int reviews,
+
+        @Schema(description = "새로 만든 카테고리 수", example = "4")
+        int categoriesCreated,
+
+        @Schema(description = "가져오지 못한 줄 수", example = "20")
+        int rejected,
+
+        @Schema(description = "직전 진행 보고 이후 새로 생긴 실패 목록 (보고마다 최대 100건)")
+        List<BulkImportErrorDto> errors
+) {
+}
@@ -0,0 +1,69 @@
+package com.haesiku.transfer.dto;
+
+import com.haesiku.blog.entity.Post;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.entity.Tag;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "가져오기·내보내기 게시글 (type: post)")
+public record PostTransferDto(
+        @Schema(description = "게시글 제목", example = "Spring Boot 시작하기", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "제목은 필수입니다")
+        @Size(max = 200, message = "제목은 200자 이하여야 합니다")
+        String title,
+
+        @Schema(description = "원하는 slug (생략하면 제목으로 만들며, 이미 쓰이고 있으면 -2, -3 ... 접미사를 붙임)",
+                example = "spring-boot-sijaghagi")
+        String slug,
+
+        @Schema(description = "게시글 내용 (Markdown)", example = "# Spring Boot\nSpring Boot는 ...", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "내용은 필수입니다")
+        String content,
+
+        @Schema(description = "게시글 요약", example = "Spring Boot 입문 가이드")
+        @Size(max = 500, message = "요약은 500자 이하여야 합니다")
+        String summary,
+
+        @Schema(description = "작성자", example = "haesiku", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "작성자는 필수입니다")
+        String author,
+
+        @Schema(description = "게시 상태 (생략하면 DRAFT)", example = "PUBLISHED")
+        PostStatus status,
+
+        @Schema(description = "카테고리 이름 (없으면 새로 만듦, null이면 미분류)", example = "Backend")
+        @Size(max = 255, message = "카테고리 이름은 255자 이하여야 합니다")
+        String category,
+
+        @Schema(description = "태그 이름 목록", example = "[\"Spring\", \"Java\"]")
+        List<String> tags,
+
+        @Schema(description = "발행일시 (PUBLISHED일 때만 사용, 생략하면 가져온 시각)")
+        LocalDateTime publishedAt
+) implements TransferRecordDto {
+
+    public PostTransferDto {
+        if (tags == null) {
+            tags = List.of();
+        }
+    }
+
+    public static PostTransferDto from(Post post) {
+        return new PostTransferDto(
+                post.getTitle(),
+                post.getSlug(),
+                post.getContent(),
+                post.getSummary(),
+                post.getAuthor(),
+                post.getStatus(),
+                post.getCategory() != null ? post.getCategory().getName() : null,
+                post.getTags().stream().map(Tag::getName).sorted().toList(),
+                post.getPublishedAt()
+        );
+    }
+}
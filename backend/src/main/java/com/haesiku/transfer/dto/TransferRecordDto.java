@@ -0,0 +1,24 @@
+package com.haesiku.transfer.dto;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.swagger.v3.oas.annotations.media.DiscriminatorMapping;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 일괄 가져오기·내보내기 NDJSON의 한 줄. type 필드(post | review)로 종류를 구분한다.
+ */
+@Schema(description = "가져오기·내보내기 NDJSON 한 줄 (type: post | review)",
+        oneOf = {PostTransferDto.class, ReviewTransferDto.class},
+        discriminatorProperty = "type",
+        discriminatorMapping = {
+                @DiscriminatorMapping(value = "post", schema = PostTransferDto.class),
+                @DiscriminatorMapping(value = "review", schema = ReviewTransferDto.class)
+        })
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = PostTransferDto.class, name = "post"),
+        @JsonSubTypes.Type(value = ReviewTransferDto.class, name = "review")
+})
+public sealed interface TransferRecordDto permits PostTransferDto, ReviewTransferDto {
+}
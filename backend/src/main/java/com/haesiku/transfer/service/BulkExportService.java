@@ -0,0 +1,99 @@
+package com.haesiku.transfer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.haesiku.blog.entity.Post;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.review.entity.Review;
+import com.haesiku.review.repository.ReviewRepository;
+import com.haesiku.transfer.dto.PostTransferDto;
+import com.haesiku.transfer.dto.ReviewTransferDto;
+import com.haesiku.transfer.dto.TransferRecordDto;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * 게시글·후기를 NDJSON으로 내보낸다. 출력 형식은 {@link BulkImportService} 입력과 같다.
+ * id 키셋으로 청크씩 읽고 청크마다 영속성 컨텍스트를 비우므로 테이블 크기와 무관하게 청크 하나만 메모리에 둔다.
+ * 웹 요청에서는 open-in-view로 요청 전체가 EntityManager 하나를 쓰므로 청크 트랜잭션이 끝나도 엔티티가 남는다.
+ * 그래서 트랜잭션을 닫는 것만으로는 부족하고 청크마다 {@link EntityManager#clear()}를 부른다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkExportService {
+
+    /** default_batch_fetch_size와 같게 두어 청크의 카테고리를 한 번에 읽는다. */
+    private static final int EXPORT_CHUNK_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final ReviewRepository reviewRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * @param output NDJSON 출력 (닫지 않는다, 청크마다 flush)
+     */
+    public void exportNdjson(OutputStream output) throws IOException {
+        long posts = exportChunks(output, after -> {
+            List<Long> ids = postRepository.findIdsAfter(after, PageRequest.of(0, EXPORT_CHUNK_SIZE));
+            if (ids.isEmpty()) {
+                return Chunk.EMPTY;
+            }
+            List<PostTransferDto> rows = postRepository.findWithTagsByIdIn(ids).stream()
+                    .sorted(Comparator.comparing(Post::getId))
+                    .map(PostTransferDto::from)
+                    .toList();
+            return new Chunk(rows, ids.get(ids.size() - 1));
+        });
+        long reviews = exportChunks(output, after -> {
+            List<Review> rows = reviewRepository.findAfter(after, PageRequest.of(0, EXPORT_CHUNK_SIZE));
+            if (rows.isEmpty()) {
+                return Chunk.EMPTY;
+            }
+            return new Chunk(rows.stream().map(ReviewTransferDto::from).toList(), rows.get(rows.size() - 1).getId());
+        });
+        log.info("내보내기 완료: 게시글 {}건, 후기 {}건", posts, reviews);
+    }
+
+    private long exportChunks(OutputStream output, LongFunction<Chunk> reader) throws IOException {
+        long after = 0;
+        long total = 0;
+        while (true) {
+            long cursor = after;
+            Chunk chunk;
+            try {
+                chunk = transactionTemplate.execute(status -> reader.apply(cursor));
+            } finally {
+                entityManager.clear();
+            }
+            if (chunk == null || chunk.rows().isEmpty()) {
+                return total;
+            }
+            for (TransferRecordDto row : chunk.rows()) {
+                output.write(objectMapper.writeValueAsBytes(row));
+                output.write('\n');
+            }
+            output.flush();
+            total += chunk.rows().size();
+            after = chunk.lastId();
+        }
+    }
+
+    /**
+     * @param lastId 다음 청크를 읽을 키셋 위치
+     */
+    private record Chunk(List<? extends TransferRecordDto> rows, long lastId) {
+        static final Chunk EMPTY = new Chunk(List.of(), 0);
+    }
+}
@@ -0,0 +1,431 @@
+package com.haesiku.transfer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.haesiku.blog.entity.Category;
+import com.haesiku.blog.entity.Post;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.entity.Tag;
+import com.haesiku.blog.event.CategoryChangedEvent;
+import com.haesiku.blog.event.PostChangedEvent;
+import com.haesiku.blog.event.PostChangedEvent.ChangeType;
+import com.haesiku.blog.repository.CategoryRepository;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.blog.repository.TagRepository;
+import com.haesiku.blog.service.PostCountUpdater;
+import com.haesiku.blog.service.SlugAllocator;
+import com.haesiku.blog.service.TagService;
+import com.haesiku.common.markdown.MarkdownRenderer;
+import com.haesiku.review.entity.Review;
+import com.haesiku.review.event.ReviewChangedEvent;
+import com.haesiku.review.repository.ReviewRepository;
+import com.haesiku.search.service.SearchDocumentWriter;
+import com.haesiku.transfer.dto.BulkImportErrorDto;
+import com.haesiku.transfer.dto.BulkImportProgressDto;
+import com.haesiku.transfer.dto.PostTransferDto;
+import com.haesiku.transfer.dto.ReviewTransferDto;
+import com.haesiku.transfer.dto.TransferRecordDto;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON으로 게시글·후기를 일괄 가져온다.
+ * 입력을 한 줄씩 읽어 청크 단위로 저장·커밋하므로 입력 크기와 무관하게 청크 하나만 메모리에 둔다.
+ * 청크 안에서는 slug·카테고리·태그 조회를 저장 전에 모두 끝내고 엔티티를 마지막에 모아 저장해
+ * INSERT가 JDBC 배치(hibernate.jdbc.batch_size)로 묶이게 한다. 한 번 조회·생성한 태그·카테고리는 가져오기가 끝날 때까지 다시 조회하지 않는다.
+ * 검색 문서는 행마다 UPDATE하지 않고 가져오기가 끝난 뒤 {@link SearchDocumentWriter#backfill()}로 모아 색인한다.
+ * 웹 요청에서는 open-in-view로 청크들이 EntityManager 하나를 함께 쓰므로, 청크가 끝날 때마다 영속성 컨텍스트를 비운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    /** 진행 보고 한 번에 담는 실패 목록 최대 건수. 잘못된 줄이 아무리 많아도 실패 목록이 계속 쌓이지 않게 한다. */
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    /**
+     * 유일 제약 위반(SQLSTATE 23505)으로 실패한 청크를 다시 시도하는 최대 횟수. 할당과 커밋 사이에 다른 요청이 같은 slug·태그를
+     * 먼저 저장하면 생기는 충돌로, 다시 시도하면 커밋된 값을 읽고 다른 slug를 고른다.
+     */
+    private static final int MAX_CONFLICT_RETRIES = 2;
+
+    /** 유일 제약 위반 SQLSTATE (PostgreSQL·H2 공통) */
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final PostRepository postRepository;
+    private final ReviewRepository reviewRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final TagService tagService;
+    private final SlugAllocator slugAllocator;
+    private final PostCountUpdater postCountUpdater;
+    private final MarkdownRenderer markdownRenderer;
+    private final SearchDocumentWriter searchDocumentWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    @Value("${transfer.import.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * @param input    NDJSON 입력 (닫지 않는다)
+     * @param progress 청크를 커밋할 때마다, 그리고 끝났을 때 한 번 더 호출된다
+     * @return 최종 결과 (done = true)
+     */
+    public BulkImportProgressDto importNdjson(InputStream input, Consumer<BulkImportProgressDto> progress)
+            throws IOException {
+        ImportSession session = new ImportSession();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<NumberedRecord> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            TransferRecordDto record = parse(line, lineNumber, session);
+            if (record == null) {
+                continue;
+            }
+            chunk.add(new NumberedRecord(lineNumber, record));
+            if (chunk.size() >= chunkSize) {
+                commitChunk(chunk, session);
+                chunk.clear();
+                progress.accept(session.progress(lineNumber, false));
+            }
+        }
+        if (!chunk.isEmpty()) {
+            commitChunk(chunk, session);
+        }
+
+        searchDocumentWriter.backfill();
+        BulkImportProgressDto result = session.progress(lineNumber, true);
+        log.info("가져오기 완료: {}줄, 게시글 {}건, 후기 {}건, 카테고리 {}개 생성, 실패 {}줄",
+                result.lines(), result.posts(), result.reviews(), result.categoriesCreated(), result.rejected());
+        progress.accept(result);
+        return result;
+    }
+
+    private TransferRecordDto parse(String line, long lineNumber, ImportSession session) {
+        TransferRecordDto record;
+        try {
+            record = objectMapper.readValue(line, TransferRecordDto.class);
+        } catch (JsonProcessingException e) {
+            session.reject(lineNumber, lineNumber, 1, "JSON 형식 오류: " + e.getOriginalMessage());
+            return null;
+        }
+        if (record == null) {
+            session.reject(lineNumber, lineNumber, 1, "빈 레코드입니다");
+            return null;
+        }
+        Set<ConstraintViolation<TransferRecordDto>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            session.reject(lineNumber, lineNumber, 1, violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return record;
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 저장한다. 실패하면 그 청크만 롤백하고 다음 청크를 계속 가져온다.
+     * 유일 제약 위반이면 {@link #MAX_CONFLICT_RETRIES}번까지 새 트랜잭션으로 다시 시도하고, 다른 실패는 바로 거부한다.
+     * 성공·실패와 관계없이 청크가 끝나면 영속성 컨텍스트를 비운다. 롤백된 청크의 엔티티가 남아 재시도에 섞이지도 않는다.
+     */
+    private void commitChunk(List<NumberedRecord> chunk, ImportSession session) {
+        long fromLine = chunk.get(0).line();
+        long toLine = chunk.get(chunk.size() - 1).line();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                ChunkResult result = transactionTemplate.execute(status -> importChunk(chunk, session));
+                session.apply(result);
+                return;
+            } catch (DataAccessException | TransactionException e) {
+                if (attempt < MAX_CONFLICT_RETRIES && isUniqueViolation(e)) {
+                    log.info("가져오기 청크 유일 제약 충돌 ({}~{}행), 다시 시도합니다", fromLine, toLine);
+                    continue;
+                }
+                rejectChunk(chunk, session, e);
+                return;
+            } finally {
+                entityManager.clear();
+            }
+        }
+    }
+
+    /**
+     * slug·태그 이름처럼 유일 제약에 걸린 실패인지. NOT NULL·외래 키·길이 초과 등은 다시 해도 같으므로 제외한다.
+     */
+    static boolean isUniqueViolation(RuntimeException e) {
+        if (!(e instanceof DataIntegrityViolationException)) {
+            return false;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void rejectChunk(List<NumberedRecord> chunk, ImportSession session, RuntimeException e) {
+        long fromLine = chunk.get(0).line();
+        long toLine = chunk.get(chunk.size() - 1).line();
+        log.warn("가져오기 청크 저장 실패 ({}~{}행)", fromLine, toLine, e);
+        session.reject(fromLine, toLine, chunk.size(),
+                "청크 저장 실패: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+    }
+
+    private ChunkResult importChunk(List<NumberedRecord> chunk, ImportSession session) {
+        List<PostTransferDto> posts = new ArrayList<>();
+        List<ReviewTransferDto> reviews = new ArrayList<>();
+        for (NumberedRecord numbered : chunk) {
+            if (numbered.record() instanceof PostTransferDto post) {
+                posts.add(post);
+            } else if (numbered.record() instanceof ReviewTransferDto review) {
+                reviews.add(review);
+            }
+        }
+
+        ChunkResult result = new ChunkResult();
+        if (!posts.isEmpty()) {
+            importPosts(posts, session, result);
+        }
+        if (!reviews.isEmpty()) {
+            importReviews(reviews, result);
+        }
+        return result;
+    }
+
+    private void importPosts(List<PostTransferDto> dtos, ImportSession session, ChunkResult result) {
+        // 조회는 저장 전에 모두 끝낸다. 저장 대기 중인 INSERT가 있으면 조회 전 자동 flush로 배치가 잘게 나뉜다.
+        List<String> slugs = slugAllocator.allocateAll(dtos.stream()
+                .map(dto -> StringUtils.hasText(dto.slug()) ? dto.slug() : dto.title())
+                .toList());
+        Map<String, EntityRef> categories = resolveCategories(dtos, session, result);
+        Map<String, EntityRef> tags = resolveTags(dtos, session, result);
+
+        List<Post> posts = new ArrayList<>(dtos.size());
+        List<Set<String>> postTagSlugs = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            PostTransferDto dto = dtos.get(i);
+            EntityRef category = StringUtils.hasText(dto.category()) ? categories.get(dto.category().trim()) : null;
+            PostStatus status = dto.status() != null ? dto.status() : PostStatus.DRAFT;
+            Post post = Post.builder()
+                    .title(dto.title())
+                    .content(dto.content())
+                    .summary(dto.summary())
+                    .author(dto.author())
+                    .slug(slugs.get(i))
+                    .status(status)
+                    .category(category != null ? categoryRepository.getReferenceById(category.id()) : null)
+                    .publishedAt(status == PostStatus.PUBLISHED ? dto.publishedAt() : null)
+                    .build();
+            post.applyRendering(markdownRenderer.render(dto.content()));
+
+            Set<String> tagSlugs = new HashSet<>();
+            for (String name : tagNames(dto)) {
+                EntityRef tag = tags.get(name);
+                post.addTag(tagRepository.getReferenceById(tag.id()));
+                tagSlugs.add(tag.slug());
+            }
+            posts.add(post);
+            postTagSlugs.add(tagSlugs);
+        }
+
+        postRepository.saveAll(posts);
+        PostCountUpdater.Deltas postCounts = new PostCountUpdater.Deltas();
+        for (int i = 0; i < posts.size(); i++) {
+            Post post = posts.get(i);
+            EntityRef category = StringUtils.hasText(dtos.get(i).category())
+                    ? categories.get(dtos.get(i).category().trim()) : null;
+            boolean published = post.getStatus() == PostStatus.PUBLISHED;
+            postCounts.add(new PostChangedEvent.Snapshot(published, postTagSlugs.get(i),
+                    category != null ? category.slug() : null));
+            // 태그·카테고리는 프록시로만 연결했으므로 PostChangedEvent.of 대신 이미 아는 slug로 이벤트를 만든다.
+            eventPublisher.publishEvent(new PostChangedEvent(post.getId(), ChangeType.CREATED, post.getSlug(),
+                    published, Set.copyOf(postTagSlugs.get(i)),
+                    category != null ? Set.of(category.slug()) : Set.of(), post.getCreatedAt()));
+        }
+        postCountUpdater.apply(postCounts);
+        result.posts += posts.size();
+    }
+
+    private void importReviews(List<ReviewTransferDto> dtos, ChunkResult result) {
+        List<Review> reviews = dtos.stream()
+                .map(dto -> {
+                    Review review = Review.builder()
+                            .reviewType(dto.reviewType())
+                            .title(dto.title())
+                            .content(dto.content())
+                            .rating(dto.rating())
+                            .itemTitle(dto.itemTitle())
+                            .itemAuthor(dto.itemAuthor())
+                            .itemLink(dto.itemLink())
+                            .build();
+                    review.applyRendering(markdownRenderer.render(dto.content()));
+                    return review;
+                })
+                .toList();
+        reviewRepository.saveAll(reviews);
+        reviews.forEach(review -> eventPublisher.publishEvent(new ReviewChangedEvent(review.getId())));
+        result.reviews += reviews.size();
+    }
+
+    /**
+     * 청크의 카테고리 이름을 id·slug로 바꾼다. 캐시에 없는 이름만 한 번에 조회하고, DB에도 없으면 새로 만든다.
+     */
+    private Map<String, EntityRef> resolveCategories(List<PostTransferDto> dtos, ImportSession session,
+                                                     ChunkResult result) {
+        Set<String> names = dtos.stream()
+                .map(PostTransferDto::category)
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, EntityRef> resolved = new HashMap<>();
+        List<String> missing = collectCached(names, session.categories, resolved);
+        if (!missing.isEmpty()) {
+            for (Category category : categoryRepository.findByNameIn(missing)) {
+                resolved.put(category.getName(), new EntityRef(category.getId(), category.getSlug()));
+            }
+            for (String name : missing) {
+                if (!resolved.containsKey(name)) {
+                    Category category = categoryRepository.save(Category.builder().name(name).build());
+                    resolved.put(name, new EntityRef(category.getId(), category.getSlug()));
+                    eventPublisher.publishEvent(new CategoryChangedEvent(category.getSlug()));
+                    result.categoriesCreated++;
+                }
+            }
+        }
+        result.categories.putAll(resolved);
+        return resolved;
+    }
+
+    /**
+     * 청크의 태그 이름을 id·slug로 바꾼다. 캐시에 없는 이름만 {@link TagService#createOrGetTags}로 한 번에 조회·생성한다.
+     */
+    private Map<String, EntityRef> resolveTags(List<PostTransferDto> dtos, ImportSession session, ChunkResult result) {
+        Set<String> names = dtos.stream()
+                .flatMap(dto -> tagNames(dto).stream())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, EntityRef> resolved = new HashMap<>();
+        List<String> missing = collectCached(names, session.tags, resolved);
+        if (!missing.isEmpty()) {
+            for (Tag tag : tagService.createOrGetTags(missing)) {
+                resolved.put(tag.getName(), new EntityRef(tag.getId(), tag.getSlug()));
+            }
+        }
+        result.tags.putAll(resolved);
+        return resolved;
+    }
+
+    /**
+     * 캐시에 있는 이름은 resolved에 옮기고, 없는 이름 목록을 돌려준다.
+     */
+    private static List<String> collectCached(Collection<String> names, Map<String, EntityRef> cache,
+                                              Map<String, EntityRef> resolved) {
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            EntityRef cached = cache.get(name);
+            if (cached != null) {
+                resolved.put(name, cached);
+            } else {
+                missing.add(name);
+            }
+        }
+        return missing;
+    }
+
+    private static List<String> tagNames(PostTransferDto dto) {
+        return dto.tags().stream()
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .distinct()
+                .toList();
+    }
+
+    private record NumberedRecord(long line, TransferRecordDto record) {
+    }
+
+    /** 태그·카테고리 캐시 값. 엔티티 대신 id·slug만 두어 청크(트랜잭션)가 바뀌어도 그대로 쓴다. */
+    private record EntityRef(Long id, String slug) {
+    }
+
+    /** 청크 하나의 결과. 커밋된 뒤에만 세션에 반영해, 롤백된 청크에서 만든 태그·카테고리를 캐시에 남기지 않는다. */
+    private static class ChunkResult {
+        private final Map<String, EntityRef> tags = new HashMap<>();
+        private final Map<String, EntityRef> categories = new HashMap<>();
+        private int posts;
+        private int reviews;
+        private int categoriesCreated;
+    }
+
+    /** 가져오기 한 번의 캐시와 누적 집계 */
+    private static class ImportSession {
+        private final Map<String, EntityRef> tags = new HashMap<>();
+        private final Map<String, EntityRef> categories = new HashMap<>();
+        private final List<BulkImportErrorDto> pendingErrors = new ArrayList<>();
+        private int posts;
+        private int reviews;
+        private int categoriesCreated;
+        private int rejected;
+
+        void apply(ChunkResult result) {
+            tags.putAll(result.tags);
+            categories.putAll(result.categories);
+            posts += result.posts;
+            reviews += result.reviews;
+            categoriesCreated += result.categoriesCreated;
+        }
+
+        void reject(long fromLine, long toLine, int count, String message) {
+            rejected += count;
+            if (pendingErrors.size() < MAX_REPORTED_ERRORS) {
+                pendingErrors.add(new BulkImportErrorDto(fromLine, toLine, message));
+            }
+        }
+
+        /** 진행 상황을 만들고, 이미 보고한 실패 목록은 비운다. */
+        BulkImportProgressDto progress(long lines, boolean done) {
+            List<BulkImportErrorDto> errors = List.copyOf(pendingErrors);
+            pendingErrors.clear();
+            return new BulkImportProgressDto(done, lines, posts, reviews, categoriesCreated, rejected, errors);
+        }
+    }
+}
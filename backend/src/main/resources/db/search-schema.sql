@@ -0,0 +1,36 @@
+-- 전문 검색용 컬럼 및 GIN 인덱스 (Hibernate ddl-auto 이후 실행, 재실행 안전)
+-- search_vector는 애플리케이션(SearchDocumentWriter)이 한글 bigram 토큰으로 채운다.
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector;
+CREATE INDEX IF NOT EXISTS idx_post_search_vector ON posts USING GIN (search_vector);
+
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS search_vector tsvector;
+CREATE INDEX IF NOT EXISTS idx_review_search_vector ON reviews USING GIN (search_vector);
+
+-- slug 접두어 조회(SlugAllocator: slug LIKE 'base-%')용 인덱스.
+-- 기본 B-tree 인덱스는 C 이외의 collation에서 LIKE 접두어 검색에 쓰이지 않으므로 pattern_ops로 따로 만든다.
+CREATE INDEX IF NOT EXISTS idx_post_slug_pattern ON posts (slug varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_post_slug_history_slug_pattern ON post_slug_history (slug varchar_pattern_ops);
+
+-- posts.comment_count 보정. 컬럼이 처음 추가된 뒤 기존 댓글 수를 채우고, 이후에는 어긋난 행만 고친다 (재실행 안전).
+UPDATE posts p SET comment_count = c.cnt
+FROM (SELECT p2.id, COUNT(cm.id) AS cnt FROM posts p2 LEFT JOIN comments cm ON cm.post_id = p2.id GROUP BY p2.id) c
+WHERE c.id = p.id AND p.comment_count <> c.cnt;
+
+-- tags·categories.post_count(발행된 게시글 수) 보정. 컬럼이 처음 추가된 뒤 기존 값을 채우고, 이후에는 어긋난 행만 고친다 (재실행 안전).
+UPDATE tags t SET post_count = c.cnt
+FROM (SELECT t2.id, COUNT(p.id) AS cnt FROM tags t2
+      LEFT JOIN post_tags pt ON pt.tag_id = t2.id
+      LEFT JOIN posts p ON p.id = pt.post_id AND p.status = 'PUBLISHED'
+      GROUP BY t2.id) c
+WHERE c.id = t.id AND t.post_count <> c.cnt;
+UPDATE categories cat SET post_count = c.cnt
+FROM (SELECT c2.id, COUNT(p.id) AS cnt FROM categories c2
+      LEFT JOIN posts p ON p.category_id = c2.id AND p.status = 'PUBLISHED'
+      GROUP BY c2.id) c
+WHERE c.id = cat.id AND cat.post_count <> c.cnt;
+
+-- posts·tags·reviews의 id 시퀀스(allocationSize 50)를 기존 최대 id 뒤로 옮긴다.
+-- IDENTITY로 만든 기존 행과 겹치지 않게 하려는 것으로, 시퀀스가 이미 최대 id보다 앞서 있으면 그대로 둔다 (재실행 안전).
+SELECT setval('posts_seq', (SELECT MAX(id) FROM posts)) WHERE (SELECT MAX(id) FROM posts) >= (SELECT last_value FROM posts_seq);
+SELECT setval('tags_seq', (SELECT MAX(id) FROM tags)) WHERE (SELECT MAX(id) FROM tags) >= (SELECT last_value FROM tags_seq);
+SELECT setval('reviews_seq', (SELECT MAX(id) FROM reviews)) WHERE (SELECT MAX(id) FROM reviews) >= (SELECT last_value FROM reviews_seq);
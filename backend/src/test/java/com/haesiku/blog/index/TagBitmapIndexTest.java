@@ -0,0 +1,80 @@
+package com.haesiku.blog.index;
+
+import com.haesiku.blog.entity.PostStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TagBitmapIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Test
+    void pagesAreOrderedByCreatedAtNotId() {
+        TagBitmapIndex index = new TagBitmapIndex();
+        // 다른 인스턴스가 미리 받은 큰 id로 먼저 저장한 게시글과, 같은 시각에 저장된 게시글
+        index.put(100, BASE.plusMinutes(1), PostStatus.PUBLISHED, null, List.of("java"));
+        index.put(3, BASE.plusMinutes(3), PostStatus.PUBLISHED, null, List.of("java"));
+        index.put(2, BASE.plusMinutes(2), PostStatus.PUBLISHED, null, List.of("java"));
+        index.put(51, BASE.plusMinutes(2), PostStatus.PUBLISHED, null, List.of("java"));
+
+        TagBitmapIndex.Result result = index.query(query(Set.of("java"), Set.of()), 0, 10);
+
+        assertThat(result.ids()).containsExactly(3L, 51L, 2L, 100L);
+        assertThat(index.query(query(Set.of("java"), Set.of()), 1, 2).ids()).containsExactly(51L, 2L);
+    }
+
+    @Test
+    void sparseAndDenseMatchesGiveTheSameOrder() {
+        TagBitmapIndex index = new TagBitmapIndex();
+        for (int id = 1; id <= 1000; id++) {
+            // id와 반대 순서로 작성일시를 준다. 100개마다 하나만 rare 태그를 단다.
+            List<String> tags = id % 100 == 0 ? List.of("common", "rare") : List.of("common");
+            index.put(id, BASE.minusMinutes(id), PostStatus.PUBLISHED, null, tags);
+        }
+
+        // 일치 건수가 적으면 모아 정렬하고, 많으면 최신순 목록을 앞에서부터 훑는다.
+        assertThat(index.query(query(Set.of("rare"), Set.of()), 0, 3).ids()).containsExactly(100L, 200L, 300L);
+        assertThat(index.query(query(Set.of("common"), Set.of()), 0, 3).ids()).containsExactly(1L, 2L, 3L);
+        assertThat(index.query(query(Set.of("common"), Set.of("rare")), 98, 3).ids()).containsExactly(99L, 101L, 102L);
+    }
+
+    @Test
+    void replacedAndRemovedPostsLeaveTheOrder() {
+        TagBitmapIndex index = new TagBitmapIndex();
+        index.put(1, BASE, PostStatus.PUBLISHED, "backend", List.of("java"));
+        index.put(2, BASE.plusMinutes(1), PostStatus.PUBLISHED, "backend", List.of("java"));
+        index.put(1, BASE, PostStatus.PUBLISHED, "backend", List.of("kotlin"));
+        index.remove(2);
+
+        TagBitmapIndex.Result result = index.query(
+                new TagBitmapIndex.Query(Set.of(), Set.of(), Set.of(), PostStatus.PUBLISHED, "backend"), 0, 10);
+
+        assertThat(result.ids()).containsExactly(1L);
+        assertThat(result.total()).isEqualTo(1);
+        assertThat(index.query(query(Set.of("java"), Set.of()), 0, 10).total()).isZero();
+    }
+
+    @Test
+    void offsetPastTheEndGivesEmptyPageAndNegativeOffsetIsRejected() {
+        TagBitmapIndex index = new TagBitmapIndex();
+        index.put(1, BASE, PostStatus.PUBLISHED, null, List.of("java"));
+        index.put(2, BASE.plusMinutes(1), PostStatus.PUBLISHED, null, List.of("java"));
+
+        TagBitmapIndex.Result result = index.query(query(Set.of("java"), Set.of()), Integer.MAX_VALUE, 2000);
+
+        assertThat(result.ids()).isEmpty();
+        assertThat(result.total()).isEqualTo(2);
+        assertThatThrownBy(() -> index.query(query(Set.of("java"), Set.of()), -1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static TagBitmapIndex.Query query(Set<String> all, Set<String> none) {
+        return new TagBitmapIndex.Query(all, Set.of(), none, null, null);
+    }
+}
@@ -0,0 +1,146 @@
+package com.haesiku.blog.repository;
+
+import com.haesiku.blog.dto.CategoryRequestDto;
+import com.haesiku.blog.dto.PostRequestDto;
+import com.haesiku.blog.dto.PostResponseDto;
+import com.haesiku.blog.entity.Post;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.service.CategoryService;
+import com.haesiku.blog.service.PostService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글 목록·상세·태그별 목록이 게시글 수와 관계없이 정해진 수의 SQL로 끝나는지 Hibernate 통계로 확인한다.
+ * 조회 캐시를 비운 뒤 측정하며, 지연 로딩 N+1이 생기면 문장 수가 페이지 크기만큼 늘어난다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostQueryCountTest {
+
+    private static final int POST_COUNT = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String postSlug;
+    private String tagSlug;
+
+    @BeforeAll
+    void setUp() {
+        Long categoryId = categoryService.createCategory(new CategoryRequestDto("쿼리수 카테고리", null)).id();
+        PostResponseDto post = null;
+        for (int i = 0; i < POST_COUNT; i++) {
+            PostResponseDto created = postService.createPost(new PostRequestDto("쿼리 수 확인 " + i, "본문 " + i, "요약",
+                    "haesiku", categoryId, List.of("querycount-a", "querycount-b", "querycount-" + i)));
+            post = postService.publishPost(created.id());
+        }
+        postSlug = post.slug();
+        tagSlug = post.tags().stream().filter(tag -> tag.name().equals("querycount-a")).findFirst().orElseThrow().slug();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @BeforeEach
+    void clearCachesAndStatistics() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        statistics.clear();
+    }
+
+    @Test
+    void publishedListUsesPageCountAndTagStatements() throws Exception {
+        mockMvc.perform(get("/api/posts").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(10));
+
+        // 목록 projection, COUNT, 페이지 게시글들의 태그 일괄 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void detailUsesVersionAndEntityGraphStatements() throws Exception {
+        mockMvc.perform(get("/api/posts/{slug}", postSlug))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags.length()").value(3))
+                .andExpect(jsonPath("$.category.name").value("쿼리수 카테고리"));
+
+        // 조건부 요청 검사용 버전, 카테고리·태그를 entity graph로 함께 읽는 본문 (slug 확인은 메모리)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void byTagListUsesTagPageCountAndTagStatements() throws Exception {
+        mockMvc.perform(get("/api/tags/{slug}/posts", tagSlug).param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(10));
+
+        // 태그 조회, 목록 projection, COUNT, 페이지 게시글들의 태그 일괄 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void findByStatusLoadsPageTagsInOneBatch() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Page<Post> page = postRepository.findByStatusOrderByCreatedAtDesc(PostStatus.PUBLISHED, PageRequest.of(0, 10));
+            page.forEach(post -> post.getTags().size());
+            assertThat(page.getContent()).hasSize(10);
+        });
+
+        // 게시글·카테고리 페이지, COUNT, 페이지 게시글들의 태그 (batch fetch)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void findByTagNamesLoadsPageTagsInOneBatch() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Page<Post> page = postRepository.findByTagNames(List.of("querycount-a"), PageRequest.of(0, 10));
+            page.forEach(post -> post.getTags().size());
+            assertThat(page.getContent()).hasSize(10);
+        });
+
+        // 게시글·카테고리 페이지, COUNT, 페이지 게시글들의 태그 (batch fetch)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
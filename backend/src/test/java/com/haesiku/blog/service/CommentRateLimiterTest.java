@@ -0,0 +1,35 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentRateLimiterTest {
+
+    @Test
+    void postRejectionRefundsTheIpToken() {
+        CommentRateLimiter limiter = new CommentRateLimiter(2, Duration.ofHours(1), 1, Duration.ofHours(1));
+
+        limiter.check("10.0.0.1", 1L);
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", 1L)).isInstanceOf(TooManyRequestsException.class);
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", 1L)).isInstanceOf(TooManyRequestsException.class);
+
+        // 게시글 한도로 거절된 요청은 IP 한도를 쓰지 않았으므로 다른 게시글에는 아직 쓸 수 있다.
+        assertThatCode(() -> limiter.check("10.0.0.1", 2L)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", 3L)).isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void ipRejectionDoesNotSpendThePostToken() {
+        CommentRateLimiter limiter = new CommentRateLimiter(1, Duration.ofHours(1), 2, Duration.ofHours(1));
+
+        limiter.check("10.0.0.1", 1L);
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", 1L)).isInstanceOf(TooManyRequestsException.class);
+
+        assertThatCode(() -> limiter.check("10.0.0.2", 1L)).doesNotThrowAnyException();
+    }
+}
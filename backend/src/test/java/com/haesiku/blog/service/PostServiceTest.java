@@ -0,0 +1,81 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.entity.Post;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.event.PostChangedEvent;
+import com.haesiku.blog.event.PostsPublishedEvent;
+import com.haesiku.blog.mapper.PostMapper;
+import com.haesiku.blog.repository.CategoryRepository;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.common.markdown.MarkdownRenderer;
+import com.haesiku.search.service.SearchDocumentWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PostServiceTest {
+
+    private PostRepository postRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        postService = new PostService(postRepository, mock(CategoryRepository.class), mock(TagService.class),
+                mock(PostMapper.class), mock(ViewCountBuffer.class), mock(SearchDocumentWriter.class),
+                mock(PostSummaryAssembler.class), eventPublisher, mock(MarkdownRenderer.class),
+                mock(SlugAllocator.class), mock(PostCountUpdater.class));
+    }
+
+    @Test
+    void publishScheduledDoesNothingWithoutAdvisoryLock() {
+        when(postRepository.tryAdvisoryXactLock(anyLong())).thenReturn(false);
+
+        Optional<List<Long>> published = postService.publishScheduled(List.of(1L, 2L), LocalDateTime.now());
+
+        assertThat(published).isEmpty();
+        verify(postRepository, never()).findDueScheduled(anyCollection(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void publishScheduledPublishesOnlyPostsStillDueAfterLocking() {
+        Post due = draft(1L);
+        when(postRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+        // 2번은 잠금을 기다리는 사이 다른 인스턴스가 발행해 DB 재확인에서 빠진다.
+        when(postRepository.findDueScheduled(anyCollection(), any(), any())).thenReturn(List.of(due));
+
+        Optional<List<Long>> published = postService.publishScheduled(List.of(1L, 2L), LocalDateTime.now());
+
+        assertThat(published).contains(List.of(1L));
+        assertThat(due.getStatus()).isEqualTo(PostStatus.PUBLISHED);
+        assertThat(due.getScheduledAt()).isNull();
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
+        verify(eventPublisher).publishEvent(any(PostsPublishedEvent.class));
+    }
+
+    private static Post draft(Long id) {
+        Post post = Post.builder().title("예약 " + id).content("본문").author("haesiku").slug("scheduled-" + id)
+                .status(PostStatus.DRAFT).build();
+        post.schedule(LocalDateTime.now().minusMinutes(1));
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
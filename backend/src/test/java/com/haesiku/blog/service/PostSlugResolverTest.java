@@ -0,0 +1,129 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.dto.SlugOwnerView;
+import com.haesiku.blog.dto.SlugResolution;
+import com.haesiku.blog.event.PostChangedEvent;
+import com.haesiku.blog.event.PostChangedEvent.ChangeType;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.blog.repository.PostSlugHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PostSlugResolverTest {
+
+    private PostRepository postRepository;
+    private PostSlugHistoryRepository slugHistoryRepository;
+    private PostSlugResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        slugHistoryRepository = mock(PostSlugHistoryRepository.class);
+        resolver = new PostSlugResolver(postRepository, slugHistoryRepository, 1000, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void missChecksDatabaseAndRemembersSlugCreatedElsewhere() {
+        when(postRepository.findAllSlugOwners()).thenReturn(List.of());
+        resolver.warmUp();
+        when(postRepository.findIdBySlug("other-instance")).thenReturn(Optional.of(7L));
+
+        assertThat(resolver.resolve("other-instance"))
+                .isEqualTo(new SlugResolution(SlugResolution.Status.CURRENT, 7L, "other-instance"));
+        assertThat(resolver.resolve("other-instance").postId()).isEqualTo(7L);
+
+        verify(postRepository, times(1)).findIdBySlug("other-instance");
+    }
+
+    @Test
+    void notFoundOnlyAfterDatabaseConfirms() {
+        when(postRepository.findAllSlugOwners()).thenReturn(List.of());
+        resolver.warmUp();
+
+        assertThat(resolver.resolve("missing").status()).isEqualTo(SlugResolution.Status.NOT_FOUND);
+
+        verify(postRepository).findIdBySlug("missing");
+        verify(slugHistoryRepository).findCurrentOwner("missing");
+    }
+
+    @Test
+    void repeatedUnknownSlugIsServedFromNegativeCache() {
+        when(postRepository.findAllSlugOwners()).thenReturn(List.of());
+        resolver.warmUp();
+
+        resolver.resolve("probe");
+        clearInvocations(postRepository, slugHistoryRepository);
+
+        assertThat(resolver.resolve("probe").status()).isEqualTo(SlugResolution.Status.NOT_FOUND);
+        verifyNoInteractions(postRepository, slugHistoryRepository);
+    }
+
+    @Test
+    void createdOrRenamedSlugEvictsNegativeCache() {
+        when(postRepository.findAllSlugOwners()).thenReturn(List.of());
+        resolver.warmUp();
+        resolver.resolve("new-post");
+        resolver.resolve("renamed");
+
+        resolver.onPostChanged(new PostChangedEvent(8L, ChangeType.CREATED, "new-post", true, Set.of(), Set.of(), null));
+        resolver.onPostChanged(new PostChangedEvent(9L, ChangeType.UPDATED, "renamed", true, Set.of(), Set.of(), null));
+
+        assertThat(resolver.resolve("new-post").postId()).isEqualTo(8L);
+        assertThat(resolver.resolve("renamed").postId()).isEqualTo(9L);
+    }
+
+    @Test
+    void missLoadedWhileSlugChangesIsNotCached() {
+        when(postRepository.findAllSlugOwners()).thenReturn(List.of());
+        resolver.warmUp();
+        // DB 조회가 커밋 전 상태를 읽은 사이에 다른 요청이 그 slug로 게시글을 만들고 이벤트가 먼저 도착한 경우
+        when(postRepository.findIdBySlug("racing")).thenAnswer(invocation -> {
+            resolver.onPostChanged(new PostChangedEvent(5L, ChangeType.CREATED, "other", true, Set.of(), Set.of(), null));
+            return Optional.empty();
+        }).thenReturn(Optional.of(6L));
+
+        assertThat(resolver.resolve("racing").status()).isEqualTo(SlugResolution.Status.NOT_FOUND);
+        assertThat(resolver.resolve("racing").postId()).isEqualTo(6L);
+    }
+
+    @Test
+    void deleteDuringWarmUpIsNotRevivedByLoadedSnapshot() {
+        // 적재 쿼리가 삭제 전 상태를 읽은 뒤 삭제 이벤트가 적재 완료보다 먼저 도착한 경우
+        when(postRepository.findAllSlugOwners()).thenAnswer(invocation -> {
+            resolver.onPostChanged(new PostChangedEvent(3L, ChangeType.DELETED, "deleted", true, Set.of(), Set.of(), null));
+            return List.of(owner("deleted", 3L), owner("kept", 4L));
+        });
+
+        resolver.warmUp();
+
+        assertThat(resolver.resolve("deleted").status()).isEqualTo(SlugResolution.Status.NOT_FOUND);
+        assertThat(resolver.resolve("kept").postId()).isEqualTo(4L);
+    }
+
+    private static SlugOwnerView owner(String slug, Long postId) {
+        return new SlugOwnerView() {
+            @Override
+            public String getSlug() {
+                return slug;
+            }
+
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+        };
+    }
+}
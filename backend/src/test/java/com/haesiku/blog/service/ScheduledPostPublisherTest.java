@@ -0,0 +1,91 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.event.PostScheduledEvent;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.common.util.HierarchicalTimerWheel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduledPostPublisherTest {
+
+    private PostService postService;
+    private ScheduledPostPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        postService = mock(PostService.class);
+        publisher = new ScheduledPostPublisher(mock(PostRepository.class), postService);
+        ReflectionTestUtils.setField(publisher, "batchSize", 2);
+    }
+
+    @Test
+    void duePostsArePublishedInBatchesAndFutureOnesWait() {
+        when(postService.publishScheduled(anyCollection(), any())).thenAnswer(invocation ->
+                Optional.of(List.copyOf(invocation.<Collection<Long>>getArgument(0))));
+        LocalDateTime past = LocalDateTime.now().minusSeconds(5);
+        publisher.onPostScheduled(new PostScheduledEvent(1L, past));
+        publisher.onPostScheduled(new PostScheduledEvent(2L, past));
+        publisher.onPostScheduled(new PostScheduledEvent(3L, past));
+        publisher.onPostScheduled(new PostScheduledEvent(4L, LocalDateTime.now().plusHours(1)));
+
+        publisher.tick();
+
+        verify(postService).publishScheduled(eq(List.of(1L, 2L)), any());
+        verify(postService).publishScheduled(eq(List.of(3L)), any());
+        assertThat(wheel().size()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelledScheduleIsNotPublished() {
+        publisher.onPostScheduled(new PostScheduledEvent(1L, LocalDateTime.now().minusSeconds(5)));
+        publisher.onPostScheduled(new PostScheduledEvent(1L, null));
+
+        publisher.tick();
+
+        verify(postService, never()).publishScheduled(anyCollection(), any());
+    }
+
+    @Test
+    void postsAreRetriedLaterWhenAnotherInstanceHoldsTheLock() {
+        when(postService.publishScheduled(anyCollection(), any())).thenReturn(Optional.empty());
+        publisher.onPostScheduled(new PostScheduledEvent(1L, LocalDateTime.now().minusSeconds(5)));
+
+        publisher.tick();
+        publisher.tick();
+
+        // 잠금을 얻지 못한 예약은 발행되지 않은 채 재시도 간격 뒤로 다시 예약된다.
+        verify(postService, times(1)).publishScheduled(eq(List.of(1L)), any());
+        assertThat(wheel().size()).isEqualTo(1);
+    }
+
+    @Test
+    void failedPublishIsRetriedLater() {
+        when(postService.publishScheduled(anyCollection(), any())).thenThrow(new IllegalStateException("db down"));
+        publisher.onPostScheduled(new PostScheduledEvent(1L, LocalDateTime.now().minusSeconds(5)));
+
+        publisher.tick();
+
+        assertThat(wheel().size()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private HierarchicalTimerWheel<Long> wheel() {
+        return (HierarchicalTimerWheel<Long>) ReflectionTestUtils.getField(publisher, "wheel");
+    }
+}
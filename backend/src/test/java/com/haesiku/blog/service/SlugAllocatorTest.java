@@ -0,0 +1,78 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.dto.SlugOwnerView;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.blog.repository.PostSlugHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlugAllocatorTest {
+
+    private PostRepository postRepository;
+    private PostSlugHistoryRepository slugHistoryRepository;
+    private SlugAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        slugHistoryRepository = mock(PostSlugHistoryRepository.class);
+        allocator = new SlugAllocator(postRepository, slugHistoryRepository);
+    }
+
+    @Test
+    void distinctFreeSlugsUseOneLookupPerTable() {
+        when(postRepository.findSlugOwnersBySlugIn(any())).thenReturn(List.of());
+        when(slugHistoryRepository.findSlugOwnersBySlugIn(any())).thenReturn(List.of());
+
+        List<String> slugs = allocator.allocateAll(List.of("first-post", "second-post", "third-post"));
+
+        assertThat(slugs).containsExactly("first-post", "second-post", "third-post");
+        verify(postRepository, times(1)).findSlugOwnersBySlugIn(any());
+        verify(slugHistoryRepository, times(1)).findSlugOwnersBySlugIn(any());
+        verify(postRepository, never()).findSlugOwners(anyString(), anyString());
+        verify(slugHistoryRepository, never()).findSlugOwners(anyString(), anyString());
+    }
+
+    @Test
+    void takenOrRepeatedSlugsGetSuffixesFromPrefixLookup() {
+        when(postRepository.findSlugOwnersBySlugIn(any())).thenReturn(List.of(owner("taken", 1L)));
+        when(slugHistoryRepository.findSlugOwnersBySlugIn(any())).thenReturn(List.of());
+        when(postRepository.findSlugOwners("taken", "taken-%"))
+                .thenReturn(List.of(owner("taken", 1L), owner("taken-2", 2L)));
+        when(slugHistoryRepository.findSlugOwners("taken", "taken-%")).thenReturn(List.of(owner("taken-3", 3L)));
+        when(postRepository.findSlugOwners("twice", "twice-%")).thenReturn(List.of());
+        when(slugHistoryRepository.findSlugOwners("twice", "twice-%")).thenReturn(List.of());
+
+        List<String> slugs = allocator.allocateAll(List.of("taken", "twice", "free", "twice", "taken"));
+
+        assertThat(slugs).containsExactly("taken-4", "twice", "free", "twice-2", "taken-5");
+        verify(postRepository, never()).findSlugOwners("free", "free-%");
+        verify(postRepository, times(1)).findSlugOwners("taken", "taken-%");
+        verify(postRepository, times(1)).findSlugOwners("twice", "twice-%");
+    }
+
+    private static SlugOwnerView owner(String slug, Long postId) {
+        return new SlugOwnerView() {
+            @Override
+            public String getSlug() {
+                return slug;
+            }
+
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.haesiku.blog.service;
+
+import com.haesiku.blog.dto.PostSummaryDto;
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.index.TagBitmapIndex;
+import com.haesiku.blog.mapper.TagMapper;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.blog.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class TagServiceTest {
+
+    private PostRepository postRepository;
+    private TagService tagService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        PostTagIndex postTagIndex = new PostTagIndex(postRepository);
+        TagBitmapIndex index = new TagBitmapIndex();
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (int id = 1; id <= 3; id++) {
+            index.put(id, base.plusMinutes(id), PostStatus.PUBLISHED, null, List.of("java"));
+        }
+        ReflectionTestUtils.setField(postTagIndex, "index", index);
+        tagService = new TagService(mock(TagRepository.class), postRepository, mock(TagMapper.class),
+                mock(PostSummaryAssembler.class), postTagIndex, mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void pageNumberBeyondIntOffsetGivesEmptyPage() {
+        // offset = 페이지 번호 × 크기가 int 범위를 넘는다.
+        PageRequest pageable = PageRequest.of(Integer.MAX_VALUE, 2000);
+        TagBitmapIndex.Query query = new TagBitmapIndex.Query(Set.of("java"), Set.of(), Set.of(), PostStatus.PUBLISHED, null);
+
+        Page<PostSummaryDto> page = tagService.filterPosts(query, pageable);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        verify(postRepository, never()).findSummariesByIds(any());
+    }
+}
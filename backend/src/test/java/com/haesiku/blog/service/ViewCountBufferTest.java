@@ -0,0 +1,118 @@
+package com.haesiku.blog.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ViewCountBufferTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TaskScheduler taskScheduler;
+    private ViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        taskScheduler = mock(TaskScheduler.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        buffer = new ViewCountBuffer(jdbcTemplate, transactionTemplate, taskScheduler);
+        ReflectionTestUtils.setField(buffer, "maxPendingPosts", 3);
+    }
+
+    @Test
+    void flushWritesAccumulatedDeltasInIdOrderAndClearsThem() {
+        buffer.increment(2L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+        assertThat(buffer.pendingCount(2L)).isEqualTo(2);
+
+        buffer.flush();
+
+        assertThat(flushedBatches()).singleElement().satisfies(batch -> assertThat(batch)
+                .containsExactly(new Object[]{1L, 1L}, new Object[]{2L, 2L}));
+        assertThat(buffer.pendingCount(2L)).isZero();
+
+        buffer.flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void viewDuringFlushIsCountedExactlyOnceInNextFlush() {
+        buffer.increment(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            // 꺼낸 뒤 DB에 쓰는 사이에 들어온 조회
+            buffer.increment(1L);
+            assertThat(buffer.pendingCount(1L)).isEqualTo(2);
+            return new int[]{1};
+        }).thenReturn(new int[]{1});
+
+        buffer.flush();
+        buffer.flush();
+
+        assertThat(flushedBatches()).extracting(batch -> batch.get(0)[0]).containsExactly(1L, 1L);
+    }
+
+    @Test
+    void failedFlushKeepsDeltasForRetry() {
+        buffer.increment(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[]{1});
+
+        buffer.flush();
+        buffer.increment(1L);
+        assertThat(buffer.pendingCount(1L)).isEqualTo(2);
+        buffer.flush();
+
+        assertThat(flushedBatches()).extracting(batch -> batch.get(0)[0]).containsExactly(1L, 2L);
+        assertThat(buffer.pendingCount(1L)).isZero();
+    }
+
+    @Test
+    void fullBufferSchedulesEarlyFlushAndDropsNewPostsBeyondHardLimit() {
+        for (long postId = 1; postId <= 6; postId++) {
+            buffer.increment(postId);
+        }
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+
+        buffer.increment(7L);
+        buffer.increment(6L);
+
+        assertThat(buffer.pendingCount(7L)).isZero();
+        assertThat(buffer.pendingCount(6L)).isEqualTo(2);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object[]>> flushedBatches() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, org.mockito.Mockito.atLeastOnce()).batchUpdate(anyString(), captor.capture());
+        return captor.getAllValues().stream().map(List::copyOf).toList();
+    }
+}
@@ -0,0 +1,87 @@
+package com.haesiku.common.markdown;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownRendererTest {
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer();
+
+    @Test
+    void rawAndInlineHtmlIsEscaped() {
+        String html = renderer.render("""
+                <script>alert(1)</script>
+
+                본문에 <b onclick="steal()">굵게</b> <img src=x onerror=alert(1)> 넣기
+                """).html();
+
+        assertThat(html).doesNotContain("<script", "<b ", "<img");
+        assertThat(html).contains("&lt;script&gt;alert(1)&lt;/script&gt;");
+        assertThat(html).contains("&lt;b onclick=&quot;steal()&quot;&gt;굵게&lt;/b&gt;");
+    }
+
+    @Test
+    void javascriptAndDataUrlsAreStripped() {
+        String html = renderer.render("""
+                [클릭](javascript:alert(1)) [대소문자](JaVaScRiPt:alert(1))
+
+                ![그림](data:image/svg+xml;base64,PHN2Zz4=) [데이터](data:text/html,<script>alert(1)</script>)
+
+                [정상](https://example.com/a?b=1) ![정상 그림](https://example.com/a.png) <https://example.com/auto>
+                """).html();
+
+        assertThat(html.toLowerCase()).doesNotContain("javascript:", "data:");
+        assertThat(html).contains("<a rel=\"nofollow\" href=\"\">클릭</a>", "<a rel=\"nofollow\" href=\"\">대소문자</a>",
+                "<img src=\"\" alt=\"그림\" />", "<a rel=\"nofollow\" href=\"\">데이터</a>");
+        assertThat(html).contains("<a rel=\"nofollow\" href=\"https://example.com/a?b=1\">정상</a>",
+                "<img src=\"https://example.com/a.png\" alt=\"정상 그림\" />",
+                "<a rel=\"nofollow\" href=\"https://example.com/auto\">https://example.com/auto</a>");
+    }
+
+    @Test
+    void headingAnchorsAreDeduplicatedAndMatchToc() {
+        String markdown = """
+                # 설치 방법
+                ## 설치 방법
+                ## 설치 방법 1
+                ### `render()` 호출!
+                ## !!!
+                """;
+
+        RenderedMarkdown rendered = renderer.render(markdown);
+
+        assertThat(rendered.toc()).containsExactly(
+                new TocEntry(1, "설치 방법", "seolchi-bangbeop"),
+                new TocEntry(2, "설치 방법", "seolchi-bangbeop-1"),
+                new TocEntry(2, "설치 방법 1", "seolchi-bangbeop-1-1"),
+                new TocEntry(3, "render() 호출!", "render-hochul"),
+                new TocEntry(2, "!!!", "section"));
+        assertThat(rendered.html()).contains(
+                "<h1 id=\"seolchi-bangbeop\">설치 방법</h1>",
+                "<h2 id=\"seolchi-bangbeop-1\">설치 방법</h2>",
+                "<h2 id=\"seolchi-bangbeop-1-1\">설치 방법 1</h2>",
+                "<h3 id=\"render-hochul\"><code>render()</code> 호출!</h3>",
+                "<h2 id=\"section\">!!!</h2>");
+        // 같은 원문은 매번 같은 id·목차·해시가 나온다.
+        assertThat(renderer.render(markdown)).isEqualTo(rendered);
+    }
+
+    @Test
+    void renderIfChangedSkipsWhenHashIsUnchanged() {
+        RenderedMarkdown rendered = renderer.render("# 제목\n\n본문");
+
+        assertThat(renderer.renderIfChanged(rendered.contentHash(), "# 제목\n\n본문")).isEmpty();
+
+        Optional<RenderedMarkdown> changed = renderer.renderIfChanged(rendered.contentHash(), "# 제목\n\n고친 본문");
+        assertThat(changed).isPresent();
+        assertThat(changed.get().contentHash()).isNotEqualTo(rendered.contentHash());
+        assertThat(changed.get().html()).contains("고친 본문");
+
+        // 해시가 없던 기존 데이터는 렌더링하고, null 본문은 빈 문자열과 같게 본다.
+        assertThat(renderer.renderIfChanged(null, "# 제목\n\n본문")).contains(rendered);
+        assertThat(renderer.renderIfChanged(renderer.render("").contentHash(), null)).isEmpty();
+    }
+}
@@ -0,0 +1,135 @@
+package com.haesiku.common.metrics;
+
+import com.haesiku.blog.dto.PostRequestDto;
+import com.haesiku.blog.service.PostService;
+import com.haesiku.common.profiling.SqlProfile;
+import com.haesiku.common.profiling.SqlProfilingFilter;
+import com.haesiku.common.profiling.SqlProfilingResponseAdvice;
+import com.haesiku.common.web.ContentVersionTracker;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 서비스 실행 시간, 요청당 SQL 문 수, ISBN 제공처 지표가 기록되고 /actuator/prometheus로 나가는지 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ContentVersionTracker contentVersionTracker;
+
+    @BeforeAll
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Long id = postService.createPost(new PostRequestDto("지표 확인 " + i, "본문", null, "haesiku", null,
+                    List.of("metrics"))).id();
+            postService.publishPost(id);
+        }
+    }
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void recordsServiceInvocationTimersWithExceptionTag() throws Exception {
+        mockMvc.perform(get("/api/posts/admin/{id}", Long.MAX_VALUE)).andExpect(status().isNotFound());
+
+        assertThat(meterRegistry.get(ServiceMetricsAspect.METRIC)
+                .tag("service", "PostService").tag("method", "getPostById").tag("exception", "EntityNotFoundException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsQueryCountPerRequest() throws Exception {
+        // 앞선 테스트가 읽어 둔 목록 검증자 상태를 비워 첫 요청이 항상 다시 읽게 한다.
+        contentVersionTracker.bump(ContentVersionTracker.POSTS, ContentVersionTracker.TAGS);
+        mockMvc.perform(get("/api/tags/{slug}/posts", "metrics")).andExpect(status().isOk());
+        // 두 번째 요청은 검증자 상태와 목록 캐시에서 응답하므로 SQL을 실행하지 않는다.
+        mockMvc.perform(get("/api/tags/{slug}/posts", "metrics")).andExpect(status().isOk());
+
+        DistributionSummary queries = meterRegistry.get(SqlProfilingFilter.QUERY_COUNT_METRIC)
+                .tag("method", "GET").tag("uri", "/api/tags/{slug}/posts").summary();
+        assertThat(queries.count()).isEqualTo(2);
+        // 검증자 테이블 상태, 태그, 목록 projection, COUNT(첫 페이지가 다 차지 않으면 생략), 태그 일괄 조회
+        assertThat(queries.max()).isEqualTo(4);
+        assertThat(queries.totalAmount()).isEqualTo(4);
+        assertThat(meterRegistry.get(ServiceMetricsAspect.METRIC)
+                .tag("service", "TagService").tag("method", "getPostsByTag").tag("exception", "none")
+                .timer().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void profilingHeadersAndAdviceAreOffByDefault() throws Exception {
+        mockMvc.perform(get("/api/posts"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(SqlProfile.QUERY_COUNT_HEADER));
+
+        assertThat(applicationContext.getBeanNamesForType(SqlProfilingResponseAdvice.class)).isEmpty();
+    }
+
+    @Test
+    void prometheusEndpointExposesServiceQueryProviderAndPoolMeters() throws Exception {
+        mockMvc.perform(get("/api/posts")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("service_invocations_seconds_count{")
+                .contains("service_invocations_seconds_bucket{")
+                .contains("http_server_requests_queries_statements_count{")
+                .contains("uri=\"/api/posts\"")
+                .contains("book_lookup_provider_seconds_count{")
+                .contains("book_lookup_provider_rejected_total{")
+                .contains("book_lookup_provider_circuit{")
+                .contains("hibernate_");
+        // 커넥션 풀 지표: 사용·대기 중인 커넥션, 풀 크기, 획득 시간, 획득 타임아웃
+        assertThat(scrape)
+                .containsPattern("(?m)^hikaricp_connections_active\\{[^}]*pool=\"[^\"]+\"")
+                .containsPattern("(?m)^hikaricp_connections_pending\\{")
+                .containsPattern("(?m)^hikaricp_connections_max\\{")
+                .containsPattern("(?m)^hikaricp_connections_acquire_seconds_count\\{")
+                .containsPattern("(?m)^hikaricp_connections_timeout_total\\{");
+    }
+}
@@ -0,0 +1,61 @@
+package com.haesiku.common.profiling;
+
+import com.haesiku.blog.dto.PostRequestDto;
+import com.haesiku.blog.service.PostService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 프로파일링을 켰을 때 X-Query-Count 헤더와 요청당 SQL 문 수 지표가 같은 집계에서 나오는지 확인한다.
+ */
+@SpringBootTest(properties = {"sql.profiling.enabled=true", "sql.profiling.headers=true"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlProfilingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void queryCountHeaderMatchesQueryCountMetric() throws Exception {
+        Long id = postService.createPost(new PostRequestDto("프로파일링 확인", "본문", null, "haesiku", null,
+                List.of("profiling"))).id();
+        postService.publishPost(id);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        String headerValue = mockMvc.perform(get("/api/tags/{slug}/posts", "profiling"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlProfile.DB_TIME_HEADER))
+                .andReturn().getResponse().getHeader(SqlProfile.QUERY_COUNT_HEADER);
+
+        DistributionSummary queries = meterRegistry.get(SqlProfilingFilter.QUERY_COUNT_METRIC)
+                .tag("method", "GET").tag("uri", "/api/tags/{slug}/posts").summary();
+        // 게시글 작성·발행으로 비워진 목록 검증자 테이블 상태, 태그, 목록 projection, 태그 일괄 조회
+        assertThat(headerValue).isEqualTo("4");
+        assertThat(queries.count()).isEqualTo(1);
+        assertThat(queries.totalAmount()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,108 @@
+package com.haesiku.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalTimerWheelTest {
+
+    /** 칸 4개 × 3단계, 1 tick = 1ms → 범위 64ms */
+    private static HierarchicalTimerWheel<String> smallWheel() {
+        return new HierarchicalTimerWheel<>(1, 4, 3, 0);
+    }
+
+    @Test
+    void rejectsSingleLevelAndInvalidShapes() {
+        assertThatThrownBy(() -> new HierarchicalTimerWheel<>(1, 4, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimerWheel<>(1, 6, 2, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimerWheel<>(0, 4, 2, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void entriesExpireExactlyAtCascadeBoundaries() {
+        HierarchicalTimerWheel<String> wheel = smallWheel();
+        // 단계 경계(4, 16, 64)의 앞뒤와 범위를 넘는 예약
+        long[] deadlines = {1, 3, 4, 5, 15, 16, 17, 63, 64, 65, 130, 200};
+        for (long deadline : deadlines) {
+            wheel.schedule("t" + deadline, deadline);
+        }
+
+        Map<String, Long> firedAt = new HashMap<>();
+        for (long now = 1; now <= 200; now++) {
+            for (String key : wheel.advance(now)) {
+                firedAt.put(key, now);
+            }
+        }
+
+        for (long deadline : deadlines) {
+            assertThat(firedAt.get("t" + deadline)).as("deadline %d", deadline).isEqualTo(deadline);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cancelAndRescheduleReplaceEarlierDeadline() {
+        HierarchicalTimerWheel<String> wheel = smallWheel();
+        wheel.schedule("moved", 10);
+        wheel.schedule("cancelled", 10);
+        wheel.schedule("moved", 40);
+
+        assertThat(wheel.cancel("cancelled")).isTrue();
+        assertThat(wheel.cancel("cancelled")).isFalse();
+        assertThat(wheel.advance(39)).isEmpty();
+        assertThat(wheel.advance(40)).containsExactly("moved");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextAdvance() {
+        HierarchicalTimerWheel<String> wheel = smallWheel();
+        wheel.advance(100);
+        wheel.schedule("late", 50);
+
+        assertThat(wheel.advance(100)).containsExactly("late");
+    }
+
+    @Test
+    void matchesBruteForceReferenceWithRandomSchedules() {
+        Random random = new Random(42);
+        for (int levels = 2; levels <= 4; levels++) {
+            HierarchicalTimerWheel<Integer> wheel = new HierarchicalTimerWheel<>(1, 4, levels, 0);
+            Map<Integer, Long> reference = new HashMap<>();
+            long now = 0;
+            for (int step = 0; step < 5_000; step++) {
+                int key = random.nextInt(300);
+                if (random.nextInt(5) == 0) {
+                    wheel.cancel(key);
+                    reference.remove(key);
+                } else {
+                    // 범위(4^levels)를 넘는 예약도 섞는다.
+                    long deadline = now + random.nextInt(600) - 20;
+                    wheel.schedule(key, deadline);
+                    reference.put(key, deadline);
+                }
+                now += random.nextInt(4);
+
+                List<Integer> expected = new ArrayList<>();
+                long current = now;
+                reference.entrySet().removeIf(entry -> {
+                    if (entry.getValue() <= current) {
+                        expected.add(entry.getKey());
+                        return true;
+                    }
+                    return false;
+                });
+                assertThat(wheel.advance(now)).as("levels %d, now %d", levels, now)
+                        .containsExactlyInAnyOrderElementsOf(expected);
+            }
+            assertThat(wheel.size()).isEqualTo(reference.size());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.haesiku.common.web;
+
+import com.haesiku.blog.dto.PostRequestDto;
+import com.haesiku.blog.dto.PostResponseDto;
+import com.haesiku.blog.service.PostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 목록 검증자가 DB 상태로 만들어져 같은 DB를 보는 인스턴스끼리 일치하는지 확인한다.
+ * 다른 인스턴스는 같은 JdbcTemplate을 쓰는 별도 ContentVersionTracker로 흉내 낸다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ContentVersionTrackerTest {
+
+    private static final String[] DOMAINS = {ContentVersionTracker.POSTS, ContentVersionTracker.REVIEWS,
+            ContentVersionTracker.TAGS, ContentVersionTracker.CATEGORIES, ContentVersionTracker.RELATED};
+
+    @Autowired
+    private ContentVersionTracker contentVersionTracker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostService postService;
+
+    @Test
+    void instancesOnTheSameDatabaseAgreeAfterWrites() {
+        ContentVersionTracker other = new ContentVersionTracker(jdbcTemplate, Duration.ofMinutes(1));
+        for (String domain : DOMAINS) {
+            assertThat(other.etag(domain)).isEqualTo(contentVersionTracker.etag(domain));
+            assertThat(other.lastModified(domain)).isEqualTo(contentVersionTracker.lastModified(domain));
+        }
+        String before = contentVersionTracker.etag(ContentVersionTracker.POSTS, ContentVersionTracker.TAGS);
+
+        // 이 인스턴스의 쓰기는 커밋 후 이벤트로 곧바로 반영된다.
+        postService.createPost(new PostRequestDto("검증자 글", "본문", null, "haesiku", null, List.of("etag-tag")));
+        String after = contentVersionTracker.etag(ContentVersionTracker.POSTS, ContentVersionTracker.TAGS);
+        assertThat(after).isNotEqualTo(before);
+
+        // 쓰기를 받지 않은 인스턴스도 테이블 상태를 다시 읽으면 같은 ETag가 된다.
+        assertThat(new ContentVersionTracker(jdbcTemplate, Duration.ofMinutes(1))
+                .etag(ContentVersionTracker.POSTS, ContentVersionTracker.TAGS)).isEqualTo(after);
+        assertThat(other.etag(ContentVersionTracker.POSTS, ContentVersionTracker.TAGS)).isEqualTo(before);
+        assertThat(new ContentVersionTracker(jdbcTemplate, Duration.ZERO)
+                .etag(ContentVersionTracker.POSTS, ContentVersionTracker.TAGS)).isEqualTo(after);
+    }
+
+    @Test
+    void deletingAnOlderPostChangesEtagWithoutLastModified() {
+        PostResponseDto older = postService.createPost(new PostRequestDto("오래된 글", "본문", null, "haesiku", null, List.of()));
+        postService.createPost(new PostRequestDto("새 글", "본문", null, "haesiku", null, List.of()));
+        String etag = contentVersionTracker.etag(ContentVersionTracker.POSTS);
+        long lastModified = contentVersionTracker.lastModified(ContentVersionTracker.POSTS);
+
+        postService.deletePost(older.id());
+
+        assertThat(contentVersionTracker.etag(ContentVersionTracker.POSTS)).isNotEqualTo(etag);
+        assertThat(contentVersionTracker.lastModified(ContentVersionTracker.POSTS)).isEqualTo(lastModified);
+    }
+
+    @Test
+    void unknownDomainIsRejected() {
+        assertThatThrownBy(() -> contentVersionTracker.etag("unknown"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,177 @@
+package com.haesiku.feed.controller;
+
+import com.haesiku.blog.dto.CategoryRequestDto;
+import com.haesiku.blog.dto.PostRequestDto;
+import com.haesiku.blog.dto.PostResponseDto;
+import com.haesiku.blog.service.CategoryService;
+import com.haesiku.blog.service.PostService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * RSS·Atom 피드를 XML로 파싱해 발행 게시글만 최신순으로 들어가는지, gzip·조건부 요청이 맞게 처리되는지 확인한다.
+ * 다른 테스트가 만든 게시글이 섞이지 않도록 사이트 주소를 바꿔 별도 컨텍스트(별도 DB)로 띄운다.
+ */
+@SpringBootTest(properties = {"feed.site-url=https://blog.example.com/", "feed.title=피드 테스트"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FeedControllerTest {
+
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String DC_NS = "http://purl.org/dc/elements/1.1/";
+    private static final String SITE = "https://blog.example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    private PostResponseDto older;
+    private PostResponseDto newer;
+
+    @BeforeAll
+    void setUp() {
+        Long categoryId = categoryService.createCategory(new CategoryRequestDto("피드 카테고리", null)).id();
+        older = postService.publishPost(postService.createPost(new PostRequestDto("먼저 쓴 글", "본문", "요약 <1>",
+                "haesiku", categoryId, List.of("feed-java"))).id());
+        newer = postService.publishPost(postService.createPost(new PostRequestDto("나중에 쓴 글", "본문", null,
+                "haesiku", null, List.of())).id());
+        postService.createPost(new PostRequestDto("발행 안 한 글", "본문", null, "haesiku", null, List.of()));
+    }
+
+    @Test
+    void rssListsPublishedPostsNewestFirst() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/rss.xml"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        assertThat(response.getContentType()).startsWith("application/rss+xml");
+        Element channel = (Element) parse(response.getContentAsByteArray())
+                .getElementsByTagName("channel").item(0);
+        assertThat(text(channel, "title")).isEqualTo("피드 테스트");
+        assertThat(text(channel, "link")).isEqualTo(SITE + "/");
+
+        List<Element> items = children(channel.getElementsByTagName("item"));
+        assertThat(items).extracting(item -> text(item, "title")).containsExactly("나중에 쓴 글", "먼저 쓴 글");
+
+        Element item = items.get(1);
+        assertThat(text(item, "link")).isEqualTo(SITE + "/posts/" + older.slug());
+        Element guid = (Element) item.getElementsByTagName("guid").item(0);
+        assertThat(guid.getTextContent()).isEqualTo("urn:haesiku:post:" + older.id());
+        assertThat(guid.getAttribute("isPermaLink")).isEqualTo("false");
+        assertThat(item.getElementsByTagNameNS(DC_NS, "creator").item(0).getTextContent()).isEqualTo("haesiku");
+        assertThat(text(item, "description")).isEqualTo("요약 <1>");
+        assertThat(children(item.getElementsByTagName("category")))
+                .extracting(Element::getTextContent).containsExactly("피드 카테고리", "feed-java");
+        assertThat(items.get(0).getElementsByTagName("description").getLength()).isZero();
+    }
+
+    @Test
+    void atomListsPublishedPostsNewestFirst() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/atom.xml"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        assertThat(response.getContentType()).startsWith("application/atom+xml");
+        Element feed = parse(response.getContentAsByteArray()).getDocumentElement();
+        assertThat(feed.getNamespaceURI()).isEqualTo(ATOM_NS);
+        assertThat(feed.getLocalName()).isEqualTo("feed");
+        assertThat(links(feed)).contains("self " + SITE + "/atom.xml");
+
+        List<Element> entries = children(feed.getElementsByTagNameNS(ATOM_NS, "entry"));
+        assertThat(entries).hasSize(2);
+        Element entry = entries.get(0);
+        assertThat(atomText(entry, "title")).isEqualTo("나중에 쓴 글");
+        assertThat(atomText(entry, "id")).isEqualTo("urn:haesiku:post:" + newer.id());
+        assertThat(links(entry)).containsExactly("alternate " + SITE + "/posts/" + newer.slug());
+        assertThat(atomText(entry, "published")).isNotBlank();
+        assertThat(atomText(entry, "updated")).isNotBlank();
+        assertThat(atomText((Element) entry.getElementsByTagNameNS(ATOM_NS, "author").item(0), "name"))
+                .isEqualTo("haesiku");
+        assertThat(atomText(entries.get(1), "id")).isEqualTo("urn:haesiku:post:" + older.id());
+    }
+
+    @Test
+    void gzipBodyAndEtagDifferFromIdentityButDecodeToSameFeed() throws Exception {
+        MockHttpServletResponse plain = mockMvc.perform(get("/rss.xml"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        MockHttpServletResponse gzipped = mockMvc.perform(get("/rss.xml").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        assertThat(plain.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeader(HttpHeaders.ETAG)).endsWith("-gzip\"").isNotEqualTo(plain.getHeader(HttpHeaders.ETAG));
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(input.readAllBytes()).isEqualTo(plain.getContentAsByteArray());
+        }
+
+        mockMvc.perform(get("/rss.xml").header(HttpHeaders.IF_NONE_MATCH, plain.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/rss.xml").header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipped.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
+    private static Document parse(byte[] xml) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+    }
+
+    private static List<Element> children(NodeList nodes) {
+        List<Element> elements = new ArrayList<>(nodes.getLength());
+        for (int i = 0; i < nodes.getLength(); i++) {
+            elements.add((Element) nodes.item(i));
+        }
+        return elements;
+    }
+
+    private static String text(Element parent, String name) {
+        NodeList nodes = parent.getElementsByTagName(name);
+        return nodes.getLength() == 0 ? null : nodes.item(0).getTextContent();
+    }
+
+    private static String atomText(Element parent, String name) {
+        NodeList nodes = parent.getElementsByTagNameNS(ATOM_NS, name);
+        return nodes.getLength() == 0 ? null : nodes.item(0).getTextContent();
+    }
+
+    /** 바로 아래 Atom link 요소를 "rel href" 형태로 */
+    private static List<String> links(Element parent) {
+        List<String> links = new ArrayList<>();
+        for (Element link : children(parent.getElementsByTagNameNS(ATOM_NS, "link"))) {
+            if (link.getParentNode() == parent) {
+                links.add(link.getAttribute("rel") + " " + link.getAttribute("href"));
+            }
+        }
+        return links;
+    }
+}
@@ -0,0 +1,172 @@
+package com.haesiku.feed.service;
+
+import com.haesiku.blog.entity.PostStatus;
+import com.haesiku.blog.repository.CategoryRepository;
+import com.haesiku.blog.repository.PostRepository;
+import com.haesiku.blog.repository.TagRepository;
+import com.haesiku.common.dto.VersionView;
+import com.haesiku.feed.dto.SitemapEntryView;
+import com.haesiku.review.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SitemapWriterTest {
+
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_000_000);
+
+    private PostRepository postRepository;
+    private ReviewRepository reviewRepository;
+    private TagRepository tagRepository;
+    private CategoryRepository categoryRepository;
+    private SitemapWriter writer;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        reviewRepository = mock(ReviewRepository.class);
+        tagRepository = mock(TagRepository.class);
+        categoryRepository = mock(CategoryRepository.class);
+        writer = new SitemapWriter(postRepository, reviewRepository, tagRepository, categoryRepository);
+        ReflectionTestUtils.setField(writer, "siteUrl", "https://blog.example.com/");
+    }
+
+    @Test
+    void writesAllSectionsInOrder() throws Exception {
+        when(postRepository.findSitemapEntriesAfter(eq(PostStatus.PUBLISHED), eq(0L), any()))
+                .thenReturn(List.of(post(1, "첫 글")));
+        when(postRepository.findSitemapEntriesAfter(eq(PostStatus.PUBLISHED), eq(1L), any())).thenReturn(List.of());
+        when(reviewRepository.findVersionsAfter(eq(0L), any())).thenReturn(List.of(review(7)));
+        when(reviewRepository.findVersionsAfter(eq(7L), any())).thenReturn(List.of());
+        when(categoryRepository.findSlugsWithPosts()).thenReturn(List.of("backend"));
+        when(tagRepository.findSlugsWithPosts()).thenReturn(List.of("java"));
+
+        writer.write(output);
+
+        List<Element> urls = urls(parse());
+        assertThat(urls).extracting(url -> text(url, "loc")).containsExactly(
+                "https://blog.example.com/",
+                "https://blog.example.com/posts",
+                "https://blog.example.com/reviews",
+                "https://blog.example.com/about",
+                "https://blog.example.com/posts/%EC%B2%AB%20%EA%B8%80",
+                "https://blog.example.com/reviews/7",
+                "https://blog.example.com/categories/backend",
+                "https://blog.example.com/tags/java");
+        assertThat(text(urls.get(0), "lastmod")).isNull();
+        assertThat(text(urls.get(4), "lastmod")).startsWith("2026-03-01T12:30:15").doesNotContain(".123");
+    }
+
+    @Test
+    void streamsPostsInKeysetChunksUpToUrlLimit() throws Exception {
+        List<Integer> writtenBeforeQuery = new ArrayList<>();
+        // 게시글이 끝없이 있는 것처럼 after 다음 id부터 1000개씩 돌려준다.
+        when(postRepository.findSitemapEntriesAfter(eq(PostStatus.PUBLISHED), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    writtenBeforeQuery.add(output.size());
+                    long after = invocation.getArgument(1);
+                    int size = invocation.<Pageable>getArgument(2).getPageSize();
+                    return LongStream.rangeClosed(after + 1, after + size)
+                            .mapToObj(id -> post(id, "post-" + id))
+                            .toList();
+                });
+
+        writer.write(output);
+
+        // 고정 페이지 4개 + 게시글 49,996개에서 멈추고, 후기·카테고리·태그는 조회하지 않는다.
+        List<Element> urls = urls(parse());
+        assertThat(urls).hasSize(50_000);
+        assertThat(text(urls.get(urls.size() - 1), "loc")).isEqualTo("https://blog.example.com/posts/post-49996");
+        verify(postRepository, times(50)).findSitemapEntriesAfter(eq(PostStatus.PUBLISHED), anyLong(), any());
+        verify(postRepository).findSitemapEntriesAfter(eq(PostStatus.PUBLISHED), eq(49_000L), any());
+        verify(reviewRepository, never()).findVersionsAfter(anyLong(), any());
+
+        // 다음 청크를 읽기 전에 앞 청크가 이미 출력 스트림에 쓰여 있다.
+        assertThat(writtenBeforeQuery.get(1)).isGreaterThan(writtenBeforeQuery.get(0) + 500 * 60);
+        for (int i = 1; i < writtenBeforeQuery.size(); i++) {
+            assertThat(writtenBeforeQuery.get(i)).isGreaterThan(writtenBeforeQuery.get(i - 1));
+        }
+    }
+
+    private Document parse() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document = factory.newDocumentBuilder().parse(new ByteArrayInputStream(output.toByteArray()));
+        assertThat(new String(output.toByteArray(), 0, 40, StandardCharsets.UTF_8)).startsWith("<?xml");
+        assertThat(document.getDocumentElement().getNamespaceURI()).isEqualTo(SITEMAP_NS);
+        assertThat(document.getDocumentElement().getLocalName()).isEqualTo("urlset");
+        return document;
+    }
+
+    private static List<Element> urls(Document document) {
+        NodeList nodes = document.getElementsByTagNameNS(SITEMAP_NS, "url");
+        List<Element> urls = new ArrayList<>(nodes.getLength());
+        for (int i = 0; i < nodes.getLength(); i++) {
+            urls.add((Element) nodes.item(i));
+        }
+        return urls;
+    }
+
+    private static String text(Element parent, String name) {
+        NodeList nodes = parent.getElementsByTagNameNS(SITEMAP_NS, name);
+        return nodes.getLength() == 0 ? null : nodes.item(0).getTextContent();
+    }
+
+    private static SitemapEntryView post(long id, String slug) {
+        return new SitemapEntryView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getSlug() {
+                return slug;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return UPDATED_AT;
+            }
+        };
+    }
+
+    private static VersionView review(long id) {
+        return new VersionView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return UPDATED_AT;
+            }
+        };
+    }
+}
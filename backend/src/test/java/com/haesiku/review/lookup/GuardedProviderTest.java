@@ -0,0 +1,93 @@
+package com.haesiku.review.lookup;
+
+import com.haesiku.review.dto.BookInfoDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GuardedProviderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private final Deque<Supplier<BookInfoDto>> responses = new ArrayDeque<>();
+    private GuardedProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        provider = new GuardedProvider(new StubProvider(), 2, Duration.ofHours(1), meterRegistry);
+    }
+
+    @Test
+    void recordsCallTimersByOutcome() {
+        responses.add(() -> new BookInfoDto("클린 코드", "로버트 C. 마틴", null));
+        responses.add(() -> null);
+        responses.add(() -> {
+            throw new IllegalStateException("timeout");
+        });
+
+        assertThat(provider.lookup("9788966260959").status()).isEqualTo(LookupOutcome.Status.FOUND);
+        assertThat(provider.lookup("9788966260959").status()).isEqualTo(LookupOutcome.Status.NOT_FOUND);
+        assertThat(provider.lookup("9788966260959").status()).isEqualTo(LookupOutcome.Status.FAILED);
+
+        assertThat(callCount("found")).isEqualTo(1);
+        assertThat(callCount("not_found")).isEqualTo(1);
+        assertThat(callCount("error")).isEqualTo(1);
+    }
+
+    @Test
+    void countsCircuitRejectionsAndExposesCircuitState() {
+        for (int i = 0; i < 2; i++) {
+            responses.add(() -> {
+                throw new IllegalStateException("down");
+            });
+            provider.lookup("9788966260959");
+        }
+        assertThat(circuitGauge()).isEqualTo(CircuitBreaker.State.OPEN.ordinal());
+
+        assertThat(provider.lookup("9788966260959").status()).isEqualTo(LookupOutcome.Status.FAILED);
+
+        assertThat(callCount("error")).isEqualTo(2);
+        assertThat(meterRegistry.get("book.lookup.provider.rejected")
+                .tag("provider", "stub").tag("reason", "circuit_open").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("book.lookup.provider.rejected")
+                .tag("provider", "stub").tag("reason", "bulkhead").counter().count()).isZero();
+    }
+
+    private long callCount(String outcome) {
+        return meterRegistry.get("book.lookup.provider").tag("provider", "stub").tag("outcome", outcome).timer().count();
+    }
+
+    private double circuitGauge() {
+        return meterRegistry.get("book.lookup.provider.circuit").tag("provider", "stub").gauge().value();
+    }
+
+    private class StubProvider implements BookInfoProvider {
+
+        @Override
+        public String name() {
+            return "stub";
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public int maxConcurrentCalls() {
+            return 1;
+        }
+
+        @Override
+        public BookInfoDto lookup(String isbn) {
+            return responses.removeFirst().get();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.haesiku.review.service;
+
+import com.haesiku.review.dto.BookInfoDto;
+import com.haesiku.review.dto.IsbnLookupResultDto;
+import com.haesiku.review.entity.BookLookup;
+import com.haesiku.review.lookup.BookInfoProvider;
+import com.haesiku.review.lookup.GoogleBooksProvider;
+import com.haesiku.review.lookup.NationalLibraryProvider;
+import com.haesiku.review.lookup.OpenLibraryProvider;
+import com.haesiku.review.repository.BookLookupRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 제공처 구현을 로컬 스텁 HTTP 서버에 연결해 우선순위·대체 조회, 전체 한도, "없음" 캐시, 결과 저장을 확인한다.
+ * 스텁 서버는 /nl, /ol, /gb 경로로 국립중앙도서관·Open Library·Google Books를 흉내 낸다.
+ * 일괄 조회는 실행기 거절이 이어질 때와 호출자가 취소했을 때의 동작을 확인한다.
+ */
+class BookLookupServiceTest {
+
+    private static final String ISBN = "9788966260959";
+    private static final String ISBN_10 = "8966260950";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExecutorService lookupExecutor;
+    private BookLookupRepository bookLookupRepository;
+    private final Map<String, Stub> stubs = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    /** 멈춘 제공처의 응답을 테스트가 끝날 때 풀어 준다 */
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        lookupExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        for (String provider : List.of("nl", "ol", "gb")) {
+            requests.put(provider, new AtomicInteger());
+            server.createContext("/" + provider, exchange -> handle(provider, exchange));
+        }
+        server.setExecutor(serverExecutor);
+        server.start();
+        bookLookupRepository = mock(BookLookupRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        lookupExecutor.shutdownNow();
+    }
+
+    @Test
+    void higherPriorityProviderWinsEvenWhenLowerAnswersFirst() {
+        stubs.put("nl", Stub.delayed(200, nationalLibrary("클린 코드", "로버트 C. 마틴")));
+        stubs.put("ol", Stub.ok(openLibrary("Clean Code", "Robert C. Martin")));
+        stubs.put("gb", Stub.ok(googleBooks("Clean Code", "Robert Martin")));
+
+        BookInfoDto book = service(Duration.ofSeconds(5)).lookupByIsbn(ISBN);
+
+        assertThat(book.title()).isEqualTo("클린 코드");
+        assertThat(book.author()).isEqualTo("로버트 C. 마틴");
+        assertThat(saved().getProvider()).isEqualTo("national-library");
+    }
+
+    @Test
+    void fallsBackPastFailedAndNotFoundProviders() {
+        stubs.put("nl", Stub.status(500));
+        stubs.put("ol", Stub.status(404));
+        stubs.put("gb", Stub.ok(googleBooks("Clean Code", "Robert Martin")));
+
+        BookInfoDto book = service(Duration.ofSeconds(5)).lookupByIsbn(ISBN);
+
+        assertThat(book.title()).isEqualTo("Clean Code");
+        BookLookup saved = saved();
+        assertThat(saved.getIsbn()).isEqualTo(ISBN);
+        assertThat(saved.getTitle()).isEqualTo("Clean Code");
+        assertThat(saved.getAuthor()).isEqualTo("Robert Martin");
+        assertThat(saved.getProvider()).isEqualTo("google-books");
+    }
+
+    @Test
+    void hangingProviderIsCutOffAtOverallDeadline() {
+        stubs.put("nl", Stub.hang());
+        stubs.put("ol", Stub.ok(openLibrary("Clean Code", "Robert C. Martin")));
+        stubs.put("gb", Stub.ok(googleBooks("Clean Code", "Robert Martin")));
+        BookLookupService service = service(Duration.ofMillis(300));
+
+        long startedAt = System.nanoTime();
+        BookInfoDto book = service.lookupByIsbn(ISBN);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // 읽기 타임아웃(10초)이 아니라 전체 한도에서 멈춘 제공처를 포기하고 다음 순위 결과를 채택한다.
+        assertThat(elapsedMillis).isBetween(250L, 3_000L);
+        assertThat(book.title()).isEqualTo("Clean Code");
+        assertThat(book.author()).isEqualTo("Robert C. Martin");
+        assertThat(saved().getProvider()).isEqualTo("open-library");
+    }
+
+    @Test
+    void hangingProviderWithoutFallbackIsNotCachedAsNotFound() {
+        stubs.put("nl", Stub.hang());
+        stubs.put("ol", Stub.ok("{}"));
+        stubs.put("gb", Stub.ok("{\"totalItems\":0}"));
+        BookLookupService service = service(Duration.ofMillis(200));
+
+        assertThat(service.lookupByIsbn(ISBN)).isNull();
+        assertThat(service.lookupByIsbn(ISBN)).isNull();
+
+        // 결과를 알 수 없었던 조회는 "없음"으로 캐시하지 않으므로 다시 외부로 나간다.
+        assertThat(requests.get("ol").get()).isEqualTo(2);
+        verify(bookLookupRepository, never()).save(any());
+    }
+
+    @Test
+    void notFoundIsbnIsNegativelyCached() {
+        stubs.put("nl", Stub.ok("{\"docs\":[]}"));
+        stubs.put("ol", Stub.ok("{}"));
+        stubs.put("gb", Stub.ok("{\"totalItems\":0}"));
+        BookLookupService service = service(Duration.ofSeconds(5));
+
+        assertThat(service.lookupByIsbn(ISBN)).isNull();
+        // 같은 책의 ISBN-10도 같은 캐시 항목을 쓴다.
+        assertThat(service.lookupByIsbn(ISBN_10)).isNull();
+        assertThat(service.lookupByIsbn(ISBN)).isNull();
+
+        assertThat(requests).allSatisfy((provider, count) -> assertThat(count.get()).isEqualTo(1));
+        verify(bookLookupRepository, never()).save(any());
+    }
+
+    @Test
+    void resolvedResultIsPersistedAndServedFromCache() {
+        stubs.put("nl", Stub.status(404));
+        stubs.put("ol", Stub.ok(openLibrary("Clean Code", "Robert C. Martin")));
+        stubs.put("gb", Stub.status(404));
+        BookLookupService service = service(Duration.ofSeconds(5));
+
+        BookInfoDto first = service.lookupByIsbn(ISBN);
+        BookInfoDto second = service.lookupByIsbn(ISBN_10);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(requests.get("ol").get()).isEqualTo(1);
+        BookLookup saved = saved();
+        assertThat(saved.getLink()).isEqualTo("https://openlibrary.org/books/OL1M/Clean_Code");
+        assertThat(saved.getProvider()).isEqualTo("open-library");
+    }
+
+    @Test
+    void persistedResultIsServedWithoutCallingProviders() {
+        when(bookLookupRepository.findById(ISBN)).thenReturn(Optional.of(BookLookup.builder()
+                .isbn(ISBN).title("클린 코드").author("로버트 C. 마틴").link("https://example.com/clean-code")
+                .provider("national-library").build()));
+
+        BookInfoDto book = service(Duration.ofSeconds(5)).lookupByIsbn(ISBN);
+
+        assertThat(book).isEqualTo(new BookInfoDto("클린 코드", "로버트 C. 마틴", "https://example.com/clean-code"));
+        assertThat(requests).allSatisfy((provider, count) -> assertThat(count.get()).isZero());
+        verify(bookLookupRepository, never()).save(any());
+    }
+
+    @Test
+    void rejectedBatchLookupsAreReportedWithoutRecursion() {
+        BookLookupService service = service(Duration.ofSeconds(5), command -> {
+            throw new RejectedExecutionException("full");
+        });
+        List<String> isbns = LongStream.range(0, 20_000).mapToObj(i -> String.valueOf(9780000000000L + i)).toList();
+        List<IsbnLookupResultDto> results = new ArrayList<>();
+
+        // 거절된 조회가 곧바로 끝나도 다음 ISBN을 재귀로 시작하지 않으므로 스택이 넘치지 않는다.
+        CompletableFuture<Void> done = service.lookupBatch(isbns, results::add);
+
+        assertThat(done).isCompleted();
+        assertThat(results).hasSize(20_000)
+                .allSatisfy(result -> assertThat(result.status()).isEqualTo(IsbnLookupResultDto.Status.ERROR));
+    }
+
+    @Test
+    void cancelledBatchStopsStartingLookupsAndDropsResults() {
+        stubs.put("ol", Stub.ok(openLibrary("Clean Code", "Robert C. Martin")));
+        Queue<Runnable> queued = new ConcurrentLinkedQueue<>();
+        BookLookupService service = service(Duration.ofSeconds(5), queued::add);
+        List<IsbnLookupResultDto> results = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Void> done = service.lookupBatch(List.of(ISBN, "9780306406157", "9781234567897"),
+                results::add);
+        assertThat(queued).hasSize(2);
+        done.cancel(true);
+        queued.forEach(Runnable::run);
+
+        // 실행기 큐에 있던 조회는 실행되지 않고, 남은 ISBN도 시작하지 않는다.
+        assertThat(queued).hasSize(2);
+        assertThat(results).isEmpty();
+        assertThat(requests).allSatisfy((provider, count) -> assertThat(count.get()).isZero());
+    }
+
+    private BookLookupService service(Duration timeout) {
+        return service(timeout, lookupExecutor);
+    }
+
+    private BookLookupService service(Duration timeout, Executor batchExecutor) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        RestTemplateBuilder builder = new RestTemplateBuilder();
+        Duration connectTimeout = Duration.ofSeconds(1);
+        Duration readTimeout = Duration.ofSeconds(10);
+        List<BookInfoProvider> providers = List.of(
+                new NationalLibraryProvider(builder, "test-key", baseUrl + "/nl", connectTimeout, readTimeout, 8),
+                new OpenLibraryProvider(builder, baseUrl + "/ol", connectTimeout, readTimeout, 8),
+                new GoogleBooksProvider(builder, baseUrl + "/gb", connectTimeout, readTimeout, 8));
+        return new BookLookupService(providers, bookLookupRepository, lookupExecutor, batchExecutor, 2,
+                timeout, 1000, Duration.ofHours(1), Duration.ofMinutes(10), 5, Duration.ofSeconds(30),
+                new SimpleMeterRegistry());
+    }
+
+    private BookLookup saved() {
+        ArgumentCaptor<BookLookup> captor = ArgumentCaptor.forClass(BookLookup.class);
+        verify(bookLookupRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private void handle(String provider, HttpExchange exchange) throws IOException {
+        requests.get(provider).incrementAndGet();
+        Stub stub = stubs.getOrDefault(provider, Stub.status(404));
+        try {
+            if (stub.hanging()) {
+                release.await();
+            } else if (stub.delayMillis() > 0) {
+                Thread.sleep(stub.delayMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = stub.body() == null ? new byte[0] : stub.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(stub.status(), body.length == 0 ? -1 : body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static String nationalLibrary(String title, String author) {
+        return "{\"docs\":[{\"TITLE\":\"" + title + "\",\"AUTHOR\":\"" + author + "\"}]}";
+    }
+
+    private static String openLibrary(String title, String author) {
+        return "{\"ISBN:" + ISBN + "\":{\"title\":\"" + title + "\",\"authors\":[{\"name\":\"" + author + "\"}],"
+                + "\"url\":\"https://openlibrary.org/books/OL1M/Clean_Code\"}}";
+    }
+
+    private static String googleBooks(String title, String author) {
+        return "{\"items\":[{\"volumeInfo\":{\"title\":\"" + title + "\",\"authors\":[\"" + author + "\"]}}]}";
+    }
+
+    private record Stub(int status, String body, long delayMillis, boolean hanging) {
+
+        static Stub ok(String body) {
+            return new Stub(200, body, 0, false);
+        }
+
+        static Stub delayed(long delayMillis, String body) {
+            return new Stub(200, body, delayMillis, false);
+        }
+
+        static Stub status(int status) {
+            return new Stub(status, null, 0, false);
+        }
+
+        static Stub hang() {
+            return new Stub(200, "{}", 0, true);
+        }
+    }
+}
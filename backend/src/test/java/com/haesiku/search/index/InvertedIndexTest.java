@@ -0,0 +1,83 @@
+package com.haesiku.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private static final List<String> VOCABULARY = List.of(
+            "spring", "spa", "spark", "java", "jpa", "kotlin", "검색", "검증", "색인", "bm25");
+
+    @Test
+    void scoresAfterUpdatesAndRemovalsMatchFreshIndex() {
+        Random random = new Random(42);
+        InvertedIndex index = new InvertedIndex();
+        Map<Long, Map<String, Integer>> current = new TreeMap<>();
+
+        for (int op = 0; op < 2_000; op++) {
+            long id = 1 + random.nextInt(40);
+            if (random.nextInt(5) == 0) {
+                index.remove(id);
+                current.remove(id);
+            } else {
+                Map<String, Integer> termFreqs = randomDocument(random);
+                index.put(id, termFreqs);
+                current.put(id, termFreqs);
+            }
+        }
+
+        // 같은 문서만 한 번씩 넣은 색인과 점수·순서·통계가 같아야 한다.
+        InvertedIndex fresh = new InvertedIndex();
+        current.forEach(fresh::put);
+        assertThat(fresh.search(List.of("spring"), false, 0, 100).totalHits()).isPositive();
+        for (List<String> terms : List.of(List.of("spring"), List.of("java", "jpa"), List.of("검색"),
+                List.of("kotlin", "sp"), List.of("bm25", "색인", "검증"))) {
+            for (boolean prefixLast : new boolean[]{false, true}) {
+                assertThat(index.search(terms, prefixLast, 0, 100))
+                        .isEqualTo(fresh.search(terms, prefixLast, 0, 100));
+            }
+        }
+        InvertedIndex.IndexStats stats = index.stats();
+        InvertedIndex.IndexStats freshStats = fresh.stats();
+        assertThat(stats.documents()).isEqualTo(freshStats.documents());
+        assertThat(stats.terms()).isEqualTo(freshStats.terms());
+        assertThat(stats.postings()).isEqualTo(freshStats.postings());
+        assertThat(stats.deletedSlots()).isLessThan(InvertedIndex.MIN_DELETED_SLOTS_TO_COMPACT);
+    }
+
+    @Test
+    void repeatedUpdatesCompactDeletedSlots() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 10; id++) {
+            index.put(id, Map.of("java", 1, "doc" + id, 2));
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            index.put(1, Map.of("java", 1 + i % 3, "doc1", 2));
+        }
+
+        InvertedIndex.IndexStats stats = index.stats();
+        assertThat(stats.documents()).isEqualTo(10);
+        assertThat(stats.deletedSlots()).isLessThan(InvertedIndex.MIN_DELETED_SLOTS_TO_COMPACT);
+        assertThat(stats.postings()).isEqualTo(20);
+        assertThat(index.search(List.of("java"), false, 0, 20).totalHits()).isEqualTo(10);
+        assertThat(index.search(List.of("doc1"), false, 0, 20).hits())
+                .extracting(InvertedIndex.Hit::id).containsExactly(1L);
+    }
+
+    private static Map<String, Integer> randomDocument(Random random) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        int terms = 1 + random.nextInt(5);
+        for (int i = 0; i < terms; i++) {
+            termFreqs.merge(VOCABULARY.get(random.nextInt(VOCABULARY.size())), 1 + random.nextInt(4), Integer::sum);
+        }
+        return termFreqs;
+    }
+}
@@ -0,0 +1,25 @@
+package com.haesiku.transfer.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkImportServiceTest {
+
+    @Test
+    void onlyUniqueViolationsAreRetried() {
+        assertThat(BulkImportService.isUniqueViolation(new DataIntegrityViolationException("slug",
+                new RuntimeException(new SQLException("duplicate key", "23505"))))).isTrue();
+
+        assertThat(BulkImportService.isUniqueViolation(new DataIntegrityViolationException("not null",
+                new SQLException("null value", "23502")))).isFalse();
+        assertThat(BulkImportService.isUniqueViolation(new DataIntegrityViolationException("too long",
+                new SQLException("value too long", "22001")))).isFalse();
+        assertThat(BulkImportService.isUniqueViolation(new DataAccessResourceFailureException("down",
+                new SQLException("connection", "23505")))).isFalse();
+    }
+}
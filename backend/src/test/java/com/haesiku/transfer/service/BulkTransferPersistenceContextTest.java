@@ -0,0 +1,97 @@
+package com.haesiku.transfer.service;
+
+import com.haesiku.transfer.dto.BulkImportProgressDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * open-in-view처럼 요청 전체가 EntityManager 하나를 쓰는 상황에서 가져오기·내보내기를 돌려
+ * 청크가 끝날 때마다 영속성 컨텍스트가 비워지는지(관리 엔티티 수가 쌓이지 않는지) 확인한다.
+ */
+@SpringBootTest(properties = "transfer.import.chunk-size=50")
+@ActiveProfiles("test")
+class BulkTransferPersistenceContextTest {
+
+    private static final int POST_COUNT = 250;
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private BulkExportService bulkExportService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private EntityManager requestEntityManager;
+
+    @BeforeEach
+    void bindRequestEntityManager() {
+        // OpenEntityManagerInViewInterceptor가 요청마다 하는 것과 같다.
+        requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory,
+                new EntityManagerHolder(requestEntityManager));
+    }
+
+    @AfterEach
+    void unbindRequestEntityManager() {
+        TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+        requestEntityManager.close();
+    }
+
+    @Test
+    void importAndExportKeepRequestPersistenceContextEmptyBetweenChunks() throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < POST_COUNT; i++) {
+            ndjson.append("{\"type\":\"post\",\"title\":\"영속성 컨텍스트 ").append(i)
+                    .append("\",\"content\":\"본문\",\"author\":\"haesiku\",\"category\":\"이관\",")
+                    .append("\"tags\":[\"transfer\",\"transfer-").append(i % 7).append("\"]}\n");
+        }
+        List<Integer> managedAfterImportChunk = new ArrayList<>();
+
+        BulkImportProgressDto result = bulkImportService.importNdjson(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)),
+                progress -> managedAfterImportChunk.add(managedEntities()));
+
+        assertThat(result.posts()).isEqualTo(POST_COUNT);
+        assertThat(result.rejected()).isZero();
+        assertThat(managedAfterImportChunk).hasSizeGreaterThan(POST_COUNT / 50).containsOnly(0);
+
+        List<Integer> managedAfterExportChunk = new ArrayList<>();
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        bulkExportService.exportNdjson(new FilterOutputStream(exported) {
+            @Override
+            public void flush() throws IOException {
+                managedAfterExportChunk.add(managedEntities());
+                super.flush();
+            }
+        });
+
+        assertThat(exported.toString(StandardCharsets.UTF_8).lines()
+                .filter(line -> line.contains("영속성 컨텍스트"))).hasSize(POST_COUNT);
+        assertThat(managedAfterExportChunk).hasSizeGreaterThanOrEqualTo(POST_COUNT / 100).containsOnly(0);
+    }
+
+    private int managedEntities() {
+        return requestEntityManager.unwrap(Session.class).getStatistics().getEntityCount();
+    }
+}
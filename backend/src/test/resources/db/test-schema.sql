@@ -0,0 +1,3 @@
+-- db/search-schema.sql 중 H2에서 필요한 컬럼만 만든다 (GIN 인덱스·보정 쿼리는 PostgreSQL 전용).
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
@@ -1,5 +1,5 @@
 import apiClient from './client';
-import type { CategoryRequest, CategoryResponse, PostResponse, PageResponse } from '@/types';
+import type { CategoryRequest, CategoryResponse, PostSummary, PageResponse } from '@/types';
 
 export const categoryApi = {
   getAll: () =>
@@ -9,7 +9,7 @@ export const categoryApi = {
     apiClient.post<CategoryResponse>('/categories', data).then((res) => res.data),
 
   getPostsBySlug: (slug: string, page = 0, size = 10) =>
-    apiClient.get<PageResponse<PostResponse>>(`/categories/${slug}/posts`, {
+    apiClient.get<PageResponse<PostSummary>>(`/categories/${slug}/posts`, {
       params: { page, size },
     }).then((res) => res.data),
 };
@@ -1,9 +1,12 @@
 import apiClient from './client';
-import type { CommentResponse, CommentCreateRequest, CommentUpdateRequest } from '@/types';
+import type { CommentResponse, CommentCreateRequest, CommentUpdateRequest, CursorPage } from '@/types';
 
 export const commentApi = {
-  list: (postId: number) =>
-    apiClient.get<CommentResponse[]>(`/posts/${postId}/comments`).then((res) => res.data),
+  /** 최상위 댓글 커서 페이지 (각 댓글에 답글 포함) */
+  list: (postId: number, after?: string, size = 20) =>
+    apiClient.get<CursorPage<CommentResponse>>(`/posts/${postId}/comments`, {
+      params: { after, size },
+    }).then((res) => res.data),
 
   create: (postId: number, data: CommentCreateRequest) =>
     apiClient.post<CommentResponse>(`/posts/${postId}/comments`, data).then((res) => res.data),
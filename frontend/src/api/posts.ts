@@ -1,17 +1,25 @@
 import apiClient from './client';
-import type { PostRequest, PostResponse, PageResponse } from '@/types';
+import type { PostRequest, PostResponse, PostSummary, PageResponse, CursorPage, SearchHit } from '@/types';
 
 export const postApi = {
   getPublished: (page = 0, size = 10, sort = 'createdAt,desc') =>
-    apiClient.get<PageResponse<PostResponse>>('/posts', {
+    apiClient.get<PageResponse<PostSummary>>('/posts', {
       params: { page, size, sort },
     }).then((res) => res.data),
 
+  getFeed: (after?: string, size = 10) =>
+    apiClient.get<CursorPage<PostSummary>>('/posts/feed', {
+      params: { after, size },
+    }).then((res) => res.data),
+
   getBySlug: (slug: string) =>
     apiClient.get<PostResponse>(`/posts/${slug}`).then((res) => res.data),
 
+  getRelated: (slug: string) =>
+    apiClient.get<PostSummary[]>(`/posts/${slug}/related`).then((res) => res.data),
+
   search: (keyword: string, page = 0, size = 10) =>
-    apiClient.get<PageResponse<PostResponse>>('/posts/search', {
+    apiClient.get<PageResponse<SearchHit<PostSummary>>>('/posts/search', {
       params: { keyword, page, size },
     }).then((res) => res.data),
 
@@ -27,8 +35,14 @@ export const postApi = {
   togglePublish: (id: number) =>
     apiClient.patch<PostResponse>(`/posts/${id}/publish`).then((res) => res.data),
 
+  schedule: (id: number, scheduledAt: string) =>
+    apiClient.put<PostResponse>(`/posts/${id}/schedule`, { scheduledAt }).then((res) => res.data),
+
+  cancelSchedule: (id: number) =>
+    apiClient.delete<PostResponse>(`/posts/${id}/schedule`).then((res) => res.data),
+
   getAll: (page = 0, size = 10, sort = 'createdAt,desc') =>
-    apiClient.get<PageResponse<PostResponse>>('/posts/admin', {
+    apiClient.get<PageResponse<PostSummary>>('/posts/admin', {
       params: { page, size, sort },
     }).then((res) => res.data),
 
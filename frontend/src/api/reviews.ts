@@ -1,5 +1,5 @@
 import apiClient from './client';
-import type { ReviewRequest, ReviewResponse, PageResponse, BookInfo } from '@/types';
+import type { ReviewRequest, ReviewResponse, PageResponse, CursorPage, BookInfo, SearchHit } from '@/types';
 
 export const reviewApi = {
   getAll: (page = 0, size = 10, sort = 'createdAt,desc') =>
@@ -9,6 +9,13 @@ export const reviewApi = {
       })
       .then((res) => res.data),
 
+  getFeed: (after?: string, size = 10) =>
+    apiClient
+      .get<CursorPage<ReviewResponse>>('/reviews/feed', {
+        params: { after, size },
+      })
+      .then((res) => res.data),
+
   getById: (id: number) =>
     apiClient.get<ReviewResponse>(`/reviews/${id}`).then((res) => res.data),
 
@@ -21,10 +28,13 @@ export const reviewApi = {
 
   search: (keyword: string, page = 0, size = 10) =>
     apiClient
-      .get<PageResponse<ReviewResponse>>('/reviews/search', {
+      .get<PageResponse<SearchHit<ReviewResponse>>>('/reviews/search', {
         params: { keyword, page, size },
       })
-      .then((res) => res.data),
+      .then((res): PageResponse<ReviewResponse> => ({
+        ...res.data,
+        content: res.data.content.map((hit) => hit.item),
+      })),
 
   create: (data: ReviewRequest) =>
     apiClient.post<ReviewResponse>('/reviews', data).then((res) => res.data),
@@ -1,12 +1,20 @@
 import apiClient from './client';
-import type { TagResponse, PostResponse, PageResponse } from '@/types';
+import type { TagResponse, TagCloudEntry, TagFilter, PostSummary, PageResponse } from '@/types';
 
 export const tagApi = {
   getAll: () =>
     apiClient.get<TagResponse[]>('/tags').then((res) => res.data),
 
+  getCloud: () =>
+    apiClient.get<TagCloudEntry[]>('/tags/cloud').then((res) => res.data),
+
   getPostsBySlug: (slug: string, page = 0, size = 10) =>
-    apiClient.get<PageResponse<PostResponse>>(`/tags/${slug}/posts`, {
+    apiClient.get<PageResponse<PostSummary>>(`/tags/${slug}/posts`, {
       params: { page, size },
     }).then((res) => res.data),
+
+  filter: ({ all = [], any = [], none = [], category }: TagFilter, page = 0, size = 10) =>
+    apiClient.get<PageResponse<PostSummary>>('/tags/filter', {
+      params: { all: all.join(','), any: any.join(','), none: none.join(','), category, page, size },
+    }).then((res) => res.data),
 };
@@ -4,9 +4,12 @@ interface CommentFormProps {
   onSubmit: (data: { author: string; password: string; body: string }) => void;
   isSubmitting?: boolean;
   errorMessage?: string;
+  /** 답글 작성 폼이면 등록 버튼 문구가 바뀌고 취소 버튼이 생긴다. */
+  isReply?: boolean;
+  onCancel?: () => void;
 }
 
-export default function CommentForm({ onSubmit, isSubmitting, errorMessage }: CommentFormProps) {
+export default function CommentForm({ onSubmit, isSubmitting, errorMessage, isReply, onCancel }: CommentFormProps) {
   const [author, setAuthor] = useState('');
   const [password, setPassword] = useState('');
   const [body, setBody] = useState('');
@@ -49,7 +52,7 @@ export default function CommentForm({ onSubmit, isSubmitting, errorMessage }: Co
         />
       </div>
       <textarea
-        placeholder="댓글 내용"
+        placeholder={isReply ? '답글 내용' : '댓글 내용'}
         value={body}
         onChange={(e) => setBody(e.target.value)}
         rows={3}
@@ -57,13 +60,24 @@ export default function CommentForm({ onSubmit, isSubmitting, errorMessage }: Co
         className="mb-3 w-full resize-y rounded border border-gray-300 px-3 py-2 text-sm dark:border-gray-600 dark:bg-gray-800 dark:text-white"
         required
       />
-      <button
-        type="submit"
-        disabled={isSubmitting}
-        className="rounded bg-blue-600 px-4 py-2 text-sm font-medium text-white transition-colors hover:bg-blue-700 disabled:opacity-50 dark:bg-blue-700 dark:hover:bg-blue-800"
-      >
-        {isSubmitting ? '등록 중...' : '댓글 등록'}
-      </button>
+      <div className="flex gap-2">
+        <button
+          type="submit"
+          disabled={isSubmitting}
+          className="rounded bg-blue-600 px-4 py-2 text-sm font-medium text-white transition-colors hover:bg-blue-700 disabled:opacity-50 dark:bg-blue-700 dark:hover:bg-blue-800"
+        >
+          {isSubmitting ? '등록 중...' : isReply ? '답글 등록' : '댓글 등록'}
+        </button>
+        {onCancel && (
+          <button
+            type="button"
+            onClick={onCancel}
+            className="rounded border border-gray-300 px-4 py-2 text-sm dark:border-gray-600"
+          >
+            취소
+          </button>
+        )}
+      </div>
     </form>
   );
 }
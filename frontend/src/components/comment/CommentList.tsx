@@ -1,13 +1,20 @@
 import { useState } from 'react';
 import type { CommentResponse } from '@/types';
+import CommentForm from './CommentForm';
 
 interface CommentListProps {
+  /** 최상위 댓글 (각 댓글의 replies에 답글 포함) */
   comments: CommentResponse[];
   onUpdate: (commentId: number, password: string, body: string) => void;
   onDelete: (commentId: number, password: string) => void;
+  onReply: (parentId: number, data: { author: string; password: string; body: string }) => void;
   isUpdating?: boolean;
   isDeleting?: boolean;
+  isReplying?: boolean;
   errorMessage?: string;
+  hasMore?: boolean;
+  isLoadingMore?: boolean;
+  onLoadMore?: () => void;
 }
 
 function formatDate(iso: string) {
@@ -25,15 +32,21 @@ export default function CommentList({
   comments,
   onUpdate,
   onDelete,
+  onReply,
   isUpdating,
   isDeleting,
+  isReplying,
   errorMessage,
+  hasMore,
+  isLoadingMore,
+  onLoadMore,
 }: CommentListProps) {
   const [editingId, setEditingId] = useState<number | null>(null);
   const [deletingId, setDeletingId] = useState<number | null>(null);
   const [editPassword, setEditPassword] = useState('');
   const [editBody, setEditBody] = useState('');
   const [deletePassword, setDeletePassword] = useState('');
+  const [replyingId, setReplyingId] = useState<number | null>(null);
 
   const startEdit = (c: CommentResponse) => {
     setEditingId(c.id);
@@ -72,109 +85,148 @@ export default function CommentList({
     return null;
   }
 
-  return (
-    <ul className="space-y-4">
-      {errorMessage && (
-        <li>
-          <p className="text-sm text-red-600 dark:text-red-400" role="alert">
-            {errorMessage}
-          </p>
-        </li>
+  const renderComment = (c: CommentResponse) => (
+    <li
+      key={c.id}
+      className="rounded-lg border border-gray-200 bg-white p-4 dark:border-gray-700 dark:bg-gray-800/50"
+    >
+      <div className="mb-1 flex items-center justify-between gap-2">
+        <span className="font-medium text-gray-900 dark:text-white">{c.author}</span>
+        <span className="text-xs text-gray-500 dark:text-gray-400">
+          {formatDate(c.createdAt)}
+          {c.updatedAt !== c.createdAt && ' (수정됨)'}
+        </span>
+      </div>
+      {editingId === c.id ? (
+        <div className="mt-2 space-y-2">
+          <input
+            type="password"
+            placeholder="비밀번호"
+            value={editPassword}
+            onChange={(e) => setEditPassword(e.target.value)}
+            className="w-full max-w-xs rounded border border-gray-300 px-2 py-1 text-sm dark:border-gray-600 dark:bg-gray-800 dark:text-white"
+          />
+          <textarea
+            value={editBody}
+            onChange={(e) => setEditBody(e.target.value)}
+            rows={3}
+            maxLength={2000}
+            className="w-full resize-y rounded border border-gray-300 px-2 py-1 text-sm dark:border-gray-600 dark:bg-gray-800 dark:text-white"
+          />
+          <div className="flex gap-2">
+            <button
+              type="button"
+              onClick={() => handleUpdate(c.id)}
+              disabled={isUpdating}
+              className="rounded bg-blue-600 px-3 py-1 text-sm text-white hover:bg-blue-700 disabled:opacity-50"
+            >
+              저장
+            </button>
+            <button
+              type="button"
+              onClick={cancelEdit}
+              className="rounded border border-gray-300 px-3 py-1 text-sm dark:border-gray-600"
+            >
+              취소
+            </button>
+          </div>
+        </div>
+      ) : deletingId === c.id ? (
+        <div className="mt-2 flex flex-wrap items-center gap-2">
+          <input
+            type="password"
+            placeholder="비밀번호"
+            value={deletePassword}
+            onChange={(e) => setDeletePassword(e.target.value)}
+            className="max-w-xs rounded border border-gray-300 px-2 py-1 text-sm dark:border-gray-600 dark:bg-gray-800 dark:text-white"
+          />
+          <button
+            type="button"
+            onClick={() => handleDelete(c.id)}
+            disabled={isDeleting}
+            className="rounded bg-red-600 px-3 py-1 text-sm text-white hover:bg-red-700 disabled:opacity-50"
+          >
+            삭제
+          </button>
+          <button
+            type="button"
+            onClick={cancelDelete}
+            className="rounded border border-gray-300 px-3 py-1 text-sm dark:border-gray-600"
+          >
+            취소
+          </button>
+        </div>
+      ) : (
+        <>
+          <p className="whitespace-pre-wrap text-gray-700 dark:text-gray-300">{c.body}</p>
+          <div className="mt-2 flex gap-3 text-xs">
+            <button
+              type="button"
+              onClick={() => setReplyingId(replyingId === c.id ? null : c.id)}
+              className="text-gray-600 hover:underline dark:text-gray-400"
+            >
+              답글
+            </button>
+            <button
+              type="button"
+              onClick={() => startEdit(c)}
+              className="text-blue-600 hover:underline dark:text-blue-400"
+            >
+              수정
+            </button>
+            <button
+              type="button"
+              onClick={() => startDelete(c.id)}
+              className="text-red-600 hover:underline dark:text-red-400"
+            >
+              삭제
+            </button>
+          </div>
+        </>
+      )}
+      {replyingId === c.id && (
+        <div className="mt-3">
+          <CommentForm
+            isReply
+            isSubmitting={isReplying}
+            onSubmit={(data) => {
+              onReply(c.id, data);
+              setReplyingId(null);
+            }}
+            onCancel={() => setReplyingId(null)}
+          />
+        </div>
+      )}
+      {c.replies.length > 0 && (
+        <ul className="mt-3 space-y-3 border-l-2 border-gray-200 pl-4 dark:border-gray-700">
+          {c.replies.map(renderComment)}
+        </ul>
       )}
-      {comments.map((c) => (
-        <li
-          key={c.id}
-          className="rounded-lg border border-gray-200 bg-white p-4 dark:border-gray-700 dark:bg-gray-800/50"
+    </li>
+  );
+
+  return (
+    <div className="space-y-4">
+      <ul className="space-y-4">
+        {errorMessage && (
+          <li>
+            <p className="text-sm text-red-600 dark:text-red-400" role="alert">
+              {errorMessage}
+            </p>
+          </li>
+        )}
+        {comments.map(renderComment)}
+      </ul>
+      {hasMore && onLoadMore && (
+        <button
+          type="button"
+          onClick={onLoadMore}
+          disabled={isLoadingMore}
+          className="w-full rounded border border-gray-300 py-2 text-sm text-gray-700 hover:bg-gray-50 disabled:opacity-50 dark:border-gray-600 dark:text-gray-300 dark:hover:bg-gray-800"
         >
-          <div className="mb-1 flex items-center justify-between gap-2">
-            <span className="font-medium text-gray-900 dark:text-white">{c.author}</span>
-            <span className="text-xs text-gray-500 dark:text-gray-400">
-              {formatDate(c.createdAt)}
-              {c.updatedAt !== c.createdAt && ' (수정됨)'}
-            </span>
-          </div>
-          {editingId === c.id ? (
-            <div className="mt-2 space-y-2">
-              <input
-                type="password"
-                placeholder="비밀번호"
-                value={editPassword}
-                onChange={(e) => setEditPassword(e.target.value)}
-                className="w-full max-w-xs rounded border border-gray-300 px-2 py-1 text-sm dark:border-gray-600 dark:bg-gray-800 dark:text-white"
-              />
-              <textarea
-                value={editBody}
-                onChange={(e) => setEditBody(e.target.value)}
-                rows={3}
-                maxLength={2000}
-                className="w-full resize-y rounded border border-gray-300 px-2 py-1 text-sm dark:border-gray-600 dark:bg-gray-800 dark:text-white"
-              />
-              <div className="flex gap-2">
-                <button
-                  type="button"
-                  onClick={() => handleUpdate(c.id)}
-                  disabled={isUpdating}
-                  className="rounded bg-blue-600 px-3 py-1 text-sm text-white hover:bg-blue-700 disabled:opacity-50"
-                >
-                  저장
-                </button>
-                <button
-                  type="button"
-                  onClick={cancelEdit}
-                  className="rounded border border-gray-300 px-3 py-1 text-sm dark:border-gray-600"
-                >
-                  취소
-                </button>
-              </div>
-            </div>
-          ) : deletingId === c.id ? (
-            <div className="mt-2 flex flex-wrap items-center gap-2">
-              <input
-                type="password"
-                placeholder="비밀번호"
-                value={deletePassword}
-                onChange={(e) => setDeletePassword(e.target.value)}
-                className="max-w-xs rounded border border-gray-300 px-2 py-1 text-sm dark:border-gray-600 dark:bg-gray-800 dark:text-white"
-              />
-              <button
-                type="button"
-                onClick={() => handleDelete(c.id)}
-                disabled={isDeleting}
-                className="rounded bg-red-600 px-3 py-1 text-sm text-white hover:bg-red-700 disabled:opacity-50"
-              >
-                삭제
-              </button>
-              <button
-                type="button"
-                onClick={cancelDelete}
-                className="rounded border border-gray-300 px-3 py-1 text-sm dark:border-gray-600"
-              >
-                취소
-              </button>
-            </div>
-          ) : (
-            <>
-              <p className="whitespace-pre-wrap text-gray-700 dark:text-gray-300">{c.body}</p>
-              <div className="mt-2 flex gap-3 text-xs">
-                <button
-                  type="button"
-                  onClick={() => startEdit(c)}
-                  className="text-blue-600 hover:underline dark:text-blue-400"
-                >
-                  수정
-                </button>
-                <button
-                  type="button"
-                  onClick={() => startDelete(c.id)}
-                  className="text-red-600 hover:underline dark:text-red-400"
-                >
-                  삭제
-                </button>
-              </div>
-            </>
-          )}
-        </li>
-      ))}
-    </ul>
+          {isLoadingMore ? '불러오는 중...' : '댓글 더 보기'}
+        </button>
+      )}
+    </div>
   );
 }
@@ -1,15 +1,28 @@
+import { useEffect, useRef } from 'react';
 import ReactMarkdown from 'react-markdown';
 import remarkGfm from 'remark-gfm';
 import rehypeHighlight from 'rehype-highlight';
+import hljs from 'highlight.js';
 import 'highlight.js/styles/github.css';
 
 interface MarkdownRendererProps {
   content: string;
+  /** 서버에서 렌더링·sanitize한 HTML. 있으면 클라이언트에서 다시 파싱하지 않는다. */
+  html?: string | null;
 }
 
-export default function MarkdownRenderer({ content }: MarkdownRendererProps) {
+export default function MarkdownRenderer({ content, html }: MarkdownRendererProps) {
+  const containerRef = useRef<HTMLDivElement>(null);
+
+  useEffect(() => {
+    if (!html || !containerRef.current) return;
+    containerRef.current.querySelectorAll<HTMLElement>('pre code').forEach((block) => {
+      hljs.highlightElement(block);
+    });
+  }, [html]);
+
   return (
-    <div className="prose prose-gray max-w-none
+    <div ref={containerRef} className="prose prose-gray max-w-none
       prose-headings:font-bold prose-headings:text-gray-900
       prose-a:text-blue-600 prose-a:no-underline hover:prose-a:underline
       prose-code:rounded prose-code:bg-gray-100 prose-code:px-1.5 prose-code:py-0.5
@@ -18,9 +31,13 @@ export default function MarkdownRenderer({ content }: MarkdownRendererProps) {
       prose-pre:rounded-xl prose-pre:bg-gray-900 prose-pre:p-4
       prose-pre:text-sm prose-img:rounded-lg"
     >
-      <ReactMarkdown remarkPlugins={[remarkGfm]} rehypePlugins={[rehypeHighlight]}>
-        {content}
-      </ReactMarkdown>
+      {html ? (
+        <div dangerouslySetInnerHTML={{ __html: html }} />
+      ) : (
+        <ReactMarkdown remarkPlugins={[remarkGfm]} rehypePlugins={[rehypeHighlight]}>
+          {content}
+        </ReactMarkdown>
+      )}
     </div>
   );
 }
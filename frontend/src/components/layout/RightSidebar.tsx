@@ -1,5 +1,5 @@
 import { Link } from 'react-router-dom';
-import { usePublishedPosts, useTags } from '@/hooks';
+import { usePublishedPosts, useTagCloud } from '@/hooks';
 
 function formatDate(dateStr: string) {
   const d = new Date(dateStr);
@@ -9,9 +9,18 @@ function formatDate(dateStr: string) {
   return `${y}-${m}-${day}`;
 }
 
+/** 태그 클라우드 가중치(1~5)별 글자 크기 */
+const WEIGHT_CLASSES: Record<number, string> = {
+  1: 'text-xs',
+  2: 'text-xs font-semibold',
+  3: 'text-sm',
+  4: 'text-sm font-semibold',
+  5: 'text-base font-semibold',
+};
+
 export default function RightSidebar() {
   const { data: postsData } = usePublishedPosts(0);
-  const { data: tags = [] } = useTags();
+  const { data: tags = [] } = useTagCloud();
 
   const recentPosts = postsData?.content.slice(0, 5) ?? [];
 
@@ -54,11 +63,13 @@ export default function RightSidebar() {
           <div className="flex flex-wrap gap-2">
             {tags.map((tag) => (
               <Link
-                key={tag.id}
+                key={tag.slug}
                 to={`/tags/${tag.slug}`}
-                className="rounded-md border border-gray-200 bg-gray-50 px-3 py-1.5 text-xs font-medium text-gray-700 transition-colors hover:border-blue-300 hover:bg-blue-50 hover:text-blue-700 dark:border-gray-600 dark:bg-gray-800 dark:text-gray-300 dark:hover:border-blue-600 dark:hover:bg-blue-900/30 dark:hover:text-blue-300"
+                title={`게시글 ${tag.postCount}개`}
+                className={`rounded-md border border-gray-200 bg-gray-50 px-3 py-1.5 ${WEIGHT_CLASSES[tag.weight] ?? 'text-xs'} text-gray-700 transition-colors hover:border-blue-300 hover:bg-blue-50 hover:text-blue-700 dark:border-gray-600 dark:bg-gray-800 dark:text-gray-300 dark:hover:border-blue-600 dark:hover:bg-blue-900/30 dark:hover:text-blue-300`}
               >
                 {tag.name}
+                <span className="ml-1 text-gray-400 dark:text-gray-500">{tag.postCount}</span>
               </Link>
             ))}
           </div>
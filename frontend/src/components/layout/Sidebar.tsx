@@ -24,9 +24,9 @@ export default function Sidebar({ categories, tags }: SidebarProps) {
                   className="flex items-center justify-between rounded-lg px-3 py-2 text-sm text-gray-600
                     transition-colors hover:bg-gray-100 hover:text-blue-600"
                 >
-                  <span>{category.name}</span>
-                  {category.description && (
-                    <span className="text-xs text-gray-400" title={category.description}>i</span>
+                  <span title={category.description || undefined}>{category.name}</span>
+                  {category.postCount != null && (
+                    <span className="text-xs text-gray-400">{category.postCount}</span>
                   )}
                 </Link>
               </li>
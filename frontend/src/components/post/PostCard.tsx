@@ -1,10 +1,10 @@
 import { Link } from 'react-router-dom';
 import { Card } from '@/components/common';
 import PostMeta from './PostMeta';
-import type { PostResponse } from '@/types';
+import type { PostSummary } from '@/types';
 
 interface PostCardProps {
-  post: PostResponse;
+  post: PostSummary;
 }
 
 export default function PostCard({ post }: PostCardProps) {
@@ -1,5 +1,5 @@
-export { usePublishedPosts, usePost, usePostById, useAllPosts, useSearchPosts, useCreatePost, useUpdatePost, useDeletePost, useTogglePublish } from './usePost';
+export { usePublishedPosts, usePost, useRelatedPosts, usePostById, useAllPosts, useSearchPosts, useCreatePost, useUpdatePost, useDeletePost, useTogglePublish, useSchedulePost, useCancelSchedule } from './usePost';
 export { useCategories, useCategoryPosts } from './useCategory';
-export { useTags, useTagPosts } from './useTag';
+export { useTags, useTagCloud, useTagPosts } from './useTag';
 export { useReviews, useReview, useReviewsByType, useSearchReviews, useCreateReview, useUpdateReview, useDeleteReview } from './useReview';
 export { useComments, useCreateComment, useUpdateComment, useDeleteComment } from './useComments';
@@ -1,15 +1,28 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useInfiniteQuery, useMutation, useQueryClient, type InfiniteData, type QueryClient } from '@tanstack/react-query';
 import { commentApi } from '@/api';
-import type { CommentCreateRequest, CommentUpdateRequest } from '@/types';
+import type { CommentCreateRequest, CommentResponse, CommentUpdateRequest, CursorPage, PostResponse } from '@/types';
+import { postKeys } from './usePost';
+
 export const commentKeys = {
   all: ['comments'] as const,
   list: (postId: number) => [...commentKeys.all, postId] as const,
 };
 
+/**
+ * 게시글 상세를 다시 불러오면 조회수가 올라가므로, 캐시된 상세의 댓글 수만 직접 고친다.
+ */
+function adjustCommentCount(queryClient: QueryClient, postId: number, delta: number) {
+  queryClient.setQueriesData<PostResponse>({ queryKey: postKeys.details() }, (post) =>
+    post && post.id === postId ? { ...post, commentCount: post.commentCount + delta } : post,
+  );
+}
+
 export function useComments(postId: number) {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: commentKeys.list(postId),
-    queryFn: () => commentApi.list(postId),
+    queryFn: ({ pageParam }) => commentApi.list(postId, pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => (lastPage.hasNext ? lastPage.nextCursor ?? undefined : undefined),
     enabled: postId > 0,
   });
 }
@@ -19,6 +32,7 @@ export function useCreateComment(postId: number) {
   return useMutation({
     mutationFn: (data: CommentCreateRequest) => commentApi.create(postId, data),
     onSuccess: () => {
+      adjustCommentCount(queryClient, postId, 1);
       queryClient.invalidateQueries({ queryKey: commentKeys.list(postId) });
     },
   });
@@ -40,7 +54,11 @@ export function useDeleteComment(postId: number) {
   return useMutation({
     mutationFn: ({ commentId, password }: { commentId: number; password: string }) =>
       commentApi.delete(postId, commentId, password),
-    onSuccess: () => {
+    onSuccess: (_, { commentId }) => {
+      // 최상위 댓글을 지우면 서버가 답글도 함께 지운다.
+      const pages = queryClient.getQueryData<InfiniteData<CursorPage<CommentResponse>>>(commentKeys.list(postId));
+      const root = pages?.pages.flatMap((page) => page.content).find((c) => c.id === commentId);
+      adjustCommentCount(queryClient, postId, -(1 + (root?.replies.length ?? 0)));
       queryClient.invalidateQueries({ queryKey: commentKeys.list(postId) });
     },
   });
@@ -8,6 +8,7 @@ export const postKeys = {
   list: (page: number, sort: string) => [...postKeys.lists(), { page, sort }] as const,
   details: () => [...postKeys.all, 'detail'] as const,
   detail: (slug: string) => [...postKeys.details(), slug] as const,
+  related: (slug: string) => [...postKeys.all, 'related', slug] as const,
   search: (keyword: string, page: number) => [...postKeys.all, 'search', { keyword, page }] as const,
   admin: () => [...postKeys.all, 'admin'] as const,
   adminList: (page: number) => [...postKeys.admin(), 'list', { page }] as const,
@@ -29,6 +30,14 @@ export function usePost(slug: string) {
   });
 }
 
+export function useRelatedPosts(slug: string) {
+  return useQuery({
+    queryKey: postKeys.related(slug),
+    queryFn: () => postApi.getRelated(slug),
+    enabled: !!slug,
+  });
+}
+
 export function useSearchPosts(keyword: string, page = 0) {
   return useQuery({
     queryKey: postKeys.search(keyword, page),
@@ -83,3 +92,19 @@ export function useTogglePublish() {
     onSuccess: () => queryClient.invalidateQueries({ queryKey: postKeys.all }),
   });
 }
+
+export function useSchedulePost() {
+  const queryClient = useQueryClient();
+  return useMutation({
+    mutationFn: ({ id, scheduledAt }: { id: number; scheduledAt: string }) => postApi.schedule(id, scheduledAt),
+    onSuccess: () => queryClient.invalidateQueries({ queryKey: postKeys.admin() }),
+  });
+}
+
+export function useCancelSchedule() {
+  const queryClient = useQueryClient();
+  return useMutation({
+    mutationFn: (id: number) => postApi.cancelSchedule(id),
+    onSuccess: () => queryClient.invalidateQueries({ queryKey: postKeys.admin() }),
+  });
+}
@@ -4,6 +4,7 @@ import { tagApi } from '@/api';
 export const tagKeys = {
   all: ['tags'] as const,
   lists: () => [...tagKeys.all, 'list'] as const,
+  cloud: () => [...tagKeys.all, 'cloud'] as const,
   posts: (slug: string, page: number) => [...tagKeys.all, 'posts', slug, { page }] as const,
 };
 
@@ -15,6 +16,14 @@ export function useTags() {
   });
 }
 
+export function useTagCloud() {
+  return useQuery({
+    queryKey: tagKeys.cloud(),
+    queryFn: tagApi.getCloud,
+    staleTime: 5 * 60 * 1000,
+  });
+}
+
 export function useTagPosts(slug: string, page = 0) {
   return useQuery({
     queryKey: tagKeys.posts(slug, page),
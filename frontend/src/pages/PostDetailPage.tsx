@@ -1,7 +1,8 @@
 import { useEffect } from 'react';
-import { useParams, Link } from 'react-router-dom';
+import { useParams, Link, useNavigate } from 'react-router-dom';
 import {
   usePost,
+  useRelatedPosts,
   useComments,
   useCreateComment,
   useUpdateComment,
@@ -15,10 +16,19 @@ import { Loading, ErrorMessage, Seo, MarkdownRenderer, Badge } from '@/component
 export default function PostDetailPage() {
   const { slug = '' } = useParams<{ slug: string }>();
   const { data: post, isLoading, isError, refetch } = usePost(slug);
+  const { data: relatedPosts = [] } = useRelatedPosts(slug);
   const { setTitle } = useBreadcrumb();
+  const navigate = useNavigate();
 
   const postId = post?.id ?? 0;
-  const { data: comments = [], isLoading: commentsLoading } = useComments(postId);
+  const {
+    data: commentPages,
+    isLoading: commentsLoading,
+    hasNextPage: hasMoreComments,
+    fetchNextPage: fetchMoreComments,
+    isFetchingNextPage: isFetchingMoreComments,
+  } = useComments(postId);
+  const comments = commentPages?.pages.flatMap((page) => page.content) ?? [];
   const createComment = useCreateComment(postId);
   const updateComment = useUpdateComment(postId);
   const deleteComment = useDeleteComment(postId);
@@ -30,6 +40,11 @@ export default function PostDetailPage() {
     getApiMessage(updateComment.error) ||
     getApiMessage(deleteComment.error);
 
+  // 예전 slug는 서버가 301로 현재 slug 게시글을 돌려주므로 주소도 현재 slug로 바꾼다.
+  useEffect(() => {
+    if (post?.slug && post.slug !== slug) navigate(`/posts/${post.slug}`, { replace: true });
+  }, [post?.slug, slug, navigate]);
+
   useEffect(() => {
     if (post?.title) setTitle(post.title);
     return () => setTitle(null);
@@ -67,8 +82,24 @@ export default function PostDetailPage() {
           )}
         </header>
 
+        {/* 목차 */}
+        {post.toc && post.toc.length > 1 && (
+          <nav className="mb-8 rounded-lg border border-gray-200 bg-gray-50 p-4 text-sm">
+            <p className="mb-2 font-semibold text-gray-900">목차</p>
+            <ul className="space-y-1">
+              {post.toc.map((entry) => (
+                <li key={entry.anchor} style={{ paddingLeft: `${(entry.level - 1) * 0.75}rem` }}>
+                  <a href={`#${entry.anchor}`} className="text-gray-600 hover:text-blue-600">
+                    {entry.text}
+                  </a>
+                </li>
+              ))}
+            </ul>
+          </nav>
+        )}
+
         {/* 본문 */}
-        <MarkdownRenderer content={post.content} />
+        <MarkdownRenderer content={post.content} html={post.renderedHtml} />
 
         {/* 태그 목록 */}
         {post.tags.length > 0 && (
@@ -85,10 +116,32 @@ export default function PostDetailPage() {
           </footer>
         )}
 
+        {/* 관련 글 */}
+        {relatedPosts.length > 0 && (
+          <section className="mt-12 border-t border-gray-200 pt-8" aria-label="관련 글">
+            <h2 className="mb-4 text-lg font-bold text-gray-900 dark:text-white">관련 글</h2>
+            <ul className="space-y-3">
+              {relatedPosts.map((related) => (
+                <li key={related.id}>
+                  <Link
+                    to={`/posts/${related.slug}`}
+                    className="font-medium text-gray-800 transition-colors hover:text-blue-600 dark:text-gray-200"
+                  >
+                    {related.title}
+                  </Link>
+                  {related.summary && (
+                    <p className="mt-0.5 line-clamp-1 text-sm text-gray-500 dark:text-gray-400">{related.summary}</p>
+                  )}
+                </li>
+              ))}
+            </ul>
+          </section>
+        )}
+
         {/* 댓글 */}
         <section className="mt-12 border-t border-gray-200 pt-8" aria-label="댓글">
           <h2 className="mb-4 text-lg font-bold text-gray-900 dark:text-white">
-            댓글 {comments.length > 0 && `(${comments.length})`}
+            댓글 {post.commentCount > 0 && `(${post.commentCount})`}
           </h2>
           <CommentForm
             onSubmit={(data) => createComment.mutate(data)}
@@ -107,8 +160,13 @@ export default function PostDetailPage() {
                 onDelete={(commentId, password) =>
                   deleteComment.mutate({ commentId, password })
                 }
+                onReply={(parentId, data) => createComment.mutate({ ...data, parentId })}
                 isUpdating={updateComment.isPending}
                 isDeleting={deleteComment.isPending}
+                isReplying={createComment.isPending}
+                hasMore={hasMoreComments}
+                isLoadingMore={isFetchingMoreComments}
+                onLoadMore={() => fetchMoreComments()}
                 errorMessage={updateComment.error || deleteComment.error ? String(commentError) : undefined}
               />
             )}
@@ -71,7 +71,7 @@ export default function ReviewDetailPage() {
           )}
         </header>
 
-        <MarkdownRenderer content={review.content} />
+        <MarkdownRenderer content={review.content} html={review.renderedHtml} />
 
         <div className="mt-8">
           <Link
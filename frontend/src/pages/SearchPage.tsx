@@ -36,8 +36,16 @@ export default function SearchPage() {
             <p className="py-12 text-center text-gray-500">검색 결과가 없습니다.</p>
           ) : (
             <div className="space-y-5">
-              {data.content.map((post) => (
-                <PostCard key={post.id} post={post} />
+              {data.content.map(({ item: post, highlight }) => (
+                <div key={post.id}>
+                  <PostCard post={post} />
+                  {highlight && (
+                    <p
+                      className="mt-2 px-1 text-sm leading-relaxed text-gray-600 dark:text-gray-400 [&_mark]:bg-yellow-200 [&_mark]:text-gray-900"
+                      dangerouslySetInnerHTML={{ __html: highlight }}
+                    />
+                  )}
+                </div>
               ))}
             </div>
           )}
@@ -7,6 +7,8 @@ export interface CategoryResponse {
   name: string;
   slug: string;
   description: string;
+  /** 발행된 게시글 수 (게시글에 포함된 카테고리는 null) */
+  postCount: number | null;
   createdAt: string;
 }
 
@@ -14,19 +16,41 @@ export interface TagResponse {
   id: number;
   name: string;
   slug: string;
+  /** 발행된 게시글 수 (게시글에 포함된 태그는 null) */
+  postCount: number | null;
   createdAt: string;
 }
 
-export interface PostResponse {
+/** 태그 클라우드 항목 (게시글 수가 많은 순) */
+export interface TagCloudEntry {
+  name: string;
+  slug: string;
+  postCount: number;
+  /** 1~5, 게시글 수의 로그 비례 */
+  weight: number;
+}
+
+/** 태그 조합 필터 조건 (태그 slug, 합계 20개까지) */
+export interface TagFilter {
+  /** 모두 포함 */
+  all?: string[];
+  /** 하나 이상 포함 */
+  any?: string[];
+  /** 제외 */
+  none?: string[];
+  category?: string;
+}
+
+/** 목록 API 응답 항목 (본문 제외) */
+export interface PostSummary {
   id: number;
   title: string;
-  content: string;
   summary: string;
   author: string;
   slug: string;
   status: PostStatus;
   viewCount: number;
-  commentCount?: number;
+  commentCount: number;
   category: CategoryResponse;
   tags: TagResponse[];
   createdAt: string;
@@ -34,6 +58,20 @@ export interface PostResponse {
   publishedAt: string | null;
 }
 
+export interface TocEntry {
+  level: number;
+  text: string;
+  anchor: string;
+}
+
+export interface PostResponse extends PostSummary {
+  content: string;
+  renderedHtml: string | null;
+  toc: TocEntry[] | null;
+  /** 예약 발행 일시 (예약되지 않았거나 발행되었으면 null) */
+  scheduledAt: string | null;
+}
+
 // --- Request DTOs ---
 export interface PostRequest {
   title: string;
@@ -58,6 +96,22 @@ export interface PageResponse<T> {
   size: number;
 }
 
+/** 커서 기반 페이지 (전체 개수 없음) */
+export interface CursorPage<T> {
+  content: T[];
+  nextCursor: string | null;
+  hasNext: boolean;
+  size: number;
+}
+
+// --- Search ---
+export interface SearchHit<T> {
+  item: T;
+  score: number;
+  /** 검색어가 <mark>로 강조된 미리보기 (서버에서 HTML 이스케이프됨) */
+  highlight: string;
+}
+
 // --- Auth ---
 export interface User {
   username: string;
@@ -75,6 +129,8 @@ export interface ReviewResponse {
   reviewType: ReviewType;
   title: string;
   content: string;
+  renderedHtml: string | null;
+  toc: TocEntry[] | null;
   rating: number;
   itemTitle: string;
   itemAuthor: string | null;
@@ -87,6 +143,8 @@ export interface ReviewRequest {
   reviewType: ReviewType;
   title: string;
   content: string;
+  renderedHtml: string | null;
+  toc: TocEntry[] | null;
   rating: number;
   itemTitle: string;
   itemAuthor?: string;
@@ -103,16 +161,21 @@ export interface BookInfo {
 // --- Comment ---
 export interface CommentResponse {
   id: number;
+  /** 최상위 댓글이면 null */
+  parentId: number | null;
   author: string;
   body: string;
   createdAt: string;
   updatedAt: string;
+  /** 작성 순 답글 (답글은 한 단계만, 답글의 replies는 항상 빈 배열) */
+  replies: CommentResponse[];
 }
 
 export interface CommentCreateRequest {
   author: string;
   password: string;
   body: string;
+  parentId?: number;
 }
 
 export interface CommentUpdateRequest {
@@ -17,6 +17,10 @@ export default defineConfig({
         target: 'http://localhost:8080',
         changeOrigin: true,
       },
+      '^/(rss|atom|sitemap)\\.xml$': {
+        target: 'http://localhost:8080',
+        changeOrigin: true,
+      },
     },
   },
 })
@@ -0,0 +1,86 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# ============================================================
+# Haesiku Tech Blog - Thread Mode Load Test
+# 플랫폼 스레드(요청당 스레드)와 가상 스레드 모드를 같은 부하로 비교한다.
+# 두 모드 모두 JRE 21 이미지로 실행하므로 스레드 모드 외의 차이는 없다.
+#
+# 필요: docker (compose), jq, curl
+# 사용: ./loadtest/compare-threading.sh            (VUS=200, DURATION=60s)
+#       VUS=500 DURATION=2m ISBN_RATE=50 ./loadtest/compare-threading.sh
+# ============================================================
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+LOADTEST_DIR="$ROOT_DIR/loadtest"
+RESULT_DIR="$LOADTEST_DIR/results"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+
+VUS="${VUS:-200}"
+DURATION="${DURATION:-60s}"
+ISBN_RATE="${ISBN_RATE:-20}"
+
+# --- Colors ---
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+BLUE='\033[0;34m'
+NC='\033[0m'
+
+log_info()  { echo -e "${BLUE}[INFO]${NC}  $*"; }
+log_ok()    { echo -e "${GREEN}[OK]${NC}    $*"; }
+log_error() { echo -e "${RED}[ERROR]${NC} $*"; }
+
+for cmd in docker jq curl; do
+  if ! command -v "$cmd" &>/dev/null; then
+    log_error "$cmd not found."
+    exit 1
+  fi
+done
+
+wait_for_backend() {
+  log_info "Waiting for backend health..."
+  for _ in $(seq 1 60); do
+    if curl -sf "$BASE_URL/actuator/health" >/dev/null; then
+      return 0
+    fi
+    sleep 2
+  done
+  log_error "Backend did not become healthy."
+  exit 1
+}
+
+run_mode() {
+  local mode="$1" virtual="$2"
+
+  log_info "Starting backend (mode=$mode, JRE 21, VIRTUAL_THREADS_ENABLED=$virtual)"
+  (cd "$ROOT_DIR" && JRE_VERSION=21 VIRTUAL_THREADS_ENABLED="$virtual" \
+    docker compose up -d --build postgres backend)
+  wait_for_backend
+
+  log_info "Running k6 (VUS=$VUS, DURATION=$DURATION, ISBN_RATE=$ISBN_RATE)"
+  docker run --rm --network host \
+    -v "$LOADTEST_DIR:/scripts" \
+    -e BASE_URL="$BASE_URL" -e VUS="$VUS" -e DURATION="$DURATION" -e ISBN_RATE="$ISBN_RATE" \
+    grafana/k6 run --quiet --summary-export "/scripts/results/$mode.json" /scripts/threading.js || true
+  log_ok "Saved $RESULT_DIR/$mode.json"
+}
+
+mkdir -p "$RESULT_DIR"
+run_mode platform false
+run_mode virtual true
+
+echo
+printf '%-12s %-9s %10s %10s %10s %10s\n' endpoint mode req/s p50_ms p95_ms fail_%
+for endpoint in post_detail post_list isbn; do
+  for mode in platform virtual; do
+    jq -r --arg e "$endpoint" --arg mode "$mode" '
+      .metrics as $m
+      | $m["http_req_duration{endpoint:\($e)}"] as $d
+      | [$e, $mode,
+         (($m["http_reqs{endpoint:\($e)}"].rate // 0) | floor),
+         ($d.med | floor), ($d["p(95)"] | floor),
+         ((($m["http_req_failed{endpoint:\($e)}"].value // 0) * 100) | floor)]
+      | @tsv' "$RESULT_DIR/$mode.json" 2>/dev/null \
+      | awk -F'\t' '{ printf "%-12s %-9s %10s %10s %10s %10s\n", $1, $2, $3, $4, $5, $6 }'
+  done
+done
@@ -0,0 +1,88 @@
+// 스레드 모드 비교용 k6 부하 시나리오 (compare-threading.sh에서 실행)
+//   post_detail : GET /api/posts/{slug}          - DB 조회 (커넥션 풀 경합)
+//   post_list   : GET /api/posts?page=N          - 목록 조회 (캐시 + DB)
+//   isbn        : GET /api/reviews/books/isbn/{} - 외부 제공처 호출 (블로킹 I/O)
+import http from 'k6/http';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 200);
+const DURATION = __ENV.DURATION || '60s';
+// 외부 제공처를 과도하게 호출하지 않도록 ISBN 시나리오는 초당 요청 수를 따로 제한한다.
+const ISBN_RATE = Number(__ENV.ISBN_RATE || 20);
+
+export const options = {
+  discardResponseBodies: true,
+  scenarios: {
+    post_detail: {
+      executor: 'constant-vus',
+      exec: 'postDetail',
+      vus: VUS,
+      duration: DURATION,
+      tags: { endpoint: 'post_detail' },
+    },
+    post_list: {
+      executor: 'constant-vus',
+      exec: 'postList',
+      vus: Math.max(1, Math.floor(VUS / 4)),
+      duration: DURATION,
+      tags: { endpoint: 'post_list' },
+    },
+    isbn: {
+      executor: 'constant-arrival-rate',
+      exec: 'isbnLookup',
+      rate: ISBN_RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 50,
+      maxVUs: 500,
+      tags: { endpoint: 'isbn' },
+    },
+  },
+  // 엔드포인트별 지표를 요약 결과에 남기기 위한 임계값 (비교용이므로 느슨하게 둔다)
+  thresholds: {
+    'http_req_duration{endpoint:post_detail}': ['p(95)<10000'],
+    'http_req_duration{endpoint:post_list}': ['p(95)<10000'],
+    'http_req_duration{endpoint:isbn}': ['p(95)<10000'],
+    'http_req_failed{endpoint:post_detail}': ['rate<1'],
+    'http_req_failed{endpoint:post_list}': ['rate<1'],
+    'http_req_failed{endpoint:isbn}': ['rate<1'],
+    'http_reqs{endpoint:post_detail}': ['count>=0'],
+    'http_reqs{endpoint:post_list}': ['count>=0'],
+    'http_reqs{endpoint:isbn}': ['count>=0'],
+  },
+};
+
+export function setup() {
+  const res = http.get(`${BASE_URL}/api/posts?size=50`, { responseType: 'text' });
+  if (res.status !== 200) fail(`게시글 목록 조회 실패: ${res.status}`);
+  const slugs = res.json('content').map((post) => post.slug);
+  if (slugs.length === 0) fail('발행된 게시글이 없습니다. 게시글을 먼저 발행해 주세요.');
+  return { slugs };
+}
+
+export function postDetail(data) {
+  const slug = data.slugs[Math.floor(Math.random() * data.slugs.length)];
+  const res = http.get(`${BASE_URL}/api/posts/${slug}`);
+  check(res, { 'post 200': (r) => r.status === 200 });
+}
+
+export function postList() {
+  const page = Math.floor(Math.random() * 5);
+  const res = http.get(`${BASE_URL}/api/posts?page=${page}&size=10`);
+  check(res, { 'list 200': (r) => r.status === 200 });
+}
+
+export function isbnLookup() {
+  // 캐시에 걸리지 않도록 매번 다른(체크 숫자가 맞는) ISBN-13을 조회한다.
+  const res = http.get(`${BASE_URL}/api/reviews/books/isbn/${randomIsbn13()}`);
+  check(res, { 'isbn answered': (r) => r.status === 200 || r.status === 404 });
+}
+
+function randomIsbn13() {
+  let digits = '97911';
+  while (digits.length < 12) digits += Math.floor(Math.random() * 10);
+  let sum = 0;
+  for (let i = 0; i < 12; i++) sum += Number(digits[i]) * (i % 2 === 0 ? 1 : 3);
+  return digits + ((10 - (sum % 10)) % 10);
+}
@@ -131,7 +131,7 @@ start_backend() {
     chmod +x ./gradlew
     DB_USERNAME="$DB_USER" DB_PASSWORD="$DB_PASS" \
       ./gradlew bootRun \
-      --args="--spring.datasource.url=jdbc:postgresql://localhost:${DB_PORT}/${DB_NAME}" \
+      --args="--spring.datasource.url=jdbc:postgresql://localhost:${DB_PORT}/${DB_NAME} --spring.profiles.active=dev" \
       &
     BACKEND_PID=$!
   else
@@ -147,6 +147,7 @@ start_backend() {
       -e DB_USERNAME="$DB_USER" \
       -e DB_PASSWORD="$DB_PASS" \
       -e SPRING_JPA_HIBERNATE_DDL_AUTO=update \
+      -e SPRING_PROFILES_ACTIVE=dev \
       haesiku-tech-blog-backend:latest || exit 1
   fi
 